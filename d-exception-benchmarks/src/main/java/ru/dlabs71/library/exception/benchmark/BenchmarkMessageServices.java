@@ -0,0 +1,96 @@
+package ru.dlabs71.library.exception.benchmark;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+
+/**
+ * Implementations of {@link DExceptionMessageService} used by the benchmarks.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class BenchmarkMessageServices {
+
+    /**
+     * Name of the resource bundle with messages of {@link ru.dlabs71.library.exception.type.CommonErrorCode}.
+     */
+    public static final String BUNDLE_NAME = "benchmark-messages";
+
+    private BenchmarkMessageServices() {
+    }
+
+    /**
+     * Get message service by a name. It's used with the {@code @Param} annotation.
+     *
+     * @param name "stub" or "bundle"
+     *
+     * @return the message service
+     */
+    public static DExceptionMessageService of(String name) {
+        switch (name) {
+            case "stub":
+                return stub();
+            case "bundle":
+                return bundle();
+            default:
+                throw new IllegalArgumentException("d.Unknown message service: " + name);
+        }
+    }
+
+    /**
+     * Message service which returns the code itself. It shows the overhead of the library without
+     * the cost of looking up messages.
+     *
+     * @return the message service
+     */
+    public static DExceptionMessageService stub() {
+        return (code, args) -> code;
+    }
+
+    /**
+     * Message service backed by the {@link ResourceBundle} "benchmark-messages".
+     *
+     * @return the message service
+     */
+    public static DExceptionMessageService bundle() {
+        return new ResourceBundleMessageService(ResourceBundle.getBundle(BUNDLE_NAME, Locale.ROOT));
+    }
+
+    private static final class ResourceBundleMessageService implements DExceptionMessageService {
+
+        private final ResourceBundle bundle;
+
+        private ResourceBundleMessageService(ResourceBundle bundle) {
+            this.bundle = bundle;
+        }
+
+        @Override
+        public String getMessage(String code, Object... args) {
+            String pattern = this.getMessagePattern(code, this.getLocale());
+            if (pattern == null) {
+                return code;
+            }
+            return new MessageFormat(pattern, this.getLocale()).format(args);
+        }
+
+        @Override
+        public String getMessagePattern(String code, Locale locale) {
+            try {
+                return this.bundle.getString(code);
+            } catch (MissingResourceException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public Locale getLocale() {
+            return Locale.ROOT;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.dlabs71.library.exception.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so the results contain allocations per operation
+ * (gc.alloc.rate.norm) as well as time per operation. Arguments are the regular JMH command line options,
+ * for example a regexp of benchmark names:
+ * <pre>
+ *     java -cp target/benchmarks.jar ru.dlabs71.library.exception.benchmark.BenchmarkRunner ResolverBenchmark
+ * </pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,85 @@
+package ru.dlabs71.library.exception.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+/**
+ * Measures the cost of creating every exception class of the library, with and without a cause.
+ * The cause is created once, so only the cost of the created exception is measured.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionConstructionBenchmark {
+
+    private final Throwable cause = new IllegalStateException("cause");
+
+    @Benchmark
+    public Object serviceException() {
+        return ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+    }
+
+    @Benchmark
+    public Object serviceExceptionWithCause() {
+        return ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, cause);
+    }
+
+    @Benchmark
+    public Object cachedServiceException() {
+        return ServiceException.cached(CommonErrorCode.ENTITY_NOT_FOUND);
+    }
+
+    @Benchmark
+    public Object businessLogicServiceException() {
+        return BusinessLogicServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, CommonErrorLevel.WARNING);
+    }
+
+    @Benchmark
+    public Object businessLogicServiceExceptionWithCause() {
+        return BusinessLogicServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, CommonErrorLevel.WARNING, cause);
+    }
+
+    @Benchmark
+    public Object withoutStacktraceServiceException() {
+        return WithoutStacktraceServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+    }
+
+    @Benchmark
+    public Object withoutStacktraceServiceExceptionWithCause() {
+        return WithoutStacktraceServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, cause);
+    }
+
+    @Benchmark
+    public Object specialHttpStatusServiceException() {
+        return SpecialHttpStatusServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+    }
+
+    @Benchmark
+    public Object specialHttpStatusServiceExceptionWithCause() {
+        return SpecialHttpStatusServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, cause, HttpStatus.NOT_FOUND);
+    }
+}
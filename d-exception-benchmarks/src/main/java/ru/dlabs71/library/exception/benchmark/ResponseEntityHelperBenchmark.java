@@ -0,0 +1,86 @@
+package ru.dlabs71.library.exception.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.utils.ResponseEntityHelper;
+
+/**
+ * Measures {@link ResponseEntityHelper#makeResponse} and {@link ResponseEntityHelper#acquireMessage}
+ * with the stub message service and the message service backed by a resource bundle.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEntityHelperBenchmark {
+
+    @Param({ "stub", "bundle" })
+    private String messageService;
+
+    private ResponseEntityHelper helper;
+    private ServiceException exception;
+    private Throwable cause;
+
+    @Setup
+    public void setUp() {
+        helper = new ResponseEntityHelper(BenchmarkMessageServices.of(messageService));
+        exception = ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+        cause = new IllegalStateException("cause");
+    }
+
+    @Benchmark
+    public Object makeResponse() {
+        return helper.makeResponse(CommonErrorCode.FILE_NOT_FOUND, HttpStatus.NOT_FOUND, cause, false);
+    }
+
+    @Benchmark
+    public Object makeResponseWithStacktrace() {
+        return helper.makeResponse(CommonErrorCode.FILE_NOT_FOUND, HttpStatus.NOT_FOUND, cause, true);
+    }
+
+    @Benchmark
+    public Object makeResponseWithMessage() {
+        return helper.makeResponse("File not found", null, HttpStatus.NOT_FOUND, cause, false);
+    }
+
+    @Benchmark
+    public Object acquireMessageByException() {
+        return helper.acquireMessage(exception);
+    }
+
+    @Benchmark
+    public Object acquireMessageByErrorCode() {
+        return helper.acquireMessage(null, CommonErrorCode.LOCK_OBJECT, "cause");
+    }
+
+    @Benchmark
+    public Object acquireMessageByMessageCode() {
+        return helper.acquireMessage("d.$d.io.exception", null, "cause");
+    }
+
+    @Benchmark
+    public Object acquireMessageByMessage() {
+        return helper.acquireMessage("Plain message", CommonErrorCode.LOCK_OBJECT, "cause");
+    }
+}
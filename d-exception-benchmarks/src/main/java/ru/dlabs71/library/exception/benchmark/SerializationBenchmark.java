@@ -0,0 +1,79 @@
+package ru.dlabs71.library.exception.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.utils.StacktracePolicy;
+
+/**
+ * Measures Jackson serialization of {@link ErrorResponseDto} with and without a stacktrace.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseDto withoutStacktrace;
+    private ErrorResponseDto withStacktrace;
+    private ErrorResponseDto withCompactStacktrace;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        Throwable cause = new IllegalStateException("cause", new IllegalArgumentException("root cause"));
+
+        withoutStacktrace = builder().build();
+        withStacktrace = StacktracePolicy.FULL.apply(builder(), cause).build();
+        withCompactStacktrace = StacktracePolicy.compact(20).apply(builder(), cause).build();
+    }
+
+    private static ErrorResponseDto.ErrorResponseDtoBuilder builder() {
+        HashMap<String, Integer> data = new HashMap<>();
+        data.put("id", 42);
+        return ErrorResponseDto.builder()
+            .informative(true)
+            .errorCode(CommonErrorCode.ENTITY_NOT_FOUND)
+            .level(CommonErrorLevel.WARNING)
+            .message("Entity not found: 42")
+            .data(data);
+    }
+
+    @Benchmark
+    public byte[] withoutStacktrace() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(withoutStacktrace);
+    }
+
+    @Benchmark
+    public byte[] withStacktrace() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(withStacktrace);
+    }
+
+    @Benchmark
+    public byte[] withCompactStacktrace() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(withCompactStacktrace);
+    }
+}
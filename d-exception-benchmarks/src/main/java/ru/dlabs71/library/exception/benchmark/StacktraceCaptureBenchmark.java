@@ -0,0 +1,86 @@
+package ru.dlabs71.library.exception.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.StacktraceSettings;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+/**
+ * Compares the cost of creating exceptions with and without capturing a stacktrace.
+ * The exceptions are created at the specified depth of the call stack, because the cost
+ * of {@link Throwable#fillInStackTrace()} grows with the depth.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StacktraceCaptureBenchmark {
+
+    @Param({ "10", "100" })
+    private int depth;
+
+    @Param({ "false", "true" })
+    private boolean stackless;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StacktraceSettings.setGlobalStackless(stackless);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        StacktraceSettings.setGlobalStackless(false);
+    }
+
+    @Benchmark
+    public Object serviceException() {
+        return createAtDepth(depth, 0);
+    }
+
+    @Benchmark
+    public Object businessLogicServiceException() {
+        return createAtDepth(depth, 1);
+    }
+
+    @Benchmark
+    public Object withoutStacktraceServiceException() {
+        return createAtDepth(depth, 2);
+    }
+
+    private static Object createAtDepth(int depth, int kind) {
+        if (depth > 0) {
+            return createAtDepth(depth - 1, kind);
+        }
+        switch (kind) {
+            case 0:
+                return ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+            case 1:
+                return BusinessLogicServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+            default:
+                return WithoutStacktraceServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+        }
+    }
+}
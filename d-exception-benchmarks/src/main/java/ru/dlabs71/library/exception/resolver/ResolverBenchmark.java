@@ -0,0 +1,173 @@
+package ru.dlabs71.library.exception.resolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+import ru.dlabs71.library.exception.benchmark.BenchmarkMessageServices;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+/**
+ * Measures every resolve method of {@link AbstractHttpExceptionResolver}. The exceptions are created once,
+ * so only resolving is measured. Logging is disabled (the benchmarks use slf4j-nop), so the results show
+ * the cost of producing a response.
+ *
+ * <p>The resolve methods are protected, so the benchmark is placed in the package of the resolver.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolverBenchmark {
+
+    @Param({ "stub", "bundle" })
+    private String messageService;
+
+    @Param({ "false", "true" })
+    private boolean enableStacktrace;
+
+    private BenchmarkResolver resolver;
+    private HttpServletRequest request;
+    private BusinessLogicServiceException businessLogicException;
+    private ServiceException serviceException;
+    private WithoutStacktraceServiceException withoutStacktraceException;
+    private SpecialHttpStatusServiceException specialHttpStatusException;
+    private Exception exception;
+    private FileNotFoundException fileNotFoundException;
+    private IOException ioException;
+    private AssertionError assertionError;
+
+    @Setup
+    public void setUp() {
+        resolver = new BenchmarkResolver(enableStacktrace, BenchmarkMessageServices.of(messageService));
+        request = (HttpServletRequest) Proxy.newProxyInstance(
+            HttpServletRequest.class.getClassLoader(),
+            new Class<?>[] { HttpServletRequest.class },
+            (proxy, method, args) -> "getRequestURI".equals(method.getName()) ? "/benchmark" : null
+        );
+        businessLogicException = BusinessLogicServiceException.build(
+            CommonErrorCode.ENTITY_NOT_FOUND,
+            CommonErrorLevel.WARNING
+        );
+        serviceException = ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+        withoutStacktraceException = WithoutStacktraceServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+        specialHttpStatusException = SpecialHttpStatusServiceException.build(
+            CommonErrorCode.ENTITY_NOT_FOUND,
+            HttpStatus.NOT_FOUND
+        );
+        exception = new IllegalStateException("exception");
+        fileNotFoundException = new FileNotFoundException("file");
+        ioException = new IOException("io");
+        assertionError = new AssertionError("assertion");
+    }
+
+    @Benchmark
+    public Object resolveBusinessLogicException() {
+        return resolver.resolveBusinessLogicException(request, businessLogicException);
+    }
+
+    @Benchmark
+    public Object resolveServiceException() {
+        return resolver.resolveServiceException(request, serviceException);
+    }
+
+    @Benchmark
+    public Object resolveWithoutStacktraceServiceException() {
+        return resolver.resolveServiceException(request, withoutStacktraceException);
+    }
+
+    @Benchmark
+    public Object resolveSpecialHttpStatusServiceException() {
+        return resolver.resolveServiceException(request, specialHttpStatusException);
+    }
+
+    @Benchmark
+    public Object resolveEntityNotFound() {
+        return resolver.resolveEntityNotFound(request, exception);
+    }
+
+    @Benchmark
+    public Object resolveOptimisticLock() {
+        return resolver.resolveOptimisticLock(request, exception);
+    }
+
+    @Benchmark
+    public Object resolveLockException() {
+        return resolver.resolveLockException(request, exception);
+    }
+
+    @Benchmark
+    public Object resolveAccessDeniedException() {
+        return resolver.resolveAccessDeniedException(request, exception);
+    }
+
+    @Benchmark
+    public Object resolveFileNotFoundException() {
+        return resolver.resolveFileNotFoundException(request, fileNotFoundException);
+    }
+
+    @Benchmark
+    public Object resolveIOException() {
+        return resolver.resolveIOException(request, ioException);
+    }
+
+    @Benchmark
+    public Object resolveAssertationError() {
+        return resolver.resolveAssertationError(request, assertionError);
+    }
+
+    @Benchmark
+    public Object resolveDefaultException() {
+        return resolver.resolveDefaultException(request, exception);
+    }
+
+    @Benchmark
+    public Object resolveDefaultExceptionWithErrorCode() {
+        return resolver.resolveDefaultException(request, CommonErrorCode.INVALID_REQUEST, exception);
+    }
+
+    @Benchmark
+    public Object resolveDefaultExceptionWithStatus() {
+        return resolver.resolveDefaultException(
+            request,
+            CommonErrorCode.INVALID_REQUEST,
+            HttpStatus.BAD_REQUEST,
+            exception,
+            enableStacktrace
+        );
+    }
+
+    private static final class BenchmarkResolver extends AbstractHttpExceptionResolver {
+
+        private BenchmarkResolver(boolean enableStacktrace, DExceptionMessageService messageService) {
+            super(enableStacktrace, messageService);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ru.dlabs71.library.exception.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import ru.dlabs71.library.exception.resolver.ResolverBenchmark;
+
+/**
+ * Calls every benchmark method once for every combination of parameters, so benchmarks which don't work
+ * with the current library are noticed without running JMH.
+ */
+class BenchmarkSmokeTest {
+
+    @Test
+    void exceptionConstructionBenchmark() throws Exception {
+        runAll(ExceptionConstructionBenchmark.class);
+    }
+
+    @Test
+    void responseEntityHelperBenchmark() throws Exception {
+        runAll(ResponseEntityHelperBenchmark.class);
+    }
+
+    @Test
+    void serializationBenchmark() throws Exception {
+        runAll(SerializationBenchmark.class);
+    }
+
+    @Test
+    void stacktraceCaptureBenchmark() throws Exception {
+        runAll(StacktraceCaptureBenchmark.class);
+    }
+
+    @Test
+    void resolverBenchmark() throws Exception {
+        runAll(ResolverBenchmark.class);
+    }
+
+    private static void runAll(Class<?> benchmarkClass) throws Exception {
+        List<Field> params = new ArrayList<>();
+        for (Field field : benchmarkClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Param.class)) {
+                field.setAccessible(true);
+                params.add(field);
+            }
+        }
+        run(benchmarkClass, params, new String[params.size()], 0);
+    }
+
+    private static void run(Class<?> benchmarkClass, List<Field> params, String[] values, int index)
+        throws Exception {
+        if (index < params.size()) {
+            for (String value : params.get(index).getAnnotation(Param.class).value()) {
+                values[index] = value;
+                run(benchmarkClass, params, values, index + 1);
+            }
+            return;
+        }
+        Object benchmark = benchmarkClass.getDeclaredConstructor().newInstance();
+        for (int i = 0; i < params.size(); i++) {
+            setParam(benchmark, params.get(i), values[i]);
+        }
+        invokeAnnotated(benchmark, Setup.class);
+        try {
+            for (Method method : benchmarkClass.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Benchmark.class)) {
+                    Object result = method.invoke(benchmark);
+                    if (method.getReturnType() != void.class) {
+                        assertNotNull(result, method.getName());
+                    }
+                }
+            }
+        } finally {
+            invokeAnnotated(benchmark, TearDown.class);
+        }
+    }
+
+    private static void setParam(Object benchmark, Field field, String value) throws IllegalAccessException {
+        if (field.getType() == int.class) {
+            field.setInt(benchmark, Integer.parseInt(value));
+        } else if (field.getType() == boolean.class) {
+            field.setBoolean(benchmark, Boolean.parseBoolean(value));
+        } else {
+            field.set(benchmark, value);
+        }
+    }
+
+    private static void invokeAnnotated(Object benchmark, Class<? extends Annotation> type)
+        throws Exception {
+        for (Method method : benchmark.getClass().getDeclaredMethods()) {
+            if (method.isAnnotationPresent(type)) {
+                method.setAccessible(true);
+                method.invoke(benchmark);
+            }
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package ru.dlabs71.library.exception.processor;
+
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.Trees;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import ru.dlabs71.library.exception.message.ResourceBundleMessageService;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+/**
+ * Annotation processor which checks messages of {@link ru.dlabs71.library.exception.type.ErrorCode} enums
+ * at build time. It processes all enums implementing <code>ErrorCode</code> in the compiled sources:
+ * <ul>
+ *     <li>the message code of every constant (the first string constant among the arguments of the constant)
+ *     must be in the message bundles for every checked locale;</li>
+ *     <li>the message must be a valid {@link MessageFormat} pattern;</li>
+ *     <li>if the option {@value #ARGUMENTS_OPTION} is specified, the message mustn't use more arguments
+ *     than the option allows. A message with different arguments in different locales is reported
+ *     by a warning.</li>
+ * </ul>
+ *
+ * <p>If the option {@value #TABLE_OPTION} is specified, the processor generates the class with this name.
+ * The class implements {@link ru.dlabs71.library.exception.message.ErrorCodeMessageTable} and contains
+ * the patterns of {@link CommonErrorCode} and of the processed enums for all locales, so
+ * {@link ru.dlabs71.library.exception.message.MessageTableMessageService} doesn't read bundles at runtime.
+ *
+ * <p>Options of the processor:
+ * <ul>
+ *     <li>{@value #BUNDLES_OPTION} - comma-separated base names of user bundles. They are layered over
+ *     the bundle of the library. By default, it's "messages".</li>
+ *     <li>{@value #LOCALES_OPTION} - comma-separated locales which are checked and put into the table
+ *     (for example, "ru_RU,en"). By default, only the bundle files without a locale are checked.</li>
+ *     <li>{@value #RESOURCE_DIRS_OPTION} - directories with the bundles separated by the path separator.
+ *     By default, the bundles are read from the class output directory and the class path
+ *     of the processor.</li>
+ *     <li>{@value #ENCODING_OPTION} - encoding of the bundle files. By default, it's UTF-8.</li>
+ *     <li>{@value #ARGUMENTS_OPTION} - maximum count of arguments which are passed to messages. By default,
+ *     the count isn't checked: exceptions pass any count of raw arguments
+ *     (see {@link ru.dlabs71.library.exception.exception.ServiceException#withMessageArgs(Object...)}),
+ *     and without them the only argument is the message of the exception.</li>
+ *     <li>{@value #TABLE_OPTION} - qualified name of the generated message table.</li>
+ *     <li>{@value #STRICT_OPTION} - if it's false, problems are reported by warnings instead of errors.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *     <path>
+ *         <groupId>ru.dlabs71.library</groupId>
+ *         <artifactId>d-exception-processor</artifactId>
+ *         <version>${d-exception.version}</version>
+ *     </path>
+ * </annotationProcessorPaths>
+ * <compilerArgs>
+ *     <arg>-Ad.exception.locales=ru_RU</arg>
+ *     <arg>-Ad.exception.table=com.example.error.MessageTable</arg>
+ * </compilerArgs>
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({
+    ErrorCodeProcessor.BUNDLES_OPTION,
+    ErrorCodeProcessor.LOCALES_OPTION,
+    ErrorCodeProcessor.RESOURCE_DIRS_OPTION,
+    ErrorCodeProcessor.ENCODING_OPTION,
+    ErrorCodeProcessor.ARGUMENTS_OPTION,
+    ErrorCodeProcessor.TABLE_OPTION,
+    ErrorCodeProcessor.STRICT_OPTION
+})
+public final class ErrorCodeProcessor extends AbstractProcessor {
+
+    public static final String BUNDLES_OPTION = "d.exception.bundles";
+    public static final String LOCALES_OPTION = "d.exception.locales";
+    public static final String RESOURCE_DIRS_OPTION = "d.exception.resourceDirs";
+    public static final String ENCODING_OPTION = "d.exception.encoding";
+    public static final String ARGUMENTS_OPTION = "d.exception.messageArguments";
+    public static final String TABLE_OPTION = "d.exception.table";
+    public static final String STRICT_OPTION = "d.exception.strict";
+
+    private static final String ERROR_CODE = "ru.dlabs71.library.exception.type.ErrorCode";
+    private static final int UNCHECKED_ARGUMENTS = -1;
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Trees trees;
+    private List<String> basenames;
+    private List<Locale> locales;
+    private List<Path> resourceDirs;
+    private Charset encoding;
+    private int messageArguments;
+    private String tableName;
+    private Diagnostic.Kind problemKind;
+    private boolean processed;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        try {
+            this.trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            // not javac, so arguments of enum constants aren't available
+            this.trees = null;
+        }
+
+        Map<String, String> options = processingEnv.getOptions();
+        this.basenames = new ArrayList<>();
+        this.basenames.add(ResourceBundleMessageService.LIBRARY_BASENAME);
+        for (String basename : split(options.getOrDefault(BUNDLES_OPTION, "messages"), ",")) {
+            if (!this.basenames.contains(basename)) {
+                this.basenames.add(basename);
+            }
+        }
+        this.locales = new ArrayList<>();
+        for (String locale : split(options.get(LOCALES_OPTION), ",")) {
+            this.locales.add(parseLocale(locale));
+        }
+        this.resourceDirs = new ArrayList<>();
+        for (String dir : split(options.get(RESOURCE_DIRS_OPTION), File.pathSeparator)) {
+            this.resourceDirs.add(Paths.get(dir));
+        }
+        String encodingName = options.get(ENCODING_OPTION);
+        this.encoding = encodingName != null ? Charset.forName(encodingName) : StandardCharsets.UTF_8;
+        String arguments = options.get(ARGUMENTS_OPTION);
+        this.messageArguments = arguments != null ? Integer.parseInt(arguments.trim()) : UNCHECKED_ARGUMENTS;
+        this.tableName = options.get(TABLE_OPTION);
+        this.problemKind = "false".equalsIgnoreCase(options.get(STRICT_OPTION))
+            ? Diagnostic.Kind.WARNING
+            : Diagnostic.Kind.ERROR;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // all user sources are in the first round
+        if (this.processed || roundEnv.processingOver()) {
+            return false;
+        }
+        this.processed = true;
+        TypeElement errorCodeElement = this.elements.getTypeElement(ERROR_CODE);
+        if (errorCodeElement == null) {
+            return false;
+        }
+        List<TypeElement> enums = new ArrayList<>();
+        this.collectEnums(roundEnv.getRootElements(), this.types.erasure(errorCodeElement.asType()), enums);
+        if (enums.isEmpty() && this.tableName == null) {
+            return false;
+        }
+        enums.sort(Comparator.comparing(type -> type.getQualifiedName().toString()));
+        try {
+            this.process(enums);
+        } catch (IOException e) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "d.Failed to read the message bundles: " + e);
+        }
+        return false;
+    }
+
+    private void process(List<TypeElement> enums) throws IOException {
+        MessageBundles bundles = new MessageBundles(
+            this.basenames,
+            this.resourceDirs,
+            this.processingEnv.getFiler(),
+            this.encoding
+        );
+        Set<Locale> tableLocaleSet = new LinkedHashSet<>();
+        tableLocaleSet.add(Locale.ROOT);
+        tableLocaleSet.addAll(this.locales);
+        List<Locale> tableLocales = new ArrayList<>(tableLocaleSet);
+        List<Locale> checkedLocales = this.locales.isEmpty() ? Collections.singletonList(Locale.ROOT) : this.locales;
+        Map<Locale, Map<String, String>> messages = new HashMap<>();
+        for (Locale locale : tableLocales) {
+            messages.put(locale, bundles.getMessages(locale));
+        }
+        if (this.trees == null) {
+            this.messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                "d.Message codes of error codes can be determined only by javac, they aren't checked"
+            );
+        }
+
+        List<ErrorCodeType> tableTypes = new ArrayList<>();
+        List<List<String>> libraryPatterns = newPatterns(tableLocales);
+        for (CommonErrorCode errorCode : CommonErrorCode.values()) {
+            addPatterns(libraryPatterns, tableLocales, messages, errorCode.getCodeMessage());
+        }
+        tableTypes.add(new ErrorCodeType(CommonErrorCode.class.getCanonicalName(), libraryPatterns));
+
+        for (TypeElement type : enums) {
+            List<List<String>> patterns = newPatterns(tableLocales);
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.ENUM_CONSTANT) {
+                    continue;
+                }
+                String key = this.findMessageCode((VariableElement) member);
+                if (key == null && this.trees != null) {
+                    this.messager.printMessage(
+                        Diagnostic.Kind.NOTE,
+                        "d.Message code of " + member.getSimpleName() + " can't be determined at build time,"
+                            + " it isn't checked",
+                        member
+                    );
+                } else if (key != null) {
+                    this.check(member, key, messages, checkedLocales);
+                }
+                addPatterns(patterns, tableLocales, messages, key);
+            }
+            if (this.tableName != null) {
+                if (isAccessible(type)) {
+                    tableTypes.add(new ErrorCodeType(type.getQualifiedName().toString(), patterns));
+                } else {
+                    this.messager.printMessage(
+                        Diagnostic.Kind.WARNING,
+                        "d." + type.getQualifiedName() + " isn't public, it isn't put into the message table",
+                        type
+                    );
+                }
+            }
+        }
+
+        if (this.tableName != null) {
+            JavaFileObject file = this.processingEnv.getFiler()
+                .createSourceFile(this.tableName, enums.toArray(new Element[0]));
+            try (Writer out = file.openWriter()) {
+                new MessageTableWriter(this.tableName, this.basenames, tableLocales, tableTypes).write(out);
+            }
+            this.messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                "d.Message table " + this.tableName + " is generated from " + bundles.getFoundFiles()
+            );
+        }
+    }
+
+    private void check(Element constant, String key, Map<Locale, Map<String, String>> messages, List<Locale> locales) {
+        int argumentCount = -1;
+        boolean differentArguments = false;
+        for (Locale locale : locales) {
+            String pattern = messages.get(locale).get(key);
+            if (pattern == null) {
+                this.messager.printMessage(
+                    this.problemKind,
+                    "d.Message '" + key + "' isn't found in the bundles " + this.basenames
+                        + " for the " + MessageTableWriter.describe(locale),
+                    constant
+                );
+                continue;
+            }
+            int count;
+            try {
+                count = new MessageFormat(pattern, locale).getFormatsByArgumentIndex().length;
+            } catch (IllegalArgumentException e) {
+                this.messager.printMessage(
+                    this.problemKind,
+                    "d.Message '" + key + "' for the " + MessageTableWriter.describe(locale)
+                        + " isn't a valid MessageFormat pattern: " + e.getMessage(),
+                    constant
+                );
+                continue;
+            }
+            if (this.messageArguments != UNCHECKED_ARGUMENTS && count > this.messageArguments) {
+                this.messager.printMessage(
+                    this.problemKind,
+                    "d.Message '" + key + "' for the " + MessageTableWriter.describe(locale) + " uses the argument {"
+                        + (count - 1) + "}, but only " + this.messageArguments + " argument(s) are passed",
+                    constant
+                );
+            }
+            differentArguments |= argumentCount >= 0 && argumentCount != count;
+            argumentCount = count;
+        }
+        if (differentArguments) {
+            this.messager.printMessage(
+                Diagnostic.Kind.WARNING,
+                "d.Message '" + key + "' has different arguments in the locales " + locales,
+                constant
+            );
+        }
+    }
+
+    private void collectEnums(Collection<? extends Element> roots, TypeMirror errorCode, List<TypeElement> result) {
+        for (Element element : roots) {
+            if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+                continue;
+            }
+            if (element.getKind() == ElementKind.ENUM && this.types.isAssignable(element.asType(), errorCode)) {
+                result.add((TypeElement) element);
+            }
+            this.collectEnums(element.getEnclosedElements(), errorCode, result);
+        }
+    }
+
+    /**
+     * Find the message code of an enum constant. It's the first string constant among the arguments
+     * of the constant: a literal, a constant field or a concatenation of them.
+     */
+    private String findMessageCode(VariableElement constant) {
+        if (this.trees == null) {
+            return null;
+        }
+        Tree tree = this.trees.getTree(constant);
+        if (!(tree instanceof VariableTree) || !(((VariableTree) tree).getInitializer() instanceof NewClassTree)) {
+            return null;
+        }
+        TypeElement type = (TypeElement) constant.getEnclosingElement();
+        for (ExpressionTree argument : ((NewClassTree) ((VariableTree) tree).getInitializer()).getArguments()) {
+            Object value = this.constantValue(argument, type);
+            if (value instanceof String) {
+                return (String) value;
+            }
+        }
+        return null;
+    }
+
+    private Object constantValue(ExpressionTree expression, TypeElement scope) {
+        switch (expression.getKind()) {
+            case STRING_LITERAL:
+                return ((LiteralTree) expression).getValue();
+            case PARENTHESIZED:
+                return this.constantValue(((ParenthesizedTree) expression).getExpression(), scope);
+            case PLUS:
+                Object left = this.constantValue(((BinaryTree) expression).getLeftOperand(), scope);
+                Object right = this.constantValue(((BinaryTree) expression).getRightOperand(), scope);
+                if (left == null || right == null || !(left instanceof String || right instanceof String)) {
+                    return null;
+                }
+                return String.valueOf(left) + right;
+            case IDENTIFIER:
+                return this.fieldValue(scope, ((IdentifierTree) expression).getName().toString());
+            case MEMBER_SELECT:
+                MemberSelectTree select = (MemberSelectTree) expression;
+                TypeElement owner = this.findType(select.getExpression().toString(), scope);
+                return owner != null ? this.fieldValue(owner, select.getIdentifier().toString()) : null;
+            default:
+                return null;
+        }
+    }
+
+    private Object fieldValue(TypeElement type, String name) {
+        for (Element owner = type; owner instanceof TypeElement; owner = owner.getEnclosingElement()) {
+            for (Element member : owner.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.FIELD && member.getSimpleName().contentEquals(name)) {
+                    return ((VariableElement) member).getConstantValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private TypeElement findType(String name, TypeElement scope) {
+        TypeElement type = this.elements.getTypeElement(name);
+        if (type == null) {
+            type = this.elements.getTypeElement(scope.getQualifiedName() + "." + name);
+        }
+        if (type == null) {
+            String packageName = this.elements.getPackageOf(scope).getQualifiedName().toString();
+            type = this.elements.getTypeElement(packageName.isEmpty() ? name : packageName + "." + name);
+        }
+        return type;
+    }
+
+    private static List<List<String>> newPatterns(List<Locale> locales) {
+        List<List<String>> patterns = new ArrayList<>(locales.size());
+        for (int i = 0; i < locales.size(); i++) {
+            patterns.add(new ArrayList<>());
+        }
+        return patterns;
+    }
+
+    private static void addPatterns(
+        List<List<String>> patterns,
+        List<Locale> locales,
+        Map<Locale, Map<String, String>> messages,
+        String key
+    ) {
+        for (int i = 0; i < locales.size(); i++) {
+            patterns.get(i).add(key != null ? messages.get(locales.get(i)).get(key) : null);
+        }
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Locale parseLocale(String value) {
+        if (value.indexOf('-') >= 0) {
+            return Locale.forLanguageTag(value);
+        }
+        String[] parts = value.split("_", 3);
+        return new Locale(parts[0], parts.length > 1 ? parts[1] : "", parts.length > 2 ? parts[2] : "");
+    }
+
+    private static List<String> split(String value, String separator) {
+        List<String> result = new ArrayList<>();
+        if (value == null) {
+            return result;
+        }
+        for (String part : value.split(Pattern.quote(separator))) {
+            if (!part.trim().isEmpty()) {
+                result.add(part.trim());
+            }
+        }
+        return result;
+    }
+}
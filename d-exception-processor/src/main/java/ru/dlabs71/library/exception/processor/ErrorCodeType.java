@@ -0,0 +1,37 @@
+package ru.dlabs71.library.exception.processor;
+
+import java.util.List;
+
+/**
+ * Enum of error codes which is put into a generated message table.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+final class ErrorCodeType {
+
+    private final String name;
+    private final List<List<String>> patterns;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param name     canonical name of the enum
+     * @param patterns patterns of the constants in the order of ordinals for every locale of the table
+     */
+    ErrorCodeType(String name, List<List<String>> patterns) {
+        this.name = name;
+        this.patterns = patterns;
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    List<List<String>> getPatterns() {
+        return this.patterns;
+    }
+}
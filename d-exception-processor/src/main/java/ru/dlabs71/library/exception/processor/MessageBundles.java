@@ -0,0 +1,149 @@
+package ru.dlabs71.library.exception.processor;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import javax.annotation.processing.Filer;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Message bundles which are read at build time. Messages of a locale are merged by the same rules
+ * as ones of {@link ru.dlabs71.library.exception.message.ResourceBundleMessageService}: a later bundle
+ * overrides messages of earlier ones, a more specific locale wins over a less specific one.
+ *
+ * <p>A bundle file is looked up in the resource directories specified by the option of the processor,
+ * then in the class output directory (build tools copy resources there before compilation) and then
+ * on the class path of the processor (the bundles of the library).
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+final class MessageBundles {
+
+    private static final ResourceBundle.Control CONTROL =
+        ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final List<String> basenames;
+    private final List<Path> resourceDirs;
+    private final Filer filer;
+    private final Charset encoding;
+    private final Map<String, Map<String, String>> files = new HashMap<>();
+    private final List<String> foundFiles = new ArrayList<>();
+
+    MessageBundles(List<String> basenames, List<Path> resourceDirs, Filer filer, Charset encoding) {
+        this.basenames = basenames;
+        this.resourceDirs = resourceDirs;
+        this.filer = filer;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Get the merged messages of a locale.
+     *
+     * @param locale the locale
+     *
+     * @return patterns of messages by codes
+     *
+     * @throws IOException if a bundle file can't be read
+     */
+    Map<String, String> getMessages(Locale locale) throws IOException {
+        List<Locale> candidates = CONTROL.getCandidateLocales("", locale);
+        Map<String, String> messages = new HashMap<>();
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            for (String basename : this.basenames) {
+                messages.putAll(this.read(CONTROL.toBundleName(basename, candidates.get(i))));
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Get the names of bundle files which are found.
+     *
+     * @return the names of the files
+     */
+    List<String> getFoundFiles() {
+        return Collections.unmodifiableList(this.foundFiles);
+    }
+
+    private Map<String, String> read(String bundleName) throws IOException {
+        Map<String, String> messages = this.files.get(bundleName);
+        if (messages != null) {
+            return messages;
+        }
+        String resourceName = CONTROL.toResourceName(bundleName, "properties");
+        Properties properties = null;
+        for (Path resourceDir : this.resourceDirs) {
+            try (InputStream in = Files.newInputStream(resourceDir.resolve(resourceName))) {
+                properties = this.load(in);
+                break;
+            } catch (NoSuchFileException e) {
+                // look up in the next directory
+            }
+        }
+        if (properties == null) {
+            properties = this.readClassOutput(resourceName);
+        }
+        if (properties == null) {
+            ClassLoader classLoader = MessageBundles.class.getClassLoader();
+            InputStream in = classLoader != null
+                ? classLoader.getResourceAsStream(resourceName)
+                : ClassLoader.getSystemResourceAsStream(resourceName);
+            if (in != null) {
+                try (InputStream stream = in) {
+                    properties = this.load(stream);
+                }
+            }
+        }
+
+        messages = new HashMap<>();
+        if (properties != null) {
+            this.foundFiles.add(resourceName);
+            for (String key : properties.stringPropertyNames()) {
+                messages.put(key, properties.getProperty(key));
+            }
+        }
+        this.files.put(bundleName, messages);
+        return messages;
+    }
+
+    private Properties readClassOutput(String resourceName) throws IOException {
+        FileObject resource;
+        try {
+            resource = this.filer.getResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        try (InputStream in = resource.openInputStream()) {
+            return this.load(in);
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private Properties load(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(in, this.encoding)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+}
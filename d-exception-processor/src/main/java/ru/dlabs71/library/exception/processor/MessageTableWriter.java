@@ -0,0 +1,169 @@
+package ru.dlabs71.library.exception.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writer of the source code of a generated {@link ru.dlabs71.library.exception.message.ErrorCodeMessageTable}.
+ * The patterns of every locale are created by a separate method, so a large table doesn't exceed the limit
+ * of the size of a method.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+final class MessageTableWriter {
+
+    private static final String INDENT = "    ";
+
+    private final String packageName;
+    private final String simpleName;
+    private final List<String> basenames;
+    private final List<Locale> locales;
+    private final List<ErrorCodeType> types;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param className qualified name of the generated class
+     * @param basenames base names of the bundles which the patterns are read from
+     * @param locales   locales of the table. The first one is {@link Locale#ROOT}.
+     * @param types     enums of error codes with the patterns of the constants
+     */
+    MessageTableWriter(String className, List<String> basenames, List<Locale> locales, List<ErrorCodeType> types) {
+        int dot = className.lastIndexOf('.');
+        this.packageName = dot > 0 ? className.substring(0, dot) : null;
+        this.simpleName = className.substring(dot + 1);
+        this.basenames = basenames;
+        this.locales = locales;
+        this.types = types;
+    }
+
+    void write(Writer out) throws IOException {
+        if (this.packageName != null) {
+            out.append("package ").append(this.packageName).append(";\n\n");
+        }
+        out.append("import java.util.Arrays;\n")
+            .append("import java.util.Collections;\n")
+            .append("import java.util.List;\n")
+            .append("import java.util.Locale;\n")
+            .append("import ru.dlabs71.library.exception.message.ErrorCodeMessageTable;\n")
+            .append("import ru.dlabs71.library.exception.type.ErrorCode;\n\n");
+
+        out.append("/**\n")
+            .append(" * Message table which is generated by d-exception-processor from the bundles ")
+            .append(String.valueOf(this.basenames)).append(".\n")
+            .append(" * Don't edit it: change the bundles instead.\n")
+            .append(" */\n")
+            .append("public final class ").append(this.simpleName).append(" implements ErrorCodeMessageTable {\n\n");
+
+        out.append(INDENT).append("private static final List<Locale> LOCALES = Collections.unmodifiableList(")
+            .append("Arrays.asList(\n");
+        for (int i = 0; i < this.locales.size(); i++) {
+            out.append(INDENT).append(INDENT).append(localeExpression(this.locales.get(i)))
+                .append(i < this.locales.size() - 1 ? ",\n" : "\n");
+        }
+        out.append(INDENT).append("));\n\n");
+
+        out.append(INDENT).append("private static final List<Class<? extends ErrorCode>> ERROR_CODE_TYPES = ")
+            .append("Collections.unmodifiableList(\n")
+            .append(INDENT).append(INDENT).append("Arrays.<Class<? extends ErrorCode>>asList(\n");
+        for (int i = 0; i < this.types.size(); i++) {
+            out.append(INDENT).append(INDENT).append(INDENT).append(this.types.get(i).getName()).append(".class")
+                .append(i < this.types.size() - 1 ? ",\n" : "\n");
+        }
+        out.append(INDENT).append(INDENT).append(")\n")
+            .append(INDENT).append(");\n\n");
+
+        out.append(INDENT).append("private static final String[][] PATTERNS = {\n");
+        for (int i = 0; i < this.locales.size(); i++) {
+            out.append(INDENT).append(INDENT).append("patterns").append(String.valueOf(i)).append("()")
+                .append(i < this.locales.size() - 1 ? ",\n" : "\n");
+        }
+        out.append(INDENT).append("};\n\n");
+
+        out.append(INDENT).append("@Override\n")
+            .append(INDENT).append("public List<Locale> getLocales() {\n")
+            .append(INDENT).append(INDENT).append("return LOCALES;\n")
+            .append(INDENT).append("}\n\n")
+            .append(INDENT).append("@Override\n")
+            .append(INDENT).append("public List<Class<? extends ErrorCode>> getErrorCodeTypes() {\n")
+            .append(INDENT).append(INDENT).append("return ERROR_CODE_TYPES;\n")
+            .append(INDENT).append("}\n\n")
+            .append(INDENT).append("@Override\n")
+            .append(INDENT).append("public String getPattern(int localeIndex, int slot) {\n")
+            .append(INDENT).append(INDENT).append("return PATTERNS[localeIndex][slot];\n")
+            .append(INDENT).append("}\n");
+
+        for (int i = 0; i < this.locales.size(); i++) {
+            out.append('\n')
+                .append(INDENT).append("// ").append(describe(this.locales.get(i))).append('\n')
+                .append(INDENT).append("private static String[] patterns").append(String.valueOf(i)).append("() {\n")
+                .append(INDENT).append(INDENT).append("return new String[] {\n");
+            for (int t = 0; t < this.types.size(); t++) {
+                ErrorCodeType type = this.types.get(t);
+                out.append(INDENT).append(INDENT).append(INDENT).append("// ").append(type.getName()).append('\n');
+                List<String> patterns = type.getPatterns().get(i);
+                for (int p = 0; p < patterns.size(); p++) {
+                    boolean last = t == this.types.size() - 1 && p == patterns.size() - 1;
+                    out.append(INDENT).append(INDENT).append(INDENT).append(literal(patterns.get(p)))
+                        .append(last ? "\n" : ",\n");
+                }
+            }
+            out.append(INDENT).append(INDENT).append("};\n")
+                .append(INDENT).append("}\n");
+        }
+        out.append("}\n");
+    }
+
+    private static String localeExpression(Locale locale) {
+        if (Locale.ROOT.equals(locale)) {
+            return "Locale.ROOT";
+        }
+        return "new Locale(" + literal(locale.getLanguage()) + ", " + literal(locale.getCountry()) + ", "
+            + literal(locale.getVariant()) + ")";
+    }
+
+    static String describe(Locale locale) {
+        return Locale.ROOT.equals(locale) ? "default locale" : "locale " + locale;
+    }
+
+    private static String literal(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (ch < 0x20 || ch > 0x7e) {
+                        // the generated source doesn't depend on the encoding of the compiler
+                        builder.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        builder.append(ch);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,243 @@
+package ru.dlabs71.library.exception.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.dlabs71.library.exception.message.ErrorCodeMessageTable;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ErrorCodeProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void knownMessagesPass() throws IOException {
+        Result result = this.compile(errorCodes("LOCK(\"d.lock.object.exception\")"));
+
+        assertTrue(result.success, result.toString());
+        assertTrue(result.messages(Diagnostic.Kind.ERROR).isEmpty());
+    }
+
+    @Test
+    void missingMessageIsError() throws IOException {
+        Result result = this.compile(errorCodes("MISSING(\"missing.code\")"));
+
+        assertFalse(result.success);
+        assertTrue(result.messages(Diagnostic.Kind.ERROR).get(0).contains("'missing.code' isn't found"));
+    }
+
+    @Test
+    void problemsAreWarningsIfNotStrict() throws IOException {
+        Result result = this.compile(
+            errorCodes("MISSING(\"missing.code\")"),
+            "-A" + ErrorCodeProcessor.STRICT_OPTION + "=false"
+        );
+
+        assertTrue(result.success, result.toString());
+        assertTrue(result.messages(Diagnostic.Kind.WARNING).get(0).contains("'missing.code' isn't found"));
+    }
+
+    @Test
+    void messageCodeIsTakenFromConstants() throws IOException {
+        Result result = this.compile(
+            errorCodes("LOCK(PREFIX + \"lock.object.exception\"), MISSING(Constants.MISSING)"),
+            "-A" + ErrorCodeProcessor.STRICT_OPTION + "=false"
+        );
+
+        List<String> warnings = result.messages(Diagnostic.Kind.WARNING);
+        assertEquals(1, warnings.size(), result.toString());
+        assertTrue(warnings.get(0).contains("'constant.missing' isn't found"));
+    }
+
+    @Test
+    void patternsAreChecked() throws IOException {
+        this.bundle("messages.properties", "two.arguments=Values {0} and {1}\ninvalid=Value {0\n");
+
+        Result result = this.compile(errorCodes("TWO(\"two.arguments\"), INVALID(\"invalid\")"));
+
+        List<String> errors = result.messages(Diagnostic.Kind.ERROR);
+        assertEquals(1, errors.size(), result.toString());
+        assertTrue(errors.get(0).contains("isn't a valid MessageFormat pattern"));
+    }
+
+    @Test
+    void countOfArgumentsIsCheckedWhenConfigured() throws IOException {
+        this.bundle("messages.properties", "two.arguments=Values {0} and {1}\n");
+
+        Result one = this.compile(
+            errorCodes("TWO(\"two.arguments\")"),
+            "-A" + ErrorCodeProcessor.ARGUMENTS_OPTION + "=1"
+        );
+        Result two = this.compile(
+            errorCodes("TWO(\"two.arguments\")"),
+            "-A" + ErrorCodeProcessor.ARGUMENTS_OPTION + "=2"
+        );
+
+        List<String> errors = one.messages(Diagnostic.Kind.ERROR);
+        assertEquals(1, errors.size(), one.toString());
+        assertTrue(errors.get(0).contains("uses the argument {1}, but only 1 argument(s) are passed"));
+        assertTrue(two.success, two.toString());
+    }
+
+    @Test
+    void localesAreChecked() throws IOException {
+        this.bundle("messages.properties", "custom=Custom\n");
+
+        Result result = this.compile(
+            errorCodes("CUSTOM(\"custom\"), LOCK(\"d.lock.object.exception\")"),
+            "-A" + ErrorCodeProcessor.LOCALES_OPTION + "=ru_RU"
+        );
+
+        assertTrue(result.success, result.toString());
+        this.bundle("messages_ru_RU.properties", "custom={0\n");
+        assertFalse(this.compile(
+            errorCodes("CUSTOM(\"custom\")"),
+            "-A" + ErrorCodeProcessor.LOCALES_OPTION + "=ru_RU"
+        ).success);
+    }
+
+    @Test
+    void messageTableIsGenerated() throws Exception {
+        this.bundle("messages.properties", "custom=Custom\n");
+        this.bundle("messages_ru_RU.properties", "custom=Своё\n");
+
+        Result result = this.compile(
+            errorCodes("CUSTOM(\"custom\"), LOCK(\"d.lock.object.exception\")"),
+            "-A" + ErrorCodeProcessor.LOCALES_OPTION + "=ru_RU",
+            "-A" + ErrorCodeProcessor.TABLE_OPTION + "=test.GeneratedTable"
+        );
+        assertTrue(result.success, result.toString());
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+            new URL[] { this.directory.resolve("classes").toUri().toURL() },
+            ErrorCodeProcessorTest.class.getClassLoader()
+        )) {
+            ErrorCodeMessageTable table = (ErrorCodeMessageTable) classLoader.loadClass("test.GeneratedTable")
+                .getDeclaredConstructor()
+                .newInstance();
+            assertEquals(Arrays.asList(Locale.ROOT, new Locale("ru", "RU")), table.getLocales());
+            assertEquals(CommonErrorCode.class, table.getErrorCodeTypes().get(0));
+            assertEquals("test.TestErrorCode", table.getErrorCodeTypes().get(1).getName());
+
+            int slot = CommonErrorCode.values().length;
+            assertEquals("Custom", table.getPattern(0, slot));
+            assertEquals("Своё", table.getPattern(1, slot));
+            assertTrue(table.getPattern(1, slot + 1).startsWith("Объект изменяется"));
+        }
+    }
+
+    private static String errorCodes(String constants) {
+        return "package test;\n"
+            + "\n"
+            + "import ru.dlabs71.library.exception.type.ErrorCode;\n"
+            + "\n"
+            + "public enum TestErrorCode implements ErrorCode {\n"
+            + "    " + constants + ";\n"
+            + "\n"
+            + "    private static final String PREFIX = \"d.\";\n"
+            + "\n"
+            + "    private final String codeMessage;\n"
+            + "\n"
+            + "    TestErrorCode(String codeMessage) {\n"
+            + "        this.codeMessage = codeMessage;\n"
+            + "    }\n"
+            + "\n"
+            + "    @Override\n"
+            + "    public String getCodeMessage() {\n"
+            + "        return this.codeMessage;\n"
+            + "    }\n"
+            + "\n"
+            + "    static final class Constants {\n"
+            + "        static final String MISSING = \"constant.missing\";\n"
+            + "    }\n"
+            + "}\n";
+    }
+
+    private void bundle(String name, String content) throws IOException {
+        Path resources = Files.createDirectories(this.directory.resolve("resources"));
+        Files.write(resources.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Result compile(String source, String... options) throws IOException {
+        Path sourceFile = Files.createDirectories(this.directory.resolve("src/test")).resolve("TestErrorCode.java");
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+        Path classes = Files.createDirectories(this.directory.resolve("classes"));
+        Files.createDirectories(this.directory.resolve("resources"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> arguments = new ArrayList<>(Arrays.asList(
+            "-classpath", System.getProperty("java.class.path"),
+            "-d", classes.toString(),
+            "-s", classes.toString(),
+            "-A" + ErrorCodeProcessor.RESOURCE_DIRS_OPTION + "=" + this.directory.resolve("resources")
+        ));
+        Collections.addAll(arguments, options);
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                arguments,
+                null,
+                fileManager.getJavaFileObjectsFromFiles(Collections.singletonList(sourceFile.toFile()))
+            );
+            task.setProcessors(Collections.singletonList(new ErrorCodeProcessor()));
+            return new Result(task.call(), diagnostics.getDiagnostics());
+        }
+    }
+
+    private static final class Result {
+
+        private final boolean success;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+        private Result(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+        }
+
+        private List<String> messages(Diagnostic.Kind kind) {
+            List<String> messages = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : this.diagnostics) {
+                if (diagnostic.getKind() == kind) {
+                    messages.add(diagnostic.getMessage(Locale.ROOT));
+                }
+            }
+            return messages;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : this.diagnostics) {
+                result.append(diagnostic.getKind())
+                    .append(": ")
+                    .append(diagnostic.getMessage(Locale.ROOT))
+                    .append('\n');
+            }
+            return result.toString();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package ru.dlabs71.library.exception;
 
+import java.util.Locale;
+
 /**
  * Common interface for getting message by a code.
  */
@@ -14,4 +16,40 @@ public interface DExceptionMessageService {
      * @return created message text.
      */
     String getMessage(String code, Object... args);
+
+    /**
+     * Get a raw message pattern (in the {@link java.text.MessageFormat} format) by a code.
+     * If the method is implemented, the library compiles the pattern once and caches it
+     * (see {@link ru.dlabs71.library.exception.message.MessageTemplateCache}) instead of calling
+     * {@link #getMessage(String, Object...)} for every error. If the method isn't implemented, the cache
+     * saves nothing: the library asks for the pattern once per code and then calls
+     * {@link #getMessage(String, Object...)} for every error as before.
+     *
+     * @param code   a message code
+     * @param locale a locale of the message
+     *
+     * @return the message pattern or null if the service can't provide it. By default, it's always null.
+     */
+    default String getMessagePattern(String code, Locale locale) {
+        return null;
+    }
+
+    /**
+     * Get the locale of messages which the service creates now.
+     *
+     * @return the current locale. By default, it's {@link Locale#getDefault()}.
+     */
+    default Locale getLocale() {
+        return Locale.getDefault();
+    }
+
+    /**
+     * Register a listener which is called after messages are changed (for example, reloaded).
+     * The library uses it to clear the caches of compiled templates and prepared responses.
+     *
+     * @param listener the listener
+     */
+    default void addChangeListener(Runnable listener) {
+        // by default messages don't change
+    }
 }
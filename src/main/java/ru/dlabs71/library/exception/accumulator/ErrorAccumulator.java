@@ -0,0 +1,223 @@
+package ru.dlabs71.library.exception.accumulator;
+
+import java.util.Arrays;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.AccumulatedErrorsServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Accumulator of errors for validation of many items (for example, rows of a bulk import). Errors are
+ * collected as tuples of an error code, a level and raw arguments of the message, no exception is created
+ * per error. When the validation is finished, the accumulator is thrown once as
+ * an {@link AccumulatedErrorsServiceException}, and the resolver renders a single response with the list
+ * of errors.
+ * <pre>{@code
+ * ErrorAccumulator errors = ErrorAccumulator.builder().maxErrors(500).build();
+ * for (int row = 0; row < rows.size(); row++) {
+ *     if (rows.get(row).getAmount() < 0) {
+ *         errors.add(MyErrorCode.NEGATIVE_AMOUNT, row);
+ *     }
+ * }
+ * errors.throwIfNotEmpty();
+ * }</pre>
+ *
+ * <p>Only the first {@link #maxErrors} errors are kept, the others are only counted
+ * (see {@link #getTotal()}). Tuples are stored in parallel arrays which grow on demand.
+ * Arguments aren't formatted until the response is created, arguments of the
+ * {@link java.util.function.Supplier} type are computed at that moment.
+ *
+ * <p>The accumulator isn't thread-safe. It mustn't be changed after it's thrown.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorAccumulator {
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Maximum count of kept errors.
+     */
+    @Getter
+    private final int maxErrors;
+
+    private ErrorCode[] errorCodes;
+    private ErrorLevel[] levels;
+    private Object[][] messageArgs;
+    private int size;
+    private long total;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param maxErrors maximum count of kept errors. By default, 100.
+     */
+    @Builder
+    private ErrorAccumulator(Integer maxErrors) {
+        this.maxErrors = maxErrors != null ? maxErrors : 100;
+        if (this.maxErrors <= 0) {
+            throw new IllegalArgumentException("d.Invalid maximum count of errors: " + this.maxErrors);
+        }
+        int capacity = Math.min(this.maxErrors, INITIAL_CAPACITY);
+        this.errorCodes = new ErrorCode[capacity];
+        this.levels = new ErrorLevel[capacity];
+        this.messageArgs = new Object[capacity][];
+    }
+
+    /**
+     * Create an accumulator with the default settings.
+     *
+     * @return the accumulator
+     */
+    public static ErrorAccumulator create() {
+        return builder().build();
+    }
+
+    /**
+     * Add an error with the level {@link CommonErrorLevel#ERROR} and without arguments.
+     *
+     * @param errorCode error code of the error
+     *
+     * @return this accumulator
+     */
+    public ErrorAccumulator add(@NonNull ErrorCode errorCode) {
+        return this.add(errorCode, CommonErrorLevel.ERROR, NO_ARGS);
+    }
+
+    /**
+     * Add an error with the level {@link CommonErrorLevel#ERROR}.
+     *
+     * @param errorCode   error code of the error
+     * @param messageArgs raw arguments of the message of the error code
+     *
+     * @return this accumulator
+     */
+    public ErrorAccumulator add(@NonNull ErrorCode errorCode, Object... messageArgs) {
+        return this.add(errorCode, CommonErrorLevel.ERROR, messageArgs);
+    }
+
+    /**
+     * Add an error.
+     *
+     * @param errorCode   error code of the error
+     * @param level       level of the error. If it's null, {@link CommonErrorLevel#ERROR} is used.
+     * @param messageArgs raw arguments of the message of the error code
+     *
+     * @return this accumulator
+     */
+    public ErrorAccumulator add(@NonNull ErrorCode errorCode, ErrorLevel level, Object... messageArgs) {
+        this.total++;
+        if (this.size == this.maxErrors) {
+            return this;
+        }
+        if (this.size == this.errorCodes.length) {
+            int capacity = Math.min(this.size * 2, this.maxErrors);
+            this.errorCodes = Arrays.copyOf(this.errorCodes, capacity);
+            this.levels = Arrays.copyOf(this.levels, capacity);
+            this.messageArgs = Arrays.copyOf(this.messageArgs, capacity);
+        }
+        this.errorCodes[this.size] = errorCode;
+        this.levels[this.size] = level != null ? level : CommonErrorLevel.ERROR;
+        this.messageArgs[this.size] = messageArgs != null ? messageArgs : NO_ARGS;
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Get the count of kept errors.
+     *
+     * @return the count. It isn't greater than {@link #maxErrors}.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the count of all added errors including the errors which haven't been kept because of the cap.
+     *
+     * @return the count
+     */
+    public long getTotal() {
+        return this.total;
+    }
+
+    public boolean isEmpty() {
+        return this.total == 0;
+    }
+
+    /**
+     * Check whether some errors haven't been kept because of the cap.
+     *
+     * @return true if the total count is greater than the count of kept errors
+     */
+    public boolean isTruncated() {
+        return this.total > this.size;
+    }
+
+    public ErrorCode getErrorCode(int index) {
+        this.checkIndex(index);
+        return this.errorCodes[index];
+    }
+
+    public ErrorLevel getLevel(int index) {
+        this.checkIndex(index);
+        return this.levels[index];
+    }
+
+    public Object[] getMessageArgs(int index) {
+        this.checkIndex(index);
+        return this.messageArgs[index];
+    }
+
+    /**
+     * Remove all errors.
+     */
+    public void clear() {
+        Arrays.fill(this.errorCodes, 0, this.size, null);
+        Arrays.fill(this.levels, 0, this.size, null);
+        Arrays.fill(this.messageArgs, 0, this.size, null);
+        this.size = 0;
+        this.total = 0;
+    }
+
+    /**
+     * Throw the collected errors if there are any. The response has the error code
+     * {@link CommonErrorCode#VALIDATION_EXCEPTION} and the HTTP status 400 (Bad Request).
+     *
+     * @throws AccumulatedErrorsServiceException if at least one error has been added
+     */
+    public void throwIfNotEmpty() {
+        if (!this.isEmpty()) {
+            throw this.toException(CommonErrorCode.VALIDATION_EXCEPTION, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Create an exception carrying the collected errors.
+     *
+     * @param errorCode  error code of the whole response. The total count of errors is the argument
+     *                   of its message.
+     * @param httpStatus HTTP status of the response
+     *
+     * @return the exception
+     */
+    public AccumulatedErrorsServiceException toException(ErrorCode errorCode, HttpStatus httpStatus) {
+        return new AccumulatedErrorsServiceException(errorCode, httpStatus, this);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("d.Index: " + index + ", size: " + this.size);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ru.dlabs71.library.exception.aggregation;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot of statistics of one distinct error collected by {@link ErrorAggregationStore}.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@AllArgsConstructor
+public final class ErrorAggregate {
+
+    /**
+     * Fingerprint of the error (see {@link ErrorFingerprint}) as 16 hexadecimal digits.
+     */
+    private final String fingerprint;
+
+    /**
+     * Name of the exception class.
+     */
+    private final String exceptionClass;
+
+    /**
+     * Name of the error code of the response or null if the response doesn't have an error code.
+     */
+    private final String errorCode;
+
+    /**
+     * Normalized top frames of the sample. The fingerprint
+     * of a {@link ru.dlabs71.library.exception.exception.DException} doesn't depend on them.
+     */
+    private final List<String> frames;
+
+    /**
+     * Count of occurrences.
+     */
+    private final long count;
+
+    /**
+     * Time of the first occurrence.
+     */
+    private final Instant firstSeen;
+
+    /**
+     * Time of the last occurrence.
+     */
+    private final Instant lastSeen;
+
+    /**
+     * HTTP status code of the last response or 0 if it's unknown.
+     */
+    private final int lastStatus;
+
+    /**
+     * The first occurred exception.
+     */
+    private final Throwable sample;
+}
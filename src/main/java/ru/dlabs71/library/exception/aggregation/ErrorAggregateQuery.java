@@ -0,0 +1,99 @@
+package ru.dlabs71.library.exception.aggregation;
+
+import java.time.Instant;
+import java.util.Comparator;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Query of {@link ErrorAggregationStore#query(ErrorAggregateQuery)}. All conditions are optional.
+ *
+ * <pre>{@code
+ * List<ErrorAggregate> recent = store.query(ErrorAggregateQuery.builder()
+ *     .since(Instant.now().minus(Duration.ofMinutes(15)))
+ *     .order(ErrorAggregateQuery.Order.LAST_SEEN)
+ *     .limit(20)
+ *     .build());
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@Builder
+public final class ErrorAggregateQuery {
+
+    /**
+     * Query of all errors ordered by the count of occurrences.
+     */
+    public static final ErrorAggregateQuery ALL = ErrorAggregateQuery.builder().build();
+
+    /**
+     * Name of the error code.
+     */
+    private final String errorCode;
+
+    /**
+     * Name of the exception class.
+     */
+    private final String exceptionClass;
+
+    /**
+     * Only errors which occurred at this time or later.
+     */
+    private final Instant since;
+
+    /**
+     * Only errors which occurred at least this count of times.
+     */
+    private final long minCount;
+
+    /**
+     * Order of the result. By default, {@link Order#COUNT}.
+     */
+    @Builder.Default
+    private final Order order = Order.COUNT;
+
+    /**
+     * Maximum size of the result. If it's 0 or negative, the size isn't limited.
+     */
+    private final int limit;
+
+    boolean matches(ErrorAggregate aggregate) {
+        return (this.errorCode == null || this.errorCode.equals(aggregate.getErrorCode()))
+            && (this.exceptionClass == null || this.exceptionClass.equals(aggregate.getExceptionClass()))
+            && (this.since == null || !aggregate.getLastSeen().isBefore(this.since))
+            && aggregate.getCount() >= this.minCount;
+    }
+
+    /**
+     * Order of a query result.
+     */
+    public enum Order {
+
+        /**
+         * The most frequent errors first.
+         */
+        COUNT(Comparator.comparingLong(ErrorAggregate::getCount).reversed()),
+
+        /**
+         * The most recent errors first.
+         */
+        LAST_SEEN(Comparator.comparing(ErrorAggregate::getLastSeen).reversed()),
+
+        /**
+         * The newest kinds of errors first.
+         */
+        FIRST_SEEN(Comparator.comparing(ErrorAggregate::getFirstSeen).reversed());
+
+        @Getter
+        private final Comparator<ErrorAggregate> comparator;
+
+        Order(Comparator<ErrorAggregate> comparator) {
+            this.comparator = comparator;
+        }
+    }
+}
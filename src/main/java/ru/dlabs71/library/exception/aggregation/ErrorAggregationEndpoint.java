@@ -0,0 +1,118 @@
+package ru.dlabs71.library.exception.aggregation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Read-only endpoint over {@link ErrorAggregationStore} in the style of Spring Boot Actuator. Its methods
+ * return maps and lists which any JSON mapper writes as is, so the endpoint can be exposed by a controller
+ * or wrapped into an Actuator endpoint:
+ * <pre>{@code
+ * @Endpoint(id = "errors")
+ * public class ErrorsActuatorEndpoint {
+ *
+ *     private final ErrorAggregationEndpoint delegate;
+ *
+ *     @ReadOperation
+ *     public Map<String, Object> errors(@Nullable String errorCode, @Nullable Integer limit) {
+ *         return delegate.errors(errorCode, null, limit);
+ *     }
+ *
+ *     @ReadOperation
+ *     public Map<String, Object> error(@Selector String fingerprint) {
+ *         return delegate.error(fingerprint);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorAggregationEndpoint {
+
+    /**
+     * Count of frames of the sample exception in the details of an error.
+     */
+    private static final int SAMPLE_FRAMES = 20;
+
+    @Getter
+    private final ErrorAggregationStore store;
+
+    public ErrorAggregationEndpoint(ErrorAggregationStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Get the list of distinct errors ordered by the count of occurrences.
+     *
+     * @param errorCode      name of an error code. It can be null.
+     * @param exceptionClass name of an exception class. It can be null.
+     * @param limit          maximum size of the list. It can be null.
+     *
+     * @return the map with the fields <code>size</code>, <code>evicted</code> and <code>errors</code>
+     */
+    public Map<String, Object> errors(String errorCode, String exceptionClass, Integer limit) {
+        List<ErrorAggregate> aggregates = this.store.query(ErrorAggregateQuery.builder()
+            .errorCode(errorCode)
+            .exceptionClass(exceptionClass)
+            .limit(limit != null ? limit : 0)
+            .build());
+        List<Map<String, Object>> errors = new ArrayList<>(aggregates.size());
+        for (ErrorAggregate aggregate : aggregates) {
+            errors.add(summary(aggregate));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", this.store.size());
+        result.put("evicted", this.store.getEvictedCount());
+        result.put("errors", errors);
+        return result;
+    }
+
+    /**
+     * Get the details of an error including the sample exception.
+     *
+     * @param fingerprint the fingerprint of the error
+     *
+     * @return the details or null if the error isn't found
+     */
+    public Map<String, Object> error(String fingerprint) {
+        ErrorAggregate aggregate = this.store.get(fingerprint);
+        if (aggregate == null) {
+            return null;
+        }
+        Throwable sample = aggregate.getSample();
+        Map<String, Object> sampleMap = new LinkedHashMap<>();
+        sampleMap.put("message", sample.getMessage());
+        StackTraceElement[] stacktrace = sample.getStackTrace();
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < stacktrace.length && i < SAMPLE_FRAMES; i++) {
+            frames.add(stacktrace[i].toString());
+        }
+        sampleMap.put("stacktrace", frames);
+        if (sample.getCause() != null) {
+            sampleMap.put("cause", sample.getCause().toString());
+        }
+        Map<String, Object> result = summary(aggregate);
+        result.put("sample", sampleMap);
+        return result;
+    }
+
+    private static Map<String, Object> summary(ErrorAggregate aggregate) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("fingerprint", aggregate.getFingerprint());
+        result.put("exceptionClass", aggregate.getExceptionClass());
+        result.put("errorCode", aggregate.getErrorCode());
+        result.put("count", aggregate.getCount());
+        result.put("firstSeen", aggregate.getFirstSeen().toString());
+        result.put("lastSeen", aggregate.getLastSeen().toString());
+        result.put("lastStatus", aggregate.getLastStatus());
+        result.put("frames", aggregate.getFrames());
+        return result;
+    }
+}
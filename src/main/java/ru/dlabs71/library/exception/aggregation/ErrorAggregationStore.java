@@ -0,0 +1,247 @@
+package ru.dlabs71.library.exception.aggregation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.metrics.ResolverInstrumentation;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * In-memory store of distinct errors handled by the resolver. Errors are grouped by their fingerprints
+ * (see {@link ErrorFingerprint}), and every group keeps the count of occurrences, the times of the first
+ * and the last occurrence and the first exception as a sample. Register the store as an instrumentation:
+ * <pre>{@code
+ * ErrorAggregationStore store = ErrorAggregationStore.builder().maxSize(512).build();
+ * ExceptionResolverConfig config = ExceptionResolverConfig.builder()
+ *     .instrumentation(ResolverInstrumentation.composite(metrics, store))
+ *     .build();
+ * }</pre>
+ * and read the collected data by {@link #query(ErrorAggregateQuery)} or {@link ErrorAggregationEndpoint}.
+ *
+ * <p>Recording an occurrence of a known {@link DException} costs the hash of the names of the class
+ * and the error code, one lookup of a concurrent map and an increment of a {@link LongAdder}. Other
+ * exceptions also pay for reading their top frames. Normalized frames of the sample are built only when
+ * a new group is created. The store is bounded: when it has more than {@link #maxSize}
+ * groups, the least recently seen groups are evicted in one batch by the thread which has taken
+ * the eviction lock, other threads don't wait for it.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorAggregationStore implements ResolverInstrumentation {
+
+    /**
+     * Maximum count of distinct errors.
+     */
+    @Getter
+    private final int maxSize;
+
+    /**
+     * Count of the top stack frames which the fingerprint of an exception other than {@link DException}
+     * is computed by.
+     */
+    @Getter
+    private final int frames;
+
+    private final int evictionTarget;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Constructor of the class.
+     *
+     * @param maxSize maximum count of distinct errors. By default, 1024.
+     * @param frames  count of the top stack frames which the fingerprint is computed by. By default, 3.
+     */
+    @Builder
+    private ErrorAggregationStore(Integer maxSize, Integer frames) {
+        this.maxSize = maxSize != null ? maxSize : 1024;
+        this.frames = frames != null ? frames : 3;
+        if (this.maxSize <= 0 || this.frames < 0) {
+            throw new IllegalArgumentException("d.Invalid settings of the error aggregation store");
+        }
+        this.evictionTarget = this.maxSize - Math.max(this.maxSize / 8, 1);
+    }
+
+    @Override
+    public void onResolved(Throwable throwable, ErrorResponseDto body, HttpStatus status, long durationNanos) {
+        if (throwable == null) {
+            return;
+        }
+        ErrorCode errorCode = body != null ? body.getErrorCode() : null;
+        if (errorCode == null && throwable instanceof DException) {
+            errorCode = ((DException) throwable).getErrorCode();
+        }
+        this.record(throwable, errorCode, status != null ? status.value() : 0);
+    }
+
+    /**
+     * Record an occurrence of an error.
+     *
+     * @param throwable  the exception
+     * @param errorCode  the error code of the response. It can be null.
+     * @param statusCode HTTP status code of the response or 0 if it's unknown
+     */
+    public void record(Throwable throwable, ErrorCode errorCode, int statusCode) {
+        long fingerprint = ErrorFingerprint.of(throwable, errorCode, this.frames);
+        long now = System.currentTimeMillis();
+        Entry entry = this.entries.get(fingerprint);
+        if (entry == null) {
+            entry = this.entries.computeIfAbsent(
+                fingerprint,
+                key -> new Entry(key, throwable, errorCode, this.frames, now)
+            );
+            if (this.entries.size() > this.maxSize) {
+                this.evict();
+            }
+        }
+        entry.count.increment();
+        entry.lastSeen = now;
+        entry.lastStatus = statusCode;
+    }
+
+    /**
+     * Find errors by a query.
+     *
+     * @param query the query
+     *
+     * @return snapshots of the found errors in the order of the query
+     */
+    public List<ErrorAggregate> query(ErrorAggregateQuery query) {
+        List<ErrorAggregate> result = new ArrayList<>();
+        for (Entry entry : this.entries.values()) {
+            ErrorAggregate aggregate = entry.snapshot();
+            if (query.matches(aggregate)) {
+                result.add(aggregate);
+            }
+        }
+        result.sort(query.getOrder().getComparator());
+        if (query.getLimit() > 0 && result.size() > query.getLimit()) {
+            return new ArrayList<>(result.subList(0, query.getLimit()));
+        }
+        return result;
+    }
+
+    /**
+     * Get an error by the fingerprint.
+     *
+     * @param fingerprint the fingerprint formatted by {@link ErrorFingerprint#toString(long)}
+     *
+     * @return the snapshot of the error or null if the error isn't found
+     */
+    public ErrorAggregate get(String fingerprint) {
+        long key;
+        try {
+            key = ErrorFingerprint.parse(fingerprint);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        Entry entry = this.entries.get(key);
+        return entry != null ? entry.snapshot() : null;
+    }
+
+    /**
+     * Get the current count of distinct errors.
+     *
+     * @return the count
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the count of distinct errors evicted since the store was created.
+     *
+     * @return the count
+     */
+    public long getEvictedCount() {
+        return this.evicted.sum();
+    }
+
+    /**
+     * Remove all collected data.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+    private void evict() {
+        if (!this.evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = this.entries.size() - this.evictionTarget;
+            if (excess <= 0) {
+                return;
+            }
+            List<Entry> candidates = new ArrayList<>(this.entries.values());
+            for (Entry candidate : candidates) {
+                // the time is fixed, because the sort requires stable keys
+                candidate.evictionKey = candidate.lastSeen;
+            }
+            candidates.sort(Comparator.comparingLong(entry -> entry.evictionKey));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                Entry candidate = candidates.get(i);
+                if (this.entries.remove(candidate.fingerprint, candidate)) {
+                    this.evicted.increment();
+                }
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Mutable statistics of one distinct error.
+     */
+    private static final class Entry {
+
+        private final long fingerprint;
+        private final Throwable sample;
+        private final String errorCode;
+        private final List<String> frames;
+        private final long firstSeen;
+        private final LongAdder count = new LongAdder();
+        private volatile long lastSeen;
+        private volatile int lastStatus;
+        private long evictionKey;
+
+        private Entry(long fingerprint, Throwable sample, ErrorCode errorCode, int frames, long now) {
+            this.fingerprint = fingerprint;
+            this.sample = sample;
+            this.errorCode = errorCode != null ? errorCode.name() : null;
+            this.frames = Collections.unmodifiableList(ErrorFingerprint.normalizedFrames(sample, frames));
+            this.firstSeen = now;
+            this.lastSeen = now;
+        }
+
+        private ErrorAggregate snapshot() {
+            return new ErrorAggregate(
+                ErrorFingerprint.toString(this.fingerprint),
+                this.sample.getClass().getName(),
+                this.errorCode,
+                this.frames,
+                this.count.sum(),
+                Instant.ofEpochMilli(this.firstSeen),
+                Instant.ofEpochMilli(this.lastSeen),
+                this.lastStatus,
+                this.sample
+            );
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package ru.dlabs71.library.exception.aggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Stable fingerprint of an error. It's a 64-bit FNV-1a hash of the name of the exception class, the name
+ * of the error code and the normalized top stack frames. The hash depends only on names, so it's the same
+ * in all instances and restarts of an application.
+ *
+ * <p>Stack frames are taken into account only for exceptions which aren't {@link DException}. Library
+ * exceptions are often created without a stacktrace
+ * (see {@link ru.dlabs71.library.exception.exception.StacktraceSettings}), so the same error would get
+ * different fingerprints depending on whether the stacktrace was captured. Their error code identifies
+ * the error, and their fingerprint is computed without getting the stacktrace at all. Exceptions with
+ * an empty stacktrace get the fingerprint of the class and the error code as well.
+ *
+ * <p>Frames are normalized, so that the same error gets the same fingerprint after small changes of the code
+ * and in different instances:
+ * <ul>
+ *     <li>line numbers and file names are ignored;</li>
+ *     <li>frames of reflection, method handles and factory methods of the library exceptions
+ *     (<code>ServiceException.build(...)</code>) are skipped;</li>
+ *     <li>suffixes of generated classes are removed (<code>Service$$EnhancerBySpringCGLIB$$5a1c</code>
+ *     and <code>Service$$Lambda$42/0x0000000800c0b040</code> become <code>Service</code>,
+ *     <code>com.sun.proxy.$Proxy12</code> becomes <code>$Proxy</code>);</li>
+ *     <li>numeric suffixes of synthetic lambda methods are removed (<code>lambda$handle$0</code> becomes
+ *     <code>lambda$handle</code>).</li>
+ * </ul>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '\u0000';
+    private static final String PROXY = "$Proxy";
+    private static final String[] SKIPPED_PACKAGES = {
+        "java.lang.reflect.",
+        "java.lang.invoke.",
+        "jdk.internal.reflect.",
+        "sun.reflect.",
+        "ru.dlabs71.library.exception.exception.",
+    };
+
+    private ErrorFingerprint() {
+    }
+
+    /**
+     * Compute the fingerprint of an error.
+     *
+     * @param throwable the exception
+     * @param errorCode the error code of the response. It can be null.
+     * @param frames    count of the top frames which are taken into account.
+     *                  They are ignored for {@link DException}.
+     *
+     * @return the fingerprint
+     */
+    public static long of(Throwable throwable, ErrorCode errorCode, int frames) {
+        String type = throwable.getClass().getName();
+        long hash = hash(FNV_OFFSET_BASIS, type, 0, type.length());
+        hash = mix(hash, SEPARATOR);
+        if (errorCode != null) {
+            String name = errorCode.name();
+            hash = hash(hash, name, 0, name.length());
+        }
+        if (frames <= 0 || throwable instanceof DException) {
+            return hash;
+        }
+        StackTraceElement[] stacktrace = throwable.getStackTrace();
+        int taken = 0;
+        for (int i = 0; i < stacktrace.length && taken < frames; i++) {
+            StackTraceElement frame = stacktrace[i];
+            String className = frame.getClassName();
+            if (isSkipped(className)) {
+                continue;
+            }
+            hash = mix(hash, SEPARATOR);
+            hash = hash(hash, className, classNameStart(className), classNameEnd(className));
+            hash = mix(hash, '#');
+            String methodName = frame.getMethodName();
+            hash = hash(hash, methodName, 0, methodNameEnd(methodName));
+            taken++;
+        }
+        return hash;
+    }
+
+    /**
+     * Get the normalized top frames which are taken into account by {@link #of(Throwable, ErrorCode, int)}.
+     *
+     * @param throwable the exception
+     * @param frames    count of the top frames
+     *
+     * @return the frames in the form <code>class#method</code>
+     */
+    public static List<String> normalizedFrames(Throwable throwable, int frames) {
+        List<String> result = new ArrayList<>(Math.max(frames, 0));
+        StackTraceElement[] stacktrace = throwable.getStackTrace();
+        for (int i = 0; i < stacktrace.length && result.size() < frames; i++) {
+            StackTraceElement frame = stacktrace[i];
+            String className = frame.getClassName();
+            if (isSkipped(className)) {
+                continue;
+            }
+            String methodName = frame.getMethodName();
+            result.add(className.substring(classNameStart(className), classNameEnd(className)) + '#'
+                + methodName.substring(0, methodNameEnd(methodName)));
+        }
+        return result;
+    }
+
+    /**
+     * Format a fingerprint as a string of 16 hexadecimal digits.
+     *
+     * @param fingerprint the fingerprint
+     *
+     * @return the string
+     */
+    public static String toString(long fingerprint) {
+        String hex = Long.toHexString(fingerprint);
+        return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex;
+    }
+
+    /**
+     * Parse a fingerprint formatted by {@link #toString(long)}.
+     *
+     * @param fingerprint the string
+     *
+     * @return the fingerprint
+     *
+     * @throws NumberFormatException if the string isn't a fingerprint
+     */
+    public static long parse(String fingerprint) {
+        return Long.parseUnsignedLong(fingerprint, 16);
+    }
+
+    private static boolean isSkipped(String className) {
+        for (String prefix : SKIPPED_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int classNameStart(String className) {
+        int proxy = proxyIndex(className);
+        return proxy >= 0 ? proxy : 0;
+    }
+
+    private static int classNameEnd(String className) {
+        int proxy = proxyIndex(className);
+        if (proxy >= 0) {
+            return proxy + PROXY.length();
+        }
+        int generated = className.indexOf("$$");
+        return generated > 0 ? generated : className.length();
+    }
+
+    private static int proxyIndex(String className) {
+        int proxy = className.lastIndexOf(PROXY);
+        return proxy >= 0 && isDigits(className, proxy + PROXY.length()) ? proxy : -1;
+    }
+
+    private static int methodNameEnd(String methodName) {
+        if (!methodName.startsWith("lambda$")) {
+            return methodName.length();
+        }
+        int last = methodName.lastIndexOf('$');
+        return last > "lambda$".length() - 1 && isDigits(methodName, last + 1) ? last : methodName.length();
+    }
+
+    private static boolean isDigits(String value, int from) {
+        if (from >= value.length()) {
+            return false;
+        }
+        for (int i = from; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(long hash, String value, int from, int to) {
+        long result = hash;
+        for (int i = from; i < to; i++) {
+            result = mix(result, value.charAt(i));
+        }
+        return result;
+    }
+
+    private static long mix(long hash, char value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
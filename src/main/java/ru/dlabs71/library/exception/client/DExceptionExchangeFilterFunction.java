@@ -0,0 +1,75 @@
+package ru.dlabs71.library.exception.client;
+
+import lombok.Getter;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.dlabs71.library.exception.exception.ServiceException;
+
+/**
+ * {@link ExchangeFilterFunction} for a {@link org.springframework.web.reactive.function.client.WebClient}
+ * which turns error responses of services which use the library into exceptions rebuilt by
+ * the {@link ErrorResponseDecoder}. The exceptions are emitted as errors of the response {@link Mono}:
+ * <pre>{@code
+ * WebClient webClient = WebClient.builder()
+ *     .filter(new DExceptionExchangeFilterFunction(decoder))
+ *     .build();
+ * }</pre>
+ * If a body isn't an error response of the library, the response is passed on with the same body,
+ * so <code>retrieve()</code> and <code>onStatus(...)</code> work as usual.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public class DExceptionExchangeFilterFunction implements ExchangeFilterFunction {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    @Getter
+    private final ErrorResponseDecoder decoder;
+
+    public DExceptionExchangeFilterFunction() {
+        this(ErrorResponseDecoder.builder().build());
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param decoder decoder of error responses
+     */
+    public DExceptionExchangeFilterFunction(ErrorResponseDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).flatMap(this::handle);
+    }
+
+    private Mono<ClientResponse> handle(ClientResponse response) {
+        int rawStatus = response.rawStatusCode();
+        if (rawStatus < 400) {
+            return Mono.just(response);
+        }
+        MediaType contentType = response.headers().contentType().orElse(null);
+        return response.bodyToMono(byte[].class)
+            .defaultIfEmpty(EMPTY_BODY)
+            .flatMap(body -> {
+                ServiceException exception = this.decoder.decodeException(rawStatus, contentType, body);
+                if (exception != null) {
+                    return Mono.error(exception);
+                }
+                return Mono.just(response.mutate()
+                    .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                    .build());
+            });
+    }
+}
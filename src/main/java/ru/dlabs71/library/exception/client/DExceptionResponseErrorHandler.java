@@ -0,0 +1,108 @@
+package ru.dlabs71.library.exception.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import ru.dlabs71.library.exception.exception.ServiceException;
+
+/**
+ * {@link org.springframework.web.client.ResponseErrorHandler} for a
+ * {@link org.springframework.web.client.RestTemplate} which throws exceptions rebuilt from error responses
+ * of services which use the library (see {@link ErrorResponseDecoder}):
+ * <pre>{@code
+ * RestTemplate restTemplate = new RestTemplate();
+ * restTemplate.setErrorHandler(new DExceptionResponseErrorHandler(
+ *     ErrorResponseDecoder.builder().dictionary(dictionary).objectMapper(objectMapper).build()
+ * ));
+ * }</pre>
+ * If a body isn't an error response of the library, the default exceptions of Spring are thrown
+ * ({@link org.springframework.web.client.HttpClientErrorException} and so on).
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public class DExceptionResponseErrorHandler extends DefaultResponseErrorHandler {
+
+    @Getter
+    private final ErrorResponseDecoder decoder;
+
+    public DExceptionResponseErrorHandler() {
+        this(ErrorResponseDecoder.builder().build());
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param decoder decoder of error responses
+     */
+    public DExceptionResponseErrorHandler(ErrorResponseDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void handleError(ClientHttpResponse response) throws IOException {
+        byte[] body = StreamUtils.copyToByteArray(response.getBody());
+        ServiceException exception = this.decoder.decodeException(
+            response.getRawStatusCode(),
+            response.getHeaders().getContentType(),
+            body
+        );
+        if (exception != null) {
+            throw exception;
+        }
+        super.handleError(new BufferedClientHttpResponse(response, body));
+    }
+
+    /**
+     * Response whose body has already been read.
+     */
+    private static final class BufferedClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final byte[] body;
+
+        private BufferedClientHttpResponse(ClientHttpResponse delegate, byte[] body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return this.delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return this.delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return this.delegate.getStatusText();
+        }
+
+        @Override
+        public void close() {
+            this.delegate.close();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(this.body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.delegate.getHeaders();
+        }
+    }
+}
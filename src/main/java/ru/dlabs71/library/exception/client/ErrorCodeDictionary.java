@@ -0,0 +1,289 @@
+package ru.dlabs71.library.exception.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Singular;
+import ru.dlabs71.library.exception.codec.ErrorCodeRegistry;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Dictionary of error codes and error levels by names for clients of services which use the library.
+ * Names are interned into hash tables when the dictionary is built. The hash function is the same
+ * as {@link String#hashCode()}, and the size of a table and the seed of mixing are chosen so that
+ * registered names don't collide (if it's possible in a reasonable size). Therefore, a lookup is one index
+ * of an array and one comparison of characters, and a name can be looked up straight in the buffer
+ * of a JSON parser (see {@link #getErrorCode(char[], int, int)}) without creating a string.
+ *
+ * <p>If names of constants of different enums coincide, the enum registered earlier wins.
+ * {@link CommonErrorCode} and {@link CommonErrorLevel} are always registered after the user types.
+ *
+ * <pre>{@code
+ * ErrorCodeDictionary dictionary = ErrorCodeDictionary.builder()
+ *     .errorCodeType(OrderErrorCode.class)
+ *     .errorCodeType(PaymentErrorCode.class)
+ *     .levelType(OrderErrorLevel.class)
+ *     .build();
+ * }</pre>
+ *
+ * <p>The dictionary is immutable and thread-safe.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorCodeDictionary {
+
+    /**
+     * Dictionary of only {@link CommonErrorCode} and {@link CommonErrorLevel}.
+     */
+    public static final ErrorCodeDictionary DEFAULT = ErrorCodeDictionary.builder().build();
+
+    private final NameTable<ErrorCode> errorCodes;
+    private final NameTable<ErrorLevel> levels;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param errorCodeTypes enums of error codes
+     * @param errorCodes     separate error codes, for example ones which aren't enums
+     * @param levelTypes     enums of error levels
+     */
+    @Builder
+    private ErrorCodeDictionary(
+        @Singular List<Class<? extends ErrorCode>> errorCodeTypes,
+        @Singular List<ErrorCode> errorCodes,
+        @Singular List<Class<? extends ErrorLevel>> levelTypes
+    ) {
+        Map<String, ErrorCode> codesByName = new LinkedHashMap<>();
+        for (Class<? extends ErrorCode> type : errorCodeTypes) {
+            putAll(codesByName, constants(type));
+        }
+        for (ErrorCode errorCode : errorCodes) {
+            codesByName.putIfAbsent(errorCode.name(), errorCode);
+        }
+        putAll(codesByName, constants(CommonErrorCode.class));
+        this.errorCodes = new NameTable<>(codesByName);
+
+        Map<String, ErrorLevel> levelsByName = new LinkedHashMap<>();
+        for (Class<? extends ErrorLevel> type : levelTypes) {
+            putAll(levelsByName, constants(type));
+        }
+        putAll(levelsByName, constants(CommonErrorLevel.class));
+        this.levels = new NameTable<>(levelsByName);
+    }
+
+    /**
+     * Create a dictionary of the enums registered in the registry of binary codecs.
+     *
+     * @param registry the registry
+     *
+     * @return the dictionary
+     */
+    public static ErrorCodeDictionary of(ErrorCodeRegistry registry) {
+        return ErrorCodeDictionary.builder()
+            .errorCodeTypes(registry.getErrorCodeTypes().values())
+            .levelTypes(registry.getLevelTypes().values())
+            .build();
+    }
+
+    /**
+     * Get an error code by the name.
+     *
+     * @param name the name. It can be null.
+     *
+     * @return the error code or null if it isn't registered
+     */
+    public ErrorCode getErrorCode(String name) {
+        return name != null ? this.errorCodes.get(name) : null;
+    }
+
+    /**
+     * Get an error code by the name in a buffer of characters.
+     *
+     * @param buffer the buffer
+     * @param offset offset of the name in the buffer
+     * @param length length of the name
+     *
+     * @return the error code or null if it isn't registered
+     */
+    public ErrorCode getErrorCode(char[] buffer, int offset, int length) {
+        return this.errorCodes.get(buffer, offset, length);
+    }
+
+    /**
+     * Get an error level by the name.
+     *
+     * @param name the name. It can be null.
+     *
+     * @return the error level or null if it isn't registered
+     */
+    public ErrorLevel getLevel(String name) {
+        return name != null ? this.levels.get(name) : null;
+    }
+
+    /**
+     * Get an error level by the name in a buffer of characters.
+     *
+     * @param buffer the buffer
+     * @param offset offset of the name in the buffer
+     * @param length length of the name
+     *
+     * @return the error level or null if it isn't registered
+     */
+    public ErrorLevel getLevel(char[] buffer, int offset, int length) {
+        return this.levels.get(buffer, offset, length);
+    }
+
+    /**
+     * Get all registered error codes.
+     *
+     * @return the error codes in the order of registration
+     */
+    public Collection<ErrorCode> getErrorCodes() {
+        return this.errorCodes.entries.values();
+    }
+
+    /**
+     * Get all registered error levels.
+     *
+     * @return the error levels in the order of registration
+     */
+    public Collection<ErrorLevel> getLevels() {
+        return this.levels.entries.values();
+    }
+
+    private static <T> T[] constants(Class<? extends T> type) {
+        if (!type.isEnum()) {
+            throw new IllegalArgumentException("d.Type must be an enum: " + type.getName());
+        }
+        @SuppressWarnings("unchecked")
+        T[] constants = (T[]) type.getEnumConstants();
+        return constants;
+    }
+
+    private static <T> void putAll(Map<String, T> target, T[] constants) {
+        for (T constant : constants) {
+            target.putIfAbsent(((Enum<?>) constant).name(), constant);
+        }
+    }
+
+    /**
+     * Open addressing hash table of names. When it's possible, the table has no collisions,
+     * otherwise collisions are resolved by linear probing.
+     */
+    private static final class NameTable<T> {
+
+        private static final int SEEDS_PER_SIZE = 32;
+        private static final int MAX_SIZE_FACTOR = 16;
+        private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+        private final Map<String, T> entries;
+        private final String[] keys;
+        private final Object[] values;
+        private final int mask;
+        private final int multiplier;
+
+        private NameTable(Map<String, T> entries) {
+            this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+            int minSize = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+            int maxSize = Integer.highestOneBit(Math.max(entries.size(), 1)) * MAX_SIZE_FACTOR;
+            int chosenSize = -1;
+            int chosenMultiplier = GOLDEN_RATIO;
+            for (int size = minSize; size <= maxSize && chosenSize < 0; size <<= 1) {
+                for (int seed = 0; seed < SEEDS_PER_SIZE; seed++) {
+                    int multiplier = GOLDEN_RATIO + 2 * seed;
+                    if (isCollisionFree(entries.keySet(), size - 1, multiplier)) {
+                        chosenSize = size;
+                        chosenMultiplier = multiplier;
+                        break;
+                    }
+                }
+            }
+            int size = chosenSize > 0 ? chosenSize : minSize;
+            this.mask = size - 1;
+            this.multiplier = chosenMultiplier;
+            this.keys = new String[size];
+            this.values = new Object[size];
+            for (Map.Entry<String, T> entry : entries.entrySet()) {
+                int slot = this.slot(entry.getKey().hashCode());
+                while (this.keys[slot] != null) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.keys[slot] = entry.getKey();
+                this.values[slot] = entry.getValue();
+            }
+        }
+
+        private static boolean isCollisionFree(Collection<String> names, int mask, int multiplier) {
+            boolean[] used = new boolean[mask + 1];
+            for (String name : names) {
+                int slot = mix(name.hashCode(), multiplier) & mask;
+                if (used[slot]) {
+                    return false;
+                }
+                used[slot] = true;
+            }
+            return true;
+        }
+
+        private static int mix(int hash, int multiplier) {
+            int mixed = hash * multiplier;
+            return mixed ^ mixed >>> 16;
+        }
+
+        private int slot(int hash) {
+            return mix(hash, this.multiplier) & this.mask;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(String name) {
+            for (int slot = this.slot(name.hashCode()); ; slot = (slot + 1) & this.mask) {
+                String key = this.keys[slot];
+                if (key == null) {
+                    return null;
+                }
+                if (key.equals(name)) {
+                    return (T) this.values[slot];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(char[] buffer, int offset, int length) {
+            int hash = 0;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + buffer[i];
+            }
+            for (int slot = this.slot(hash); ; slot = (slot + 1) & this.mask) {
+                String key = this.keys[slot];
+                if (key == null) {
+                    return null;
+                }
+                if (matches(key, buffer, offset, length)) {
+                    return (T) this.values[slot];
+                }
+            }
+        }
+
+        private static boolean matches(String key, char[] buffer, int offset, int length) {
+            if (key.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key.charAt(i) != buffer[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package ru.dlabs71.library.exception.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import ru.dlabs71.library.exception.codec.ErrorResponseCodec;
+import ru.dlabs71.library.exception.codec.RemoteErrorCode;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Decoder of error responses of services which use the library. It turns a response body back into
+ * an {@link ErrorResponseDto} and then into a typed exception:
+ * <ul>
+ *     <li>an informative response becomes a {@link BusinessLogicServiceException} with the level
+ *     and the data of the response;</li>
+ *     <li>a response with an HTTP status other than 500 becomes a {@link SpecialHttpStatusServiceException};</li>
+ *     <li>other responses become a {@link ServiceException}.</li>
+ * </ul>
+ * Error codes and levels are looked up in the {@link ErrorCodeDictionary} straight in the buffer of the JSON
+ * parser, without reflection and {@link Enum#valueOf(Class, String)}. Error codes which aren't registered
+ * become {@link RemoteErrorCode}.
+ *
+ * <p>By default the exceptions are created without a stacktrace: the local stacktrace of a rebuilt exception
+ * only shows the HTTP client. A plain {@link ServiceException} is then created
+ * as {@link WithoutStacktraceServiceException}.
+ *
+ * <p>JSON bodies are parsed by the streaming API of the object mapper. Bodies in binary formats are decoded
+ * by registered {@link ErrorResponseCodec}s by the content type. A body is recognized as an error response
+ * only if it has the <code>informative</code> field, other bodies (for example, errors of a proxy)
+ * aren't decoded.
+ *
+ * <p>The decoder is thread-safe.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Slf4j
+public final class ErrorResponseDecoder {
+
+    @Getter
+    private final ErrorCodeDictionary dictionary;
+
+    @Getter
+    private final boolean stackless;
+
+    private final ObjectMapper objectMapper;
+    private final List<ErrorResponseCodec> codecs;
+    private final String informativeField;
+    private final String errorCodeField;
+    private final String levelField;
+    private final String messageField;
+    private final String stacktraceField;
+    private final String compactStacktraceField;
+    private final String dataField;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param dictionary   dictionary of error codes and levels. By default, {@link ErrorCodeDictionary#DEFAULT}.
+     * @param objectMapper object mapper of JSON bodies. It's used for the data field and the naming strategy.
+     * @param codecs       codecs of binary formats
+     * @param stackless    whether exceptions are created without a stacktrace. By default, true.
+     */
+    @Builder
+    private ErrorResponseDecoder(
+        ErrorCodeDictionary dictionary,
+        ObjectMapper objectMapper,
+        @Singular List<ErrorResponseCodec> codecs,
+        Boolean stackless
+    ) {
+        this.dictionary = dictionary != null ? dictionary : ErrorCodeDictionary.DEFAULT;
+        this.objectMapper = objectMapper != null ? objectMapper : new ObjectMapper();
+        this.codecs = codecs;
+        this.stackless = stackless == null || stackless;
+
+        PropertyNamingStrategy naming = this.objectMapper.getPropertyNamingStrategy();
+        this.informativeField = this.field(naming, "informative");
+        this.errorCodeField = this.field(naming, "errorCode");
+        this.levelField = this.field(naming, "level");
+        this.messageField = this.field(naming, "message");
+        this.stacktraceField = this.field(naming, "stacktrace");
+        this.compactStacktraceField = this.field(naming, "compactStacktrace");
+        this.dataField = this.field(naming, "data");
+    }
+
+    /**
+     * Decode a response body into an exception.
+     *
+     * @param rawStatus   HTTP status code of the response
+     * @param contentType content type of the response. It can be null, then the body is parsed as JSON.
+     * @param body        the response body
+     *
+     * @return the exception or null if the body isn't an error response of the library
+     */
+    public ServiceException decodeException(int rawStatus, MediaType contentType, byte[] body) {
+        ErrorResponseDto dto = this.decode(contentType, body);
+        return dto != null ? this.toException(dto, HttpStatus.resolve(rawStatus)) : null;
+    }
+
+    /**
+     * Decode a response body.
+     *
+     * @param contentType content type of the response. It can be null, then the body is parsed as JSON.
+     * @param body        the response body
+     *
+     * @return the DTO or null if the body isn't an error response of the library
+     */
+    public ErrorResponseDto decode(MediaType contentType, byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            if (contentType != null) {
+                for (ErrorResponseCodec codec : this.codecs) {
+                    if (codec.getMediaType().isCompatibleWith(contentType)) {
+                        return codec.decode(body);
+                    }
+                }
+            }
+            if (contentType == null || isJson(contentType)) {
+                return this.decodeJson(body);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("d.Response body isn't an error response: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Rebuild an exception by a response body.
+     *
+     * @param dto    the response body
+     * @param status HTTP status of the response. It can be null.
+     *
+     * @return the exception
+     */
+    public ServiceException toException(ErrorResponseDto dto, HttpStatus status) {
+        String message = dto.getMessage();
+        ErrorCode errorCode = message == null && dto.getErrorCode() == null
+            ? CommonErrorCode.COMMON_EXCEPTION
+            : dto.getErrorCode();
+        boolean writableStackTrace = !this.stackless;
+        if (dto.isInformative()) {
+            return new BusinessLogicServiceException(
+                message,
+                errorCode,
+                dto.getLevel(),
+                dto.getData(),
+                null,
+                writableStackTrace
+            );
+        }
+        if (status != null && status != HttpStatus.INTERNAL_SERVER_ERROR) {
+            return new SpecialHttpStatusServiceException(message, errorCode, null, status, writableStackTrace);
+        }
+        return writableStackTrace
+            ? new ServiceException(message, errorCode)
+            : new WithoutStacktraceServiceException(message, errorCode);
+    }
+
+    private ErrorResponseDto decodeJson(byte[] body) throws IOException {
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            ErrorResponseDto dto = ErrorResponseDto.builder().build();
+            boolean recognized = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (field.equals(this.informativeField)) {
+                    dto.setInformative(parser.getBooleanValue());
+                    recognized = true;
+                } else if (field.equals(this.errorCodeField)) {
+                    dto.setErrorCode(this.readErrorCode(parser));
+                } else if (field.equals(this.levelField)) {
+                    dto.setLevel(this.readLevel(parser));
+                } else if (field.equals(this.messageField)) {
+                    dto.setMessage(parser.getText());
+                } else if (field.equals(this.compactStacktraceField)) {
+                    dto.setCompactStacktrace(readStrings(parser));
+                } else if (field.equals(this.stacktraceField)) {
+                    dto.setStacktrace(this.objectMapper.readValue(parser, StackTraceElement[].class));
+                } else if (field.equals(this.dataField)) {
+                    Object data = this.objectMapper.readValue(parser, Object.class);
+                    dto.setData(data instanceof Serializable ? (Serializable) data : null);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return recognized ? dto : null;
+        }
+    }
+
+    private ErrorCode readErrorCode(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return null;
+        }
+        ErrorCode errorCode = this.dictionary.getErrorCode(
+            parser.getTextCharacters(),
+            parser.getTextOffset(),
+            parser.getTextLength()
+        );
+        return errorCode != null ? errorCode : RemoteErrorCode.of(parser.getText());
+    }
+
+    private ErrorLevel readLevel(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return null;
+        }
+        return this.dictionary.getLevel(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private static String[] readStrings(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("d.Unexpected end of the error response");
+            }
+            values.add(parser.getText());
+        }
+        return values.toArray(new String[0]);
+    }
+
+    private String field(PropertyNamingStrategy naming, String name) {
+        return naming != null ? naming.nameForField(this.objectMapper.getDeserializationConfig(), null, name) : name;
+    }
+
+    private static boolean isJson(MediaType contentType) {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+            || contentType.getSubtype().endsWith("+json");
+    }
+}
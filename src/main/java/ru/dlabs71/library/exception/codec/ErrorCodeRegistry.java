@@ -0,0 +1,247 @@
+package ru.dlabs71.library.exception.codec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Builder;
+import lombok.Singular;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Registry of compact integer ids of error codes and error levels for binary wire formats.
+ * Every registered enum gets a type id, and the id of a constant is <code>typeId &lt;&lt; 16 | ordinal</code>.
+ * {@link CommonErrorCode} and {@link CommonErrorLevel} always have the type id {@link #COMMON_TYPE_ID}.
+ *
+ * <p>Ids are a contract between a server and its clients: type ids mustn't be reused for other enums,
+ * and constants must be only appended to the enums. Error codes and levels which aren't registered
+ * are sent by names.
+ *
+ * <pre>{@code
+ * ErrorCodeRegistry registry = ErrorCodeRegistry.builder()
+ *     .errorCodeType(1, OrderErrorCode.class)
+ *     .errorCodeType(2, PaymentErrorCode.class)
+ *     .build();
+ * }</pre>
+ *
+ * <p>The registry is immutable. Ids of enum types are cached by {@link ClassValue}, so getting the id
+ * of a constant doesn't take locks and doesn't look up maps.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorCodeRegistry {
+
+    /**
+     * Type id of {@link CommonErrorCode} and {@link CommonErrorLevel}.
+     */
+    public static final int COMMON_TYPE_ID = 0;
+
+    /**
+     * Maximum type id.
+     */
+    public static final int MAX_TYPE_ID = 0x7FFF;
+
+    /**
+     * Registry of only {@link CommonErrorCode} and {@link CommonErrorLevel}.
+     */
+    public static final ErrorCodeRegistry DEFAULT = ErrorCodeRegistry.builder().build();
+
+    private static final int ORDINAL_BITS = 16;
+    private static final int ORDINAL_MASK = (1 << ORDINAL_BITS) - 1;
+
+    private final Types<ErrorCode> errorCodes;
+    private final Types<ErrorLevel> levels;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param errorCodeTypes enums of error codes by type ids
+     * @param levelTypes     enums of error levels by type ids
+     */
+    @Builder
+    private ErrorCodeRegistry(
+        @Singular Map<Integer, Class<? extends ErrorCode>> errorCodeTypes,
+        @Singular Map<Integer, Class<? extends ErrorLevel>> levelTypes
+    ) {
+        this.errorCodes = new Types<>(errorCodeTypes, CommonErrorCode.class);
+        this.levels = new Types<>(levelTypes, CommonErrorLevel.class);
+    }
+
+    /**
+     * Get the id of an error code.
+     *
+     * @param errorCode the error code
+     *
+     * @return the id or -1 if the error code isn't a constant of a registered enum
+     */
+    public int getId(ErrorCode errorCode) {
+        return this.errorCodes.getId(errorCode);
+    }
+
+    /**
+     * Get the id of an error level.
+     *
+     * @param level the error level
+     *
+     * @return the id or -1 if the error level isn't a constant of a registered enum
+     */
+    public int getId(ErrorLevel level) {
+        return this.levels.getId(level);
+    }
+
+    /**
+     * Get an error code by the id.
+     *
+     * @param id the id
+     *
+     * @return the error code or null if it isn't registered
+     */
+    public ErrorCode getErrorCode(int id) {
+        return this.errorCodes.get(id);
+    }
+
+    /**
+     * Get an error code by the name. Enums are looked up in the order of their type ids.
+     *
+     * @param name the name
+     *
+     * @return the error code or null if it isn't registered
+     */
+    public ErrorCode getErrorCode(String name) {
+        return this.errorCodes.get(name);
+    }
+
+    /**
+     * Get an error level by the id.
+     *
+     * @param id the id
+     *
+     * @return the error level or null if it isn't registered
+     */
+    public ErrorLevel getLevel(int id) {
+        return this.levels.get(id);
+    }
+
+    /**
+     * Get an error level by the name. Enums are looked up in the order of their type ids.
+     *
+     * @param name the name
+     *
+     * @return the error level or null if it isn't registered
+     */
+    public ErrorLevel getLevel(String name) {
+        return this.levels.get(name);
+    }
+
+    /**
+     * Get registered enums of error codes by type ids.
+     *
+     * @return the enums of error codes
+     */
+    public Map<Integer, Class<? extends ErrorCode>> getErrorCodeTypes() {
+        return this.errorCodes.types;
+    }
+
+    /**
+     * Get registered enums of error levels by type ids.
+     *
+     * @return the enums of error levels
+     */
+    public Map<Integer, Class<? extends ErrorLevel>> getLevelTypes() {
+        return this.levels.types;
+    }
+
+    /**
+     * Registered enums of one kind (error codes or error levels).
+     */
+    private static final class Types<T> {
+
+        private final Map<Integer, Class<? extends T>> types;
+        private final Object[][] constants;
+        private final Map<String, T> byName;
+        private final ClassValue<Integer> typeIds = new ClassValue<Integer>() {
+            @Override
+            protected Integer computeValue(Class<?> type) {
+                for (Map.Entry<Integer, Class<? extends T>> entry : types.entrySet()) {
+                    if (entry.getValue() == type) {
+                        return entry.getKey();
+                    }
+                }
+                return -1;
+            }
+        };
+
+        @SuppressWarnings("unchecked")
+        private Types(Map<Integer, Class<? extends T>> registered, Class<? extends T> common) {
+            Map<Integer, Class<? extends T>> sorted = new TreeMap<>(registered);
+            Class<? extends T> commonType = sorted.putIfAbsent(COMMON_TYPE_ID, common);
+            if (commonType != null && commonType != common) {
+                throw new IllegalArgumentException(
+                    "d.Type id " + COMMON_TYPE_ID + " is reserved for " + common.getName()
+                );
+            }
+            List<Class<? extends T>> seen = new ArrayList<>();
+            int maxTypeId = 0;
+            for (Map.Entry<Integer, Class<? extends T>> entry : sorted.entrySet()) {
+                int typeId = entry.getKey();
+                Class<? extends T> type = entry.getValue();
+                if (typeId < 0 || typeId > MAX_TYPE_ID) {
+                    throw new IllegalArgumentException("d.Type id must be in [0, " + MAX_TYPE_ID + "]: " + typeId);
+                }
+                if (!type.isEnum() || type.getEnumConstants().length > ORDINAL_MASK + 1) {
+                    throw new IllegalArgumentException("d.Type must be an enum with at most 65536 constants: "
+                        + type.getName());
+                }
+                if (seen.contains(type)) {
+                    throw new IllegalArgumentException("d.Type is registered twice: " + type.getName());
+                }
+                seen.add(type);
+                maxTypeId = typeId;
+            }
+            this.types = Collections.unmodifiableMap(sorted);
+            this.constants = new Object[maxTypeId + 1][];
+            Map<String, T> names = new HashMap<>();
+            for (Map.Entry<Integer, Class<? extends T>> entry : sorted.entrySet()) {
+                Object[] typeConstants = entry.getValue().getEnumConstants();
+                this.constants[entry.getKey()] = typeConstants;
+                for (Object constant : typeConstants) {
+                    names.putIfAbsent(((Enum<?>) constant).name(), (T) constant);
+                }
+            }
+            this.byName = Collections.unmodifiableMap(names);
+        }
+
+        private int getId(Object value) {
+            if (!(value instanceof Enum)) {
+                return -1;
+            }
+            Enum<?> constant = (Enum<?>) value;
+            int typeId = this.typeIds.get(constant.getDeclaringClass());
+            return typeId >= 0 ? typeId << ORDINAL_BITS | constant.ordinal() : -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int id) {
+            int typeId = id >>> ORDINAL_BITS;
+            int ordinal = id & ORDINAL_MASK;
+            if (id < 0 || typeId >= this.constants.length) {
+                return null;
+            }
+            Object[] typeConstants = this.constants[typeId];
+            return typeConstants != null && ordinal < typeConstants.length ? (T) typeConstants[ordinal] : null;
+        }
+
+        private T get(String name) {
+            return this.byName.get(name);
+        }
+    }
+}
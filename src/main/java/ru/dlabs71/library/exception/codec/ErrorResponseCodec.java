@@ -0,0 +1,91 @@
+package ru.dlabs71.library.exception.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import org.springframework.http.MediaType;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+
+/**
+ * Binary encoding of {@link ErrorResponseDto} for service-to-service calls. Error codes and error levels
+ * are encoded by integer ids of {@link ErrorCodeRegistry}, so a client decodes them without string lookups.
+ * The same codec is used on both sides: a server encodes responses
+ * (see {@link ru.dlabs71.library.exception.converter.ErrorResponseCodecHttpMessageConverter}),
+ * a client decodes them and rebuilds exceptions
+ * (see {@link ru.dlabs71.library.exception.client.ErrorResponseDecoder}).
+ *
+ * <p>Implementations are thread-safe.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public interface ErrorResponseCodec {
+
+    /**
+     * Get the media type of the encoding.
+     *
+     * @return the media type
+     */
+    MediaType getMediaType();
+
+    /**
+     * Encode the DTO. The stream isn't closed.
+     *
+     * @param dto the DTO
+     * @param out the output stream
+     *
+     * @throws IOException if writing to the stream failed
+     */
+    void encode(ErrorResponseDto dto, OutputStream out) throws IOException;
+
+    /**
+     * Encode the DTO.
+     *
+     * @param dto the DTO
+     *
+     * @return the encoded bytes
+     */
+    default byte[] encode(ErrorResponseDto dto) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try {
+            this.encode(dto, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode the DTO. The stream isn't closed.
+     *
+     * @param in the input stream
+     *
+     * @return the DTO
+     *
+     * @throws IOException if reading from the stream failed or the data is malformed
+     */
+    ErrorResponseDto decode(InputStream in) throws IOException;
+
+    /**
+     * Decode the DTO.
+     *
+     * @param bytes the encoded bytes
+     *
+     * @return the DTO
+     *
+     * @throws UncheckedIOException if the data is malformed
+     */
+    default ErrorResponseDto decode(byte[] bytes) {
+        try {
+            return this.decode(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
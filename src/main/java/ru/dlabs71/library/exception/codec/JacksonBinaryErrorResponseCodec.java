@@ -0,0 +1,251 @@
+package ru.dlabs71.library.exception.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * {@link ErrorResponseCodec} for the binary formats of Jackson: CBOR ({@link #cbor(ErrorCodeRegistry)})
+ * and Smile ({@link #smile(ErrorCodeRegistry)}). The DTO is written by the streaming API as a map:
+ * <pre>
+ * {
+ *   "informative":       boolean,
+ *   "errorCode":         int (id of {@link ErrorCodeRegistry}) | string (name of an unregistered code),
+ *   "level":             int (id of {@link ErrorCodeRegistry}) | string (name of an unregistered level),
+ *   "message":           string,
+ *   "stacktrace":        [[declaringClass: string, methodName: string, fileName: string | null, lineNumber: int]],
+ *   "compactStacktrace": [string],
+ *   "data":              any value which the object mapper writes
+ * }
+ * </pre>
+ * Fields with null values are omitted, unknown fields are skipped by the decoder. The schema is published
+ * in <code>META-INF/d-exception/error-response.cddl</code>.
+ *
+ * <p>The codec requires the <code>com.fasterxml.jackson.dataformat:jackson-dataformat-cbor</code>
+ * or <code>jackson-dataformat-smile</code> dependency, which isn't transitive for the library.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class JacksonBinaryErrorResponseCodec implements ErrorResponseCodec {
+
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    static final String INFORMATIVE = "informative";
+    static final String ERROR_CODE = "errorCode";
+    static final String LEVEL = "level";
+    static final String MESSAGE = "message";
+    static final String STACKTRACE = "stacktrace";
+    static final String COMPACT_STACKTRACE = "compactStacktrace";
+    static final String DATA = "data";
+
+    @Getter
+    private final MediaType mediaType;
+
+    @Getter
+    private final ErrorCodeRegistry registry;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param objectMapper object mapper created with a binary factory. It's used for the data field.
+     * @param mediaType    media type of the format
+     * @param registry     registry of ids of error codes and error levels
+     */
+    public JacksonBinaryErrorResponseCodec(ObjectMapper objectMapper, MediaType mediaType, ErrorCodeRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.mediaType = mediaType;
+        this.registry = registry;
+    }
+
+    /**
+     * Create the CBOR codec.
+     *
+     * @param registry registry of ids of error codes and error levels
+     *
+     * @return the codec
+     */
+    public static JacksonBinaryErrorResponseCodec cbor(ErrorCodeRegistry registry) {
+        return new JacksonBinaryErrorResponseCodec(new ObjectMapper(new CBORFactory()), APPLICATION_CBOR, registry);
+    }
+
+    /**
+     * Create the Smile codec.
+     *
+     * @param registry registry of ids of error codes and error levels
+     *
+     * @return the codec
+     */
+    public static JacksonBinaryErrorResponseCodec smile(ErrorCodeRegistry registry) {
+        return new JacksonBinaryErrorResponseCodec(new ObjectMapper(new SmileFactory()), APPLICATION_SMILE, registry);
+    }
+
+    @Override
+    public void encode(ErrorResponseDto dto, OutputStream out) throws IOException {
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeBooleanField(INFORMATIVE, dto.isInformative());
+            ErrorCode errorCode = dto.getErrorCode();
+            if (errorCode != null) {
+                this.writeConstant(generator, ERROR_CODE, this.registry.getId(errorCode), errorCode.name());
+            }
+            ErrorLevel level = dto.getLevel();
+            if (level != null) {
+                this.writeConstant(generator, LEVEL, this.registry.getId(level), level.name());
+            }
+            if (dto.getMessage() != null) {
+                generator.writeStringField(MESSAGE, dto.getMessage());
+            }
+            StackTraceElement[] stacktrace = dto.getStacktrace();
+            if (stacktrace != null) {
+                generator.writeFieldName(STACKTRACE);
+                generator.writeStartArray();
+                for (StackTraceElement element : stacktrace) {
+                    generator.writeStartArray();
+                    generator.writeString(element.getClassName());
+                    generator.writeString(element.getMethodName());
+                    generator.writeString(element.getFileName());
+                    generator.writeNumber(element.getLineNumber());
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+            }
+            String[] compactStacktrace = dto.getCompactStacktrace();
+            if (compactStacktrace != null) {
+                generator.writeFieldName(COMPACT_STACKTRACE);
+                generator.writeStartArray();
+                for (String line : compactStacktrace) {
+                    generator.writeString(line);
+                }
+                generator.writeEndArray();
+            }
+            if (dto.getData() != null) {
+                generator.writeFieldName(DATA);
+                this.objectMapper.writeValue(generator, dto.getData());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public ErrorResponseDto decode(InputStream in) throws IOException {
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "d.Error response must be an object");
+            }
+            ErrorResponseDto dto = ErrorResponseDto.builder().build();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case INFORMATIVE:
+                        dto.setInformative(parser.getBooleanValue());
+                        break;
+                    case ERROR_CODE:
+                        dto.setErrorCode(this.readErrorCode(parser, token));
+                        break;
+                    case LEVEL:
+                        dto.setLevel(token == JsonToken.VALUE_NUMBER_INT
+                            ? this.registry.getLevel(parser.getIntValue())
+                            : this.registry.getLevel(parser.getText()));
+                        break;
+                    case MESSAGE:
+                        dto.setMessage(parser.getText());
+                        break;
+                    case STACKTRACE:
+                        dto.setStacktrace(readStacktrace(parser));
+                        break;
+                    case COMPACT_STACKTRACE:
+                        dto.setCompactStacktrace(readStrings(parser));
+                        break;
+                    case DATA:
+                        Object data = this.objectMapper.readValue(parser, Object.class);
+                        dto.setData(data instanceof Serializable ? (Serializable) data : null);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return dto;
+        }
+    }
+
+    private void writeConstant(JsonGenerator generator, String field, int id, String name) throws IOException {
+        if (id >= 0) {
+            generator.writeNumberField(field, id);
+        } else {
+            generator.writeStringField(field, name);
+        }
+    }
+
+    private ErrorCode readErrorCode(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            int id = parser.getIntValue();
+            ErrorCode errorCode = this.registry.getErrorCode(id);
+            return errorCode != null ? errorCode : RemoteErrorCode.of(id);
+        }
+        String name = parser.getText();
+        ErrorCode errorCode = this.registry.getErrorCode(name);
+        return errorCode != null ? errorCode : RemoteErrorCode.of(name);
+    }
+
+    private static StackTraceElement[] readStacktrace(JsonParser parser) throws IOException {
+        List<StackTraceElement> elements = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            parser.nextToken();
+            final String className = parser.getText();
+            parser.nextToken();
+            final String methodName = parser.getText();
+            String fileName = parser.nextToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+            parser.nextToken();
+            int lineNumber = parser.getIntValue();
+            while (nextToken(parser) != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+            elements.add(new StackTraceElement(className, methodName, fileName, lineNumber));
+        }
+        return elements.toArray(new StackTraceElement[0]);
+    }
+
+    private static String[] readStrings(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        while (nextToken(parser) != JsonToken.END_ARRAY) {
+            values.add(parser.getText());
+        }
+        return values.toArray(new String[0]);
+    }
+
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "d.Unexpected end of the error response");
+        }
+        return token;
+    }
+}
@@ -0,0 +1,343 @@
+package ru.dlabs71.library.exception.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * {@link ErrorResponseCodec} for the Protocol Buffers wire format. The schema is published
+ * in <code>META-INF/d-exception/error_response.proto</code>, so clients in other languages can generate
+ * their decoders. The codec itself doesn't depend on the protobuf runtime: the message is small
+ * and is written and read directly.
+ *
+ * <p>The data field can't be described by the schema, so it's sent as JSON bytes written by the object mapper.
+ * If the object mapper isn't specified, the data field isn't sent.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ProtobufErrorResponseCodec implements ErrorResponseCodec {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_FIXED32 = 5;
+
+    private static final int INFORMATIVE = 1;
+    private static final int ERROR_CODE_ID = 2;
+    private static final int ERROR_CODE_NAME = 3;
+    private static final int LEVEL_ID = 4;
+    private static final int LEVEL_NAME = 5;
+    private static final int MESSAGE = 6;
+    private static final int STACKTRACE = 7;
+    private static final int COMPACT_STACKTRACE = 8;
+    private static final int DATA = 9;
+
+    private static final int FRAME_DECLARING_CLASS = 1;
+    private static final int FRAME_METHOD_NAME = 2;
+    private static final int FRAME_FILE_NAME = 3;
+    private static final int FRAME_LINE_NUMBER = 4;
+
+    @Getter
+    private final ErrorCodeRegistry registry;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param registry     registry of ids of error codes and error levels
+     * @param objectMapper JSON object mapper for the data field. It can be null.
+     */
+    public ProtobufErrorResponseCodec(ErrorCodeRegistry registry, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return APPLICATION_PROTOBUF;
+    }
+
+    @Override
+    public void encode(ErrorResponseDto dto, OutputStream out) throws IOException {
+        Buffer buffer = new Buffer(256);
+        if (dto.isInformative()) {
+            buffer.writeTag(INFORMATIVE, WIRE_VARINT);
+            buffer.writeVarint(1);
+        }
+        ErrorCode errorCode = dto.getErrorCode();
+        if (errorCode != null) {
+            int id = this.registry.getId(errorCode);
+            if (id >= 0) {
+                buffer.writeTag(ERROR_CODE_ID, WIRE_VARINT);
+                buffer.writeVarint(id);
+            } else {
+                buffer.writeString(ERROR_CODE_NAME, errorCode.name());
+            }
+        }
+        ErrorLevel level = dto.getLevel();
+        if (level != null) {
+            int id = this.registry.getId(level);
+            if (id >= 0) {
+                buffer.writeTag(LEVEL_ID, WIRE_VARINT);
+                buffer.writeVarint(id);
+            } else {
+                buffer.writeString(LEVEL_NAME, level.name());
+            }
+        }
+        buffer.writeString(MESSAGE, dto.getMessage());
+        StackTraceElement[] stacktrace = dto.getStacktrace();
+        if (stacktrace != null) {
+            Buffer frame = new Buffer(128);
+            for (StackTraceElement element : stacktrace) {
+                frame.reset();
+                frame.writeString(FRAME_DECLARING_CLASS, element.getClassName());
+                frame.writeString(FRAME_METHOD_NAME, element.getMethodName());
+                frame.writeString(FRAME_FILE_NAME, element.getFileName());
+                frame.writeTag(FRAME_LINE_NUMBER, WIRE_VARINT);
+                frame.writeVarint(element.getLineNumber() << 1 ^ element.getLineNumber() >> 31);
+                buffer.writeBytes(STACKTRACE, frame.toByteArray());
+            }
+        }
+        String[] compactStacktrace = dto.getCompactStacktrace();
+        if (compactStacktrace != null) {
+            for (String line : compactStacktrace) {
+                buffer.writeString(COMPACT_STACKTRACE, line != null ? line : "");
+            }
+        }
+        if (dto.getData() != null && this.objectMapper != null) {
+            buffer.writeBytes(DATA, this.objectMapper.writeValueAsBytes(dto.getData()));
+        }
+        buffer.writeTo(out);
+    }
+
+    @Override
+    public ErrorResponseDto decode(InputStream in) throws IOException {
+        Buffer buffer = new Buffer(256);
+        buffer.readFrom(in);
+        Reader reader = new Reader(buffer.toByteArray());
+        ErrorResponseDto dto = ErrorResponseDto.builder().build();
+        List<StackTraceElement> stacktrace = null;
+        List<String> compactStacktrace = null;
+        while (reader.hasMore()) {
+            int tag = reader.readVarint();
+            switch (tag >>> 3) {
+                case INFORMATIVE:
+                    dto.setInformative(reader.readVarint() != 0);
+                    break;
+                case ERROR_CODE_ID:
+                    int errorCodeId = reader.readVarint();
+                    ErrorCode errorCode = this.registry.getErrorCode(errorCodeId);
+                    dto.setErrorCode(errorCode != null ? errorCode : RemoteErrorCode.of(errorCodeId));
+                    break;
+                case ERROR_CODE_NAME:
+                    String errorCodeName = reader.readString();
+                    ErrorCode namedErrorCode = this.registry.getErrorCode(errorCodeName);
+                    dto.setErrorCode(namedErrorCode != null ? namedErrorCode : RemoteErrorCode.of(errorCodeName));
+                    break;
+                case LEVEL_ID:
+                    dto.setLevel(this.registry.getLevel(reader.readVarint()));
+                    break;
+                case LEVEL_NAME:
+                    dto.setLevel(this.registry.getLevel(reader.readString()));
+                    break;
+                case MESSAGE:
+                    dto.setMessage(reader.readString());
+                    break;
+                case STACKTRACE:
+                    if (stacktrace == null) {
+                        stacktrace = new ArrayList<>();
+                    }
+                    stacktrace.add(readFrame(new Reader(reader.readBytes())));
+                    break;
+                case COMPACT_STACKTRACE:
+                    if (compactStacktrace == null) {
+                        compactStacktrace = new ArrayList<>();
+                    }
+                    compactStacktrace.add(reader.readString());
+                    break;
+                case DATA:
+                    byte[] data = reader.readBytes();
+                    if (this.objectMapper != null) {
+                        Object value = this.objectMapper.readValue(data, Object.class);
+                        dto.setData(value instanceof Serializable ? (Serializable) value : null);
+                    }
+                    break;
+                default:
+                    reader.skip(tag & 7);
+            }
+        }
+        if (stacktrace != null) {
+            dto.setStacktrace(stacktrace.toArray(new StackTraceElement[0]));
+        }
+        if (compactStacktrace != null) {
+            dto.setCompactStacktrace(compactStacktrace.toArray(new String[0]));
+        }
+        return dto;
+    }
+
+    private static StackTraceElement readFrame(Reader reader) throws IOException {
+        String declaringClass = "";
+        String methodName = "";
+        String fileName = null;
+        int lineNumber = 0;
+        while (reader.hasMore()) {
+            int tag = reader.readVarint();
+            switch (tag >>> 3) {
+                case FRAME_DECLARING_CLASS:
+                    declaringClass = reader.readString();
+                    break;
+                case FRAME_METHOD_NAME:
+                    methodName = reader.readString();
+                    break;
+                case FRAME_FILE_NAME:
+                    fileName = reader.readString();
+                    break;
+                case FRAME_LINE_NUMBER:
+                    int value = reader.readVarint();
+                    lineNumber = value >>> 1 ^ -(value & 1);
+                    break;
+                default:
+                    reader.skip(tag & 7);
+            }
+        }
+        return new StackTraceElement(declaringClass, methodName, fileName, lineNumber);
+    }
+
+    /**
+     * Output buffer which writes the wire format.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        private Buffer(int size) {
+            super(size);
+        }
+
+        private void writeTag(int field, int wireType) {
+            this.writeVarint(field << 3 | wireType);
+        }
+
+        private void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                this.write(value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            this.write(value);
+        }
+
+        private void writeString(int field, String value) {
+            if (value != null) {
+                this.writeBytes(field, value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void writeBytes(int field, byte[] value) {
+            this.writeTag(field, WIRE_LENGTH_DELIMITED);
+            this.writeVarint(value.length);
+            this.write(value, 0, value.length);
+        }
+
+        private void readFrom(InputStream in) throws IOException {
+            byte[] chunk = new byte[1024];
+            int count;
+            while ((count = in.read(chunk)) >= 0) {
+                this.write(chunk, 0, count);
+            }
+        }
+    }
+
+    /**
+     * Reader of the wire format.
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private boolean hasMore() {
+            return this.position < this.bytes.length;
+        }
+
+        private int readVarint() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte current = this.readByte();
+                result |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return (int) result;
+                }
+            }
+            throw new IOException("d.Malformed varint in the error response");
+        }
+
+        private byte[] readBytes() throws IOException {
+            int length = this.readVarint();
+            if (length < 0 || length > this.bytes.length - this.position) {
+                throw new EOFException("d.Truncated error response");
+            }
+            byte[] result = new byte[length];
+            System.arraycopy(this.bytes, this.position, result, 0, length);
+            this.position += length;
+            return result;
+        }
+
+        private String readString() throws IOException {
+            return new String(this.readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private void skip(int wireType) throws IOException {
+            switch (wireType) {
+                case WIRE_VARINT:
+                    this.readVarint();
+                    break;
+                case WIRE_FIXED64:
+                    this.advance(8);
+                    break;
+                case WIRE_LENGTH_DELIMITED:
+                    this.advance(this.readVarint());
+                    break;
+                case WIRE_FIXED32:
+                    this.advance(4);
+                    break;
+                default:
+                    throw new IOException("d.Unsupported wire type in the error response: " + wireType);
+            }
+        }
+
+        private void advance(int count) throws IOException {
+            if (count < 0 || count > this.bytes.length - this.position) {
+                throw new EOFException("d.Truncated error response");
+            }
+            this.position += count;
+        }
+
+        private byte readByte() throws IOException {
+            if (this.position >= this.bytes.length) {
+                throw new EOFException("d.Truncated error response");
+            }
+            return this.bytes[this.position++];
+        }
+    }
+}
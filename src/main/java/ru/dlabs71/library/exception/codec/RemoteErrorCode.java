@@ -0,0 +1,79 @@
+package ru.dlabs71.library.exception.codec;
+
+import java.util.Objects;
+import lombok.Getter;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Error code received from a remote service which isn't registered on the client
+ * (for example, the service has a newer version of its enum). It keeps the id and the name,
+ * so the error can be logged and passed on.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+public final class RemoteErrorCode implements ErrorCode {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Id of the error code or -1 if it was sent by the name.
+     */
+    private final int id;
+
+    private final String name;
+
+    private RemoteErrorCode(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public static RemoteErrorCode of(int id) {
+        return new RemoteErrorCode(id, "UNKNOWN_" + Integer.toHexString(id));
+    }
+
+    public static RemoteErrorCode of(String name) {
+        return new RemoteErrorCode(-1, name);
+    }
+
+    /**
+     * The message code of a remote error code is unknown.
+     *
+     * @return always null
+     */
+    @Override
+    public String getCodeMessage() {
+        return null;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RemoteErrorCode)) {
+            return false;
+        }
+        RemoteErrorCode code = (RemoteErrorCode) other;
+        return this.id == code.id && this.name.equals(code.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id, this.name);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,71 @@
+package ru.dlabs71.library.exception.converter;
+
+import java.io.IOException;
+import lombok.Getter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import ru.dlabs71.library.exception.codec.ErrorResponseCodec;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+
+/**
+ * Spring {@link org.springframework.http.converter.HttpMessageConverter} which writes and reads
+ * {@link ErrorResponseDto} by an {@link ErrorResponseCodec}. The converter supports only the media type
+ * of the codec, so a binary encoding is chosen by the content negotiation: a client which sends
+ * the header <code>Accept: application/cbor</code> gets CBOR, other clients get JSON.
+ *
+ * <pre>{@code
+ * @Override
+ * public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+ *     ErrorCodeRegistry registry = ErrorCodeRegistry.builder().errorCodeType(1, OrderErrorCode.class).build();
+ *     converters.add(0, new ErrorResponseCodecHttpMessageConverter(JacksonBinaryErrorResponseCodec.cbor(registry)));
+ *     converters.add(1, new ErrorResponseCodecHttpMessageConverter(new ProtobufErrorResponseCodec(registry, null)));
+ * }
+ * }</pre>
+ * Clients can register the same converter in a {@link org.springframework.web.client.RestTemplate}.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public class ErrorResponseCodecHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponseDto> {
+
+    @Getter
+    private final ErrorResponseCodec codec;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param codec binary encoding of the DTO
+     */
+    public ErrorResponseCodecHttpMessageConverter(ErrorResponseCodec codec) {
+        super(codec.getMediaType());
+        this.codec = codec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ErrorResponseDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected ErrorResponseDto readInternal(
+        Class<? extends ErrorResponseDto> clazz,
+        HttpInputMessage inputMessage
+    ) throws IOException {
+        try {
+            return this.codec.decode(inputMessage.getBody());
+        } catch (IOException | RuntimeException e) {
+            throw new HttpMessageNotReadableException("d.Error response is malformed: " + e.getMessage(), e,
+                inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(ErrorResponseDto dto, HttpOutputMessage outputMessage) throws IOException {
+        this.codec.encode(dto, outputMessage.getBody());
+    }
+}
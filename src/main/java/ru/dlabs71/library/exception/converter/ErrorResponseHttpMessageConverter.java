@@ -0,0 +1,92 @@
+package ru.dlabs71.library.exception.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.dto.ErrorResponseJsonWriter;
+
+/**
+ * Spring {@link org.springframework.http.converter.HttpMessageConverter} which writes {@link ErrorResponseDto}
+ * by {@link ErrorResponseJsonWriter} straight to the response stream. It only writes, reading of the DTO
+ * is left to the Jackson converter.
+ *
+ * <p>The converter must be registered before the Jackson converter, for example:
+ * <pre>{@code
+ * @Configuration
+ * public class WebConfig implements WebMvcConfigurer {
+ *
+ *     @Override
+ *     public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+ *         converters.add(0, new ErrorResponseHttpMessageConverter(objectMapper));
+ *     }
+ * }
+ * }</pre>
+ * Then all handlers returning {@link ErrorResponseDto} (including ones based on
+ * {@link ru.dlabs71.library.exception.resolver.AbstractHttpExceptionResolver}) use it.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public class ErrorResponseHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponseDto> {
+
+    @Getter
+    private final ErrorResponseJsonWriter writer;
+
+    public ErrorResponseHttpMessageConverter() {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param objectMapper object mapper of the application. It's used for the fields with arbitrary values.
+     */
+    public ErrorResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        this(new ErrorResponseJsonWriter(objectMapper));
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param writer JSON writer of the DTO
+     */
+    public ErrorResponseHttpMessageConverter(ErrorResponseJsonWriter writer) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ErrorResponseDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ErrorResponseDto readInternal(Class<? extends ErrorResponseDto> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("d.The converter doesn't read error responses", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ErrorResponseDto dto, MediaType contentType) {
+        return this.writer.getKnownLength(dto);
+    }
+
+    @Override
+    protected void writeInternal(ErrorResponseDto dto, HttpOutputMessage outputMessage) throws IOException {
+        this.writer.write(dto, outputMessage.getBody());
+    }
+}
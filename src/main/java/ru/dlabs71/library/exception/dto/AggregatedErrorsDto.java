@@ -0,0 +1,39 @@
+package ru.dlabs71.library.exception.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * List of errors collected by {@link ru.dlabs71.library.exception.accumulator.ErrorAccumulator}.
+ * It's put into the field {@link ErrorResponseDto#getData()} of the aggregated response, so every format
+ * of the response body carries it without changes of the schema.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregatedErrorsDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Count of all collected errors. It's greater than the size of {@link #errors} if the accumulator
+     * has reached its cap.
+     */
+    private long total;
+
+    /**
+     * The collected errors in the order of collecting.
+     */
+    private List<ErrorItemDto> errors;
+}
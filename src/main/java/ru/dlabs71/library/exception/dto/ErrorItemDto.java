@@ -0,0 +1,42 @@
+package ru.dlabs71.library.exception.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * One error of the aggregated response (see {@link AggregatedErrorsDto}).
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorItemDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Error code of the error.
+     */
+    private ErrorCode errorCode;
+
+    /**
+     * Level (or type) of the error.
+     */
+    private ErrorLevel level;
+
+    /**
+     * Message of the error code formatted with arguments of the error.
+     */
+    private String message;
+}
@@ -1,5 +1,6 @@
 package ru.dlabs71.library.exception.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.io.Serializable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -51,8 +52,37 @@ public class ErrorResponseDto implements Serializable {
      */
     private StackTraceElement[] stacktrace;
 
+    /**
+     * It is error stacktrace of an exception in the compact form: one line per a stack frame.
+     * It's used instead of the {@link #stacktrace} field when the compact format is turned on
+     * (see {@link ru.dlabs71.library.exception.utils.StacktracePolicy}).
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String[] compactStacktrace;
+
     /**
      * It is complement data object for client. You can set here any extra data for client.
      */
     private Serializable data;
+
+    /**
+     * Constructor of the class without the compact stacktrace.
+     *
+     * @param informative indicator of informative message
+     * @param errorCode   complement code for client
+     * @param level       level (or type) for a client alert popup
+     * @param message     error message
+     * @param stacktrace  error stacktrace of an exception
+     * @param data        complement data object for client
+     */
+    public ErrorResponseDto(
+        boolean informative,
+        ErrorCode errorCode,
+        ErrorLevel level,
+        String message,
+        StackTraceElement[] stacktrace,
+        Serializable data
+    ) {
+        this(informative, errorCode, level, message, stacktrace, null, data);
+    }
 }
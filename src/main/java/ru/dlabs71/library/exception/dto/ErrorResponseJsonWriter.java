@@ -0,0 +1,230 @@
+package ru.dlabs71.library.exception.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming JSON writer of {@link ErrorResponseDto}. It writes the same JSON as Jackson does, but without
+ * introspection of the DTO on every call:
+ * <ul>
+ *     <li>field names are written as prepared byte arrays;</li>
+ *     <li>enum error codes and levels are written as bytes prepared once per constant by the object mapper,
+ *     so custom enum serialization (for example, <code>@JsonValue</code>) is respected;</li>
+ *     <li>the message and the compact stacktrace are escaped directly into UTF-8 bytes.</li>
+ * </ul>
+ * The object mapper is used only for the <code>data</code> field, the full stacktrace and error codes
+ * and levels which aren't enums. Bodies of shared responses ({@link FrozenErrorResponseDto}) are serialized
+ * once, and then the cached bytes are written.
+ *
+ * <p>Property names follow the naming strategy of the object mapper. Null fields are skipped if the default
+ * property inclusion of the object mapper isn't {@link JsonInclude.Include#ALWAYS}.
+ *
+ * <p>The writer is thread-safe.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorResponseJsonWriter {
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectWriter valueWriter;
+    private final boolean writeNulls;
+    private final byte[] informativeField;
+    private final byte[] errorCodeField;
+    private final byte[] levelField;
+    private final byte[] messageField;
+    private final byte[] stacktraceField;
+    private final byte[] compactStacktraceField;
+    private final byte[] dataField;
+    private final ClassValue<byte[][]> enumValues = new ClassValue<byte[][]>() {
+        @Override
+        protected byte[][] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            byte[][] values = new byte[constants.length][];
+            try {
+                for (int i = 0; i < constants.length; i++) {
+                    values[i] = valueWriter.writeValueAsBytes(constants[i]);
+                }
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            return values;
+        }
+    };
+
+    public ErrorResponseJsonWriter() {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param objectMapper object mapper which is used for the fields with arbitrary values
+     */
+    public ErrorResponseJsonWriter(ObjectMapper objectMapper) {
+        this.valueWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+            .getDefaultPropertyInclusion()
+            .getValueInclusion();
+        this.writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+
+        PropertyNamingStrategy naming = objectMapper.getPropertyNamingStrategy();
+        this.informativeField = field(objectMapper, naming, "informative", "{");
+        this.errorCodeField = field(objectMapper, naming, "errorCode", ",");
+        this.levelField = field(objectMapper, naming, "level", ",");
+        this.messageField = field(objectMapper, naming, "message", ",");
+        this.stacktraceField = field(objectMapper, naming, "stacktrace", ",");
+        this.compactStacktraceField = field(objectMapper, naming, "compactStacktrace", ",");
+        this.dataField = field(objectMapper, naming, "data", ",");
+    }
+
+    /**
+     * Write the DTO as JSON. The stream isn't flushed and isn't closed.
+     *
+     * @param dto the DTO
+     * @param out the output stream
+     *
+     * @throws IOException if writing to the stream failed
+     */
+    public void write(ErrorResponseDto dto, OutputStream out) throws IOException {
+        if (dto instanceof FrozenErrorResponseDto) {
+            out.write(this.toBytes(dto));
+            return;
+        }
+        this.writeFields(dto, out);
+    }
+
+    /**
+     * Serialize the DTO as JSON.
+     *
+     * @param dto the DTO
+     *
+     * @return UTF-8 bytes of the JSON
+     */
+    public byte[] toBytes(ErrorResponseDto dto) {
+        FrozenErrorResponseDto frozen = dto instanceof FrozenErrorResponseDto ? (FrozenErrorResponseDto) dto : null;
+        byte[] bytes = frozen != null ? frozen.getSerialized(this) : null;
+        if (bytes != null) {
+            return bytes;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try {
+            this.writeFields(dto, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bytes = out.toByteArray();
+        if (frozen != null) {
+            frozen.setSerialized(this, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the length of the JSON if it's known without serialization.
+     *
+     * @param dto the DTO
+     *
+     * @return the length in bytes or null if it's unknown
+     */
+    public Long getKnownLength(ErrorResponseDto dto) {
+        if (dto instanceof FrozenErrorResponseDto) {
+            return (long) this.toBytes(dto).length;
+        }
+        return null;
+    }
+
+    private void writeFields(ErrorResponseDto dto, OutputStream out) throws IOException {
+        out.write(this.informativeField);
+        out.write(dto.isInformative() ? TRUE : FALSE);
+
+        if (dto.getErrorCode() != null || this.writeNulls) {
+            out.write(this.errorCodeField);
+            this.writeConstant(dto.getErrorCode(), out);
+        }
+        if (dto.getLevel() != null || this.writeNulls) {
+            out.write(this.levelField);
+            this.writeConstant(dto.getLevel(), out);
+        }
+        if (dto.getMessage() != null || this.writeNulls) {
+            out.write(this.messageField);
+            writeString(dto.getMessage(), out);
+        }
+        if (dto.getStacktrace() != null || this.writeNulls) {
+            out.write(this.stacktraceField);
+            this.writeValue(dto.getStacktrace(), out);
+        }
+        String[] compactStacktrace = dto.getCompactStacktrace();
+        if (compactStacktrace != null) {
+            out.write(this.compactStacktraceField);
+            out.write('[');
+            for (int i = 0; i < compactStacktrace.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeString(compactStacktrace[i], out);
+            }
+            out.write(']');
+        }
+        if (dto.getData() != null || this.writeNulls) {
+            out.write(this.dataField);
+            this.writeValue(dto.getData(), out);
+        }
+        out.write('}');
+    }
+
+    private void writeConstant(Object value, OutputStream out) throws IOException {
+        if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            out.write(this.enumValues.get(constant.getDeclaringClass())[constant.ordinal()]);
+            return;
+        }
+        this.writeValue(value, out);
+    }
+
+    private void writeValue(Object value, OutputStream out) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        this.valueWriter.writeValue(out, value);
+    }
+
+    private static void writeString(String value, OutputStream out) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write('"');
+        out.write(JsonStringEncoder.getInstance().quoteAsUTF8(value));
+        out.write('"');
+    }
+
+    private static byte[] field(ObjectMapper objectMapper, PropertyNamingStrategy naming, String name, String prefix) {
+        String translated = naming != null
+            ? naming.nameForField(objectMapper.getSerializationConfig(), null, name)
+            : name;
+        StringBuilder field = new StringBuilder(prefix).append('"');
+        JsonStringEncoder.getInstance().quoteAsString(translated, field);
+        return field.append("\":").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
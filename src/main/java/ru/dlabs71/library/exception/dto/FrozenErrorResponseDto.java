@@ -0,0 +1,119 @@
+package ru.dlabs71.library.exception.dto;
+
+import java.io.Serializable;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Immutable {@link ErrorResponseDto}. It's used for response bodies which are shared between requests
+ * (see {@link ru.dlabs71.library.exception.utils.ResponseTemplateCache}), so all setters throw
+ * {@link UnsupportedOperationException}. It's serialized the same way as {@link ErrorResponseDto}, but
+ * {@link ErrorResponseJsonWriter} serializes it only once and then writes the cached bytes.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class FrozenErrorResponseDto extends ErrorResponseDto {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "d.The shared response body can't be changed";
+
+    /**
+     * Serialized form of the body. It's cached by {@link ErrorResponseJsonWriter}.
+     */
+    private transient volatile Serialized serialized;
+
+    private FrozenErrorResponseDto(
+        boolean informative,
+        ErrorCode errorCode,
+        ErrorLevel level,
+        String message
+    ) {
+        super(informative, errorCode, level, message, null, null, null);
+    }
+
+    /**
+     * Create an immutable body without a stacktrace.
+     *
+     * @param informative indicator of informative message
+     * @param errorCode   complement code for client
+     * @param level       level (or type) for a client alert popup
+     * @param message     error message
+     *
+     * @return the immutable body
+     */
+    public static FrozenErrorResponseDto of(
+        boolean informative,
+        ErrorCode errorCode,
+        ErrorLevel level,
+        String message
+    ) {
+        return new FrozenErrorResponseDto(informative, errorCode, level, message);
+    }
+
+    @Override
+    public void setInformative(boolean informative) {
+        throw new UnsupportedOperationException(MESSAGE);
+    }
+
+    @Override
+    public void setErrorCode(ErrorCode errorCode) {
+        throw new UnsupportedOperationException(MESSAGE);
+    }
+
+    @Override
+    public void setLevel(ErrorLevel level) {
+        throw new UnsupportedOperationException(MESSAGE);
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw new UnsupportedOperationException(MESSAGE);
+    }
+
+    @Override
+    public void setStacktrace(StackTraceElement[] stacktrace) {
+        throw new UnsupportedOperationException(MESSAGE);
+    }
+
+    @Override
+    public void setCompactStacktrace(String[] compactStacktrace) {
+        throw new UnsupportedOperationException(MESSAGE);
+    }
+
+    @Override
+    public void setData(Serializable data) {
+        throw new UnsupportedOperationException(MESSAGE);
+    }
+
+    /**
+     * Get the bytes cached by the writer.
+     *
+     * @param owner the writer which has serialized the body
+     *
+     * @return the cached bytes or null if the body hasn't been serialized by the writer
+     */
+    byte[] getSerialized(Object owner) {
+        Serialized current = this.serialized;
+        return current != null && current.owner == owner ? current.bytes : null;
+    }
+
+    void setSerialized(Object owner, byte[] bytes) {
+        this.serialized = new Serialized(owner, bytes);
+    }
+
+    private static final class Serialized {
+
+        private final Object owner;
+        private final byte[] bytes;
+
+        private Serialized(Object owner, byte[] bytes) {
+            this.owner = owner;
+            this.bytes = bytes;
+        }
+    }
+}
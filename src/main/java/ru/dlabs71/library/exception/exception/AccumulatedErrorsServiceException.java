@@ -0,0 +1,52 @@
+package ru.dlabs71.library.exception.exception;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.accumulator.ErrorAccumulator;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Exception carrying errors collected by an {@link ErrorAccumulator}. The resolver renders it as one
+ * informative response: the error code of the exception with its message and the list of the collected
+ * errors in the <code>data</code> field (see {@link ru.dlabs71.library.exception.dto.AggregatedErrorsDto}).
+ * The message of the error code gets the total count of errors as the argument.
+ *
+ * <p>Use {@link ErrorAccumulator#throwIfNotEmpty()} or {@link ErrorAccumulator#toException(ErrorCode, HttpStatus)}
+ * to create it.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+public final class AccumulatedErrorsServiceException extends ServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The collected errors. The accumulator isn't serializable, so it's null after deserialization.
+     */
+    private final transient ErrorAccumulator errors;
+    private final HttpStatus httpStatus;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param errorCode  error code of the whole response
+     * @param httpStatus HTTP status of the response
+     * @param errors     the collected errors
+     */
+    public AccumulatedErrorsServiceException(
+        @NonNull ErrorCode errorCode,
+        @NonNull HttpStatus httpStatus,
+        @NonNull ErrorAccumulator errors
+    ) {
+        super(AccumulatedErrorsServiceException.class, null, errorCode, null);
+        this.errors = errors;
+        this.httpStatus = httpStatus;
+        this.setMessageArgs(new Object[]{errors.getTotal()});
+    }
+}
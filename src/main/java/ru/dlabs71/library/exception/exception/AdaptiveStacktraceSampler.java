@@ -0,0 +1,383 @@
+package ru.dlabs71.library.exception.exception;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCodeTable;
+import ru.dlabs71.library.exception.type.ErrorIdRegistry;
+
+/**
+ * Adaptive capturing of stacktraces of {@link ServiceException} and its descendants. Errors are grouped
+ * by the exception class and the error code. Within a period of {@link #resetInterval} the first
+ * {@link #fullCaptures} exceptions of a group capture a stacktrace, then only every {@link #sampleRate}-th one
+ * does, the others are created without a stacktrace. So a burst of identical errors doesn't pay
+ * for {@link Throwable#fillInStackTrace()} on every exception, and stacktraces are still available for diagnosis.
+ *
+ * <pre>{@code
+ * StacktraceSettings.setAdaptiveSampler(AdaptiveStacktraceSampler.builder()
+ *     .fullCaptures(5)
+ *     .sampleRate(1000)
+ *     .resetInterval(Duration.ofMinutes(5))
+ *     .build());
+ * }</pre>
+ *
+ * <p>The class is passed by the constructor of the exception (see
+ * {@link ServiceException#ServiceException(Class, String, ErrorCode, Throwable)}). Counters of a class are found
+ * by a {@link ClassValue}, and counters of error codes which are enum constants are kept in an
+ * {@link ErrorCodeTable}, so the decision costs two lookups without hashing and an atomic increment.
+ * Exceptions of a class without an error code share one group.
+ *
+ * <p>If {@link #throwSites} is on, errors are grouped by the throw site too. The throw site is the first frame
+ * outside of exception classes. It's found by <code>java.lang.StackWalker</code>, which walks only the top
+ * frames and doesn't create a stacktrace, but the walk still costs much more than the lookup by the class
+ * and the error code. On Java 8 there is no <code>StackWalker</code>, and errors are grouped only by the class
+ * and the error code.
+ *
+ * <p>The sampler is thread-safe and doesn't take locks.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Slf4j
+public final class AdaptiveStacktraceSampler {
+
+    /**
+     * Count of exceptions of a group which capture a stacktrace within a period.
+     */
+    @Getter
+    private final int fullCaptures;
+
+    /**
+     * After the first {@link #fullCaptures} exceptions only every N-th one captures a stacktrace.
+     */
+    @Getter
+    private final int sampleRate;
+
+    /**
+     * Period after which counters of groups are reset.
+     */
+    @Getter
+    private final Duration resetInterval;
+
+    /**
+     * Maximum count of tracked throw sites and error codes which aren't enum constants.
+     * Exceptions of new groups over the limit share one group.
+     */
+    @Getter
+    private final int maxKeys;
+
+    /**
+     * Whether errors are grouped by the throw site too.
+     */
+    @Getter
+    private final boolean throwSites;
+
+    private final long resetIntervalNanos;
+    private final Queue<TypeCounters> types = new ConcurrentLinkedQueue<>();
+    private final ClassValue<TypeCounters> typeCounters = new ClassValue<TypeCounters>() {
+        @Override
+        protected TypeCounters computeValue(Class<?> type) {
+            TypeCounters counters = new TypeCounters(System.nanoTime());
+            types.add(counters);
+            return counters;
+        }
+    };
+    private final ConcurrentMap<Key, Counter> counters = new ConcurrentHashMap<>();
+    private final Counter overflow = new Counter(System.nanoTime());
+    private final LongAdder captured = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * Constructor of the class.
+     *
+     * @param fullCaptures  count of exceptions of a group which capture a stacktrace within a period.
+     *                      By default, 10.
+     * @param sampleRate    after the first exceptions only every N-th one captures a stacktrace. By default, 100.
+     * @param resetInterval period after which counters are reset. By default, 1 minute.
+     * @param maxKeys       maximum count of tracked throw sites and error codes which aren't enum constants.
+     *                      By default, 4096.
+     * @param throwSites    whether errors are grouped by the throw site too. By default, false.
+     */
+    @Builder
+    private AdaptiveStacktraceSampler(
+        Integer fullCaptures,
+        Integer sampleRate,
+        Duration resetInterval,
+        Integer maxKeys,
+        Boolean throwSites
+    ) {
+        this.fullCaptures = fullCaptures != null ? fullCaptures : 10;
+        this.sampleRate = sampleRate != null ? sampleRate : 100;
+        this.resetInterval = resetInterval != null ? resetInterval : Duration.ofMinutes(1);
+        this.maxKeys = maxKeys != null ? maxKeys : 4096;
+        this.throwSites = throwSites != null && throwSites;
+        this.resetIntervalNanos = this.resetInterval.toNanos();
+        if (this.fullCaptures < 0 || this.sampleRate <= 0 || this.resetIntervalNanos <= 0 || this.maxKeys <= 0) {
+            throw new IllegalArgumentException("d.Invalid settings of the stacktrace sampler");
+        }
+    }
+
+    /**
+     * Decide whether an exception which is being created must capture a stacktrace. If {@link #throwSites}
+     * is on, it must be called from a constructor of the exception, because the throw site is taken
+     * from the current stack.
+     *
+     * @param type      class of the exception
+     * @param errorCode error code of the exception. It can be null.
+     *
+     * @return true if the stacktrace must be captured
+     */
+    public boolean shouldCapture(@NonNull Class<?> type, ErrorCode errorCode) {
+        long now = System.nanoTime();
+        Counter counter = this.throwSites
+            ? this.counter(ThrowSites.locate(type, errorCode), now)
+            : this.counter(type, errorCode, now);
+        long start = counter.start.get();
+        if (now - start >= this.resetIntervalNanos && counter.start.compareAndSet(start, now)) {
+            counter.count.set(0);
+        }
+        long count = counter.count.incrementAndGet();
+        if (count <= this.fullCaptures || (count - this.fullCaptures) % this.sampleRate == 0) {
+            this.captured.increment();
+            return true;
+        }
+        this.skipped.increment();
+        return false;
+    }
+
+    /**
+     * Get the count of exceptions which have captured a stacktrace by the decision of the sampler.
+     *
+     * @return the count
+     */
+    public long getCapturedCount() {
+        return this.captured.sum();
+    }
+
+    /**
+     * Get the count of exceptions which have been created without a stacktrace by the decision of the sampler.
+     *
+     * @return the count
+     */
+    public long getSkippedCount() {
+        return this.skipped.sum();
+    }
+
+    /**
+     * Forget all groups.
+     */
+    public void reset() {
+        for (TypeCounters type : this.types) {
+            type.errorCodes.clear();
+            type.withoutErrorCode.count.set(0);
+        }
+        this.counters.clear();
+        this.overflow.count.set(0);
+    }
+
+    private Counter counter(Class<?> type, ErrorCode errorCode, long now) {
+        TypeCounters typeCounters = this.typeCounters.get(type);
+        if (errorCode == null) {
+            return typeCounters.withoutErrorCode;
+        }
+        if (errorCode.id() == ErrorIdRegistry.NO_ID) {
+            return this.counter(new Key(type, errorCode, null, null, 0), now);
+        }
+        Counter counter = typeCounters.errorCodes.get(errorCode);
+        return counter != null
+            ? counter
+            : typeCounters.errorCodes.computeIfAbsent(errorCode, k -> new Counter(now));
+    }
+
+    private Counter counter(Key key, long now) {
+        Counter counter = this.counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        return this.counters.size() < this.maxKeys
+            ? this.counters.computeIfAbsent(key, k -> new Counter(now))
+            : this.overflow;
+    }
+
+    private static final class Counter {
+
+        private final AtomicLong start;
+        private final AtomicLong count = new AtomicLong();
+
+        private Counter(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+
+    /**
+     * Counters of an exception class.
+     */
+    private static final class TypeCounters {
+
+        private final ErrorCodeTable<Counter> errorCodes = new ErrorCodeTable<>();
+        private final Counter withoutErrorCode;
+
+        private TypeCounters(long start) {
+            this.withoutErrorCode = new Counter(start);
+        }
+    }
+
+    /**
+     * Group of exceptions: the exception class, the error code and the throw site.
+     */
+    private static final class Key {
+
+        private final Class<?> type;
+        private final ErrorCode errorCode;
+        private final Class<?> siteClass;
+        private final String siteMethod;
+        private final int siteLine;
+        private final int hash;
+
+        private Key(Class<?> type, ErrorCode errorCode, Class<?> siteClass, String siteMethod, int siteLine) {
+            this.type = type;
+            this.errorCode = errorCode;
+            this.siteClass = siteClass;
+            this.siteMethod = siteMethod;
+            this.siteLine = siteLine;
+            int result = type != null ? type.hashCode() : 0;
+            result = 31 * result + (errorCode != null ? errorCode.hashCode() : 0);
+            result = 31 * result + (siteClass != null ? siteClass.hashCode() : 0);
+            result = 31 * result + (siteMethod != null ? siteMethod.hashCode() : 0);
+            this.hash = 31 * result + siteLine;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return this.type == key.type
+                && this.siteClass == key.siteClass
+                && this.siteLine == key.siteLine
+                && Objects.equals(this.errorCode, key.errorCode)
+                && Objects.equals(this.siteMethod, key.siteMethod);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Access to <code>java.lang.StackWalker</code> by method handles, because the library is compiled for Java 8.
+     * The handles are resolved once and are constants for the JIT compiler.
+     */
+    private static final class ThrowSites {
+
+        private static final MethodHandle WALK;
+        private static final MethodHandle GET_DECLARING_CLASS;
+        private static final MethodHandle GET_METHOD_NAME;
+        private static final MethodHandle GET_LINE_NUMBER;
+
+        static {
+            MethodHandle walk = null;
+            MethodHandle getDeclaringClass = null;
+            MethodHandle getMethodName = null;
+            MethodHandle getLineNumber = null;
+            try {
+                Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+                Class<?> optionClass = Class.forName("java.lang.StackWalker$Option");
+                Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                Object option = Enum.valueOf((Class) optionClass, "RETAIN_CLASS_REFERENCE");
+                Object walker = walkerClass.getMethod("getInstance", optionClass).invoke(null, option);
+                // walk is caller-sensitive, so it is looked up with the full-privilege lookup of this class
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                walk = lookup.findVirtual(walkerClass, "walk", MethodType.methodType(Object.class, Function.class))
+                    .bindTo(walker);
+                getDeclaringClass = getter(lookup, frameClass, "getDeclaringClass", Class.class);
+                getMethodName = getter(lookup, frameClass, "getMethodName", String.class);
+                getLineNumber = getter(lookup, frameClass, "getLineNumber", int.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.debug("d.StackWalker isn't available, exceptions aren't grouped by throw sites: {}", e.toString());
+                walk = null;
+            }
+            WALK = walk;
+            GET_DECLARING_CLASS = getDeclaringClass;
+            GET_METHOD_NAME = getMethodName;
+            GET_LINE_NUMBER = getLineNumber;
+        }
+
+        private ThrowSites() {
+        }
+
+        private static MethodHandle getter(
+            MethodHandles.Lookup lookup,
+            Class<?> type,
+            String name,
+            Class<?> returnType
+        ) throws ReflectiveOperationException {
+            return lookup.findVirtual(type, name, MethodType.methodType(returnType))
+                .asType(MethodType.methodType(returnType, Object.class));
+        }
+
+        private static Key locate(Class<?> type, ErrorCode errorCode) {
+            if (WALK == null) {
+                return new Key(type, errorCode, null, null, 0);
+            }
+            try {
+                Function<Stream<?>, Key> function = frames -> find(frames, type, errorCode);
+                return (Key) (Object) WALK.invokeExact(function);
+            } catch (Throwable e) {
+                return new Key(type, errorCode, null, null, 0);
+            }
+        }
+
+        private static Key find(Stream<?> frames, Class<?> type, ErrorCode errorCode) {
+            try {
+                for (Iterator<?> iterator = frames.iterator(); iterator.hasNext(); ) {
+                    Object frame = iterator.next();
+                    Class<?> declaringClass = (Class<?>) GET_DECLARING_CLASS.invokeExact(frame);
+                    if (declaringClass == ThrowSites.class
+                        || declaringClass == AdaptiveStacktraceSampler.class
+                        || declaringClass == StacktraceSettings.class) {
+                        continue;
+                    }
+                    if (Throwable.class.isAssignableFrom(declaringClass)) {
+                        continue;
+                    }
+                    return new Key(
+                        type,
+                        errorCode,
+                        declaringClass,
+                        (String) GET_METHOD_NAME.invokeExact(frame),
+                        (int) GET_LINE_NUMBER.invokeExact(frame)
+                    );
+                }
+            } catch (Throwable e) {
+                log.debug("d.Failed to find the throw site: {}", e.toString());
+            }
+            return new Key(type, errorCode, null, null, 0);
+        }
+    }
+}
@@ -45,7 +45,7 @@ public final class BusinessLogicServiceException extends ServiceException {
         Serializable data,
         @NonNull Throwable cause
     ) {
-        super(message, errorCode, cause);
+        super(BusinessLogicServiceException.class, message, errorCode, cause);
         this.level = level != null ? level : CommonErrorLevel.ERROR;
         this.data = data;
     }
@@ -66,11 +66,42 @@ public final class BusinessLogicServiceException extends ServiceException {
         ErrorLevel level,
         Serializable data
     ) {
-        super(message, errorCode);
+        super(BusinessLogicServiceException.class, message, errorCode, null);
         this.level = level != null ? level : CommonErrorLevel.ERROR;
         this.data = data;
     }
 
+    /**
+     * Constructor of the class which controls capturing of a stacktrace.
+     * See {@link ServiceException#ServiceException(String, ErrorCode, Throwable, boolean, boolean)}.
+     *
+     * @param message            message explain cause of an exception.
+     * @param errorCode          error code.
+     * @param level              a specific error level. If the level is null,
+     *                           then it will be assigned a {@link CommonErrorLevel#ERROR} value.
+     * @param data               extra data for HTTP response
+     * @param cause              a throwable object - cause of exception. It can be null.
+     * @param writableStackTrace whether the stacktrace should be captured
+     */
+    public BusinessLogicServiceException(
+        String message,
+        ErrorCode errorCode,
+        ErrorLevel level,
+        Serializable data,
+        Throwable cause,
+        boolean writableStackTrace
+    ) {
+        super(message, errorCode, cause, true, writableStackTrace);
+        this.level = level != null ? level : CommonErrorLevel.ERROR;
+        this.data = data;
+    }
+
+    @Override
+    public BusinessLogicServiceException withMessageArgs(Object... messageArgs) {
+        super.withMessageArgs(messageArgs);
+        return this;
+    }
+
     public static BusinessLogicServiceException build(String message) {
         return new BusinessLogicServiceException(message, null, null, null);
     }
@@ -18,4 +18,18 @@ public interface DException {
     ErrorCode getErrorCode();
 
     String getCauseExceptionMessage();
+
+    /**
+     * Get raw arguments of the message. They are formatted only when a response is created.
+     * Arguments of the {@link java.util.function.Supplier} type are replaced by their values.
+     *
+     * <p>The resolver logs the exception itself, and {@link #getMessage()} doesn't contain the arguments,
+     * so log records don't show them. Put the values which must be logged into the message or log them
+     * where the exception is thrown.
+     *
+     * @return the arguments or null if the message of the cause is the only argument
+     */
+    default Object[] getMessageArgs() {
+        return null;
+    }
 }
@@ -0,0 +1,69 @@
+package ru.dlabs71.library.exception.exception;
+
+import lombok.NonNull;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCodeTable;
+
+/**
+ * Immutable {@link ServiceException} without a message, a cause and a stacktrace. Instances are created once
+ * per error code and shared between all threads, so throwing them doesn't allocate anything.
+ * Use {@link ServiceException#cached(ErrorCode)} to get an instance.
+ *
+ * <p>Since the instance is shared, all methods which can change its state throw
+ * {@link UnsupportedOperationException}. Suppressed exceptions are ignored.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class FrozenServiceException extends ServiceException {
+
+    private static final long serialVersionUID = 1L;
+    private static final ErrorCodeTable<FrozenServiceException> INSTANCES = new ErrorCodeTable<>();
+
+    private FrozenServiceException(ErrorCode errorCode) {
+        super(null, errorCode, null, false, false);
+    }
+
+    /**
+     * Get the shared instance for the error code. The instance is created at the first call.
+     *
+     * @param errorCode error code of the exception
+     *
+     * @return the shared instance
+     */
+    static FrozenServiceException of(@NonNull ErrorCode errorCode) {
+        return INSTANCES.computeIfAbsent(errorCode, FrozenServiceException::new);
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw new UnsupportedOperationException("d.The shared exception can't be changed");
+    }
+
+    @Override
+    public void setErrorCode(ErrorCode errorCode) {
+        throw new UnsupportedOperationException("d.The shared exception can't be changed");
+    }
+
+    @Override
+    public void setMessageArgs(Object[] messageArgs) {
+        throw new UnsupportedOperationException("d.The shared exception can't be changed");
+    }
+
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        throw new UnsupportedOperationException("d.The shared exception can't be changed");
+    }
+
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) {
+        throw new UnsupportedOperationException("d.The shared exception can't be changed");
+    }
+
+    private Object readResolve() {
+        return of(this.getErrorCode());
+    }
+}
@@ -1,8 +1,10 @@
 package ru.dlabs71.library.exception.exception;
 
+import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
 import ru.dlabs71.library.exception.type.ErrorCode;
 
 /**
@@ -10,6 +12,9 @@ import ru.dlabs71.library.exception.type.ErrorCode;
  * It is usually ancestor for user-defined exception classes. This exception contains a normal text message
  * and error code. When message is not passed value the message will retrieve from errorCode (if it is specified).
  *
+ * <p>Arguments of the message are passed raw (see {@link #withMessageArgs(Object...)}) and are formatted only
+ * when a response is created, so an exception which is caught and swallowed doesn't pay for formatting.
+ *
  * <p>{@link BusinessLogicServiceException}, {@link SpecialHttpStatusServiceException},
  * {@link WithoutStacktraceServiceException}
  *
@@ -26,6 +31,13 @@ public class ServiceException extends RuntimeException implements DException {
     private String message;
     private ErrorCode errorCode;
 
+    /**
+     * Raw arguments of the message of the error code (or of the message code <code>d.$code</code>).
+     * An argument which is a {@link Supplier} is replaced by its value at the moment of formatting.
+     * If it's null, the message of the cause is the only argument.
+     */
+    private Object[] messageArgs;
+
     /**
      * Constructor of the class.
      *
@@ -34,12 +46,7 @@ public class ServiceException extends RuntimeException implements DException {
      *                  or an extra info field in an HTTP response body for client.
      */
     public ServiceException(String message, ErrorCode errorCode) {
-        super(message);
-        if (message == null && errorCode == null) {
-            throw new IllegalArgumentException("d.Message and ErrorCode are both null");
-        }
-        this.errorCode = errorCode;
-        this.message = message;
+        this(ServiceException.class, message, errorCode, null);
     }
 
     /**
@@ -55,7 +62,50 @@ public class ServiceException extends RuntimeException implements DException {
      * @param cause     a throwable object - cause of exception
      */
     public ServiceException(String message, ErrorCode errorCode, @NonNull Throwable cause) {
-        super(cause.getMessage(), cause);
+        this(ServiceException.class, message, errorCode, cause);
+    }
+
+    /**
+     * Constructor of the class for descendants. Whether the stacktrace is captured is decided by
+     * {@link StacktraceSettings} for the passed class, because the class of the exception can't be taken
+     * before the constructor of {@link Throwable} captures the stacktrace. Descendants pass their own class,
+     * so the {@link AdaptiveStacktraceSampler} counts them apart from other exceptions with the same error code.
+     *
+     * @param type      class of the created exception
+     * @param message   a message explain cause of an exception.
+     * @param errorCode special error code. It can be replacement for the message
+     *                  or an extra info field in an HTTP response body for client.
+     * @param cause     a throwable object - cause of exception. It can be null.
+     */
+    protected ServiceException(
+        Class<? extends ServiceException> type,
+        String message,
+        ErrorCode errorCode,
+        Throwable cause
+    ) {
+        this(message, errorCode, cause, true, StacktraceSettings.isWritableStackTrace(type, errorCode));
+    }
+
+    /**
+     * Constructor of the class for descendants which control capturing of a stacktrace themselves.
+     * See {@link Throwable#Throwable(String, Throwable, boolean, boolean)}.
+     *
+     * @param message            a message explain cause of an exception.
+     * @param errorCode          special error code. It can be replacement for the message
+     *                           or an extra info field in an HTTP response body for client.
+     * @param cause              a throwable object - cause of exception. It can be null.
+     * @param enableSuppression  whether suppression is enabled or disabled
+     * @param writableStackTrace whether the stacktrace should be captured. If it's false, the exception
+     *                           doesn't pay for {@link Throwable#fillInStackTrace()}.
+     */
+    protected ServiceException(
+        String message,
+        ErrorCode errorCode,
+        Throwable cause,
+        boolean enableSuppression,
+        boolean writableStackTrace
+    ) {
+        super(cause != null ? cause.getMessage() : message, cause, enableSuppression, writableStackTrace);
         if (message == null && errorCode == null) {
             throw new IllegalArgumentException("d.Message and ErrorCode are both null");
         }
@@ -68,6 +118,18 @@ public class ServiceException extends RuntimeException implements DException {
         return this.getMessage();
     }
 
+    /**
+     * Set raw arguments of the message. They aren't formatted here, see {@link #messageArgs}.
+     *
+     * @param messageArgs arguments of the message. Values of {@link Supplier} type are computed lazily.
+     *
+     * @return this exception
+     */
+    public ServiceException withMessageArgs(Object... messageArgs) {
+        this.setMessageArgs(messageArgs);
+        return this;
+    }
+
     public static ServiceException build(String message) {
         return new ServiceException(message, null);
     }
@@ -76,6 +138,21 @@ public class ServiceException extends RuntimeException implements DException {
         return new ServiceException(null, errorCode);
     }
 
+    /**
+     * Create an exception with the message of the error code and its raw arguments.
+     * <pre>{@code
+     * throw ServiceException.build(MyErrorCode.ORDER_NOT_FOUND, orderId, (Supplier<String>) order::describe);
+     * }</pre>
+     *
+     * @param errorCode   error code of the exception
+     * @param messageArgs arguments of the message. Values of {@link Supplier} type are computed lazily.
+     *
+     * @return the exception
+     */
+    public static ServiceException build(ErrorCode errorCode, Object... messageArgs) {
+        return new ServiceException(null, errorCode).withMessageArgs(messageArgs);
+    }
+
     public static ServiceException build(String message, Throwable throwable) {
         return new ServiceException(message, null, throwable);
     }
@@ -83,4 +160,17 @@ public class ServiceException extends RuntimeException implements DException {
     public static ServiceException build(ErrorCode errorCode, Throwable throwable) {
         return new ServiceException(null, errorCode, throwable);
     }
+
+    /**
+     * Get a shared immutable exception for the error code. The exception has no message, no cause
+     * and no stacktrace. It's created once per error code, so throwing it doesn't allocate anything.
+     * Use it for frequent expected errors, for example {@link CommonErrorCode#ENTITY_NOT_FOUND}.
+     *
+     * @param errorCode error code of the exception
+     *
+     * @return the shared instance of {@link FrozenServiceException}
+     */
+    public static ServiceException cached(ErrorCode errorCode) {
+        return FrozenServiceException.of(errorCode);
+    }
 }
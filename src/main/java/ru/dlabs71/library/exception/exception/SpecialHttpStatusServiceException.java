@@ -25,7 +25,7 @@ public final class SpecialHttpStatusServiceException extends ServiceException {
         ErrorCode errorCode,
         @NonNull HttpStatus httpStatus
     ) {
-        super(message, errorCode);
+        super(SpecialHttpStatusServiceException.class, message, errorCode, null);
         this.httpStatus = httpStatus;
     }
 
@@ -35,10 +35,37 @@ public final class SpecialHttpStatusServiceException extends ServiceException {
         @NonNull Throwable cause,
         @NonNull HttpStatus httpStatus
     ) {
-        super(message, errorCode, cause);
+        super(SpecialHttpStatusServiceException.class, message, errorCode, cause);
         this.httpStatus = httpStatus;
     }
 
+    /**
+     * Constructor of the class which controls capturing of a stacktrace.
+     * See {@link ServiceException#ServiceException(String, ErrorCode, Throwable, boolean, boolean)}.
+     *
+     * @param message            a message explain cause of an exception.
+     * @param errorCode          special error code.
+     * @param cause              a throwable object - cause of exception. It can be null.
+     * @param httpStatus         HTTP status of the response
+     * @param writableStackTrace whether the stacktrace should be captured
+     */
+    public SpecialHttpStatusServiceException(
+        String message,
+        ErrorCode errorCode,
+        Throwable cause,
+        @NonNull HttpStatus httpStatus,
+        boolean writableStackTrace
+    ) {
+        super(message, errorCode, cause, true, writableStackTrace);
+        this.httpStatus = httpStatus;
+    }
+
+    @Override
+    public SpecialHttpStatusServiceException withMessageArgs(Object... messageArgs) {
+        super.withMessageArgs(messageArgs);
+        return this;
+    }
+
     public static SpecialHttpStatusServiceException build(String message, HttpStatus httpStatus) {
         return new SpecialHttpStatusServiceException(message, null, httpStatus);
     }
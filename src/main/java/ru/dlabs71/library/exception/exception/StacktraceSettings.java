@@ -0,0 +1,106 @@
+package ru.dlabs71.library.exception.exception;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Global switches for capturing a stacktrace while {@link ServiceException} and its descendants are created.
+ * Capturing a stacktrace (see {@link Throwable#fillInStackTrace()}) is the most expensive part of creating
+ * an exception. For expected errors (entity isn't found, an object is locked, etc.) it can be turned off
+ * globally or for specific error codes.
+ *
+ * <p>The settings are taken into account only at the moment of creating an exception. An exception created
+ * without a stacktrace returns an empty array from {@link Throwable#getStackTrace()}.
+ *
+ * <p>Instead of turning capturing off completely, an {@link AdaptiveStacktraceSampler} can be set. Then only
+ * the first exceptions of every exception class and error code and a sample of the following ones capture
+ * a stacktrace.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class StacktraceSettings {
+
+    private static final Set<ErrorCode> STACKLESS_CODES = ConcurrentHashMap.newKeySet();
+    private static volatile boolean globalStackless = false;
+    private static volatile boolean hasStacklessCodes = false;
+    private static volatile AdaptiveStacktraceSampler adaptiveSampler;
+
+    private StacktraceSettings() {
+    }
+
+    /**
+     * Turn on or turn off capturing a stacktrace for all exceptions of the library hierarchy.
+     *
+     * @param stackless if it's true, exceptions will be created without a stacktrace
+     */
+    public static void setGlobalStackless(boolean stackless) {
+        globalStackless = stackless;
+    }
+
+    public static boolean isGlobalStackless() {
+        return globalStackless;
+    }
+
+    /**
+     * Turn off capturing a stacktrace for exceptions with the specified error codes.
+     *
+     * @param errorCodes error codes of exceptions which will be created without a stacktrace
+     */
+    public static void enableStackless(ErrorCode... errorCodes) {
+        for (ErrorCode errorCode : errorCodes) {
+            STACKLESS_CODES.add(errorCode);
+        }
+        hasStacklessCodes = !STACKLESS_CODES.isEmpty();
+    }
+
+    /**
+     * Turn on capturing a stacktrace for exceptions with the specified error codes back.
+     *
+     * @param errorCodes error codes which were passed to {@link #enableStackless(ErrorCode...)} before
+     */
+    public static void disableStackless(ErrorCode... errorCodes) {
+        for (ErrorCode errorCode : errorCodes) {
+            STACKLESS_CODES.remove(errorCode);
+        }
+        hasStacklessCodes = !STACKLESS_CODES.isEmpty();
+    }
+
+    /**
+     * Set the sampler which decides whether an exception captures a stacktrace. It's consulted only for
+     * exceptions which aren't turned stackless by {@link #setGlobalStackless(boolean)} and
+     * {@link #enableStackless(ErrorCode...)}.
+     *
+     * @param sampler the sampler or null to capture a stacktrace for every exception
+     */
+    public static void setAdaptiveSampler(AdaptiveStacktraceSampler sampler) {
+        adaptiveSampler = sampler;
+    }
+
+    public static AdaptiveStacktraceSampler getAdaptiveSampler() {
+        return adaptiveSampler;
+    }
+
+    /**
+     * Check whether an exception of the class with the error code must capture a stacktrace.
+     *
+     * @param type      class of an exception
+     * @param errorCode error code of an exception. It can be null.
+     *
+     * @return true if the stacktrace must be captured
+     */
+    public static boolean isWritableStackTrace(Class<?> type, ErrorCode errorCode) {
+        if (globalStackless) {
+            return false;
+        }
+        if (errorCode != null && hasStacklessCodes && STACKLESS_CODES.contains(errorCode)) {
+            return false;
+        }
+        AdaptiveStacktraceSampler sampler = adaptiveSampler;
+        return sampler == null || sampler.shouldCapture(type, errorCode);
+    }
+}
@@ -5,7 +5,8 @@ import ru.dlabs71.library.exception.type.ErrorCode;
 
 /**
  * This class extends of {@link ServiceException} class. It is a special exception implementation
- * who guarantees won't set up stacktrace into a response body.
+ * who guarantees won't set up stacktrace into a response body. Since the stacktrace is never used,
+ * the exception doesn't capture it at all (see {@link Throwable#fillInStackTrace()}), so it's cheap to create.
  *
  * <p><div><strong>Project name:</strong> d-exception </div>
  * <div><strong>Creation date:</strong> 2024-08-24 </div>
@@ -16,11 +17,17 @@ import ru.dlabs71.library.exception.type.ErrorCode;
 public final class WithoutStacktraceServiceException extends ServiceException {
 
     public WithoutStacktraceServiceException(String message, ErrorCode errorCode) {
-        super(message, errorCode);
+        super(message, errorCode, null, true, false);
     }
 
     public WithoutStacktraceServiceException(String message, ErrorCode errorCode, @NonNull Throwable cause) {
-        super(message, errorCode, cause);
+        super(message, errorCode, cause, true, false);
+    }
+
+    @Override
+    public WithoutStacktraceServiceException withMessageArgs(Object... messageArgs) {
+        super.withMessageArgs(messageArgs);
+        return this;
     }
 
     public static WithoutStacktraceServiceException build(String message) {
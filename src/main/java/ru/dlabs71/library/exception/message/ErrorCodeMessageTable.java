@@ -0,0 +1,49 @@
+package ru.dlabs71.library.exception.message;
+
+import java.util.List;
+import java.util.Locale;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Table of message patterns of error codes indexed by a locale and a slot of an error code.
+ * Implementations are generated at build time by the <code>d-exception-processor</code> annotation processor
+ * from the message bundles, so the bundles aren't read at runtime.
+ *
+ * <p>Error codes of all {@link #getErrorCodeTypes() types} occupy consecutive slots: the slot of a constant
+ * is the count of constants of the previous types plus the ordinal of the constant. The patterns of a locale
+ * are already resolved by the fallback rules of {@link java.util.ResourceBundle}, so a missing message
+ * of a locale is taken from a less specific locale.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ * @see MessageTableMessageService
+ */
+public interface ErrorCodeMessageTable {
+
+    /**
+     * Get the locales of the table. The first one is always {@link Locale#ROOT}.
+     *
+     * @return the locales in the order of locale indexes
+     */
+    List<Locale> getLocales();
+
+    /**
+     * Get enums of error codes in the order of their slots.
+     *
+     * @return the enums of error codes
+     */
+    List<Class<? extends ErrorCode>> getErrorCodeTypes();
+
+    /**
+     * Get the message pattern.
+     *
+     * @param localeIndex index of a locale in {@link #getLocales()}
+     * @param slot        slot of an error code
+     *
+     * @return the pattern or null if the bundles don't have a message for the error code
+     */
+    String getPattern(int localeIndex, int slot);
+}
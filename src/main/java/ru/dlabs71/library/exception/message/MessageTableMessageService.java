@@ -0,0 +1,220 @@
+package ru.dlabs71.library.exception.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Implementation of {@link DExceptionMessageService} by the message tables which are generated at build time
+ * (see {@link ErrorCodeMessageTable}). It doesn't read message bundles: all patterns are compiled
+ * into {@link MessageTemplate}s when the service is created and stored in arrays indexed by a locale
+ * and a slot of an error code.
+ *
+ * <p>A message of an error code ({@link #getMessageTemplate(ErrorCode, Locale)}) is found by two array indexes.
+ * A message by a code is found by one lookup of the slot in a hash map. A locale which the tables don't have
+ * is resolved by the fallback rules of {@link ResourceBundle}, and if none of its candidates is found,
+ * the default locale is used.
+ *
+ * <p>The service is immutable, so it's safe for concurrent reading without synchronization.
+ *
+ * <pre>{@code
+ * DExceptionMessageService messageService = MessageTableMessageService.builder()
+ *     .table(new MyMessageTable())
+ *     .defaultLocale(new Locale("ru", "RU"))
+ *     .build();
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class MessageTableMessageService implements DExceptionMessageService {
+
+    private static final ResourceBundle.Control CONTROL =
+        ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    /**
+     * Locale which is used when the locale supplier isn't specified or returns null.
+     */
+    @Getter
+    private final Locale defaultLocale;
+
+    private final Supplier<Locale> localeSupplier;
+    private final Map<Locale, Integer> localeIndexes;
+    private final int defaultLocaleIndex;
+    private final Map<Class<?>, Integer> typeOffsets;
+    private final Map<String, Integer> codeSlots;
+    private final MessageTemplate[][] templates;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param tables         message tables. If several tables have the same enum of error codes,
+     *                       the first of them is used.
+     * @param defaultLocale  locale of messages by default. By default, it's {@link Locale#getDefault()}.
+     * @param localeSupplier supplier of the current locale (for example, the locale of the request).
+     *                       If it isn't specified, the default locale is always used.
+     */
+    @Builder
+    private MessageTableMessageService(
+        @Singular List<ErrorCodeMessageTable> tables,
+        Locale defaultLocale,
+        Supplier<Locale> localeSupplier
+    ) {
+        this.defaultLocale = defaultLocale != null ? defaultLocale : Locale.getDefault();
+        this.localeSupplier = localeSupplier;
+
+        Set<Locale> locales = new LinkedHashSet<>();
+        locales.add(Locale.ROOT);
+        for (ErrorCodeMessageTable table : tables) {
+            locales.addAll(table.getLocales());
+        }
+        locales.add(this.defaultLocale);
+        List<Locale> localeList = new ArrayList<>(locales);
+        Map<Locale, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < localeList.size(); i++) {
+            indexes.put(localeList.get(i), i);
+        }
+        this.localeIndexes = Collections.unmodifiableMap(indexes);
+        this.defaultLocaleIndex = indexes.get(this.defaultLocale);
+
+        Map<Class<?>, Integer> offsets = new HashMap<>();
+        Map<String, Integer> slots = new HashMap<>();
+        List<TableSlot> tableSlots = new ArrayList<>();
+        for (ErrorCodeMessageTable table : tables) {
+            int tableSlot = 0;
+            for (Class<? extends ErrorCode> type : table.getErrorCodeTypes()) {
+                ErrorCode[] errorCodes = type.getEnumConstants();
+                if (offsets.containsKey(type)) {
+                    tableSlot += errorCodes.length;
+                    continue;
+                }
+                offsets.put(type, tableSlots.size());
+                for (ErrorCode errorCode : errorCodes) {
+                    slots.putIfAbsent(errorCode.getCodeMessage(), tableSlots.size());
+                    tableSlots.add(new TableSlot(table, tableSlot++));
+                }
+            }
+        }
+        this.typeOffsets = Collections.unmodifiableMap(offsets);
+        this.codeSlots = Collections.unmodifiableMap(slots);
+
+        this.templates = new MessageTemplate[localeList.size()][tableSlots.size()];
+        Map<ErrorCodeMessageTable, Integer> tableLocaleIndexes = new HashMap<>();
+        for (int i = 0; i < localeList.size(); i++) {
+            Locale locale = localeList.get(i);
+            tableLocaleIndexes.clear();
+            for (int slot = 0; slot < tableSlots.size(); slot++) {
+                TableSlot tableSlot = tableSlots.get(slot);
+                Integer tableLocaleIndex = tableLocaleIndexes.computeIfAbsent(
+                    tableSlot.table,
+                    table -> findLocaleIndex(table.getLocales(), locale)
+                );
+                String pattern = tableSlot.table.getPattern(tableLocaleIndex, tableSlot.slot);
+                this.templates[i][slot] = pattern != null ? MessageTemplate.compile(pattern, locale) : null;
+            }
+        }
+    }
+
+    @Override
+    public String getMessage(String code, Object... args) {
+        MessageTemplate template = this.getMessageTemplate(code, this.getLocale());
+        return template != null ? template.format(args) : code;
+    }
+
+    @Override
+    public String getMessagePattern(String code, Locale locale) {
+        MessageTemplate template = this.getMessageTemplate(code, locale);
+        return template != null ? template.getPattern() : null;
+    }
+
+    @Override
+    public Locale getLocale() {
+        Locale locale = this.localeSupplier != null ? this.localeSupplier.get() : null;
+        return locale != null ? locale : this.defaultLocale;
+    }
+
+    /**
+     * Get the compiled template of a message by a code.
+     *
+     * @param code   a message code
+     * @param locale a locale of the message. If it's null, the default locale is used.
+     *
+     * @return the template or null if the tables don't have a message with the code
+     */
+    public MessageTemplate getMessageTemplate(String code, Locale locale) {
+        Integer slot = this.codeSlots.get(code);
+        return slot != null ? this.templates[this.getLocaleIndex(locale)][slot] : null;
+    }
+
+    /**
+     * Get the compiled template of a message of an error code.
+     *
+     * @param errorCode an error code
+     * @param locale    a locale of the message. If it's null, the default locale is used.
+     *
+     * @return the template or null if the tables don't have a message for the error code
+     */
+    public MessageTemplate getMessageTemplate(ErrorCode errorCode, Locale locale) {
+        if (errorCode instanceof Enum) {
+            Enum<?> constant = (Enum<?>) errorCode;
+            Integer offset = this.typeOffsets.get(constant.getDeclaringClass());
+            if (offset != null) {
+                return this.templates[this.getLocaleIndex(locale)][offset + constant.ordinal()];
+            }
+        }
+        return this.getMessageTemplate(errorCode.getCodeMessage(), locale);
+    }
+
+    private int getLocaleIndex(Locale locale) {
+        if (locale == null) {
+            return this.defaultLocaleIndex;
+        }
+        Integer index = this.localeIndexes.get(locale);
+        if (index != null) {
+            return index;
+        }
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            index = this.localeIndexes.get(candidate);
+            if (index != null && !Locale.ROOT.equals(candidate)) {
+                return index;
+            }
+        }
+        return this.defaultLocaleIndex;
+    }
+
+    private static int findLocaleIndex(List<Locale> tableLocales, Locale locale) {
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            int index = tableLocales.indexOf(candidate);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return 0;
+    }
+
+    private static final class TableSlot {
+
+        private final ErrorCodeMessageTable table;
+        private final int slot;
+
+        private TableSlot(ErrorCodeMessageTable table, int slot) {
+            this.table = table;
+            this.slot = slot;
+        }
+    }
+}
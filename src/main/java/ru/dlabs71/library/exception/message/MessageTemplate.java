@@ -0,0 +1,180 @@
+package ru.dlabs71.library.exception.message;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.Getter;
+
+/**
+ * Compiled message template. The template is created once from a {@link MessageFormat} pattern and can be
+ * used by many threads at the same time.
+ *
+ * <ul>
+ *     <li>A pattern without arguments becomes a constant string. Formatting of it returns the string as is.</li>
+ *     <li>A pattern with only simple arguments (<code>{0}</code>, <code>{1}</code>, ...) is split into parts,
+ *     and formatting of it is just a concatenation.</li>
+ *     <li>Other patterns (with format types, quotes, etc.) are formatted by a copy of
+ *     the precompiled {@link MessageFormat}.</li>
+ * </ul>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class MessageTemplate {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * Source pattern of the template.
+     */
+    @Getter
+    private final String pattern;
+    private final Locale locale;
+    private final String constant;
+    private final String[] literals;
+    private final int[] argIndexes;
+    private final MessageFormat messageFormat;
+
+    private MessageTemplate(
+        String pattern,
+        Locale locale,
+        String constant,
+        String[] literals,
+        int[] argIndexes,
+        MessageFormat messageFormat
+    ) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.constant = constant;
+        this.literals = literals;
+        this.argIndexes = argIndexes;
+        this.messageFormat = messageFormat;
+    }
+
+    /**
+     * Compile the pattern.
+     *
+     * @param pattern a {@link MessageFormat} pattern
+     * @param locale  locale for formatting of numbers and dates
+     *
+     * @return compiled template. If the pattern is invalid, the template returns the pattern as is
+     *     (the same way as Spring's message sources do it).
+     */
+    public static MessageTemplate compile(String pattern, Locale locale) {
+        if (pattern.indexOf('{') < 0) {
+            if (pattern.indexOf('\'') < 0) {
+                return constant(pattern, locale, pattern);
+            }
+            return compileMessageFormat(pattern, locale, true);
+        }
+        if (pattern.indexOf('\'') >= 0) {
+            return compileMessageFormat(pattern, locale, false);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> argIndexes = new ArrayList<>();
+        int position = 0;
+        while (position < pattern.length()) {
+            int start = pattern.indexOf('{', position);
+            if (start < 0) {
+                break;
+            }
+            int end = pattern.indexOf('}', start);
+            int argIndex = end < 0 ? -1 : parseArgIndex(pattern, start + 1, end);
+            if (argIndex < 0) {
+                return compileMessageFormat(pattern, locale, false);
+            }
+            literals.add(pattern.substring(position, start));
+            argIndexes.add(argIndex);
+            position = end + 1;
+        }
+        if (pattern.indexOf('}', position) >= 0) {
+            return compileMessageFormat(pattern, locale, false);
+        }
+        literals.add(pattern.substring(position));
+
+        int[] indexes = new int[argIndexes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = argIndexes.get(i);
+        }
+        return new MessageTemplate(pattern, locale, null, literals.toArray(new String[0]), indexes, null);
+    }
+
+    /**
+     * Check whether the result of the template doesn't depend on arguments.
+     */
+    public boolean isConstant() {
+        return this.constant != null;
+    }
+
+    /**
+     * Create a message by the template.
+     *
+     * @param args message arguments
+     *
+     * @return created message text
+     */
+    public String format(Object... args) {
+        if (this.constant != null) {
+            return this.constant;
+        }
+        Object[] arguments = args != null ? args : NO_ARGS;
+        if (this.messageFormat != null) {
+            return ((MessageFormat) this.messageFormat.clone()).format(arguments);
+        }
+
+        StringBuilder builder = new StringBuilder(this.pattern.length() + 32);
+        for (int i = 0; i < this.argIndexes.length; i++) {
+            builder.append(this.literals[i]);
+            int argIndex = this.argIndexes[i];
+            if (argIndex >= arguments.length) {
+                builder.append('{').append(argIndex).append('}');
+                continue;
+            }
+            Object argument = arguments[argIndex];
+            if (argument == null || argument instanceof String) {
+                builder.append(argument);
+            } else {
+                // numbers, dates, etc. are formatted by the locale rules
+                return new MessageFormat(this.pattern, this.locale).format(arguments);
+            }
+        }
+        return builder.append(this.literals[this.argIndexes.length]).toString();
+    }
+
+    private static MessageTemplate constant(String pattern, Locale locale, String constant) {
+        return new MessageTemplate(pattern, locale, constant, null, null, null);
+    }
+
+    private static MessageTemplate compileMessageFormat(String pattern, Locale locale, boolean withoutArgs) {
+        MessageFormat messageFormat;
+        try {
+            messageFormat = new MessageFormat(pattern, locale);
+        } catch (IllegalArgumentException ex) {
+            return constant(pattern, locale, pattern);
+        }
+        if (withoutArgs || messageFormat.getFormatsByArgumentIndex().length == 0) {
+            return constant(pattern, locale, messageFormat.format(NO_ARGS));
+        }
+        return new MessageTemplate(pattern, locale, null, null, null, messageFormat);
+    }
+
+    private static int parseArgIndex(String pattern, int from, int to) {
+        if (from == to || to - from > 4) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char ch = pattern.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            result = result * 10 + (ch - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,178 @@
+package ru.dlabs71.library.exception.message;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of compiled message templates by a message code and a locale.
+ * Reading from the cache doesn't take locks and doesn't allocate. When the cache is full, an arbitrary
+ * entry of the same locale is evicted to make room for a new one.
+ *
+ * <p>Templates are compiled only from raw patterns which the message service supplies
+ * (see {@link ru.dlabs71.library.exception.DExceptionMessageService#getMessagePattern(String, Locale)}).
+ * For a code without a pattern the cache keeps {@link #NO_PATTERN}, so the service isn't asked for the pattern
+ * again, but the message is still created by the service for every error. Such lookups are counted
+ * separately from hits (see {@link #getNoPatternCount()}), so the cache does nothing useful for a service
+ * which doesn't supply patterns, and its hit count shows it.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class MessageTemplateCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * Marker of a message code which the message service doesn't provide a pattern for.
+     */
+    public static final MessageTemplate NO_PATTERN = MessageTemplate.compile("", Locale.ROOT);
+
+    private final int maxSize;
+    private final ConcurrentMap<Locale, ConcurrentMap<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder noPatterns = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MessageTemplateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param maxSize maximum count of templates in the cache for all locales
+     */
+    public MessageTemplateCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("d.Max size of the cache must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get a compiled template from the cache.
+     *
+     * @param code   message code
+     * @param locale locale of the message
+     *
+     * @return the template, {@link #NO_PATTERN} if the message service doesn't provide a pattern for the code,
+     *     or null if it isn't in the cache
+     */
+    public MessageTemplate get(String code, Locale locale) {
+        ConcurrentMap<String, MessageTemplate> localeTemplates = this.templates.get(locale);
+        MessageTemplate template = localeTemplates != null ? localeTemplates.get(code) : null;
+        if (template == null) {
+            this.misses.increment();
+        } else if (template == NO_PATTERN) {
+            this.noPatterns.increment();
+        } else {
+            this.hits.increment();
+        }
+        return template;
+    }
+
+    /**
+     * Put a compiled template into the cache. If another thread has already put a template
+     * for the same code and locale, that template is kept.
+     *
+     * @param code     message code
+     * @param locale   locale of the message
+     * @param template compiled template or {@link #NO_PATTERN}
+     *
+     * @return the template which is in the cache now
+     */
+    public MessageTemplate put(String code, Locale locale, MessageTemplate template) {
+        ConcurrentMap<String, MessageTemplate> localeTemplates = this.templates.get(locale);
+        if (localeTemplates == null) {
+            localeTemplates = this.templates.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        }
+        MessageTemplate existing = localeTemplates.putIfAbsent(code, template);
+        if (existing != null) {
+            return existing;
+        }
+        if (this.size.incrementAndGet() > this.maxSize) {
+            this.evict(localeTemplates, code);
+        }
+        return template;
+    }
+
+    /**
+     * Remove all templates from the cache. Counters aren't reset.
+     */
+    public void clear() {
+        for (ConcurrentMap<String, MessageTemplate> localeTemplates : this.templates.values()) {
+            for (Iterator<String> iterator = localeTemplates.keySet().iterator(); iterator.hasNext(); ) {
+                iterator.next();
+                iterator.remove();
+                this.size.decrementAndGet();
+            }
+        }
+    }
+
+    public int size() {
+        return this.size.get();
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Get the count of lookups which returned a compiled template.
+     *
+     * @return the count
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Get the count of lookups which returned {@link #NO_PATTERN}. The message was created by the message
+     * service for every such lookup, so they aren't hits.
+     *
+     * @return the count
+     */
+    public long getNoPatternCount() {
+        return this.noPatterns.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    private void evict(ConcurrentMap<String, MessageTemplate> localeTemplates, String keptCode) {
+        for (String code : localeTemplates.keySet()) {
+            if (!code.equals(keptCode) && localeTemplates.remove(code) != null) {
+                this.size.decrementAndGet();
+                this.evictions.increment();
+                return;
+            }
+        }
+        // the locale has only the new template, so take room from another locale
+        for (ConcurrentMap<String, MessageTemplate> otherTemplates : this.templates.values()) {
+            if (otherTemplates == localeTemplates) {
+                continue;
+            }
+            for (String code : otherTemplates.keySet()) {
+                if (otherTemplates.remove(code) != null) {
+                    this.size.decrementAndGet();
+                    this.evictions.increment();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package ru.dlabs71.library.exception.message;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+
+/**
+ * Implementation of {@link DExceptionMessageService} which reads messages from resource bundles: properties files
+ * named by the rules of {@link ResourceBundle} (for example, <code>messages_ru_RU.properties</code>).
+ *
+ * <p>Bundles are read only once. Messages of a locale are compiled into {@link MessageTemplate}s and put into
+ * an immutable hash map. The maps of all loaded locales form a snapshot which is published by a volatile
+ * reference, so getting a message doesn't take locks and doesn't format the pattern again. A locale which isn't
+ * loaded yet is loaded on the first request, and a new snapshot with it replaces the old one. The count
+ * of loaded locales is limited (see {@link #getMaxLocales()}), messages of other locales are taken
+ * from the default locale.
+ *
+ * <p>The bundle of the library ({@link #LIBRARY_BASENAME}) is always the lowest layer. User bundles are layered
+ * over it in the order they are specified, so a later bundle overrides messages of earlier ones. A message
+ * of a more specific locale wins over a message of a less specific one regardless of layers: for the locale
+ * ru_RU the message is looked up in the ru_RU files of all bundles, then in the ru files, and then in the files
+ * without a locale.
+ *
+ * <p>{@link #reload()} reads the bundles again and replaces the snapshot at once, so readers see either
+ * the old messages or the new ones, but never a mix of them. Then the change listeners are notified
+ * (see {@link #addChangeListener(Runnable)}), so the caches of the library are cleared.
+ *
+ * <pre>{@code
+ * ResourceBundleMessageService messageService = ResourceBundleMessageService.builder()
+ *     .basename("messages")
+ *     .defaultLocale(new Locale("ru", "RU"))
+ *     .localeSupplier(LocaleContextHolder::getLocale)
+ *     .build();
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Slf4j
+public final class ResourceBundleMessageService implements DExceptionMessageService {
+
+    /**
+     * Base name of the bundle with messages of the library.
+     */
+    public static final String LIBRARY_BASENAME = "d_exception_messages";
+
+    public static final int DEFAULT_MAX_LOCALES = 32;
+
+    private static final ResourceBundle.Control CONTROL =
+        ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    /**
+     * Base names of the bundles from the lowest layer to the highest one. The first is always
+     * {@link #LIBRARY_BASENAME}.
+     */
+    @Getter
+    private final List<String> basenames;
+
+    /**
+     * Locale which is used when the locale supplier isn't specified or returns null.
+     */
+    @Getter
+    private final Locale defaultLocale;
+
+    /**
+     * Maximum count of loaded locales.
+     */
+    @Getter
+    private final int maxLocales;
+
+    private final Supplier<Locale> localeSupplier;
+    private final ClassLoader classLoader;
+    private final Charset encoding;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private final Object loadLock = new Object();
+    private volatile Map<Locale, Map<String, MessageTemplate>> snapshot;
+
+    /**
+     * Constructor of the class. The bundles of the default locale and the preloaded locales are read at once.
+     *
+     * @param basenames      base names of user bundles. Every next bundle overrides messages of the previous ones.
+     * @param defaultLocale  locale of messages by default. By default, it's {@link Locale#getDefault()}.
+     * @param localeSupplier supplier of the current locale (for example, the locale of the request).
+     *                       If it isn't specified, the default locale is always used.
+     * @param classLoader    class loader for reading the bundles. By default, it's the class loader of the library.
+     * @param encoding       encoding of the bundle files. By default, it's UTF-8.
+     * @param maxLocales     maximum count of loaded locales. By default, it's {@link #DEFAULT_MAX_LOCALES}.
+     * @param preloadLocales locales which are loaded at once
+     *
+     * @throws UncheckedIOException if a bundle file can't be read
+     */
+    @Builder
+    private ResourceBundleMessageService(
+        @Singular List<String> basenames,
+        Locale defaultLocale,
+        Supplier<Locale> localeSupplier,
+        ClassLoader classLoader,
+        Charset encoding,
+        Integer maxLocales,
+        @Singular List<Locale> preloadLocales
+    ) {
+        List<String> layers = new ArrayList<>(basenames.size() + 1);
+        layers.add(LIBRARY_BASENAME);
+        for (String basename : basenames) {
+            if (!LIBRARY_BASENAME.equals(basename)) {
+                layers.add(basename);
+            }
+        }
+        this.basenames = Collections.unmodifiableList(layers);
+        this.defaultLocale = defaultLocale != null ? defaultLocale : Locale.getDefault();
+        this.maxLocales = maxLocales != null ? maxLocales : DEFAULT_MAX_LOCALES;
+        if (this.maxLocales <= 0) {
+            throw new IllegalArgumentException("d.Max count of locales must be positive");
+        }
+        this.localeSupplier = localeSupplier;
+        this.classLoader = classLoader != null ? classLoader : ResourceBundleMessageService.class.getClassLoader();
+        this.encoding = encoding != null ? encoding : StandardCharsets.UTF_8;
+
+        Set<Locale> locales = new LinkedHashSet<>();
+        locales.add(this.defaultLocale);
+        locales.addAll(preloadLocales);
+        this.snapshot = this.load(locales);
+    }
+
+    @Override
+    public String getMessage(String code, Object... args) {
+        MessageTemplate template = this.getMessageTemplate(code, this.getLocale());
+        return template != null ? template.format(args) : code;
+    }
+
+    @Override
+    public String getMessagePattern(String code, Locale locale) {
+        MessageTemplate template = this.getMessageTemplate(code, locale);
+        return template != null ? template.getPattern() : null;
+    }
+
+    @Override
+    public Locale getLocale() {
+        Locale locale = this.localeSupplier != null ? this.localeSupplier.get() : null;
+        return locale != null ? locale : this.defaultLocale;
+    }
+
+    @Override
+    public void addChangeListener(Runnable listener) {
+        this.changeListeners.add(listener);
+    }
+
+    /**
+     * Get the compiled template of a message.
+     *
+     * @param code   a message code
+     * @param locale a locale of the message. If it's null, the default locale is used.
+     *
+     * @return the template or null if there isn't a message with the code
+     */
+    public MessageTemplate getMessageTemplate(String code, Locale locale) {
+        return this.getMessages(locale != null ? locale : this.defaultLocale).get(code);
+    }
+
+    /**
+     * Get the locales which messages are loaded for.
+     *
+     * @return the loaded locales
+     */
+    public Set<Locale> getLoadedLocales() {
+        return this.snapshot.keySet();
+    }
+
+    /**
+     * Read the bundles of all loaded locales again and replace the messages. If a bundle can't be read,
+     * the current messages are kept. After the replacement the change listeners are notified.
+     *
+     * @throws UncheckedIOException if a bundle file can't be read
+     */
+    public void reload() {
+        synchronized (this.loadLock) {
+            this.snapshot = this.load(this.snapshot.keySet());
+        }
+        log.debug("d.Messages are reloaded from the bundles {}", this.basenames);
+        for (Runnable listener : this.changeListeners) {
+            listener.run();
+        }
+    }
+
+    private Map<String, MessageTemplate> getMessages(Locale locale) {
+        Map<String, MessageTemplate> messages = this.snapshot.get(locale);
+        if (messages != null) {
+            return messages;
+        }
+        synchronized (this.loadLock) {
+            Map<Locale, Map<String, MessageTemplate>> current = this.snapshot;
+            messages = current.get(locale);
+            if (messages != null) {
+                return messages;
+            }
+            if (current.size() >= this.maxLocales) {
+                return current.get(this.defaultLocale);
+            }
+            messages = this.loadLocale(locale, new HashMap<>());
+            Map<Locale, Map<String, MessageTemplate>> next = new HashMap<>(current);
+            next.put(locale, messages);
+            this.snapshot = Collections.unmodifiableMap(next);
+            return messages;
+        }
+    }
+
+    private Map<Locale, Map<String, MessageTemplate>> load(Collection<Locale> locales) {
+        Map<String, Map<String, String>> files = new HashMap<>();
+        Map<Locale, Map<String, MessageTemplate>> result = new HashMap<>();
+        for (Locale locale : locales) {
+            result.put(locale, this.loadLocale(locale, files));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<String, MessageTemplate> loadLocale(Locale locale, Map<String, Map<String, String>> files) {
+        List<Locale> candidates = CONTROL.getCandidateLocales("", locale);
+        Map<String, String> patterns = new HashMap<>();
+        // from the least specific locale to the most specific one, so the latter overrides the former
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            for (String basename : this.basenames) {
+                String bundleName = CONTROL.toBundleName(basename, candidates.get(i));
+                Map<String, String> file = files.get(bundleName);
+                if (file == null) {
+                    file = this.read(CONTROL.toResourceName(bundleName, "properties"));
+                    files.put(bundleName, file);
+                }
+                patterns.putAll(file);
+            }
+        }
+
+        Map<String, MessageTemplate> templates = new HashMap<>((int) (patterns.size() / 0.75f) + 1);
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            templates.put(entry.getKey(), MessageTemplate.compile(entry.getValue(), locale));
+        }
+        return Collections.unmodifiableMap(templates);
+    }
+
+    private Map<String, String> read(String resourceName) {
+        URL url = this.classLoader.getResource(resourceName);
+        if (url == null) {
+            return Collections.emptyMap();
+        }
+        Properties properties = new Properties();
+        try {
+            URLConnection connection = url.openConnection();
+            // files must be read again when the messages are reloaded
+            connection.setUseCaches(false);
+            try (Reader reader = new InputStreamReader(connection.getInputStream(), this.encoding)) {
+                properties.load(reader);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("d.Failed to read the message bundle " + resourceName, e);
+        }
+        Map<String, String> messages = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            messages.put(key, properties.getProperty(key));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,251 @@
+package ru.dlabs71.library.exception.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Default implementation of {@link ResolverInstrumentation}. It counts responses by a combination of an error
+ * code and an HTTP status, by an error level, by an HTTP status and by an exception class, and collects latency
+ * histograms by an HTTP status. So the statuses which a given error code produced can be told
+ * (see {@link ErrorMetricsSnapshot#getByErrorCodeAndStatus()}). Error levels and exception classes are counted
+ * independently of other dimensions.
+ *
+ * <p>Counters are {@link LongAdder}s, so concurrent request threads don't contend on them.
+ * Counters of enum error codes and levels are stored in arrays indexed by the ordinal of a constant
+ * (and for error codes, by the ordinal of {@link HttpStatus}), counters of HTTP statuses - by the ordinal
+ * of {@link HttpStatus}. So recording doesn't look up maps, except for error codes and levels which aren't enums.
+ *
+ * <p>Use {@link #snapshot()} for scraping.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorMetrics implements ResolverInstrumentation {
+
+    /**
+     * Name of the group of responses without an error code or an error level.
+     */
+    public static final String NONE = "NONE";
+
+    /**
+     * Count of latency buckets. The bucket with index i contains durations less than 2^i nanoseconds,
+     * the last one contains all longer durations.
+     */
+    static final int LATENCY_BUCKETS = 40;
+
+    private static final HttpStatus[] STATUSES = HttpStatus.values();
+
+    private final LongAdder total = new LongAdder();
+    /**
+     * Counters of error codes by HTTP statuses. The last column counts responses without a status.
+     */
+    private final NamedCounters errorCodes = new NamedCounters(STATUSES.length + 1);
+    private final NamedCounters errorLevels = new NamedCounters(1);
+    private final LongAdder[] statuses = newAdders(STATUSES.length);
+    private final AtomicReferenceArray<LongAdder[]> latencies = new AtomicReferenceArray<>(STATUSES.length);
+    private final Set<Class<?>> exceptionClasses = ConcurrentHashMap.newKeySet();
+    private final ClassValue<LongAdder> exceptionCounters = new ClassValue<LongAdder>() {
+        @Override
+        protected LongAdder computeValue(Class<?> type) {
+            exceptionClasses.add(type);
+            return new LongAdder();
+        }
+    };
+
+    @Override
+    public void onResolved(Throwable throwable, ErrorResponseDto body, HttpStatus status, long durationNanos) {
+        this.total.increment();
+        if (body != null) {
+            ErrorCode errorCode = body.getErrorCode();
+            ErrorLevel level = body.getLevel();
+            String errorCodeName = errorCode instanceof Enum || errorCode == null ? null : errorCode.name();
+            String levelName = level instanceof Enum || level == null ? null : level.name();
+            this.errorCodes.increment(errorCode, errorCodeName, status != null ? status.ordinal() : STATUSES.length);
+            this.errorLevels.increment(level, levelName, 0);
+        }
+        if (throwable != null) {
+            this.exceptionCounters.get(throwable.getClass()).increment();
+        }
+        if (status != null) {
+            int index = status.ordinal();
+            this.statuses[index].increment();
+            LongAdder[] histogram = this.latencies.get(index);
+            if (histogram == null) {
+                this.latencies.compareAndSet(index, null, newAdders(LATENCY_BUCKETS));
+                histogram = this.latencies.get(index);
+            }
+            histogram[bucketOf(durationNanos)].increment();
+        }
+    }
+
+    /**
+     * Create a snapshot of the current values of the counters.
+     *
+     * @return the snapshot
+     */
+    public ErrorMetricsSnapshot snapshot() {
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        Map<Integer, long[]> latencyByStatus = new TreeMap<>();
+        for (int i = 0; i < STATUSES.length; i++) {
+            long count = this.statuses[i].sum();
+            if (count > 0) {
+                byStatus.put(STATUSES[i].value(), count);
+            }
+            LongAdder[] histogram = this.latencies.get(i);
+            if (histogram != null) {
+                long[] counts = new long[LATENCY_BUCKETS];
+                for (int j = 0; j < LATENCY_BUCKETS; j++) {
+                    counts[j] = histogram[j].sum();
+                }
+                latencyByStatus.put(STATUSES[i].value(), counts);
+            }
+        }
+        Map<String, Long> byExceptionClass = new TreeMap<>();
+        for (Class<?> type : this.exceptionClasses) {
+            byExceptionClass.merge(type.getName(), this.exceptionCounters.get(type).sum(), Long::sum);
+        }
+
+        Map<String, Map<Integer, Long>> byErrorCodeAndStatus = new LinkedHashMap<>();
+        this.errorCodes.forEachRow((name, counters) -> {
+            Map<Integer, Long> codeByStatus = new TreeMap<>();
+            for (int i = 0; i < STATUSES.length; i++) {
+                long count = counters[i].sum();
+                if (count > 0) {
+                    codeByStatus.put(STATUSES[i].value(), count);
+                }
+            }
+            if (!codeByStatus.isEmpty()) {
+                byErrorCodeAndStatus.merge(name, Collections.unmodifiableMap(codeByStatus), ErrorMetrics::mergeCounts);
+            }
+        });
+
+        return new ErrorMetricsSnapshot(
+            this.total.sum(),
+            this.errorCodes.snapshot(),
+            Collections.unmodifiableMap(byErrorCodeAndStatus),
+            this.errorLevels.snapshot(),
+            Collections.unmodifiableMap(byStatus),
+            Collections.unmodifiableMap(byExceptionClass),
+            latencyBucketBounds(),
+            Collections.unmodifiableMap(latencyByStatus)
+        );
+    }
+
+    static int bucketOf(long durationNanos) {
+        if (durationNanos <= 0) {
+            return 0;
+        }
+        return Math.min(64 - Long.numberOfLeadingZeros(durationNanos), LATENCY_BUCKETS - 1);
+    }
+
+    static long[] latencyBucketBounds() {
+        long[] bounds = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS - 1; i++) {
+            bounds[i] = 1L << i;
+        }
+        bounds[LATENCY_BUCKETS - 1] = Long.MAX_VALUE;
+        return bounds;
+    }
+
+    private static Map<Integer, Long> mergeCounts(Map<Integer, Long> first, Map<Integer, Long> second) {
+        Map<Integer, Long> result = new TreeMap<>(first);
+        second.forEach((key, count) -> result.merge(key, count, Long::sum));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static LongAdder[] newAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Counters by a name of an error code or an error level. Every name has a row of counters, and a response
+     * is counted in one column of the row. Rows of enum constants are stored in arrays indexed by ordinals
+     * and are created at the first use, other values are counted by their names.
+     */
+    private static final class NamedCounters {
+
+        private final int width;
+        private final Set<Class<?>> enumTypes = ConcurrentHashMap.newKeySet();
+        private final ClassValue<AtomicReferenceArray<LongAdder[]>> enumCounters =
+            new ClassValue<AtomicReferenceArray<LongAdder[]>>() {
+                @Override
+                protected AtomicReferenceArray<LongAdder[]> computeValue(Class<?> type) {
+                    enumTypes.add(type);
+                    return new AtomicReferenceArray<>(type.getEnumConstants().length);
+                }
+            };
+        private final ConcurrentMap<String, LongAdder[]> otherCounters = new ConcurrentHashMap<>();
+
+        private NamedCounters(int width) {
+            this.width = width;
+        }
+
+        private void increment(Object value, String name, int column) {
+            LongAdder[] row;
+            if (value instanceof Enum) {
+                Enum<?> constant = (Enum<?>) value;
+                AtomicReferenceArray<LongAdder[]> rows = this.enumCounters.get(constant.getDeclaringClass());
+                int ordinal = constant.ordinal();
+                row = rows.get(ordinal);
+                if (row == null) {
+                    rows.compareAndSet(ordinal, null, newAdders(this.width));
+                    row = rows.get(ordinal);
+                }
+            } else {
+                String key = name != null ? name : NONE;
+                row = this.otherCounters.get(key);
+                if (row == null) {
+                    row = this.otherCounters.computeIfAbsent(key, k -> newAdders(this.width));
+                }
+            }
+            row[column].increment();
+        }
+
+        private void forEachRow(BiConsumer<String, LongAdder[]> action) {
+            for (Class<?> type : this.enumTypes) {
+                Object[] constants = type.getEnumConstants();
+                AtomicReferenceArray<LongAdder[]> rows = this.enumCounters.get(type);
+                for (int i = 0; i < constants.length; i++) {
+                    LongAdder[] row = rows.get(i);
+                    if (row != null) {
+                        action.accept(((Enum<?>) constants[i]).name(), row);
+                    }
+                }
+            }
+            this.otherCounters.forEach(action);
+        }
+
+        private Map<String, Long> snapshot() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            this.forEachRow((name, row) -> {
+                long count = 0;
+                for (LongAdder counter : row) {
+                    count += counter.sum();
+                }
+                if (count > 0) {
+                    result.merge(name, count, Long::sum);
+                }
+            });
+            return Collections.unmodifiableMap(result);
+        }
+    }
+}
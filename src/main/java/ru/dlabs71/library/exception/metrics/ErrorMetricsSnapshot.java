@@ -0,0 +1,62 @@
+package ru.dlabs71.library.exception.metrics;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot of {@link ErrorMetrics} counters. All maps are immutable and contain only non-zero counters.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@AllArgsConstructor
+public final class ErrorMetricsSnapshot {
+
+    /**
+     * Total count of responses.
+     */
+    private final long total;
+
+    /**
+     * Count of responses by {@link ru.dlabs71.library.exception.type.ErrorCode#name()}.
+     * Responses without an error code are counted as {@link ErrorMetrics#NONE}.
+     */
+    private final Map<String, Long> byErrorCode;
+
+    /**
+     * Count of responses by {@link ru.dlabs71.library.exception.type.ErrorCode#name()} and an HTTP status code.
+     * Responses without an HTTP status are counted only in {@link #byErrorCode}.
+     */
+    private final Map<String, Map<Integer, Long>> byErrorCodeAndStatus;
+
+    /**
+     * Count of responses by {@link ru.dlabs71.library.exception.type.ErrorLevel#name()}.
+     * Responses without an error level are counted as {@link ErrorMetrics#NONE}.
+     */
+    private final Map<String, Long> byErrorLevel;
+
+    /**
+     * Count of responses by an HTTP status code.
+     */
+    private final Map<Integer, Long> byStatus;
+
+    /**
+     * Count of responses by a name of an exception class.
+     */
+    private final Map<String, Long> byExceptionClass;
+
+    /**
+     * Upper bounds (exclusive, in nanoseconds) of latency buckets.
+     */
+    private final long[] latencyBucketBounds;
+
+    /**
+     * Count of responses in each latency bucket by an HTTP status code.
+     */
+    private final Map<Integer, long[]> latencyByStatus;
+}
@@ -0,0 +1,57 @@
+package ru.dlabs71.library.exception.metrics;
+
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+
+/**
+ * Instrumentation SPI of {@link ru.dlabs71.library.exception.resolver.ExceptionResolverCore}.
+ * It's called once for every response produced by the resolver. Implementations must be thread-safe
+ * and cheap, because they are called on the request thread.
+ *
+ * <p>The library provides {@link ErrorMetrics} based on {@link java.util.concurrent.atomic.LongAdder}
+ * counters and {@link ru.dlabs71.library.exception.metrics.micrometer.MicrometerResolverInstrumentation}
+ * for Micrometer.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public interface ResolverInstrumentation {
+
+    /**
+     * Instrumentation which does nothing.
+     */
+    ResolverInstrumentation NOOP = (throwable, body, status, durationNanos) -> {
+    };
+
+    /**
+     * Record a response produced by the resolver.
+     *
+     * @param throwable     the handled exception
+     * @param body          body of the response. It contains the error code and the error level.
+     * @param status        HTTP status of the response
+     * @param durationNanos time spent on resolving the exception (including logging) in nanoseconds
+     */
+    void onResolved(Throwable throwable, ErrorResponseDto body, HttpStatus status, long durationNanos);
+
+    /**
+     * Combine several instrumentations into one. They are called in the passed order.
+     *
+     * @param instrumentations the instrumentations
+     *
+     * @return the combined instrumentation
+     */
+    static ResolverInstrumentation composite(ResolverInstrumentation... instrumentations) {
+        ResolverInstrumentation[] targets = instrumentations.clone();
+        if (targets.length == 1) {
+            return targets[0];
+        }
+        return (throwable, body, status, durationNanos) -> {
+            for (ResolverInstrumentation target : targets) {
+                target.onResolved(throwable, body, status, durationNanos);
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package ru.dlabs71.library.exception.metrics.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.metrics.ErrorMetrics;
+import ru.dlabs71.library.exception.metrics.ResolverInstrumentation;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Adapter of {@link ResolverInstrumentation} to Micrometer. Every response is recorded by a timer
+ * (default name is "d.exception.resolved") with the tags:
+ * <ul>
+ *     <li>error.code - {@link ErrorCode#name()}</li>
+ *     <li>error.level - {@link ErrorLevel#name()}</li>
+ *     <li>status - HTTP status code</li>
+ *     <li>exception - simple name of the exception class</li>
+ * </ul>
+ *
+ * <p>The timer count is the count of responses, so a separate counter isn't registered.
+ * Timers are cached by the tag values, so the registry is looked up only once per combination.
+ *
+ * <p>The adapter requires the <code>io.micrometer:micrometer-core</code> dependency,
+ * which isn't transitive for the library.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class MicrometerResolverInstrumentation implements ResolverInstrumentation {
+
+    public static final String DEFAULT_METER_NAME = "d.exception.resolved";
+
+    private final MeterRegistry registry;
+    private final String meterName;
+    private final ConcurrentMap<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerResolverInstrumentation(MeterRegistry registry) {
+        this(registry, DEFAULT_METER_NAME);
+    }
+
+    public MicrometerResolverInstrumentation(MeterRegistry registry, String meterName) {
+        this.registry = registry;
+        this.meterName = meterName;
+    }
+
+    @Override
+    public void onResolved(Throwable throwable, ErrorResponseDto body, HttpStatus status, long durationNanos) {
+        MeterKey key = new MeterKey(
+            body != null ? body.getErrorCode() : null,
+            body != null ? body.getLevel() : null,
+            status,
+            throwable != null ? throwable.getClass() : null
+        );
+        Timer timer = this.timers.get(key);
+        if (timer == null) {
+            timer = this.timers.computeIfAbsent(key, this::register);
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(MeterKey key) {
+        return Timer.builder(this.meterName)
+            .description("Responses produced by the d-exception resolver")
+            .tag("error.code", key.errorCode != null ? key.errorCode.name() : ErrorMetrics.NONE)
+            .tag("error.level", key.level != null ? key.level.name() : ErrorMetrics.NONE)
+            .tag("status", key.status != null ? String.valueOf(key.status.value()) : ErrorMetrics.NONE)
+            .tag("exception", key.type != null ? key.type.getSimpleName() : ErrorMetrics.NONE)
+            .register(this.registry);
+    }
+
+    private static final class MeterKey {
+
+        private final ErrorCode errorCode;
+        private final ErrorLevel level;
+        private final HttpStatus status;
+        private final Class<?> type;
+
+        private MeterKey(ErrorCode errorCode, ErrorLevel level, HttpStatus status, Class<?> type) {
+            this.errorCode = errorCode;
+            this.level = level;
+            this.status = status;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof MeterKey)) {
+                return false;
+            }
+            MeterKey key = (MeterKey) other;
+            return this.status == key.status
+                && this.type == key.type
+                && Objects.equals(this.errorCode, key.errorCode)
+                && Objects.equals(this.level, key.level);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(this.errorCode);
+            result = 31 * result + Objects.hashCode(this.level);
+            result = 31 * result + Objects.hashCode(this.status);
+            return 31 * result + Objects.hashCode(this.type);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+
+/**
+ * Log sink which writes records about handled exceptions on a background thread. The calling thread only
+ * puts a reference to the exception and the request path into a preallocated ring buffer, so rendering
+ * of a stacktrace doesn't delay a response.
+ *
+ * <p>The ring buffer is a bounded lock-free multi-producer single-consumer queue: producers take slots
+ * by a CAS on the tail counter, every slot has a sequence number which tells whether the slot is free
+ * or filled. The only consumer is the background thread.
+ *
+ * <p>When the buffer is saturated, the {@link OverflowPolicy} is applied. Dropped records are counted,
+ * see {@link #getDroppedCount()}, and the background thread reports them by a WARN record.
+ *
+ * <p>The sink must be closed when the application stops: {@link #close()} writes the remaining records
+ * and stops the thread.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Slf4j
+public final class AsyncExceptionLogSink implements AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Capacity of the ring buffer. It's a power of two and at least 2: with one slot the sequence number
+     * of a filled slot would be equal to the sequence number of the free slot for the next producer.
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * Policy which is applied when the buffer is saturated.
+     */
+    @Getter
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * Only every N-th record is accepted when the buffer is more than half full.
+     * It's used by {@link OverflowPolicy#SAMPLE}.
+     */
+    @Getter
+    private final int sampleRate;
+
+    private final boolean copyMdc;
+    private final int mask;
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread consumer;
+    private volatile boolean consumerParked;
+    private volatile boolean closed;
+    private volatile long head;
+    private long reportedDropped;
+
+    @Builder
+    private AsyncExceptionLogSink(
+        Integer capacity,
+        OverflowPolicy overflowPolicy,
+        Integer sampleRate,
+        boolean copyMdc,
+        String threadName
+    ) {
+        int requested = capacity != null ? capacity : 1024;
+        if (requested <= 0 || requested > (1 << 30)) {
+            throw new IllegalArgumentException("d.Capacity of the log sink must be in [1, 2^30]");
+        }
+        this.capacity = requested <= 2 ? 2 : Integer.highestOneBit(requested - 1) << 1;
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.DROP;
+        this.sampleRate = sampleRate != null ? sampleRate : 10;
+        if (this.sampleRate <= 0) {
+            throw new IllegalArgumentException("d.Sample rate of the log sink must be positive");
+        }
+        this.copyMdc = copyMdc;
+        this.mask = this.capacity - 1;
+        this.entries = new Entry[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            this.entries[i] = new Entry();
+            this.sequences.set(i, i);
+        }
+        this.consumer = new Thread(this::consume, threadName != null ? threadName : "d-exception-log");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Enqueue a record. It returns immediately unless the policy is {@link OverflowPolicy#BLOCK}
+     * and the buffer is full.
+     *
+     * @param logger    logger which the record is written by
+     * @param decision  decision of the log policy. If it's {@link LogDecision#NONE}, only the path is written
+     *                  with DEBUG level.
+     * @param throwable handled exception
+     * @param path      path of the request. If it's null, the record about the path isn't written.
+     *
+     * @return true if the record is enqueued, false if it's dropped
+     */
+    public boolean submit(Logger logger, LogDecision decision, Throwable throwable, String path) {
+        if (this.closed) {
+            this.dropped.increment();
+            return false;
+        }
+        if (this.overflowPolicy == OverflowPolicy.SAMPLE
+            && this.tail.get() - this.head > (this.capacity >> 1)
+            && this.sampleCounter.incrementAndGet() % this.sampleRate != 0) {
+            this.dropped.increment();
+            return false;
+        }
+        while (!this.tryPublish(logger, decision, throwable, path)) {
+            if (this.overflowPolicy != OverflowPolicy.BLOCK || this.closed) {
+                this.dropped.increment();
+                return false;
+            }
+            LockSupport.unpark(this.consumer);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        if (this.consumerParked) {
+            LockSupport.unpark(this.consumer);
+        }
+        return true;
+    }
+
+    /**
+     * Get the count of dropped records since the sink was created.
+     *
+     * @return the count of dropped records
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Get the approximate count of records waiting in the buffer.
+     *
+     * @return the count of records
+     */
+    public int size() {
+        return (int) Math.max(0, this.tail.get() - this.head);
+    }
+
+    /**
+     * Write the remaining records and stop the background thread. Records submitted after closing are dropped.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.consumer);
+        try {
+            this.consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean tryPublish(Logger logger, LogDecision decision, Throwable throwable, String path) {
+        long position = this.tail.get();
+        while (true) {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    Entry entry = this.entries[index];
+                    entry.logger = logger;
+                    entry.decision = decision;
+                    entry.throwable = throwable;
+                    entry.path = path;
+                    entry.mdc = this.copyMdc ? MDC.getCopyOfContextMap() : null;
+                    this.sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    private boolean poll() {
+        long position = this.head;
+        int index = (int) (position & this.mask);
+        if (this.sequences.get(index) != position + 1) {
+            return false;
+        }
+        Entry entry = this.entries[index];
+        write(entry);
+        entry.clear();
+        this.sequences.lazySet(index, position + this.capacity);
+        this.head = position + 1;
+        return true;
+    }
+
+    private void consume() {
+        while (true) {
+            boolean polled = false;
+            while (this.poll()) {
+                polled = true;
+            }
+            this.reportDropped();
+            if (this.closed && this.tail.get() == this.head) {
+                return;
+            }
+            if (!polled) {
+                this.consumerParked = true;
+                if (this.tail.get() == this.head && !this.closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                this.consumerParked = false;
+            }
+        }
+    }
+
+    private void reportDropped() {
+        long total = this.dropped.sum();
+        if (total > this.reportedDropped) {
+            log.warn("d.Dropped {} exception log records, the log sink is saturated", total - this.reportedDropped);
+            this.reportedDropped = total;
+        }
+    }
+
+    private static void write(Entry entry) {
+        if (entry.mdc != null) {
+            MDC.setContextMap(entry.mdc);
+        }
+        try {
+            if (entry.path != null) {
+                entry.logger.debug("d.Unexpected exception processing request: {}", entry.path);
+            }
+            entry.decision.log(entry.logger, entry.throwable);
+        } catch (RuntimeException e) {
+            log.error("d.Failed to write an exception log record", e);
+        } finally {
+            if (entry.mdc != null) {
+                MDC.clear();
+            }
+        }
+    }
+
+    /**
+     * Policy which is applied when the buffer is saturated.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * A record is dropped if the buffer is full.
+         */
+        DROP,
+
+        /**
+         * When the buffer is more than half full, only every N-th record is accepted
+         * (see {@link #sampleRate}), the others are dropped. So the buffer keeps room
+         * for a representative sample of an error storm.
+         */
+        SAMPLE,
+
+        /**
+         * The calling thread waits until the buffer has room. Records aren't lost,
+         * but responses are delayed while the buffer is full.
+         */
+        BLOCK
+    }
+
+    private static final class Entry {
+
+        private Logger logger;
+        private LogDecision decision;
+        private Throwable throwable;
+        private String path;
+        private Map<String, String> mdc;
+
+        private void clear() {
+            this.logger = null;
+            this.decision = null;
+            this.throwable = null;
+            this.path = null;
+            this.mdc = null;
+        }
+    }
+}
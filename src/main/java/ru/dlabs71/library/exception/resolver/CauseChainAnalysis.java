@@ -0,0 +1,65 @@
+package ru.dlabs71.library.exception.resolver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Result of {@link CauseChainAnalyzer#analyze(Throwable)}.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@AllArgsConstructor
+public final class CauseChainAnalysis {
+
+    /**
+     * The exception of the chain which defines the error code or null if no exception of the chain
+     * is mapped. It's a {@link ru.dlabs71.library.exception.exception.DException} or an exception
+     * with a mapping.
+     */
+    private final Throwable cause;
+
+    /**
+     * Error code of the {@link #cause} or null.
+     */
+    private final ErrorCode errorCode;
+
+    /**
+     * Mapping of the {@link #cause} or null if the cause is a
+     * {@link ru.dlabs71.library.exception.exception.DException} or isn't found.
+     */
+    private final ExceptionMapping mapping;
+
+    /**
+     * Depth of the {@link #cause} in the chain: 0 is the analyzed exception itself.
+     */
+    private final int depth;
+
+    /**
+     * The last exception of the chain of {@link Throwable#getCause()} within the depth bound.
+     */
+    private final Throwable rootCause;
+
+    /**
+     * Check whether an exception of the chain defines the error code.
+     *
+     * @return true if the {@link #cause} is found
+     */
+    public boolean isFound() {
+        return this.cause != null;
+    }
+
+    /**
+     * Get the message of the {@link #rootCause}.
+     *
+     * @return the message or null
+     */
+    public String getRootCauseMessage() {
+        return this.rootCause.getMessage();
+    }
+}
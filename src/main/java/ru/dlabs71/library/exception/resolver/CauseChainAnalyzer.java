@@ -0,0 +1,287 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.Builder;
+import lombok.Getter;
+import ru.dlabs71.library.exception.exception.DException;
+
+/**
+ * Analyzer of chains of causes. Wrappers of frameworks (Spring, Hibernate, reflection, async executors)
+ * hide the meaningful exception deep in the chain, for example a <code>ConstraintViolationException</code>
+ * under several layers of <code>JpaSystemException</code> and <code>UndeclaredThrowableException</code>.
+ * The analyzer walks {@link Throwable#getCause()} and suppressed exceptions and chooses the exception
+ * which defines the error code:
+ * <ul>
+ *     <li>an exception is a candidate if it's a {@link DException} or it has a mapping
+ *     in the {@link ExceptionMappingRegistry};</li>
+ *     <li>a {@link DException} defines its error code explicitly, so its own causes aren't considered;</li>
+ *     <li>the deepest candidate is the most specific one, of candidates with the same depth the first one
+ *     wins. Causes are walked before suppressed exceptions.</li>
+ * </ul>
+ *
+ * <p>The walk is bounded by {@link #maxDepth} and {@link #maxNodes} and is safe for cyclic chains:
+ * every exception is visited only once.
+ *
+ * <p>The decision depends only on the classes of the chain, so it's cached by the class signature
+ * of the chain. For a repeated chain only the classes are collected, mappings aren't looked up.
+ * The cache is bounded by {@link #maxCacheSize}: when it's full, new signatures aren't cached.
+ *
+ * <p>Use the same {@link ExceptionMappingRegistry} as the resolver. The analyzer is thread-safe.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class CauseChainAnalyzer {
+
+    private static final int NOT_FOUND = -1;
+
+    @Getter
+    private final ExceptionMappingRegistry mappings;
+
+    /**
+     * Maximum depth of the walk. The analyzed exception has the depth 0.
+     */
+    @Getter
+    private final int maxDepth;
+
+    /**
+     * Maximum count of visited exceptions.
+     */
+    @Getter
+    private final int maxNodes;
+
+    /**
+     * Whether suppressed exceptions are walked.
+     */
+    @Getter
+    private final boolean suppressed;
+
+    /**
+     * Maximum count of cached decisions.
+     */
+    @Getter
+    private final int maxCacheSize;
+
+    private final ConcurrentMap<Signature, Decision> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor of the class.
+     *
+     * @param mappings     mappings of exception types. By default, {@link ExceptionMappingRegistry#DEFAULT}.
+     * @param maxDepth     maximum depth of the walk. By default, 16.
+     * @param maxNodes     maximum count of visited exceptions. By default, 64.
+     * @param suppressed   whether suppressed exceptions are walked. By default, true.
+     * @param maxCacheSize maximum count of cached decisions. By default, 1024.
+     */
+    @Builder
+    private CauseChainAnalyzer(
+        ExceptionMappingRegistry mappings,
+        Integer maxDepth,
+        Integer maxNodes,
+        Boolean suppressed,
+        Integer maxCacheSize
+    ) {
+        this.mappings = mappings != null ? mappings : ExceptionMappingRegistry.DEFAULT;
+        this.maxDepth = maxDepth != null ? maxDepth : 16;
+        this.maxNodes = maxNodes != null ? maxNodes : 64;
+        this.suppressed = suppressed == null || suppressed;
+        this.maxCacheSize = maxCacheSize != null ? maxCacheSize : 1024;
+        if (this.maxDepth < 0 || this.maxNodes <= 0 || this.maxCacheSize < 0) {
+            throw new IllegalArgumentException("d.Invalid settings of the cause chain analyzer");
+        }
+    }
+
+    /**
+     * Analyze the chain of causes of the exception.
+     *
+     * @param throwable the exception
+     *
+     * @return the result of the analysis
+     */
+    public CauseChainAnalysis analyze(Throwable throwable) {
+        Chain chain = new Chain(this.maxNodes);
+        chain.walk(throwable, NOT_FOUND, 0, true, this.maxDepth, this.suppressed);
+        Signature signature = chain.signature();
+        Decision decision = this.decisions.get(signature);
+        if (decision == null) {
+            decision = this.decide(chain);
+            if (this.decisions.size() < this.maxCacheSize) {
+                this.decisions.putIfAbsent(signature, decision);
+            }
+        }
+        if (decision.index == NOT_FOUND) {
+            return new CauseChainAnalysis(null, null, null, 0, chain.rootCause);
+        }
+        Throwable cause = chain.nodes[decision.index];
+        return new CauseChainAnalysis(
+            cause,
+            decision.mapping != null ? decision.mapping.getErrorCode() : ((DException) cause).getErrorCode(),
+            decision.mapping,
+            chain.depths[decision.index],
+            chain.rootCause
+        );
+    }
+
+    /**
+     * Remove all cached decisions.
+     */
+    public void clearCache() {
+        this.decisions.clear();
+    }
+
+    private Decision decide(Chain chain) {
+        boolean[] blocked = new boolean[chain.size];
+        int chosen = NOT_FOUND;
+        ExceptionMapping chosenMapping = null;
+        for (int i = 0; i < chain.size; i++) {
+            int parent = chain.parents[i];
+            blocked[i] = parent != NOT_FOUND && (blocked[parent] || chain.nodes[parent] instanceof DException);
+            if (blocked[i] || chosen != NOT_FOUND && chain.depths[i] <= chain.depths[chosen]) {
+                continue;
+            }
+            Throwable node = chain.nodes[i];
+            if (node instanceof DException) {
+                chosen = i;
+                chosenMapping = null;
+                continue;
+            }
+            ExceptionMapping mapping = this.mappings.resolve(node);
+            if (mapping != null) {
+                chosen = i;
+                chosenMapping = mapping;
+            }
+        }
+        return new Decision(chosen, chosenMapping);
+    }
+
+    /**
+     * Exceptions of a chain in the order of the walk.
+     */
+    private static final class Chain {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private final int maxNodes;
+        private Throwable[] nodes;
+        private int[] parents;
+        private int[] depths;
+        private int size;
+        private Throwable rootCause;
+
+        private Chain(int maxNodes) {
+            int capacity = Math.min(maxNodes, INITIAL_CAPACITY);
+            this.maxNodes = maxNodes;
+            this.nodes = new Throwable[capacity];
+            this.parents = new int[capacity];
+            this.depths = new int[capacity];
+        }
+
+        private void walk(
+            Throwable throwable,
+            int parent,
+            int depth,
+            boolean causeChain,
+            int maxDepth,
+            boolean suppressed
+        ) {
+            if (this.size >= this.maxNodes || this.contains(throwable)) {
+                return;
+            }
+            int index = this.add(throwable, parent, depth);
+            if (causeChain) {
+                this.rootCause = throwable;
+            }
+            if (depth >= maxDepth) {
+                return;
+            }
+            Throwable cause = throwable.getCause();
+            if (cause != null) {
+                this.walk(cause, index, depth + 1, causeChain, maxDepth, suppressed);
+            }
+            if (suppressed) {
+                for (Throwable suppressedException : throwable.getSuppressed()) {
+                    this.walk(suppressedException, index, depth + 1, false, maxDepth, true);
+                }
+            }
+        }
+
+        private int add(Throwable throwable, int parent, int depth) {
+            if (this.size == this.nodes.length) {
+                int capacity = Math.min(this.size * 2, this.maxNodes);
+                this.nodes = Arrays.copyOf(this.nodes, capacity);
+                this.parents = Arrays.copyOf(this.parents, capacity);
+                this.depths = Arrays.copyOf(this.depths, capacity);
+            }
+            this.nodes[this.size] = throwable;
+            this.parents[this.size] = parent;
+            this.depths[this.size] = depth;
+            return this.size++;
+        }
+
+        private boolean contains(Throwable throwable) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.nodes[i] == throwable) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Signature signature() {
+            Class<?>[] classes = new Class<?>[this.size];
+            for (int i = 0; i < this.size; i++) {
+                classes[i] = this.nodes[i].getClass();
+            }
+            return new Signature(classes, Arrays.copyOf(this.parents, this.size));
+        }
+    }
+
+    /**
+     * Classes of a chain and its structure: index of the parent of every exception.
+     */
+    private static final class Signature {
+
+        private final Class<?>[] classes;
+        private final int[] parents;
+        private final int hash;
+
+        private Signature(Class<?>[] classes, int[] parents) {
+            this.classes = classes;
+            this.parents = parents;
+            this.hash = 31 * Arrays.hashCode(classes) + Arrays.hashCode(parents);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Signature)) {
+                return false;
+            }
+            Signature signature = (Signature) other;
+            return Arrays.equals(this.classes, signature.classes) && Arrays.equals(this.parents, signature.parents);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Cached decision: index of the chosen exception in the order of the walk and its mapping.
+     */
+    private static final class Decision {
+
+        private final int index;
+        private final ExceptionMapping mapping;
+
+        private Decision(int index, ExceptionMapping mapping) {
+            this.index = index;
+            this.mapping = mapping;
+        }
+    }
+}
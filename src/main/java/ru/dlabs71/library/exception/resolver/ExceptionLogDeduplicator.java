@@ -0,0 +1,258 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Log stage which suppresses identical exceptions during error storms. Exceptions are identical if they have
+ * the same class and the same error code (for {@link DException}). Other exceptions and exceptions without
+ * an error code are identical if they have the same class and were thrown at the same place: the first frame
+ * of the stacktrace which isn't a frame of the JDK, Spring, Apache libraries or exception factories
+ * of the library (see {@link #FRAMEWORK_PACKAGES}). Messages aren't a part of the key, because during a storm
+ * of downstream failures they usually contain ids, hosts or ports, and every exception would be unique.
+ *
+ * <p>Within a time window only the first {@link #maxPerWindow} identical exceptions are allowed to be logged.
+ * The others are counted, and when the window is over, one summary record is written: "Suppressed N identical
+ * errors". The summary is written by the first exception of the next window, by the periodic sweep or
+ * by {@link #flush()}.
+ *
+ * <p>At most {@link #maxKeys} kinds of exceptions are tracked. When the limit is reached, exceptions of new kinds
+ * share one overflow window, so a storm of unique exceptions is still limited. Kinds which don't occur during
+ * a whole window are forgotten: once per window the first caller of {@link #tryAcquire(Throwable)} sweeps
+ * the tracked kinds, so the deduplicator doesn't need a scheduler.
+ *
+ * <p>Checking doesn't take locks: the first exceptions of the window take permits from an atomic counter,
+ * the suppressed ones are counted by a {@link LongAdder}.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Slf4j
+public final class ExceptionLogDeduplicator {
+
+    /**
+     * Prefixes of classes whose frames are skipped when the place of throwing is determined.
+     */
+    public static final List<String> FRAMEWORK_PACKAGES = Collections.unmodifiableList(Arrays.asList(
+        "java.",
+        "javax.",
+        "jakarta.",
+        "sun.",
+        "jdk.",
+        "org.springframework.",
+        "org.apache.",
+        "ru.dlabs71.library.exception.exception."
+    ));
+
+    /**
+     * Count of identical exceptions which are logged within a window.
+     */
+    @Getter
+    private final int maxPerWindow;
+
+    /**
+     * Duration of a window.
+     */
+    @Getter
+    private final Duration window;
+
+    /**
+     * Maximum count of tracked kinds of exceptions. When it's reached, exceptions of new kinds
+     * share one overflow window.
+     */
+    @Getter
+    private final int maxKeys;
+
+    private final long windowNanos;
+    private final ConcurrentMap<Key, Window> windows = new ConcurrentHashMap<>();
+    private final Window overflow;
+    private final AtomicLong lastSweep;
+
+    @Builder
+    private ExceptionLogDeduplicator(Integer maxPerWindow, Duration window, Integer maxKeys) {
+        this.maxPerWindow = maxPerWindow != null ? maxPerWindow : 10;
+        this.window = window != null ? window : Duration.ofMinutes(1);
+        this.maxKeys = maxKeys != null ? maxKeys : 1024;
+        this.windowNanos = this.window.toNanos();
+        if (this.maxPerWindow < 0 || this.windowNanos <= 0 || this.maxKeys <= 0) {
+            throw new IllegalArgumentException("d.Invalid settings of the log deduplicator");
+        }
+        long now = System.nanoTime();
+        this.overflow = new Window(now, this.maxPerWindow);
+        this.lastSweep = new AtomicLong(now);
+    }
+
+    /**
+     * Register an occurrence of the exception and check whether it may be logged.
+     *
+     * @param throwable an exception which is going to be logged
+     *
+     * @return true if the exception may be logged, false if it's suppressed
+     */
+    public boolean tryAcquire(Throwable throwable) {
+        long now = System.nanoTime();
+        long last = this.lastSweep.get();
+        if (now - last >= this.windowNanos && this.lastSweep.compareAndSet(last, now)) {
+            this.sweep(now);
+        }
+
+        Key key = Key.of(throwable);
+        Window current = this.windows.get(key);
+        if (current == null) {
+            if (this.windows.size() >= this.maxKeys) {
+                key = Key.OVERFLOW;
+                current = this.overflow;
+            } else {
+                current = this.windows.computeIfAbsent(key, k -> new Window(now, this.maxPerWindow));
+            }
+        }
+
+        long start = current.start.get();
+        if (now - start >= this.windowNanos && current.start.compareAndSet(start, now)) {
+            this.closeWindow(key, current);
+        }
+        if (current.permits.get() > 0 && current.permits.decrementAndGet() >= 0) {
+            return true;
+        }
+        current.suppressed.increment();
+        return false;
+    }
+
+    /**
+     * Write summaries of finished windows and forget kinds of exceptions which didn't occur
+     * during the last window. It's called by {@link #tryAcquire(Throwable)} once per window,
+     * a scheduler can call it to report windows without new exceptions.
+     */
+    public void flush() {
+        long now = System.nanoTime();
+        this.lastSweep.set(now);
+        this.sweep(now);
+    }
+
+    private void sweep(long now) {
+        for (Map.Entry<Key, Window> entry : this.windows.entrySet()) {
+            Window current = entry.getValue();
+            long start = current.start.get();
+            if (now - start >= this.windowNanos && current.start.compareAndSet(start, now)) {
+                boolean idle = current.permits.get() == this.maxPerWindow && current.suppressed.sum() == 0;
+                this.closeWindow(entry.getKey(), current);
+                if (idle) {
+                    this.windows.remove(entry.getKey(), current);
+                }
+            }
+        }
+        long start = this.overflow.start.get();
+        if (now - start >= this.windowNanos && this.overflow.start.compareAndSet(start, now)) {
+            this.closeWindow(Key.OVERFLOW, this.overflow);
+        }
+    }
+
+    private void closeWindow(Key key, Window current) {
+        long suppressed = current.suppressed.sumThenReset();
+        current.permits.set(this.maxPerWindow);
+        if (suppressed > 0) {
+            log.warn("d.Suppressed {} identical errors: {}", suppressed, key);
+        }
+    }
+
+    private static final class Window {
+
+        private final AtomicLong start;
+        private final AtomicLong permits;
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long start, int permits) {
+            this.start = new AtomicLong(start);
+            this.permits = new AtomicLong(permits);
+        }
+    }
+
+    private static final class Key {
+
+        private static final Key OVERFLOW = new Key(Throwable.class, null, null);
+
+        private final Class<?> type;
+        private final ErrorCode errorCode;
+        private final StackTraceElement frame;
+        private final int hash;
+
+        private Key(Class<?> type, ErrorCode errorCode, StackTraceElement frame) {
+            this.type = type;
+            this.errorCode = errorCode;
+            this.frame = frame;
+            int result = 31 * type.hashCode() + (errorCode != null ? errorCode.hashCode() : 0);
+            this.hash = 31 * result + (frame != null ? frame.hashCode() : 0);
+        }
+
+        private static Key of(Throwable throwable) {
+            ErrorCode errorCode = throwable instanceof DException ? ((DException) throwable).getErrorCode() : null;
+            if (errorCode != null) {
+                return new Key(throwable.getClass(), errorCode, null);
+            }
+            return new Key(throwable.getClass(), null, throwSite(throwable.getStackTrace()));
+        }
+
+        private static StackTraceElement throwSite(StackTraceElement[] frames) {
+            for (StackTraceElement frame : frames) {
+                if (!isFramework(frame.getClassName())) {
+                    return frame;
+                }
+            }
+            return frames.length > 0 ? frames[0] : null;
+        }
+
+        private static boolean isFramework(String className) {
+            for (int i = 0; i < FRAMEWORK_PACKAGES.size(); i++) {
+                if (className.startsWith(FRAMEWORK_PACKAGES.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return this.type == key.type
+                && Objects.equals(this.errorCode, key.errorCode)
+                && Objects.equals(this.frame, key.frame);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public String toString() {
+            if (this == OVERFLOW) {
+                return "exceptions of untracked kinds";
+            }
+            return this.type.getName()
+                + (this.errorCode != null ? " [" + this.errorCode.name() + "]" : "")
+                + (this.frame != null ? " at " + this.frame : "");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.dlabs71.library.exception.resolver;
+
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Policy which decides how an exception handled by {@link ExceptionResolverCore} must be logged:
+ * with a stacktrace, without it, or not at all. See {@link MappedExceptionLogPolicy} for choosing
+ * the decision by an exception type or an error code.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public interface ExceptionLogPolicy {
+
+    /**
+     * Default policy. {@link BusinessLogicServiceException} with {@link CommonErrorLevel#INFO} level is logged
+     * with INFO level, with {@link CommonErrorLevel#WARNING} level is logged with WARN level. Both are logged
+     * without a stacktrace. All other exceptions are logged with ERROR level and a stacktrace.
+     */
+    ExceptionLogPolicy DEFAULT = throwable -> {
+        if (throwable instanceof BusinessLogicServiceException) {
+            ErrorLevel level = ((BusinessLogicServiceException) throwable).getLevel();
+            if (level == CommonErrorLevel.INFO) {
+                return LogDecision.INFO_WITHOUT_STACKTRACE;
+            }
+            if (level == CommonErrorLevel.WARNING) {
+                return LogDecision.WARN_WITHOUT_STACKTRACE;
+            }
+        }
+        return LogDecision.ERROR;
+    };
+
+    /**
+     * Decide how the exception must be logged.
+     *
+     * @param throwable handled exception
+     *
+     * @return the decision. It must not be null.
+     */
+    LogDecision decide(Throwable throwable);
+}
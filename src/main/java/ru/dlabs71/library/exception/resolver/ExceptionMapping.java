@@ -0,0 +1,56 @@
+package ru.dlabs71.library.exception.resolver;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Mapping of an exception type to a response: an error code, an HTTP status and a log decision.
+ * It's used by {@link ExceptionMappingRegistry}.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@Builder
+public final class ExceptionMapping {
+
+    /**
+     * Error code of the response. Its message is used as a message of the response.
+     */
+    private final ErrorCode errorCode;
+
+    /**
+     * HTTP status of the response.
+     */
+    @Builder.Default
+    private final HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+
+    /**
+     * How the exception must be logged. If it's null, the log policy of the resolver decides.
+     */
+    private final LogDecision logDecision;
+
+    /**
+     * Whether the stacktrace may be put into the response. It's put only if the resolver
+     * has the stacktrace enabled.
+     */
+    @Builder.Default
+    private final boolean stacktrace = true;
+
+    /**
+     * Create a mapping with the default log decision and a stacktrace.
+     *
+     * @param errorCode error code of the response
+     * @param status    HTTP status of the response
+     *
+     * @return the mapping
+     */
+    public static ExceptionMapping of(ErrorCode errorCode, HttpStatus status) {
+        return ExceptionMapping.builder().errorCode(errorCode).status(status).build();
+    }
+}
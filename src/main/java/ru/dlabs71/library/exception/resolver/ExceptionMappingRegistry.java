@@ -0,0 +1,175 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Builder;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Declarative registry of {@link ExceptionMapping}s by exception types. It replaces hand-written handler
+ * methods for third-party exceptions: {@link ExceptionResolverCore#resolve(Object, Throwable)} looks up
+ * the mapping of an exception and creates the response by it.
+ *
+ * <p>Types can be registered by classes or by names. Names allow mapping exceptions of optional libraries
+ * (JPA, Hibernate, Spring Security) without a compile-time dependency on them.
+ *
+ * <p>The mapping of the nearest type is used: the class itself, then its superclasses, and for every
+ * class its interfaces with their superinterfaces. Interfaces can be registered by names. The result
+ * of the search is cached per exception class by a {@link ClassValue}, so every class is resolved only once.
+ * The registry is immutable, so lookups don't take locks.
+ *
+ * <pre>{@code
+ * ExceptionMappingRegistry registry = ExceptionMappingRegistry.DEFAULT.toBuilder()
+ *     .type(PaymentDeclinedException.class, ExceptionMapping.of(MyErrorCode.PAYMENT_DECLINED, HttpStatus.CONFLICT))
+ *     .typeName("org.apache.catalina.connector.ClientAbortException", ExceptionMapping.builder()
+ *         .errorCode(CommonErrorCode.IO_EXCEPTION)
+ *         .logDecision(LogDecision.NONE)
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ExceptionMappingRegistry {
+
+    /**
+     * Registry without mappings.
+     */
+    public static final ExceptionMappingRegistry EMPTY = ExceptionMappingRegistry.builder().build();
+
+    /**
+     * Registry with mappings of common exceptions. They are the same as ones of the resolve methods
+     * of {@link ExceptionResolverCore}:
+     * <ul>
+     *     <li>JPA <code>EntityNotFoundException</code> - {@link CommonErrorCode#ENTITY_NOT_FOUND}, 500;</li>
+     *     <li>JPA <code>OptimisticLockException</code>, Spring <code>OptimisticLockingFailureException</code>,
+     *     Hibernate <code>StaleStateException</code> - {@link CommonErrorCode#STALE_OBJECT}, 500;</li>
+     *     <li>JPA <code>PessimisticLockException</code> and <code>LockTimeoutException</code>,
+     *     Spring <code>PessimisticLockingFailureException</code> - {@link CommonErrorCode#LOCK_OBJECT}, 500;</li>
+     *     <li>Spring Security <code>AccessDeniedException</code> - {@link CommonErrorCode#ACCESS_DENIED}, 403,
+     *     without a stacktrace;</li>
+     *     <li>{@link FileNotFoundException} - {@link CommonErrorCode#FILE_NOT_FOUND}, 404, without a stacktrace;</li>
+     *     <li>{@link IOException} - {@link CommonErrorCode#IO_EXCEPTION}, 500;</li>
+     *     <li>{@link AssertionError} - {@link CommonErrorCode#VALIDATION_EXCEPTION}, 500.</li>
+     * </ul>
+     * JPA exceptions are registered for both <code>jakarta.persistence</code> and <code>javax.persistence</code>.
+     */
+    public static final ExceptionMappingRegistry DEFAULT = createDefault();
+
+    private final Map<Class<? extends Throwable>, ExceptionMapping> types;
+    private final Map<String, ExceptionMapping> typeNames;
+    private final ClassValue<ExceptionMapping> resolvedTypes = new ClassValue<ExceptionMapping>() {
+        @Override
+        protected ExceptionMapping computeValue(Class<?> type) {
+            return TypeHierarchy.find(type, ExceptionMappingRegistry.this::find);
+        }
+    };
+
+    @Builder(toBuilder = true)
+    private ExceptionMappingRegistry(
+        Map<Class<? extends Throwable>, ExceptionMapping> types,
+        Map<String, ExceptionMapping> typeNames
+    ) {
+        this.types = new HashMap<>(types);
+        this.typeNames = new HashMap<>(typeNames);
+    }
+
+    /**
+     * Find the mapping of the exception.
+     *
+     * @param throwable the exception
+     *
+     * @return the mapping of the nearest registered type or null if there isn't one
+     */
+    public ExceptionMapping resolve(Throwable throwable) {
+        return this.resolvedTypes.get(throwable.getClass());
+    }
+
+    public boolean isEmpty() {
+        return this.types.isEmpty() && this.typeNames.isEmpty();
+    }
+
+    private ExceptionMapping find(Class<?> type) {
+        ExceptionMapping mapping = this.types.get(type);
+        if (mapping == null && !this.typeNames.isEmpty()) {
+            mapping = this.typeNames.get(type.getName());
+        }
+        return mapping;
+    }
+
+    private static ExceptionMappingRegistry createDefault() {
+        ExceptionMapping entityNotFound = serverError(CommonErrorCode.ENTITY_NOT_FOUND);
+        ExceptionMapping staleObject = serverError(CommonErrorCode.STALE_OBJECT);
+        ExceptionMapping lockObject = serverError(CommonErrorCode.LOCK_OBJECT);
+        ExceptionMapping accessDenied = ExceptionMapping.builder()
+            .errorCode(CommonErrorCode.ACCESS_DENIED)
+            .status(HttpStatus.FORBIDDEN)
+            .stacktrace(false)
+            .build();
+
+        ExceptionMappingRegistryBuilder builder = ExceptionMappingRegistry.builder();
+        for (String persistence : new String[] { "jakarta.persistence.", "javax.persistence." }) {
+            builder.typeName(persistence + "EntityNotFoundException", entityNotFound)
+                .typeName(persistence + "OptimisticLockException", staleObject)
+                .typeName(persistence + "PessimisticLockException", lockObject)
+                .typeName(persistence + "LockTimeoutException", lockObject);
+        }
+        return builder
+            .typeName("org.springframework.dao.OptimisticLockingFailureException", staleObject)
+            .typeName("org.hibernate.StaleStateException", staleObject)
+            .typeName("org.springframework.dao.PessimisticLockingFailureException", lockObject)
+            .typeName("org.springframework.security.access.AccessDeniedException", accessDenied)
+            .type(FileNotFoundException.class, ExceptionMapping.builder()
+                .errorCode(CommonErrorCode.FILE_NOT_FOUND)
+                .status(HttpStatus.NOT_FOUND)
+                .stacktrace(false)
+                .build())
+            .type(IOException.class, serverError(CommonErrorCode.IO_EXCEPTION))
+            .type(AssertionError.class, serverError(CommonErrorCode.VALIDATION_EXCEPTION))
+            .build();
+    }
+
+    private static ExceptionMapping serverError(ErrorCode errorCode) {
+        return ExceptionMapping.of(errorCode, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * Builder of the registry. Mappings are put into maps directly instead of the key and value lists
+     * of generated singular methods, which are copied into a map with redundant casts.
+     */
+    public static final class ExceptionMappingRegistryBuilder {
+
+        private final Map<Class<? extends Throwable>, ExceptionMapping> types = new HashMap<>();
+        private final Map<String, ExceptionMapping> typeNames = new HashMap<>();
+
+        public ExceptionMappingRegistryBuilder type(Class<? extends Throwable> type, ExceptionMapping mapping) {
+            this.types.put(type, mapping);
+            return this;
+        }
+
+        public ExceptionMappingRegistryBuilder types(
+            Map<? extends Class<? extends Throwable>, ? extends ExceptionMapping> types
+        ) {
+            this.types.putAll(types);
+            return this;
+        }
+
+        public ExceptionMappingRegistryBuilder typeName(String typeName, ExceptionMapping mapping) {
+            this.typeNames.put(typeName, mapping);
+            return this;
+        }
+
+        public ExceptionMappingRegistryBuilder typeNames(Map<String, ? extends ExceptionMapping> typeNames) {
+            this.typeNames.putAll(typeNames);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import ru.dlabs71.library.exception.metrics.ErrorMetrics;
+import ru.dlabs71.library.exception.metrics.ResolverInstrumentation;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.utils.ResponseTemplateCache;
+import ru.dlabs71.library.exception.utils.StacktracePolicy;
+
+/**
+ * Settings of {@link AbstractHttpExceptionResolver} and other implementations of {@link ExceptionResolverCore}.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@Builder(toBuilder = true)
+public final class ExceptionResolverConfig {
+
+    /**
+     * Indicates whether stack traces should be included in the HTTP response body.
+     */
+    private final boolean enableStacktrace;
+
+    /**
+     * Policy of putting a stacktrace into the HTTP response body. It's used only if
+     * the {@link #enableStacktrace} is true.
+     */
+    @Builder.Default
+    private final StacktracePolicy stacktracePolicy = StacktracePolicy.FULL;
+
+    /**
+     * Policy which decides how a handled exception must be logged.
+     */
+    @Builder.Default
+    private final ExceptionLogPolicy logPolicy = ExceptionLogPolicy.DEFAULT;
+
+    /**
+     * Log stage which suppresses identical exceptions during error storms. If it's null,
+     * all exceptions are logged.
+     */
+    private final ExceptionLogDeduplicator logDeduplicator;
+
+    /**
+     * Sink which writes log records on a background thread, so rendering of stacktraces doesn't delay
+     * responses. If it's null, records are written on the calling thread.
+     */
+    private final AsyncExceptionLogSink logSink;
+
+    /**
+     * Instrumentation which is called for every response produced by the resolver.
+     * For example, {@link ErrorMetrics}.
+     */
+    @Builder.Default
+    private final ResolverInstrumentation instrumentation = ResolverInstrumentation.NOOP;
+
+    /**
+     * Mappings of exception types to responses. They are used by
+     * {@link ExceptionResolverCore#resolve(Object, Throwable)} for exceptions which don't implement
+     * {@link ru.dlabs71.library.exception.exception.DException}.
+     */
+    @Builder.Default
+    private final ExceptionMappingRegistry exceptionMappings = ExceptionMappingRegistry.DEFAULT;
+
+    /**
+     * Analyzer of chains of causes. If it's specified, {@link ExceptionResolverCore#resolve(Object, Throwable)}
+     * chooses the response of an exception which isn't a {@link ru.dlabs71.library.exception.exception.DException}
+     * by the most specific exception of its chain of causes, and the message of a service exception with a cause
+     * gets the message of the most specific or the root cause. It should be created with the same
+     * {@link #exceptionMappings}. If it's null, only the exception itself is mapped.
+     */
+    private final CauseChainAnalyzer causeChainAnalyzer;
+
+    /**
+     * Cache of prepared responses which don't depend on an exception: without a stacktrace and with
+     * a message which doesn't have arguments. Bodies of the cached responses are immutable.
+     * If it's null, a response is created for every exception.
+     */
+    private final ResponseTemplateCache responseTemplateCache;
+
+    /**
+     * Enums of error codes whose responses are prepared when the resolver is created.
+     * Constants of {@link CommonErrorCode} are always prepared. It's used only if
+     * the {@link #responseTemplateCache} is specified.
+     */
+    @Singular
+    private final List<Class<? extends ErrorCode>> errorCodeTypes;
+}
@@ -0,0 +1,827 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.AccumulatedErrorsServiceException;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.message.MessageTemplateCache;
+import ru.dlabs71.library.exception.metrics.ResolverInstrumentation;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.utils.ResponseEntityHelper;
+import ru.dlabs71.library.exception.utils.StacktracePolicy;
+
+/**
+ * Transport-neutral core of an exception resolver. It contains the whole logic of resolving an exception
+ * into a response: choosing a message, an error code and an HTTP status, putting a stacktrace, logging
+ * and instrumentation. Transports provide only the type of a request and the way to get a request path
+ * for logging.
+ *
+ * <p>The core doesn't block: messages are taken from the message service (and cached as compiled templates),
+ * logging goes through SLF4J. So it can be used on an event loop if the message service keeps messages
+ * in memory and the logging backend is asynchronous.
+ *
+ * <p>Implementations: {@link AbstractHttpExceptionResolver} for servlet applications and
+ * {@link ru.dlabs71.library.exception.resolver.reactive.ReactiveExceptionHandler} for Spring WebFlux.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @param <R> type of a request
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public abstract class ExceptionResolverCore<R> {
+
+    /**
+     * Logger of handled exceptions.
+     */
+    protected final Logger log;
+
+    /**
+     * Indicates whether stack traces should be included in the HTTP response body.
+     */
+    @Getter
+    protected final boolean enableStacktrace;
+
+    /**
+     * Policy of putting a stacktrace into the HTTP response body.
+     */
+    @Getter
+    protected final StacktracePolicy stacktracePolicy;
+
+    /**
+     * Policy which decides how a handled exception must be logged.
+     */
+    @Getter
+    protected final ExceptionLogPolicy logPolicy;
+
+    /**
+     * Log stage which suppresses identical exceptions. It can be null.
+     */
+    @Getter
+    protected final ExceptionLogDeduplicator logDeduplicator;
+
+    /**
+     * Sink which writes records on a background thread. If it's null, records are written on the calling thread.
+     */
+    @Getter
+    protected final AsyncExceptionLogSink logSink;
+
+    /**
+     * Mappings of exception types to responses.
+     */
+    @Getter
+    protected final ExceptionMappingRegistry exceptionMappings;
+
+    /**
+     * Analyzer of chains of causes. It can be null.
+     */
+    @Getter
+    protected final CauseChainAnalyzer causeChainAnalyzer;
+
+    /**
+     * Instrumentation which is called for every produced response.
+     */
+    @Getter
+    protected final ResolverInstrumentation instrumentation;
+
+    /**
+     * Service for converting error codes into human-readable messages.
+     */
+    protected final DExceptionMessageService messageService;
+
+    /**
+     * Helper class for creating {@link ResponseEntity} objects.
+     */
+    @Getter
+    private final ResponseEntityHelper responseEntityHelper;
+
+    /**
+     * Constructs a new instance of the exception resolver.
+     *
+     * @param messageService The service used to convert error codes into human-readable messages.
+     * @param config         Settings of the resolver.
+     * @param log            Logger of handled exceptions.
+     */
+    protected ExceptionResolverCore(
+        DExceptionMessageService messageService,
+        ExceptionResolverConfig config,
+        Logger log
+    ) {
+        this.log = log != null ? log : LoggerFactory.getLogger(ExceptionResolverCore.class);
+        this.enableStacktrace = config.isEnableStacktrace();
+        this.stacktracePolicy = config.getStacktracePolicy();
+        this.logPolicy = config.getLogPolicy();
+        this.logDeduplicator = config.getLogDeduplicator();
+        this.logSink = config.getLogSink();
+        this.exceptionMappings = config.getExceptionMappings();
+        this.causeChainAnalyzer = config.getCauseChainAnalyzer();
+        this.instrumentation = config.getInstrumentation();
+        this.messageService = messageService;
+        this.responseEntityHelper = new ResponseEntityHelper(
+            messageService,
+            new MessageTemplateCache(),
+            this.stacktracePolicy,
+            config.getResponseTemplateCache()
+        );
+        this.responseEntityHelper.warmUp(HttpStatus.INTERNAL_SERVER_ERROR, config.getErrorCodeTypes());
+    }
+
+    /**
+     * Resolves any exception by choosing the handling method by its type:
+     * <ul>
+     *     <li>{@link AccumulatedErrorsServiceException}, {@link SpecialHttpStatusServiceException},
+     *     {@link WithoutStacktraceServiceException}, {@link BusinessLogicServiceException}
+     *     and {@link ServiceException} - by the corresponding methods;</li>
+     *     <li>if the {@link #causeChainAnalyzer} is specified, exceptions whose chain of causes contains
+     *     a {@link ServiceException} - as that exception, and exceptions whose chain of causes contains
+     *     a mapped exception - by the mapping and with the message of the most specific one;</li>
+     *     <li>exceptions which have a mapping in the {@link #exceptionMappings} -
+     *     {@link #resolveMappedException(Object, Throwable, ExceptionMapping)};</li>
+     *     <li>{@link FileNotFoundException} - {@link #resolveFileNotFoundException(Object, Exception)};</li>
+     *     <li>{@link IOException} - {@link #resolveIOException(Object, IOException)};</li>
+     *     <li>{@link AssertionError} - {@link #resolveAssertationError(Object, AssertionError)};</li>
+     *     <li>others - {@link #resolveDefaultException(Object, Throwable)}.</li>
+     * </ul>
+     * It's used by transports which get all exceptions in one place (for example, a WebFlux
+     * exception handler). In a servlet application one handler method for {@link Throwable} calling it
+     * can replace handler methods for separate exception types.
+     *
+     * @param request   The request that caused the exception.
+     * @param throwable The exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     */
+    public ResponseEntity<ErrorResponseDto> resolve(R request, Throwable throwable) {
+        if (throwable instanceof AccumulatedErrorsServiceException) {
+            return this.resolveAccumulatedErrors(request, (AccumulatedErrorsServiceException) throwable);
+        }
+        if (throwable instanceof SpecialHttpStatusServiceException) {
+            return this.resolveServiceException(request, (SpecialHttpStatusServiceException) throwable);
+        }
+        if (throwable instanceof WithoutStacktraceServiceException) {
+            return this.resolveServiceException(request, (WithoutStacktraceServiceException) throwable);
+        }
+        if (throwable instanceof BusinessLogicServiceException) {
+            return this.resolveBusinessLogicException(request, (BusinessLogicServiceException) throwable);
+        }
+        if (throwable instanceof ServiceException) {
+            return this.resolveServiceException(request, (ServiceException) throwable);
+        }
+        if (causeChainAnalyzer != null) {
+            CauseChainAnalysis analysis = causeChainAnalyzer.analyze(throwable);
+            if (analysis.getCause() instanceof ServiceException) {
+                return this.resolve(request, analysis.getCause());
+            }
+            if (analysis.getMapping() != null) {
+                return this.resolveMappedException(request, throwable, analysis.getCause(), analysis.getMapping());
+            }
+        }
+        ExceptionMapping mapping = exceptionMappings.resolve(throwable);
+        if (mapping != null) {
+            return this.resolveMappedException(request, throwable, mapping);
+        }
+        if (throwable instanceof FileNotFoundException) {
+            return this.resolveFileNotFoundException(request, (FileNotFoundException) throwable);
+        }
+        if (throwable instanceof IOException) {
+            return this.resolveIOException(request, (IOException) throwable);
+        }
+        if (throwable instanceof AssertionError) {
+            return this.resolveAssertationError(request, (AssertionError) throwable);
+        }
+        return this.resolveDefaultException(request, throwable);
+    }
+
+    /**
+     * Handles an exception by its mapping.
+     *
+     * @param request   The request that caused the exception.
+     * @param throwable The exception to handle.
+     * @param mapping   The mapping of the exception type.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: the status of the mapping</li>
+     *         <li>Informative: false</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveMappedException(
+        R request,
+        Throwable throwable,
+        ExceptionMapping mapping
+    ) {
+        return this.resolveMappedException(request, throwable, throwable, mapping);
+    }
+
+    /**
+     * Handles an exception by the mapping of an exception of its chain of causes.
+     *
+     * @param request   The request that caused the exception.
+     * @param throwable The exception to handle. It's logged, and its stacktrace is put into the response.
+     * @param cause     The exception of the chain which has the mapping. Its message is the argument
+     *                  of the message of the error code.
+     * @param mapping   The mapping of the cause.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: the status of the mapping</li>
+     *         <li>Informative: false</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveMappedException(
+        R request,
+        Throwable throwable,
+        Throwable cause,
+        ExceptionMapping mapping
+    ) {
+        long start = System.nanoTime();
+        LogDecision decision = mapping.getLogDecision();
+        logRequestException(request, throwable, decision != null ? decision : logPolicy.decide(throwable));
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse(
+            null,
+            mapping.getErrorCode(),
+            mapping.getStatus(),
+            throwable,
+            cause.getMessage(),
+            enableStacktrace && mapping.isStacktrace()
+        );
+        return instrument(throwable, start, response);
+    }
+
+    /**
+     * Handles a business logic exception, typically including a detailed response body for the client.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The business logic exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: true</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveBusinessLogicException(
+        R request,
+        BusinessLogicServiceException exception
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+
+        String message = this.acquireMessage(exception);
+        ErrorResponseDto.ErrorResponseDtoBuilder body = ErrorResponseDto.builder()
+            .informative(true)
+            .errorCode(exception.getErrorCode())
+            .data(exception.getData())
+            .level(exception.getLevel())
+            .message(message);
+        if (enableStacktrace) {
+            stacktracePolicy.apply(body, exception);
+        }
+        ResponseEntity<ErrorResponseDto> response = new ResponseEntity<>(
+            body.build(),
+            HttpStatus.INTERNAL_SERVER_ERROR
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles errors collected by an {@link ru.dlabs71.library.exception.accumulator.ErrorAccumulator}.
+     * The response contains the list of errors in the <code>data</code> field
+     * (see {@link ResponseEntityHelper#makeErrorList(ru.dlabs71.library.exception.accumulator.ErrorAccumulator)}).
+     * An exception which has been deserialized doesn't have the errors, so its response doesn't have the list.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The exception carrying the collected errors.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: Custom status from the exception</li>
+     *         <li>Informative: true</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveAccumulatedErrors(
+        R request,
+        AccumulatedErrorsServiceException exception
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+
+        String message = this.acquireMessage(exception);
+        ErrorResponseDto.ErrorResponseDtoBuilder body = ErrorResponseDto.builder()
+            .informative(true)
+            .errorCode(exception.getErrorCode())
+            .level(CommonErrorLevel.ERROR)
+            .message(message)
+            .data(exception.getErrors() != null ? responseEntityHelper.makeErrorList(exception.getErrors()) : null);
+        if (enableStacktrace) {
+            stacktracePolicy.apply(body, exception);
+        }
+        ResponseEntity<ErrorResponseDto> response = new ResponseEntity<>(body.build(), exception.getHttpStatus());
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles a generic service exception, typically including a response body for the client.
+     * An {@link AccumulatedErrorsServiceException} is handled by
+     * {@link #resolveAccumulatedErrors(Object, AccumulatedErrorsServiceException)}, so a handler
+     * of the {@link ServiceException} type also returns the list of collected errors.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The service exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveServiceException(
+        R request,
+        ServiceException exception
+    ) {
+        if (exception instanceof AccumulatedErrorsServiceException) {
+            return this.resolveAccumulatedErrors(request, (AccumulatedErrorsServiceException) exception);
+        }
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+
+        ResponseEntity<ErrorResponseDto> template = enableStacktrace
+            ? null
+            : findResponseTemplate(exception, HttpStatus.INTERNAL_SERVER_ERROR);
+        if (template != null) {
+            return instrument(exception, start, template);
+        }
+        String message = this.acquireMessage(exception);
+        ErrorResponseDto.ErrorResponseDtoBuilder body = ErrorResponseDto.builder()
+            .informative(false)
+            .errorCode(exception.getErrorCode())
+            .message(message);
+        if (enableStacktrace) {
+            stacktracePolicy.apply(body, exception);
+        }
+        ResponseEntity<ErrorResponseDto> response = new ResponseEntity<>(
+            body.build(),
+            HttpStatus.INTERNAL_SERVER_ERROR
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles a service exception without including a stack trace in the response.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The service exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveServiceException(
+        R request,
+        WithoutStacktraceServiceException exception
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+
+        ResponseEntity<ErrorResponseDto> template = findResponseTemplate(exception, HttpStatus.INTERNAL_SERVER_ERROR);
+        if (template != null) {
+            return instrument(exception, start, template);
+        }
+        String message = this.acquireMessage(exception);
+        ResponseEntity<ErrorResponseDto> response = new ResponseEntity<>(
+            ErrorResponseDto.builder()
+                .informative(false)
+                .errorCode(exception.getErrorCode())
+                .message(message)
+                .stacktrace(null)
+                .build(),
+            HttpStatus.INTERNAL_SERVER_ERROR
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles a service exception with a custom HTTP status code.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The service exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: Custom status from the exception</li>
+     *         <li>Informative: false</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveServiceException(
+        R request,
+        SpecialHttpStatusServiceException exception
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+
+        ResponseEntity<ErrorResponseDto> template = findResponseTemplate(exception, exception.getHttpStatus());
+        if (template != null) {
+            return instrument(exception, start, template);
+        }
+        String message = this.acquireMessage(exception);
+        ResponseEntity<ErrorResponseDto> response = new ResponseEntity<>(
+            ErrorResponseDto.builder()
+                .informative(false)
+                .errorCode(exception.getErrorCode())
+                .message(message)
+                .stacktrace(null)
+                .build(),
+            exception.getHttpStatus()
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles an exception when an entity is not found or inaccessible to the user.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#ENTITY_NOT_FOUND}</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveEntityNotFound(R request, Exception exception) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse500(
+            CommonErrorCode.ENTITY_NOT_FOUND,
+            exception,
+            enableStacktrace
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles an exception when an entity is already modified by another user.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#STALE_OBJECT}</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveOptimisticLock(R request, Exception exception) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse500(
+            CommonErrorCode.STALE_OBJECT,
+            exception,
+            enableStacktrace
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles an exception when an entity is locked.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#LOCK_OBJECT}</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveLockException(R request, Exception exception) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse500(
+            CommonErrorCode.LOCK_OBJECT,
+            exception,
+            enableStacktrace
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles an exception when access to an entity is denied due to access policies.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 403 (Forbidden)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#ACCESS_DENIED}</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveAccessDeniedException(
+        R request,
+        Exception exception
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse(
+            CommonErrorCode.ACCESS_DENIED,
+            HttpStatus.FORBIDDEN,
+            exception,
+            false
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles an exception when a file is not found.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The exception to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 404 (Not Found)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#FILE_NOT_FOUND}</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveFileNotFoundException(
+        R request,
+        Exception exception
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, exception);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse(
+            CommonErrorCode.FILE_NOT_FOUND,
+            HttpStatus.NOT_FOUND,
+            exception,
+            false
+        );
+        return instrument(exception, start, response);
+    }
+
+    /**
+     * Handles a common IOException.
+     *
+     * @param request   The request that caused the exception.
+     * @param exception The IOException to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#IO_EXCEPTION}</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveIOException(
+        R request,
+        IOException exception
+    ) {
+        return this.resolveDefaultException(request, CommonErrorCode.IO_EXCEPTION, exception);
+    }
+
+    /**
+     * Handles a validation exception (e.g., assertion error).
+     *
+     * @param request The request that caused the exception.
+     * @param error   The AssertionError to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#VALIDATION_EXCEPTION}</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveAssertationError(
+        R request,
+        AssertionError error
+    ) {
+        return this.resolveDefaultException(request, CommonErrorCode.VALIDATION_EXCEPTION, error);
+    }
+
+    /**
+     * Handles a generic exception.
+     *
+     * @param request   The request that caused the exception.
+     * @param throwable The Throwable to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: {@link CommonErrorCode#COMMON_EXCEPTION} + message from the throwable</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveDefaultException(
+        R request,
+        Throwable throwable
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, throwable);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse500(
+            CommonErrorCode.COMMON_EXCEPTION,
+            throwable,
+            enableStacktrace
+        );
+        return instrument(throwable, start, response);
+    }
+
+    /**
+     * Handles a generic exception with a specific error code.
+     *
+     * @param request   The request that caused the exception.
+     * @param errorCode The specific error code to use.
+     * @param throwable The Throwable to handle.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: 500 (Internal Server Error)</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: From the error code</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveDefaultException(
+        R request,
+        ErrorCode errorCode,
+        Throwable throwable
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, throwable);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse500(
+            errorCode,
+            throwable,
+            enableStacktrace
+        );
+        return instrument(throwable, start, response);
+    }
+
+    /**
+     * Handles a generic exception with a specific error code and HTTP status.
+     *
+     * @param request        The request that caused the exception.
+     * @param errorCode      The specific error code to use.
+     * @param status         The specific HTTP status code to use.
+     * @param throwable      The Throwable to handle.
+     * @param withStacktrace Whether to include the stack trace in the response.
+     *
+     * @return A {@link ResponseEntity} containing an {@link ErrorResponseDto} as the response body.
+     *     <ul>
+     *         <li>HTTP status: From the status parameter</li>
+     *         <li>Informative: false</li>
+     *         <li>Message: From the error code</li>
+     *     </ul>
+     */
+    protected ResponseEntity<ErrorResponseDto> resolveDefaultException(
+        R request,
+        ErrorCode errorCode,
+        HttpStatus status,
+        Throwable throwable,
+        boolean withStacktrace
+    ) {
+        long start = System.nanoTime();
+        logRequestException(request, throwable);
+        ResponseEntity<ErrorResponseDto> response = responseEntityHelper.makeResponse(
+            errorCode,
+            status,
+            throwable,
+            withStacktrace
+        );
+        return instrument(throwable, start, response);
+    }
+
+    /**
+     * Acquire the message of the response for the exception. If the exception doesn't have raw arguments
+     * of the message, the message of its cause is the argument. When the {@link #causeChainAnalyzer}
+     * is specified, the chain of causes of the exception is analyzed: the message of the mapped exception
+     * of the chain is used, or the message of the root cause if no exception of the chain is mapped.
+     * So the message of a <code>SQLException</code> under several wrappers isn't lost.
+     *
+     * @param exception The handled exception.
+     *
+     * @return The message.
+     */
+    protected String acquireMessage(DException exception) {
+        Throwable cause = exception instanceof Throwable ? ((Throwable) exception).getCause() : null;
+        if (causeChainAnalyzer == null || cause == null || exception.getMessageArgs() != null) {
+            return responseEntityHelper.acquireMessage(exception);
+        }
+        CauseChainAnalysis analysis = causeChainAnalyzer.analyze(cause);
+        String causeMessage = analysis.getMapping() != null
+            ? analysis.getCause().getMessage()
+            : analysis.getRootCauseMessage();
+        return responseEntityHelper.acquireMessage(exception, causeMessage);
+    }
+
+    /**
+     * Find the shared response for the exception. The response is shared if the exception doesn't have
+     * a message, and the message of its error code doesn't have arguments
+     * (see {@link ResponseEntityHelper#getResponseTemplate(ErrorCode, HttpStatus)}).
+     *
+     * @param exception The handled exception.
+     * @param status    HTTP status of the response.
+     *
+     * @return The shared response or null if the response must be created.
+     */
+    protected ResponseEntity<ErrorResponseDto> findResponseTemplate(DException exception, HttpStatus status) {
+        String message = exception.getMessage();
+        if ((message != null && !message.isEmpty()) || exception.getErrorCode() == null) {
+            return null;
+        }
+        return responseEntityHelper.getResponseTemplate(exception.getErrorCode(), status);
+    }
+
+    /**
+     * Passes the produced response to the {@link #instrumentation}.
+     *
+     * @param throwable The handled exception.
+     * @param start     The value of {@link System#nanoTime()} when the handling started.
+     * @param response  The produced response.
+     *
+     * @return The same response.
+     */
+    protected ResponseEntity<ErrorResponseDto> instrument(
+        Throwable throwable,
+        long start,
+        ResponseEntity<ErrorResponseDto> response
+    ) {
+        long duration = System.nanoTime() - start;
+        instrumentation.onResolved(throwable, response.getBody(), response.getStatusCode(), duration);
+        return response;
+    }
+
+    /**
+     * Get a path of the request for logging.
+     *
+     * @param request The request.
+     *
+     * @return The path of the request.
+     */
+    protected abstract String getRequestPath(R request);
+
+    /**
+     * Logs the exception that occurred during the processing of an HTTP request.
+     * The level of the record and the presence of the stacktrace are chosen by the {@link #logPolicy}.
+     * Nothing is formatted if the chosen level is disabled. Identical exceptions are suppressed
+     * by the {@link #logDeduplicator} if it's specified. If the {@link #logSink} is specified, the record
+     * is only enqueued, and it's written on the background thread.
+     *
+     * @param request   The request that caused the exception.
+     * @param throwable The exception to log.
+     */
+    protected void logRequestException(R request, Throwable throwable) {
+        logRequestException(request, throwable, logPolicy.decide(throwable));
+    }
+
+    /**
+     * Logs the exception that occurred during the processing of an HTTP request by the decision.
+     *
+     * @param request   The request that caused the exception.
+     * @param throwable The exception to log.
+     * @param decision  How the exception must be logged.
+     */
+    protected void logRequestException(R request, Throwable throwable, LogDecision decision) {
+        if (decision.isNone()) {
+            return;
+        }
+        boolean enabled = log.isEnabledForLevel(decision.getLevel());
+        if (!enabled && !log.isDebugEnabled()) {
+            return;
+        }
+        if (logDeduplicator != null && !logDeduplicator.tryAcquire(throwable)) {
+            return;
+        }
+        String path = log.isDebugEnabled() ? getRequestPath(request) : null;
+        if (logSink != null) {
+            logSink.submit(log, enabled ? decision : LogDecision.NONE, throwable, path);
+            return;
+        }
+        if (path != null) {
+            log.debug("d.Unexpected exception processing request: {}", path);
+        }
+        if (enabled) {
+            decision.log(log, throwable);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package ru.dlabs71.library.exception.resolver;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * Decision of {@link ExceptionLogPolicy} about how an exception must be logged.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+public final class LogDecision {
+
+    /**
+     * The exception isn't logged.
+     */
+    public static final LogDecision NONE = new LogDecision(null, false);
+
+    public static final LogDecision ERROR = new LogDecision(Level.ERROR, true);
+    public static final LogDecision ERROR_WITHOUT_STACKTRACE = new LogDecision(Level.ERROR, false);
+    public static final LogDecision WARN = new LogDecision(Level.WARN, true);
+    public static final LogDecision WARN_WITHOUT_STACKTRACE = new LogDecision(Level.WARN, false);
+    public static final LogDecision INFO_WITHOUT_STACKTRACE = new LogDecision(Level.INFO, false);
+    public static final LogDecision DEBUG = new LogDecision(Level.DEBUG, true);
+
+    /**
+     * Logging level. It's null if the exception isn't logged.
+     */
+    private final Level level;
+
+    /**
+     * Whether the stacktrace of the exception is written into the log.
+     */
+    private final boolean withStacktrace;
+
+    private LogDecision(Level level, boolean withStacktrace) {
+        this.level = level;
+        this.withStacktrace = withStacktrace;
+    }
+
+    /**
+     * Get a decision by a logging level.
+     *
+     * @param level          logging level
+     * @param withStacktrace whether the stacktrace of the exception is written into the log
+     *
+     * @return the decision
+     */
+    public static LogDecision of(Level level, boolean withStacktrace) {
+        if (level == null) {
+            return NONE;
+        }
+        switch (level) {
+            case ERROR:
+                return withStacktrace ? ERROR : ERROR_WITHOUT_STACKTRACE;
+            case WARN:
+                return withStacktrace ? WARN : WARN_WITHOUT_STACKTRACE;
+            case INFO:
+                return withStacktrace ? new LogDecision(level, true) : INFO_WITHOUT_STACKTRACE;
+            case DEBUG:
+                return withStacktrace ? DEBUG : new LogDecision(level, false);
+            default:
+                return new LogDecision(level, withStacktrace);
+        }
+    }
+
+    public boolean isNone() {
+        return this.level == null;
+    }
+
+    /**
+     * Write the exception into the log according to the decision.
+     *
+     * @param logger    logger of handled exceptions
+     * @param throwable the exception
+     */
+    public void log(Logger logger, Throwable throwable) {
+        if (this.level == null) {
+            return;
+        }
+        if (this.withStacktrace) {
+            logger.atLevel(this.level)
+                .setCause(throwable)
+                .log("d.Request exception: {}", throwable.getMessage());
+        } else {
+            logger.atLevel(this.level)
+                .log("d.Request exception: {}: {}", throwable.getClass().getName(), throwable.getMessage());
+        }
+    }
+}
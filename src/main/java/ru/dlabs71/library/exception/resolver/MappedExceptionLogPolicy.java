@@ -0,0 +1,109 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Builder;
+import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Log policy which chooses a decision by an error code or by an exception type.
+ *
+ * <ol>
+ *     <li>If the exception implements {@link DException} and the decision is specified for its error code,
+ *     the decision is used.</li>
+ *     <li>If the decision is specified for the exception class, one of its superclasses or interfaces
+ *     (including superinterfaces), the decision for the nearest type is used. The result of the search
+ *     is cached per exception class.</li>
+ *     <li>Otherwise, the fallback policy decides. By default, it's {@link ExceptionLogPolicy#DEFAULT}.</li>
+ * </ol>
+ *
+ * <pre>{@code
+ * ExceptionLogPolicy policy = MappedExceptionLogPolicy.builder()
+ *     .errorCode(CommonErrorCode.ENTITY_NOT_FOUND, LogDecision.INFO_WITHOUT_STACKTRACE)
+ *     .type(ClientAbortException.class, LogDecision.NONE)
+ *     .build();
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class MappedExceptionLogPolicy implements ExceptionLogPolicy {
+
+    private final Map<Class<?>, LogDecision> types;
+    private final Map<ErrorCode, LogDecision> errorCodes;
+    private final ExceptionLogPolicy fallback;
+    private final ClassValue<LogDecision> resolvedTypes = new ClassValue<LogDecision>() {
+        @Override
+        protected LogDecision computeValue(Class<?> type) {
+            return TypeHierarchy.find(type, types::get);
+        }
+    };
+
+    @Builder
+    private MappedExceptionLogPolicy(
+        Map<Class<?>, LogDecision> types,
+        Map<ErrorCode, LogDecision> errorCodes,
+        ExceptionLogPolicy fallback
+    ) {
+        this.types = new HashMap<>(types);
+        this.errorCodes = new HashMap<>(errorCodes);
+        this.fallback = fallback != null ? fallback : ExceptionLogPolicy.DEFAULT;
+    }
+
+    @Override
+    public LogDecision decide(Throwable throwable) {
+        if (!this.errorCodes.isEmpty() && throwable instanceof DException) {
+            ErrorCode errorCode = ((DException) throwable).getErrorCode();
+            LogDecision decision = errorCode != null ? this.errorCodes.get(errorCode) : null;
+            if (decision != null) {
+                return decision;
+            }
+        }
+        LogDecision decision = this.resolvedTypes.get(throwable.getClass());
+        return decision != null ? decision : this.fallback.decide(throwable);
+    }
+
+    /**
+     * Builder of the policy. Decisions are put into maps directly instead of the key and value lists
+     * of generated singular methods, which are copied into a map with redundant casts.
+     */
+    public static final class MappedExceptionLogPolicyBuilder {
+
+        private final Map<Class<?>, LogDecision> types = new HashMap<>();
+        private final Map<ErrorCode, LogDecision> errorCodes = new HashMap<>();
+
+        /**
+         * Specify the decision for an exception class or for an interface implemented by exceptions.
+         *
+         * @param type     the exception class or the interface
+         * @param decision the decision
+         *
+         * @return this builder
+         */
+        public MappedExceptionLogPolicyBuilder type(Class<?> type, LogDecision decision) {
+            this.types.put(type, decision);
+            return this;
+        }
+
+        public MappedExceptionLogPolicyBuilder types(
+            Map<? extends Class<?>, ? extends LogDecision> types
+        ) {
+            this.types.putAll(types);
+            return this;
+        }
+
+        public MappedExceptionLogPolicyBuilder errorCode(ErrorCode errorCode, LogDecision decision) {
+            this.errorCodes.put(errorCode, decision);
+            return this;
+        }
+
+        public MappedExceptionLogPolicyBuilder errorCodes(Map<? extends ErrorCode, ? extends LogDecision> errorCodes) {
+            this.errorCodes.putAll(errorCodes);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ru.dlabs71.library.exception.resolver;
+
+import java.util.function.Function;
+
+/**
+ * Search of a value registered for the nearest type of a class hierarchy. The class itself is checked first,
+ * then the interfaces it implements together with their superinterfaces, then its superclass in the same way.
+ * Direct interfaces are checked before their superinterfaces.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+final class TypeHierarchy {
+
+    private TypeHierarchy() {
+    }
+
+    /**
+     * Find the value of the nearest type.
+     *
+     * @param type   the class
+     * @param lookup function returning the value registered for a type or null
+     * @param <V>    type of values
+     *
+     * @return the value or null if no type of the hierarchy has a value
+     */
+    static <V> V find(Class<?> type, Function<Class<?>, V> lookup) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            V value = lookup.apply(current);
+            if (value == null) {
+                value = findInInterfaces(current.getInterfaces(), lookup);
+            }
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static <V> V findInInterfaces(Class<?>[] interfaces, Function<Class<?>, V> lookup) {
+        for (Class<?> anInterface : interfaces) {
+            V value = lookup.apply(anInterface);
+            if (value != null) {
+                return value;
+            }
+        }
+        for (Class<?> anInterface : interfaces) {
+            V value = findInInterfaces(anInterface.getInterfaces(), lookup);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
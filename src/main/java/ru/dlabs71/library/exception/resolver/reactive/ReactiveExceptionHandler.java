@@ -0,0 +1,196 @@
+package ru.dlabs71.library.exception.resolver.reactive;
+
+import java.io.IOException;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.dto.ErrorResponseJsonWriter;
+import ru.dlabs71.library.exception.dto.FrozenErrorResponseDto;
+import ru.dlabs71.library.exception.resolver.ExceptionLogPolicy;
+import ru.dlabs71.library.exception.resolver.ExceptionResolverConfig;
+import ru.dlabs71.library.exception.resolver.ExceptionResolverCore;
+import ru.dlabs71.library.exception.resolver.LogDecision;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Exception handler for Spring WebFlux. It resolves an exception by {@link ExceptionResolverCore#resolve}
+ * and writes the {@link ErrorResponseDto} by {@link ErrorResponseJsonWriter} straight to a buffer
+ * of the {@link ServerHttpResponse}. Register it as a bean, it has a higher priority than the default
+ * error handler of Spring Boot.
+ *
+ * <p>Resolving is done on subscription on the subscribing thread, because messages are cached as compiled
+ * templates and logging goes through SLF4J. If the message service or the logging backend may block, pass
+ * a {@link Scheduler} (for example, <code>Schedulers.boundedElastic()</code>), and resolving will be done on it.
+ *
+ * <p>{@link ResponseStatusException}s (for example, "404 Not Found" of an unknown route) keep their status:
+ * 404 gets {@link CommonErrorCode#RESOURCE_NOT_FOUND}, 403 - {@link CommonErrorCode#ACCESS_DENIED},
+ * other client errors - {@link CommonErrorCode#INVALID_REQUEST}. Client errors are logged with DEBUG level.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public class ReactiveExceptionHandler extends ExceptionResolverCore<ServerWebExchange>
+    implements WebExceptionHandler, Ordered {
+
+    /**
+     * Default order of the handler. It's less than the order of the default error handler of Spring Boot (-1).
+     */
+    public static final int DEFAULT_ORDER = -2;
+
+    private static final LogDecision CLIENT_ERROR_DECISION = LogDecision.of(Level.DEBUG, false);
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    /**
+     * Writer of response bodies.
+     */
+    @Getter
+    private final ErrorResponseJsonWriter writer;
+
+    /**
+     * Scheduler for resolving exceptions. If it's null, exceptions are resolved on the calling thread.
+     */
+    @Getter
+    private final Scheduler scheduler;
+
+    @Getter
+    @Setter
+    private int order = DEFAULT_ORDER;
+
+    public ReactiveExceptionHandler(DExceptionMessageService messageService, ExceptionResolverConfig config) {
+        this(messageService, config, new ErrorResponseJsonWriter(), null);
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param messageService service used to convert error codes into human-readable messages
+     * @param config         settings of the resolver
+     * @param writer         writer of response bodies. It should use the object mapper of the application.
+     * @param scheduler      scheduler for resolving exceptions. It can be null.
+     */
+    public ReactiveExceptionHandler(
+        DExceptionMessageService messageService,
+        ExceptionResolverConfig config,
+        ErrorResponseJsonWriter writer,
+        Scheduler scheduler
+    ) {
+        super(
+            messageService,
+            config.toBuilder().logPolicy(withClientErrors(config.getLogPolicy())).build(),
+            LoggerFactory.getLogger(ReactiveExceptionHandler.class)
+        );
+        this.writer = writer;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.error(ex);
+        }
+        if (this.scheduler == null) {
+            return Mono.defer(() -> this.write(exchange, this.resolve(exchange, ex)));
+        }
+        return Mono.fromCallable(() -> this.resolve(exchange, ex))
+            .subscribeOn(this.scheduler)
+            .flatMap(response -> this.write(exchange, response));
+    }
+
+    @Override
+    public ResponseEntity<ErrorResponseDto> resolve(ServerWebExchange exchange, Throwable throwable) {
+        if (throwable instanceof ResponseStatusException) {
+            ResponseStatusException exception = (ResponseStatusException) throwable;
+            HttpStatus status = exception.getStatus();
+            ResponseEntity<ErrorResponseDto> response = this.resolveDefaultException(
+                exchange,
+                errorCodeOf(status),
+                status,
+                exception,
+                status.is5xxServerError() && this.enableStacktrace
+            );
+            if (exception.getResponseHeaders().isEmpty()) {
+                return response;
+            }
+            return ResponseEntity.status(status)
+                .headers(exception.getResponseHeaders())
+                .body(response.getBody());
+        }
+        return super.resolve(exchange, throwable);
+    }
+
+    /**
+     * Write the response to the exchange.
+     *
+     * @param exchange current exchange
+     * @param response resolved response
+     *
+     * @return completion of writing
+     */
+    protected Mono<Void> write(ServerWebExchange exchange, ResponseEntity<ErrorResponseDto> response) {
+        ServerHttpResponse httpResponse = exchange.getResponse();
+        httpResponse.setStatusCode(response.getStatusCode());
+        httpResponse.getHeaders().putAll(response.getHeaders());
+        httpResponse.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ErrorResponseDto body = response.getBody();
+        DataBuffer buffer;
+        if (body instanceof FrozenErrorResponseDto) {
+            buffer = httpResponse.bufferFactory().wrap(this.writer.toBytes(body));
+        } else {
+            buffer = httpResponse.bufferFactory().allocateBuffer(INITIAL_BUFFER_SIZE);
+            try {
+                this.writer.write(body, buffer.asOutputStream());
+            } catch (IOException | RuntimeException e) {
+                DataBufferUtils.release(buffer);
+                return Mono.error(e);
+            }
+        }
+        httpResponse.getHeaders().setContentLength(buffer.readableByteCount());
+        return httpResponse.writeWith(Mono.just(buffer));
+    }
+
+    @Override
+    protected String getRequestPath(ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().value();
+    }
+
+    private static ErrorCode errorCodeOf(HttpStatus status) {
+        switch (status) {
+            case NOT_FOUND:
+                return CommonErrorCode.RESOURCE_NOT_FOUND;
+            case FORBIDDEN:
+                return CommonErrorCode.ACCESS_DENIED;
+            default:
+                return status.is4xxClientError() ? CommonErrorCode.INVALID_REQUEST : CommonErrorCode.COMMON_EXCEPTION;
+        }
+    }
+
+    private static ExceptionLogPolicy withClientErrors(ExceptionLogPolicy policy) {
+        return throwable -> {
+            if (throwable instanceof ResponseStatusException
+                && ((ResponseStatusException) throwable).getStatus().is4xxClientError()) {
+                return CLIENT_ERROR_DECISION;
+            }
+            return policy.decide(throwable);
+        };
+    }
+}
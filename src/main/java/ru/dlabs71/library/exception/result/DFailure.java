@@ -0,0 +1,196 @@
+package ru.dlabs71.library.exception.result;
+
+import java.io.Serializable;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCodeTable;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+/**
+ * Expected failure which is returned instead of thrown. It carries the same information as exceptions
+ * of the library (an error code, a message, a level, an HTTP status and extra data), but it isn't
+ * a {@link Throwable}, so creating it costs only an allocation, or nothing for shared instances
+ * (see {@link #of(ErrorCode)}).
+ *
+ * <p>A failure is rendered by {@link ru.dlabs71.library.exception.utils.ResponseEntityHelper#makeResponse(DFailure)}
+ * into the same body as the corresponding exception:
+ * <ul>
+ *     <li>an informative failure - as {@link BusinessLogicServiceException};</li>
+ *     <li>a failure with the HTTP status other than 500 - as {@link SpecialHttpStatusServiceException};</li>
+ *     <li>others - as {@link ServiceException}.</li>
+ * </ul>
+ * Use {@link #toException()} and {@link #from(DException)} on the boundary with code which throws.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+public final class DFailure implements DException {
+
+    private static final ErrorCodeTable<DFailure> SHARED = new ErrorCodeTable<>();
+
+    private final ErrorCode errorCode;
+
+    /**
+     * A message explain the failure. If it's null, the message of the error code is used.
+     * See {@link ServiceException#ServiceException(String, ErrorCode, Throwable)}.
+     */
+    private final String message;
+
+    /**
+     * Whether the failure must be displayed for a user. See {@link BusinessLogicServiceException}.
+     */
+    private final boolean informative;
+
+    /**
+     * Level of the failure. It's null for not informative failures.
+     */
+    private final ErrorLevel level;
+
+    private final HttpStatus httpStatus;
+
+    /**
+     * Extra data for a client. It's put into the response only for informative failures.
+     */
+    private final Serializable data;
+
+    /**
+     * Raw arguments of the message. See {@link ServiceException#getMessageArgs()}.
+     */
+    private final Object[] messageArgs;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param errorCode   error code of the failure
+     * @param message     a message explain the failure. It's optional if the error code is specified.
+     * @param informative whether the failure must be displayed for a user. By default, it's true if the level
+     *                    or the data is specified.
+     * @param level       level of an informative failure. By default, {@link CommonErrorLevel#ERROR}.
+     * @param httpStatus  HTTP status of the response. By default, 500 (Internal Server Error).
+     * @param data        extra data for a client
+     * @param messageArgs raw arguments of the message
+     */
+    @Builder
+    private DFailure(
+        ErrorCode errorCode,
+        String message,
+        Boolean informative,
+        ErrorLevel level,
+        HttpStatus httpStatus,
+        Serializable data,
+        Object[] messageArgs
+    ) {
+        if (message == null && errorCode == null) {
+            throw new IllegalArgumentException("d.Message and ErrorCode are both null");
+        }
+        this.errorCode = errorCode;
+        this.message = message;
+        this.informative = informative != null ? informative : level != null || data != null;
+        this.level = this.informative ? (level != null ? level : CommonErrorLevel.ERROR) : null;
+        this.httpStatus = httpStatus != null ? httpStatus : HttpStatus.INTERNAL_SERVER_ERROR;
+        this.data = data;
+        this.messageArgs = messageArgs;
+    }
+
+    /**
+     * Get the shared failure with the error code and the HTTP status 500 (Internal Server Error).
+     * It's created once per error code.
+     *
+     * @param errorCode error code of the failure
+     *
+     * @return the shared failure
+     */
+    public static DFailure of(@NonNull ErrorCode errorCode) {
+        return SHARED.computeIfAbsent(errorCode, code -> builder().errorCode(code).build());
+    }
+
+    public static DFailure of(@NonNull ErrorCode errorCode, @NonNull HttpStatus httpStatus) {
+        return builder().errorCode(errorCode).httpStatus(httpStatus).build();
+    }
+
+    /**
+     * Create a failure with the error code and raw arguments of its message.
+     *
+     * @param errorCode   error code of the failure
+     * @param messageArgs arguments of the message
+     *
+     * @return the failure
+     */
+    public static DFailure of(@NonNull ErrorCode errorCode, Object... messageArgs) {
+        return builder().errorCode(errorCode).messageArgs(messageArgs).build();
+    }
+
+    /**
+     * Create a failure from an exception. The response of the failure is the same as the response
+     * of the exception without a stacktrace.
+     *
+     * @param exception the exception
+     *
+     * @return the failure
+     */
+    public static DFailure from(@NonNull DException exception) {
+        if (exception instanceof DFailure) {
+            return (DFailure) exception;
+        }
+        Object[] messageArgs = exception.getMessageArgs();
+        DFailureBuilder builder = builder()
+            .errorCode(exception.getErrorCode())
+            .message(exception.getMessage())
+            .messageArgs(messageArgs != null ? messageArgs : new Object[]{exception.getCauseExceptionMessage()})
+            .informative(false);
+        if (exception instanceof BusinessLogicServiceException) {
+            BusinessLogicServiceException businessLogicException = (BusinessLogicServiceException) exception;
+            builder.informative(true)
+                .level(businessLogicException.getLevel())
+                .data(businessLogicException.getData());
+        } else if (exception instanceof SpecialHttpStatusServiceException) {
+            builder.httpStatus(((SpecialHttpStatusServiceException) exception).getHttpStatus());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String getCauseExceptionMessage() {
+        return this.message;
+    }
+
+    /**
+     * Convert the failure into the corresponding exception (see the description of the class).
+     * The HTTP status of an informative failure isn't kept, because {@link BusinessLogicServiceException}
+     * is always rendered with the status 500.
+     *
+     * @return the exception
+     */
+    public ServiceException toException() {
+        ServiceException exception;
+        if (this.informative) {
+            exception = new BusinessLogicServiceException(this.message, this.errorCode, this.level, this.data);
+        } else if (this.httpStatus != HttpStatus.INTERNAL_SERVER_ERROR) {
+            exception = new SpecialHttpStatusServiceException(this.message, this.errorCode, this.httpStatus);
+        } else {
+            exception = new ServiceException(this.message, this.errorCode);
+        }
+        if (this.messageArgs != null) {
+            exception.setMessageArgs(this.messageArgs);
+        }
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "DFailure(" + (this.errorCode != null ? this.errorCode.name() : this.message) + ", "
+            + this.httpStatus.value() + ")";
+    }
+}
@@ -0,0 +1,185 @@
+package ru.dlabs71.library.exception.result;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+/**
+ * Result of an operation: a value or a {@link DFailure}. It's used for expected failures on hot paths
+ * (an entity isn't found, an object is stale, validation failed) instead of throwing an exception.
+ * A controller method can return it directly, {@link DResultReturnValueHandler} renders a failure
+ * into the same response as the corresponding exception.
+ * <pre>{@code
+ * public DResult<OrderDto> getOrder(long id) {
+ *     Order order = repository.find(id);
+ *     if (order == null) {
+ *         return DResult.failure(CommonErrorCode.ENTITY_NOT_FOUND);
+ *     }
+ *     return DResult.success(mapper.toDto(order));
+ * }
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @param <T> type of the value
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class DResult<T> {
+
+    private static final DResult<?> EMPTY = new DResult<>(null, null);
+
+    private final T value;
+    private final DFailure failure;
+
+    private DResult(T value, DFailure failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Create a successful result.
+     *
+     * @param value the value. It can be null.
+     * @param <T>   type of the value
+     *
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> DResult<T> success(T value) {
+        return value != null ? new DResult<>(value, null) : (DResult<T>) EMPTY;
+    }
+
+    /**
+     * Create a failed result.
+     *
+     * @param failure the failure
+     * @param <T>     type of the value
+     *
+     * @return the result
+     */
+    public static <T> DResult<T> failure(@NonNull DFailure failure) {
+        return new DResult<>(null, failure);
+    }
+
+    /**
+     * Create a failed result with the shared failure for the error code (see {@link DFailure#of(ErrorCode)}).
+     *
+     * @param errorCode error code of the failure
+     * @param <T>       type of the value
+     *
+     * @return the result
+     */
+    public static <T> DResult<T> failure(@NonNull ErrorCode errorCode) {
+        return new DResult<>(null, DFailure.of(errorCode));
+    }
+
+    /**
+     * Call code which throws exceptions of the library and convert a thrown exception into a failure.
+     * Other exceptions are rethrown.
+     *
+     * @param supplier the code
+     * @param <T>      type of the value
+     *
+     * @return the value of the code or the failure
+     */
+    public static <T> DResult<T> catching(@NonNull Supplier<? extends T> supplier) {
+        try {
+            return success(supplier.get());
+        } catch (RuntimeException e) {
+            if (e instanceof DException) {
+                return failure(DFailure.from((DException) e));
+            }
+            throw e;
+        }
+    }
+
+    public boolean isSuccess() {
+        return this.failure == null;
+    }
+
+    public boolean isFailure() {
+        return this.failure != null;
+    }
+
+    /**
+     * Get the value of a successful result.
+     *
+     * @return the value. It can be null.
+     *
+     * @throws IllegalStateException if the result is failed
+     */
+    public T getValue() {
+        if (this.failure != null) {
+            throw new IllegalStateException("d.The result is failed: " + this.failure);
+        }
+        return this.value;
+    }
+
+    /**
+     * Get the failure of a failed result.
+     *
+     * @return the failure or null if the result is successful
+     */
+    public DFailure getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Get the value or the other value if the result is failed.
+     *
+     * @param other the other value
+     *
+     * @return the value
+     */
+    public T orElse(T other) {
+        return this.failure == null ? this.value : other;
+    }
+
+    /**
+     * Get the value or throw the failure as an exception (see {@link DFailure#toException()}).
+     *
+     * @return the value
+     */
+    public T orElseThrow() {
+        if (this.failure != null) {
+            throw this.failure.toException();
+        }
+        return this.value;
+    }
+
+    /**
+     * Transform the value of a successful result. A failed result is returned as is.
+     *
+     * @param mapper function transforming the value
+     * @param <U>    type of the new value
+     *
+     * @return the new result
+     */
+    @SuppressWarnings("unchecked")
+    public <U> DResult<U> map(@NonNull Function<? super T, ? extends U> mapper) {
+        return this.failure == null ? success(mapper.apply(this.value)) : (DResult<U>) this;
+    }
+
+    /**
+     * Transform the value of a successful result into another result. A failed result is returned as is.
+     *
+     * @param mapper function transforming the value
+     * @param <U>    type of the new value
+     *
+     * @return the new result
+     */
+    @SuppressWarnings("unchecked")
+    public <U> DResult<U> flatMap(@NonNull Function<? super T, DResult<U>> mapper) {
+        return this.failure == null ? mapper.apply(this.value) : (DResult<U>) this;
+    }
+
+    @Override
+    public String toString() {
+        return this.failure == null ? "DResult(" + this.value + ")" : "DResult(" + this.failure + ")";
+    }
+}
@@ -0,0 +1,112 @@
+package ru.dlabs71.library.exception.result;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+import ru.dlabs71.library.exception.utils.ResponseEntityHelper;
+
+/**
+ * Handler of controller methods returning {@link DResult} or {@link DFailure}. A failure is rendered
+ * by {@link ResponseEntityHelper#makeResponse(DFailure)}, so its body is the same as the body for the exception.
+ * The value of a successful result is written with the status 200, a value of the {@link ResponseEntity} type
+ * is written with its status and headers. The response is written by the {@link HttpEntityMethodProcessor}
+ * of Spring MVC built from the same message converters, so the content negotiation is the same as for
+ * a method returning {@link ResponseEntity}: an unacceptable media type is responded with the status 406.
+ *
+ * <p>The return value handlers of <code>RequestMappingHandlerAdapter</code> process the return values
+ * of <code>@ResponseBody</code> methods before custom handlers, so put this handler to the beginning:
+ * <pre>{@code
+ * List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+ * handlers.add(new DResultReturnValueHandler(responseEntityHelper, adapter.getMessageConverters()));
+ * handlers.addAll(adapter.getReturnValueHandlers());
+ * adapter.setReturnValueHandlers(handlers);
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public class DResultReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    @Getter
+    private final ResponseEntityHelper responseEntityHelper;
+
+    @Getter
+    private final List<HttpMessageConverter<?>> messageConverters;
+
+    /**
+     * The processor writing responses. It's created by the first response, because Spring MVC loads
+     * the servlet API with it.
+     */
+    private volatile HttpEntityMethodProcessor processor;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param responseEntityHelper helper rendering failures. Use the helper of the exception resolver.
+     * @param messageConverters    message converters writing bodies
+     */
+    public DResultReturnValueHandler(
+        @NonNull ResponseEntityHelper responseEntityHelper,
+        @NonNull List<HttpMessageConverter<?>> messageConverters
+    ) {
+        this.responseEntityHelper = responseEntityHelper;
+        this.messageConverters = messageConverters;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        Class<?> type = returnType.getParameterType();
+        return DResult.class.isAssignableFrom(type) || DFailure.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void handleReturnValue(
+        Object returnValue,
+        MethodParameter returnType,
+        ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest
+    ) throws Exception {
+        HttpEntityMethodProcessor processor = this.processor;
+        if (processor == null) {
+            processor = new HttpEntityMethodProcessor(this.messageConverters);
+            this.processor = processor;
+        }
+        processor.handleReturnValue(this.toResponseEntity(returnValue), returnType, mavContainer, webRequest);
+    }
+
+    /**
+     * Convert the return value of a controller method into a response.
+     *
+     * @param returnValue {@link DResult}, {@link DFailure} or null
+     *
+     * @return the response
+     */
+    protected ResponseEntity<?> toResponseEntity(Object returnValue) {
+        if (returnValue instanceof DFailure) {
+            return this.responseEntityHelper.makeResponse((DFailure) returnValue);
+        }
+        DResult<?> result = (DResult<?>) returnValue;
+        if (result == null) {
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+        if (result.isFailure()) {
+            return this.responseEntityHelper.makeResponse(result.getFailure());
+        }
+        Object value = result.getValue();
+        if (value instanceof ResponseEntity) {
+            return (ResponseEntity<?>) value;
+        }
+        return new ResponseEntity<>(value, HttpStatus.OK);
+    }
+}
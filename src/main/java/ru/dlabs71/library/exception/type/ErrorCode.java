@@ -16,4 +16,13 @@ public interface ErrorCode extends Serializable {
     String getCodeMessage();
 
     String name();
+
+    /**
+     * Get the dense id of the error code within the running application. See {@link ErrorIdRegistry}.
+     *
+     * @return the id or {@link ErrorIdRegistry#NO_ID} if the error code isn't an enum constant
+     */
+    default int id() {
+        return ErrorIdRegistry.id(this);
+    }
 }
@@ -0,0 +1,153 @@
+package ru.dlabs71.library.exception.type;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Map from error codes to values backed by an array indexed by ids of error codes
+ * (see {@link ErrorIdRegistry}). Getting a value is reading an array element: it doesn't take locks,
+ * doesn't compute hashes and doesn't compare strings. The array grows when an error code with a greater id
+ * is put. Values of error codes which aren't enum constants are kept in a {@link ConcurrentHashMap}.
+ *
+ * <p>The table is thread-safe. Reads don't take locks, writes are serialized.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @param <V> type of values
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorCodeTable<V> {
+
+    private volatile AtomicReferenceArray<V> values;
+    private final ConcurrentMap<ErrorCode, V> others = new ConcurrentHashMap<>();
+
+    public ErrorCodeTable() {
+        this.values = new AtomicReferenceArray<>(ErrorIdRegistry.getErrorCodeCount());
+    }
+
+    /**
+     * Get the value of the error code.
+     *
+     * @param errorCode the error code
+     *
+     * @return the value or null if the table doesn't contain the error code
+     */
+    public V get(@NonNull ErrorCode errorCode) {
+        int id = errorCode.id();
+        if (id == ErrorIdRegistry.NO_ID) {
+            return this.others.get(errorCode);
+        }
+        AtomicReferenceArray<V> current = this.values;
+        return id < current.length() ? current.get(id) : null;
+    }
+
+    /**
+     * Put the value of the error code.
+     *
+     * @param errorCode the error code
+     * @param value     the value
+     *
+     * @return the previous value or null
+     */
+    public V put(@NonNull ErrorCode errorCode, @NonNull V value) {
+        int id = errorCode.id();
+        if (id == ErrorIdRegistry.NO_ID) {
+            return this.others.put(errorCode, value);
+        }
+        synchronized (this) {
+            return this.ensureCapacity(id).getAndSet(id, value);
+        }
+    }
+
+    /**
+     * Get the value of the error code or compute and put it if the table doesn't contain the error code.
+     * The function is called at most once per error code.
+     *
+     * @param errorCode the error code
+     * @param function  function computing the value
+     *
+     * @return the value
+     */
+    public V computeIfAbsent(@NonNull ErrorCode errorCode, @NonNull Function<? super ErrorCode, ? extends V> function) {
+        V value = this.get(errorCode);
+        if (value != null) {
+            return value;
+        }
+        int id = errorCode.id();
+        if (id == ErrorIdRegistry.NO_ID) {
+            return this.others.computeIfAbsent(errorCode, function);
+        }
+        synchronized (this) {
+            AtomicReferenceArray<V> current = this.ensureCapacity(id);
+            value = current.get(id);
+            if (value == null) {
+                value = function.apply(errorCode);
+                current.set(id, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Remove the value of the error code.
+     *
+     * @param errorCode the error code
+     *
+     * @return the removed value or null
+     */
+    public V remove(@NonNull ErrorCode errorCode) {
+        int id = errorCode.id();
+        if (id == ErrorIdRegistry.NO_ID) {
+            return this.others.remove(errorCode);
+        }
+        synchronized (this) {
+            AtomicReferenceArray<V> current = this.values;
+            return id < current.length() ? current.getAndSet(id, null) : null;
+        }
+    }
+
+    /**
+     * Call the action for every error code of the table.
+     *
+     * @param action the action
+     */
+    public void forEach(@NonNull BiConsumer<? super ErrorCode, ? super V> action) {
+        AtomicReferenceArray<V> current = this.values;
+        for (int id = 0; id < current.length(); id++) {
+            V value = current.get(id);
+            if (value != null) {
+                action.accept(ErrorIdRegistry.getErrorCode(id), value);
+            }
+        }
+        this.others.forEach(action);
+    }
+
+    /**
+     * Remove all values.
+     */
+    public synchronized void clear() {
+        this.values = new AtomicReferenceArray<>(ErrorIdRegistry.getErrorCodeCount());
+        this.others.clear();
+    }
+
+    private AtomicReferenceArray<V> ensureCapacity(int id) {
+        AtomicReferenceArray<V> current = this.values;
+        if (id < current.length()) {
+            return current;
+        }
+        int capacity = Math.max(id + 1, ErrorIdRegistry.getErrorCodeCount());
+        AtomicReferenceArray<V> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        this.values = grown;
+        return grown;
+    }
+}
@@ -0,0 +1,185 @@
+package ru.dlabs71.library.exception.type;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Registry of dense integer ids of error codes and error levels. Every enum implementing {@link ErrorCode}
+ * (or {@link ErrorLevel}) gets a range of consecutive ids, and the id of a constant is the start of the range
+ * plus the ordinal of the constant. Ids of error codes start from 0, ids of error levels start from 0
+ * independently. So per-code data can be kept in arrays indexed by ids (see {@link ErrorCodeTable}).
+ *
+ * <p>{@link CommonErrorCode} and {@link CommonErrorLevel} always have the first ranges. Other enums get
+ * their ranges when they are registered or when the id of their constant is requested the first time.
+ * Register the enums of an application at startup, so the ids don't depend on the order of requests:
+ * <pre>{@code
+ * ErrorIdRegistry.registerErrorCodes(OrderErrorCode.class, PaymentErrorCode.class);
+ * }</pre>
+ *
+ * <p>Ids are valid only within the running application: use
+ * {@link ru.dlabs71.library.exception.codec.ErrorCodeRegistry} for ids which are sent to other applications.
+ * Implementations of the interfaces which aren't enums don't have ids.
+ *
+ * <p>Getting an id takes the range of the enum from a {@link ClassValue}, so it doesn't take locks
+ * and doesn't compare strings.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ErrorIdRegistry {
+
+    /**
+     * Id of error codes and error levels which aren't enums.
+     */
+    public static final int NO_ID = -1;
+
+    private static final Ids ERROR_CODES = new Ids(ErrorCode.class, CommonErrorCode.class);
+    private static final Ids LEVELS = new Ids(ErrorLevel.class, CommonErrorLevel.class);
+
+    private ErrorIdRegistry() {
+    }
+
+    /**
+     * Assign ids to constants of the enums of error codes in the order of the arguments.
+     * Enums which are registered already keep their ids.
+     *
+     * @param errorCodeTypes enums of error codes
+     */
+    @SafeVarargs
+    public static void registerErrorCodes(Class<? extends ErrorCode>... errorCodeTypes) {
+        for (Class<? extends ErrorCode> errorCodeType : errorCodeTypes) {
+            ERROR_CODES.register(errorCodeType);
+        }
+    }
+
+    /**
+     * Assign ids to constants of the enums of error levels in the order of the arguments.
+     * Enums which are registered already keep their ids.
+     *
+     * @param levelTypes enums of error levels
+     */
+    @SafeVarargs
+    public static void registerLevels(Class<? extends ErrorLevel>... levelTypes) {
+        for (Class<? extends ErrorLevel> levelType : levelTypes) {
+            LEVELS.register(levelType);
+        }
+    }
+
+    /**
+     * Get the id of an error code. The enum of the error code is registered if it isn't registered yet.
+     *
+     * @param errorCode the error code
+     *
+     * @return the id or {@link #NO_ID} if the error code is null or isn't an enum constant
+     */
+    public static int id(ErrorCode errorCode) {
+        return ERROR_CODES.id(errorCode);
+    }
+
+    /**
+     * Get the id of an error level. The enum of the error level is registered if it isn't registered yet.
+     *
+     * @param level the error level
+     *
+     * @return the id or {@link #NO_ID} if the error level is null or isn't an enum constant
+     */
+    public static int id(ErrorLevel level) {
+        return LEVELS.id(level);
+    }
+
+    /**
+     * Get an error code by the id.
+     *
+     * @param id the id
+     *
+     * @return the error code or null if no error code has the id
+     */
+    public static ErrorCode getErrorCode(int id) {
+        return (ErrorCode) ERROR_CODES.get(id);
+    }
+
+    /**
+     * Get an error level by the id.
+     *
+     * @param id the id
+     *
+     * @return the error level or null if no error level has the id
+     */
+    public static ErrorLevel getLevel(int id) {
+        return (ErrorLevel) LEVELS.get(id);
+    }
+
+    /**
+     * Get the count of assigned ids of error codes. All ids are less than the count.
+     *
+     * @return the count
+     */
+    public static int getErrorCodeCount() {
+        return ERROR_CODES.constants.length;
+    }
+
+    /**
+     * Get the count of assigned ids of error levels. All ids are less than the count.
+     *
+     * @return the count
+     */
+    public static int getLevelCount() {
+        return LEVELS.constants.length;
+    }
+
+    /**
+     * Ids of one kind (error codes or error levels).
+     */
+    private static final class Ids {
+
+        private final Class<?> kind;
+        private final Map<Class<?>, Integer> starts = new IdentityHashMap<>();
+        private volatile Object[] constants = new Object[0];
+        private final ClassValue<Integer> rangeStarts = new ClassValue<Integer>() {
+            @Override
+            protected Integer computeValue(Class<?> type) {
+                return register(type);
+            }
+        };
+
+        private Ids(Class<?> kind, Class<?> common) {
+            this.kind = kind;
+            this.register(common);
+        }
+
+        private synchronized int register(Class<?> type) {
+            Integer start = this.starts.get(type);
+            if (start != null) {
+                return start;
+            }
+            if (!type.isEnum() || !this.kind.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("d.Type must be an enum implementing " + this.kind.getName()
+                    + ": " + type.getName());
+            }
+            Object[] current = this.constants;
+            Object[] typeConstants = type.getEnumConstants();
+            Object[] updated = Arrays.copyOf(current, current.length + typeConstants.length);
+            System.arraycopy(typeConstants, 0, updated, current.length, typeConstants.length);
+            this.starts.put(type, current.length);
+            this.constants = updated;
+            return current.length;
+        }
+
+        private int id(Object value) {
+            if (!(value instanceof Enum)) {
+                return NO_ID;
+            }
+            Enum<?> constant = (Enum<?>) value;
+            return this.rangeStarts.get(constant.getDeclaringClass()) + constant.ordinal();
+        }
+
+        private Object get(int id) {
+            Object[] current = this.constants;
+            return id >= 0 && id < current.length ? current[id] : null;
+        }
+    }
+}
@@ -15,4 +15,13 @@ import java.io.Serializable;
 public interface ErrorLevel extends Serializable {
 
     String name();
+
+    /**
+     * Get the dense id of the error level within the running application. See {@link ErrorIdRegistry}.
+     *
+     * @return the id or {@link ErrorIdRegistry#NO_ID} if the error level isn't an enum constant
+     */
+    default int id() {
+        return ErrorIdRegistry.id(this);
+    }
 }
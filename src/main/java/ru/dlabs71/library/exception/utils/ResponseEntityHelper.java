@@ -1,11 +1,25 @@
 package ru.dlabs71.library.exception.utils;
 
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import ru.dlabs71.library.exception.DExceptionMessageService;
+import ru.dlabs71.library.exception.accumulator.ErrorAccumulator;
+import ru.dlabs71.library.exception.dto.AggregatedErrorsDto;
+import ru.dlabs71.library.exception.dto.ErrorItemDto;
 import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.dto.FrozenErrorResponseDto;
 import ru.dlabs71.library.exception.exception.DException;
+import ru.dlabs71.library.exception.message.MessageTemplate;
+import ru.dlabs71.library.exception.message.MessageTemplateCache;
+import ru.dlabs71.library.exception.result.DFailure;
 import ru.dlabs71.library.exception.type.CommonErrorCode;
 import ru.dlabs71.library.exception.type.ErrorCode;
 
@@ -18,11 +32,82 @@ import ru.dlabs71.library.exception.type.ErrorCode;
  * @author Ivanov Danila
  * @since 0.0.1
  */
-@RequiredArgsConstructor
 public final class ResponseEntityHelper {
 
     private final DExceptionMessageService messageService;
 
+    /**
+     * Cache of compiled message templates. It saves work only when the message service provides raw patterns
+     * (see {@link DExceptionMessageService#getMessagePattern(String, Locale)}), otherwise every message
+     * is still created by {@link DExceptionMessageService#getMessage(String, Object...)}.
+     */
+    @Getter
+    private final MessageTemplateCache templateCache;
+
+    /**
+     * Policy of putting a stacktrace into a response body.
+     */
+    @Getter
+    private final StacktracePolicy stacktracePolicy;
+
+    /**
+     * Cache of prepared responses which don't depend on an exception. If it's null, a response
+     * is created for every call.
+     */
+    @Getter
+    private final ResponseTemplateCache responseTemplateCache;
+
+    public ResponseEntityHelper(DExceptionMessageService messageService) {
+        this(messageService, new MessageTemplateCache(), StacktracePolicy.FULL);
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param messageService   service for getting message by a code
+     * @param templateCache    cache of compiled message templates
+     * @param stacktracePolicy policy of putting a stacktrace into a response body
+     */
+    public ResponseEntityHelper(
+        DExceptionMessageService messageService,
+        MessageTemplateCache templateCache,
+        StacktracePolicy stacktracePolicy
+    ) {
+        this(messageService, templateCache, stacktracePolicy, null);
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param messageService        service for getting message by a code
+     * @param templateCache         cache of compiled message templates
+     * @param stacktracePolicy      policy of putting a stacktrace into a response body
+     * @param responseTemplateCache cache of prepared responses. It can be null.
+     */
+    public ResponseEntityHelper(
+        DExceptionMessageService messageService,
+        MessageTemplateCache templateCache,
+        StacktracePolicy stacktracePolicy,
+        ResponseTemplateCache responseTemplateCache
+    ) {
+        this.messageService = messageService;
+        this.templateCache = templateCache;
+        this.stacktracePolicy = stacktracePolicy;
+        this.responseTemplateCache = responseTemplateCache;
+        messageService.addChangeListener(this::clearCaches);
+    }
+
+    /**
+     * Remove compiled templates and prepared responses. It's called when messages of the message service
+     * are changed.
+     */
+    public void clearCaches() {
+        templateCache.clear();
+        if (responseTemplateCache != null) {
+            responseTemplateCache.clear();
+        }
+    }
+
     public ResponseEntity<ErrorResponseDto> makeResponse500(
         ErrorCode errorCode,
         Throwable cause,
@@ -48,8 +133,33 @@ public final class ResponseEntityHelper {
      *                       or an extra info field in an HTTP response body for client.
      * @param status         an HTTP status
      * @param cause          a throwable object - cause of exception
-     * @param withStacktrace if it's true, the stacktrace from a throwable
-     *                       will be assigned to the field {@linkplain ErrorResponseDto#stacktrace}
+     * @param withStacktrace if it's true, the stacktrace from a throwable will be assigned
+     *                       to the field {@linkplain ErrorResponseDto#stacktrace} (or
+     *                       {@linkplain ErrorResponseDto#compactStacktrace}) according to the stacktrace policy
+     *
+     * @return a prepared ResponseEntity object. If the response doesn't depend on the cause and
+     *     the {@link #responseTemplateCache} is specified, the shared response with an immutable body is returned.
+     */
+    public ResponseEntity<ErrorResponseDto> makeResponse(
+        String message,
+        ErrorCode errorCode,
+        HttpStatus status,
+        Throwable cause,
+        boolean withStacktrace
+    ) {
+        return this.makeResponse(message, errorCode, status, cause, cause.getMessage(), withStacktrace);
+    }
+
+    /**
+     * Create response entity using parameters. The message of the error code gets the passed message
+     * of the cause as the argument, so it can be taken from another exception of the chain of causes.
+     *
+     * @param message        a message explain cause of an exception.
+     * @param errorCode      special error code
+     * @param status         an HTTP status
+     * @param cause          a throwable object - cause of exception. Its stacktrace is put into the response.
+     * @param causeMessage   the argument of the message of the error code
+     * @param withStacktrace if it's true, the stacktrace from a throwable will be put into the response
      *
      * @return a prepared ResponseEntity object
      */
@@ -58,37 +168,83 @@ public final class ResponseEntityHelper {
         ErrorCode errorCode,
         HttpStatus status,
         Throwable cause,
+        String causeMessage,
         boolean withStacktrace
     ) {
-        String acquiredMessage = this.acquireMessage(message, errorCode, cause.getMessage());
-        ErrorResponseDto dto;
+        if (responseTemplateCache != null && message == null && errorCode != null && !withStacktrace) {
+            ResponseEntity<ErrorResponseDto> response = this.getResponseTemplate(errorCode, status);
+            if (response != null) {
+                return response;
+            }
+        }
+        String acquiredMessage = this.acquireMessage(message, errorCode, causeMessage);
+        ErrorResponseDto.ErrorResponseDtoBuilder dto = ErrorResponseDto.builder()
+            .errorCode(errorCode)
+            .message(acquiredMessage);
         if (withStacktrace) {
-            dto = ErrorResponseDto.builder()
-                .errorCode(errorCode)
-                .message(acquiredMessage)
-                .stacktrace(cause.getStackTrace())
-                .build();
-        } else {
-            dto = ErrorResponseDto.builder()
-                .errorCode(errorCode)
-                .message(acquiredMessage)
-                .build();
+            stacktracePolicy.apply(dto, cause);
         }
-        return new ResponseEntity<>(dto, status);
+        return new ResponseEntity<>(dto.build(), status);
     }
 
     /**
-     * Acquire message for the text message parameter by an exception.
+     * Create response entity for a failure. The body is the same as the body for the corresponding exception
+     * (see {@link DFailure}) without a stacktrace.
+     *
+     * @param failure the failure
+     *
+     * @return a prepared ResponseEntity object. If the failure isn't informative, doesn't have a message,
+     *     and the {@link #responseTemplateCache} is specified, the shared response can be returned.
+     */
+    public ResponseEntity<ErrorResponseDto> makeResponse(DFailure failure) {
+        String message = failure.getMessage();
+        if (!failure.isInformative() && (message == null || message.isEmpty()) && failure.getErrorCode() != null) {
+            ResponseEntity<ErrorResponseDto> response = this.getResponseTemplate(
+                failure.getErrorCode(),
+                failure.getHttpStatus()
+            );
+            if (response != null) {
+                return response;
+            }
+        }
+        ErrorResponseDto.ErrorResponseDtoBuilder dto = ErrorResponseDto.builder()
+            .informative(failure.isInformative())
+            .errorCode(failure.getErrorCode())
+            .message(this.acquireMessage(failure));
+        if (failure.isInformative()) {
+            dto.level(failure.getLevel()).data(failure.getData());
+        }
+        return new ResponseEntity<>(dto.build(), failure.getHttpStatus());
+    }
+
+    /**
+     * Acquire message for the text message parameter by an exception. If the exception has raw arguments
+     * of the message (see {@link DException#getMessageArgs()}), they are formatted into the message,
+     * otherwise the message of the cause is the only argument.
      *
      * @param exception instance of the {@link DException}
      *
      * @return string message for {@link ErrorResponseDto}.
      */
     public String acquireMessage(DException exception) {
+        return this.acquireMessage(exception, exception.getCauseExceptionMessage());
+    }
+
+    /**
+     * Acquire message for the text message parameter by an exception. If the exception doesn't have
+     * raw arguments of the message, the passed message of the cause is the only argument.
+     *
+     * @param exception    instance of the {@link DException}
+     * @param causeMessage message of the cause, for example of the root cause of the exception
+     *
+     * @return string message for {@link ErrorResponseDto}.
+     */
+    public String acquireMessage(DException exception, String causeMessage) {
+        Object[] args = exception.getMessageArgs();
         return this.acquireMessage(
             exception.getMessage(),
             exception.getErrorCode(),
-            exception.getCauseExceptionMessage()
+            args != null ? resolveArgs(args) : new Object[]{causeMessage}
         );
     }
 
@@ -108,26 +264,207 @@ public final class ResponseEntityHelper {
      *     If error code is null then message will be equal with the exceptionMessage.
      */
     public String acquireMessage(String message, ErrorCode errorCode, String exceptionMessage) {
+        return this.acquireMessage(message, errorCode, new Object[]{exceptionMessage});
+    }
+
+    private String acquireMessage(String message, ErrorCode errorCode, Object[] args) {
         if (message == null || message.isEmpty()) {
             if (errorCode == null) {
-                return messageService.getMessage(
+                return this.resolveMessage(
                     CommonErrorCode.COMMON_EXCEPTION.getCodeMessage(),
-                    exceptionMessage
+                    args
                 );
             } else {
-                return messageService.getMessage(
+                return this.resolveMessage(
                     errorCode.getCodeMessage(),
-                    exceptionMessage
+                    args
                 );
             }
         } else {
             if (message.startsWith("d.$")) {
-                return messageService.getMessage(
+                return this.resolveMessage(
                     message.substring(1),
-                    exceptionMessage
+                    args
                 );
             }
         }
         return message;
     }
+
+    /**
+     * Format messages of the errors collected by the accumulator. A message pattern is looked up once
+     * per distinct error code, and a message without arguments is formatted once per error code.
+     *
+     * @param accumulator the collected errors
+     *
+     * @return the list of errors for the <code>data</code> field of the aggregated response
+     */
+    public AggregatedErrorsDto makeErrorList(ErrorAccumulator accumulator) {
+        int size = accumulator.size();
+        List<ErrorItemDto> errors = new ArrayList<>(size);
+        // a value is a constant message, a compiled template or NO_PATTERN
+        Map<ErrorCode, Object> templates = new HashMap<>();
+        // messages of the message service formatted without arguments
+        Map<ErrorCode, String> messagesWithoutArgs = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            ErrorCode errorCode = accumulator.getErrorCode(i);
+            Object[] args = accumulator.getMessageArgs(i);
+            Object resolved = templates.get(errorCode);
+            if (resolved == null) {
+                MessageTemplate template = this.getMessageTemplate(errorCode.getCodeMessage());
+                if (template == null) {
+                    resolved = MessageTemplateCache.NO_PATTERN;
+                } else {
+                    resolved = template.isConstant() ? template.format() : template;
+                }
+                templates.put(errorCode, resolved);
+            }
+            String message;
+            if (resolved instanceof String) {
+                message = (String) resolved;
+            } else if (resolved != MessageTemplateCache.NO_PATTERN) {
+                message = ((MessageTemplate) resolved).format(resolveArgs(args));
+            } else if (args.length == 0) {
+                message = messagesWithoutArgs.get(errorCode);
+                if (message == null) {
+                    message = messageService.getMessage(errorCode.getCodeMessage());
+                    messagesWithoutArgs.put(errorCode, message);
+                }
+            } else {
+                message = messageService.getMessage(errorCode.getCodeMessage(), resolveArgs(args));
+            }
+            errors.add(new ErrorItemDto(errorCode, accumulator.getLevel(i), message));
+        }
+        return new AggregatedErrorsDto(accumulator.getTotal(), errors);
+    }
+
+    /**
+     * Get compiled message template by the code for the current locale of the message service.
+     *
+     * @param code a message code
+     *
+     * @return the compiled template or null if the message service doesn't provide a pattern for the code
+     */
+    public MessageTemplate getMessageTemplate(String code) {
+        Locale locale = messageService.getLocale();
+        if (locale == null) {
+            locale = Locale.ROOT;
+        }
+        MessageTemplate template = templateCache.get(code, locale);
+        if (template == null) {
+            String pattern = messageService.getMessagePattern(code, locale);
+            template = templateCache.put(
+                code,
+                locale,
+                pattern != null ? MessageTemplate.compile(pattern, locale) : MessageTemplateCache.NO_PATTERN
+            );
+        }
+        return template != MessageTemplateCache.NO_PATTERN ? template : null;
+    }
+
+    /**
+     * Get the shared response for the error code and the HTTP status. The response is created and cached
+     * on the first call if the message of the error code doesn't have arguments.
+     *
+     * @param errorCode error code of the response
+     * @param status    HTTP status of the response
+     *
+     * @return the shared response or null if the response depends on an exception
+     *     or the {@link #responseTemplateCache} isn't specified
+     */
+    public ResponseEntity<ErrorResponseDto> getResponseTemplate(ErrorCode errorCode, HttpStatus status) {
+        if (responseTemplateCache == null) {
+            return null;
+        }
+        Locale locale = messageService.getLocale();
+        if (locale == null) {
+            locale = Locale.ROOT;
+        }
+        ResponseEntity<ErrorResponseDto> response = responseTemplateCache.get(errorCode, status, locale);
+        if (response == null) {
+            MessageTemplate template = this.getMessageTemplate(errorCode.getCodeMessage());
+            response = responseTemplateCache.put(
+                errorCode,
+                status,
+                locale,
+                template != null && template.isConstant()
+                    ? new ResponseEntity<>(FrozenErrorResponseDto.of(false, errorCode, null, template.format()), status)
+                    : ResponseTemplateCache.NOT_CACHEABLE
+            );
+        }
+        return response != ResponseTemplateCache.NOT_CACHEABLE ? response : null;
+    }
+
+    /**
+     * Prepare the shared responses of all constants of the error code enums for the HTTP status
+     * in the current locale of the message service. Constants of {@link CommonErrorCode} are always prepared.
+     *
+     * @param status         HTTP status of the responses
+     * @param errorCodeTypes enums of error codes
+     */
+    @SafeVarargs
+    public final void warmUp(HttpStatus status, Class<? extends ErrorCode>... errorCodeTypes) {
+        if (responseTemplateCache == null) {
+            return;
+        }
+        this.warmUpType(status, CommonErrorCode.class);
+        for (Class<? extends ErrorCode> errorCodeType : errorCodeTypes) {
+            this.warmUpType(status, errorCodeType);
+        }
+    }
+
+    /**
+     * Prepare the shared responses of all constants of the error code enums for the HTTP status
+     * in the current locale of the message service. Constants of {@link CommonErrorCode} are always prepared.
+     *
+     * @param status         HTTP status of the responses
+     * @param errorCodeTypes enums of error codes
+     */
+    public void warmUp(HttpStatus status, Collection<Class<? extends ErrorCode>> errorCodeTypes) {
+        if (responseTemplateCache == null) {
+            return;
+        }
+        this.warmUpType(status, CommonErrorCode.class);
+        for (Class<? extends ErrorCode> errorCodeType : errorCodeTypes) {
+            this.warmUpType(status, errorCodeType);
+        }
+    }
+
+    private void warmUpType(HttpStatus status, Class<? extends ErrorCode> errorCodeType) {
+        ErrorCode[] errorCodes = errorCodeType.getEnumConstants();
+        if (errorCodes == null) {
+            throw new IllegalArgumentException("d.Error code type must be an enum: " + errorCodeType.getName());
+        }
+        for (ErrorCode errorCode : errorCodes) {
+            this.getResponseTemplate(errorCode, status);
+        }
+    }
+
+    private String resolveMessage(String code, Object[] args) {
+        MessageTemplate template = this.getMessageTemplate(code);
+        if (template == null) {
+            return messageService.getMessage(code, args);
+        }
+        return template.format(args);
+    }
+
+    /**
+     * Replace suppliers among raw arguments of a message by their values.
+     *
+     * @param args raw arguments
+     *
+     * @return the same array if it doesn't contain suppliers or a copy with computed values
+     */
+    private static Object[] resolveArgs(Object[] args) {
+        Object[] result = args;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Supplier) {
+                if (result == args) {
+                    result = args.clone();
+                }
+                result[i] = ((Supplier<?>) args[i]).get();
+            }
+        }
+        return result;
+    }
 }
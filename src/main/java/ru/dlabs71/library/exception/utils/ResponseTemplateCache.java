@@ -0,0 +1,156 @@
+package ru.dlabs71.library.exception.utils;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.dto.FrozenErrorResponseDto;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCodeTable;
+
+/**
+ * Bounded cache of prepared responses by an error code, an HTTP status and a locale. It contains
+ * responses which don't depend on an exception: without a stacktrace and with a message which doesn't
+ * have arguments. The bodies of the responses are {@link FrozenErrorResponseDto}, so the same
+ * {@link ResponseEntity} can be returned for every request.
+ *
+ * <p>Responses of a code are stored in an array indexed by the ordinal of {@link HttpStatus}, and the arrays
+ * of a locale are stored in an {@link ErrorCodeTable}, so reading from the cache doesn't take locks,
+ * doesn't allocate and doesn't hash error codes. The set of error codes is finite, so the cache
+ * doesn't evict responses: when it's full, new responses just aren't cached.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class ResponseTemplateCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * Marker of a response which can't be cached, because its message depends on an exception.
+     */
+    static final ResponseEntity<ErrorResponseDto> NOT_CACHEABLE = new ResponseEntity<>(HttpStatus.OK);
+
+    private static final int STATUS_COUNT = HttpStatus.values().length;
+
+    private final int maxSize;
+    private final ConcurrentMap<Locale, ErrorCodeTable<StatusResponses>> responses = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseTemplateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor of the class.
+     *
+     * @param maxSize maximum count of responses in the cache for all locales
+     */
+    public ResponseTemplateCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("d.Max size of the cache must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get a response from the cache.
+     *
+     * @param errorCode error code of the response
+     * @param status    HTTP status of the response
+     * @param locale    locale of the message
+     *
+     * @return the response, {@link #NOT_CACHEABLE} or null if it isn't in the cache
+     */
+    ResponseEntity<ErrorResponseDto> get(ErrorCode errorCode, HttpStatus status, Locale locale) {
+        ErrorCodeTable<StatusResponses> localeResponses = this.responses.get(locale);
+        StatusResponses statusResponses = localeResponses != null ? localeResponses.get(errorCode) : null;
+        ResponseEntity<ErrorResponseDto> response =
+            statusResponses != null ? statusResponses.get(status.ordinal()) : null;
+        if (response != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+        return response;
+    }
+
+    /**
+     * Put a response into the cache. If another thread has already put a response
+     * for the same key, that response is kept.
+     *
+     * @param errorCode error code of the response
+     * @param status    HTTP status of the response
+     * @param locale    locale of the message
+     * @param response  the response or {@link #NOT_CACHEABLE}
+     *
+     * @return the response which is in the cache now, or the passed one if the cache is full
+     */
+    ResponseEntity<ErrorResponseDto> put(
+        ErrorCode errorCode,
+        HttpStatus status,
+        Locale locale,
+        ResponseEntity<ErrorResponseDto> response
+    ) {
+        if (this.size.get() >= this.maxSize) {
+            return response;
+        }
+        ErrorCodeTable<StatusResponses> localeResponses = this.responses.get(locale);
+        if (localeResponses == null) {
+            localeResponses = this.responses.computeIfAbsent(locale, key -> new ErrorCodeTable<>());
+        }
+        StatusResponses statusResponses = localeResponses.computeIfAbsent(errorCode, key -> new StatusResponses());
+        if (statusResponses.compareAndSet(status.ordinal(), null, response)) {
+            this.size.incrementAndGet();
+            return response;
+        }
+        return statusResponses.get(status.ordinal());
+    }
+
+    /**
+     * Remove all responses from the cache. It must be called when messages are changed.
+     * Counters aren't reset.
+     */
+    public void clear() {
+        this.responses.clear();
+        this.size.set(0);
+    }
+
+    public int size() {
+        return this.size.get();
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Responses of an error code indexed by the ordinal of {@link HttpStatus}.
+     */
+    private static final class StatusResponses extends AtomicReferenceArray<ResponseEntity<ErrorResponseDto>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private StatusResponses() {
+            super(STATUS_COUNT);
+        }
+    }
+}
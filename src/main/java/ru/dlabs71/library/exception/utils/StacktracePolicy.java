@@ -0,0 +1,250 @@
+package ru.dlabs71.library.exception.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+
+/**
+ * Policy of putting a stacktrace into an HTTP response body. A stacktrace of a Spring application usually
+ * has more than a hundred frames, and most of them are frames of the framework and the servlet container.
+ * The policy allows trimming such frames and encoding the stacktrace in the compact form.
+ *
+ * <ul>
+ *     <li>{@link #maxDepth} - maximum count of frames of each exception in the response</li>
+ *     <li>{@link #includePackages} - if it isn't empty, only frames of classes from these packages
+ *     are kept</li>
+ *     <li>{@link #excludePackages} - frames of classes from these packages are dropped</li>
+ *     <li>{@link #excludeLambdaFrames} - frames of lambdas are dropped</li>
+ *     <li>{@link #format} - {@link Format#RAW} keeps {@link StackTraceElement} objects in the
+ *     {@link ErrorResponseDto#getStacktrace()} field. {@link Format#COMPACT} puts one line per a frame
+ *     into the {@link ErrorResponseDto#getCompactStacktrace()} field.</li>
+ *     <li>{@link #foldCauses} - only for the compact format. Stacktraces of causes are appended after
+ *     "Caused by:" lines, frames which are common with the enclosing exception are folded into
+ *     "... n more" line.</li>
+ * </ul>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Getter
+@Builder
+public final class StacktracePolicy {
+
+    /**
+     * Policy which puts the full stacktrace as is.
+     */
+    public static final StacktracePolicy FULL = StacktracePolicy.builder().build();
+
+    private static final String[] NO_LINES = new String[0];
+    private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+    @Builder.Default
+    private final int maxDepth = Integer.MAX_VALUE;
+
+    @Singular
+    private final List<String> includePackages;
+
+    @Singular
+    private final List<String> excludePackages;
+
+    private final boolean excludeLambdaFrames;
+
+    @Builder.Default
+    private final Format format = Format.RAW;
+
+    private final boolean foldCauses;
+
+    @Builder.Default
+    private final int maxCauses = 8;
+
+    /**
+     * Create a policy which drops frames of Spring, the servlet container and reflection, and also frames
+     * of lambdas. The stacktrace is encoded in the compact form with folded causes.
+     *
+     * @param maxDepth maximum count of frames of each exception in the response
+     *
+     * @return prepared policy
+     */
+    public static StacktracePolicy compact(int maxDepth) {
+        return StacktracePolicy.builder()
+            .maxDepth(maxDepth)
+            .excludePackage("org.springframework.")
+            .excludePackage("org.apache.catalina.")
+            .excludePackage("org.apache.coyote.")
+            .excludePackage("org.apache.tomcat.")
+            .excludePackage("jakarta.servlet.")
+            .excludePackage("javax.servlet.")
+            .excludePackage("sun.reflect.")
+            .excludePackage("jdk.internal.reflect.")
+            .excludePackage("java.lang.reflect.")
+            .excludeLambdaFrames(true)
+            .format(Format.COMPACT)
+            .foldCauses(true)
+            .build();
+    }
+
+    /**
+     * Put the stacktrace of the throwable into the response body builder according to the policy.
+     *
+     * @param builder   builder of the response body
+     * @param throwable a throwable object whose stacktrace will be put
+     *
+     * @return the same builder
+     */
+    public ErrorResponseDto.ErrorResponseDtoBuilder apply(
+        ErrorResponseDto.ErrorResponseDtoBuilder builder,
+        Throwable throwable
+    ) {
+        if (this.format == Format.COMPACT) {
+            return builder.compactStacktrace(this.encode(throwable));
+        }
+        return builder.stacktrace(this.filter(throwable.getStackTrace()));
+    }
+
+    /**
+     * Drop stack frames according to the policy.
+     *
+     * @param frames source stack frames
+     *
+     * @return kept stack frames. If the policy doesn't drop anything, the same array is returned.
+     */
+    public StackTraceElement[] filter(StackTraceElement[] frames) {
+        if (!this.isFiltering() && frames.length <= this.maxDepth) {
+            return frames;
+        }
+        List<StackTraceElement> result = new ArrayList<>(Math.min(frames.length, this.maxDepth));
+        for (int i = 0; i < frames.length && result.size() < this.maxDepth; i++) {
+            if (this.isKept(frames[i])) {
+                result.add(frames[i]);
+            }
+        }
+        return result.isEmpty() ? NO_FRAMES : result.toArray(NO_FRAMES);
+    }
+
+    /**
+     * Encode the stacktrace of the throwable in the compact form: one line per a stack frame.
+     *
+     * @param throwable a throwable object
+     *
+     * @return lines of the stacktrace
+     */
+    public String[] encode(Throwable throwable) {
+        List<String> lines = new ArrayList<>();
+        StackTraceElement[] frames = throwable.getStackTrace();
+        this.encodeFrames(frames, frames.length, lines);
+
+        if (this.foldCauses) {
+            Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            visited.add(throwable);
+            StackTraceElement[] enclosingFrames = frames;
+            Throwable cause = throwable.getCause();
+            for (int i = 0; cause != null && i < this.maxCauses && visited.add(cause); i++) {
+                StackTraceElement[] causeFrames = cause.getStackTrace();
+                int unique = causeFrames.length - countCommonFrames(causeFrames, enclosingFrames);
+                lines.add("Caused by: " + cause);
+                this.encodeFrames(causeFrames, unique, lines);
+                if (unique < causeFrames.length) {
+                    lines.add("... " + (causeFrames.length - unique) + " more");
+                }
+                enclosingFrames = causeFrames;
+                cause = cause.getCause();
+            }
+        }
+        return lines.isEmpty() ? NO_LINES : lines.toArray(NO_LINES);
+    }
+
+    private void encodeFrames(StackTraceElement[] frames, int length, List<String> lines) {
+        int kept = 0;
+        int dropped = 0;
+        for (int i = 0; i < length; i++) {
+            if (kept < this.maxDepth && this.isKept(frames[i])) {
+                lines.add(encodeFrame(frames[i]));
+                kept++;
+            } else {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            lines.add("... " + dropped + " frames omitted");
+        }
+    }
+
+    private boolean isFiltering() {
+        return this.excludeLambdaFrames || !this.includePackages.isEmpty() || !this.excludePackages.isEmpty();
+    }
+
+    private boolean isKept(StackTraceElement frame) {
+        String className = frame.getClassName();
+        if (this.excludeLambdaFrames
+            && (className.contains("$$Lambda") || frame.getMethodName().startsWith("lambda$"))) {
+            return false;
+        }
+        if (!this.includePackages.isEmpty() && !startsWithAny(className, this.includePackages)) {
+            return false;
+        }
+        return !startsWithAny(className, this.excludePackages);
+    }
+
+    private static boolean startsWithAny(String className, List<String> prefixes) {
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (className.startsWith(prefixes.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int countCommonFrames(StackTraceElement[] frames, StackTraceElement[] enclosingFrames) {
+        int i = frames.length - 1;
+        int j = enclosingFrames.length - 1;
+        int common = 0;
+        while (i >= 0 && j >= 0 && frames[i].equals(enclosingFrames[j])) {
+            common++;
+            i--;
+            j--;
+        }
+        return common;
+    }
+
+    private static String encodeFrame(StackTraceElement frame) {
+        StringBuilder builder = new StringBuilder(96)
+            .append(frame.getClassName())
+            .append('.')
+            .append(frame.getMethodName())
+            .append('(');
+        if (frame.isNativeMethod()) {
+            builder.append("Native Method");
+        } else if (frame.getFileName() == null) {
+            builder.append("Unknown Source");
+        } else {
+            builder.append(frame.getFileName());
+            if (frame.getLineNumber() >= 0) {
+                builder.append(':').append(frame.getLineNumber());
+            }
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Format of a stacktrace in an HTTP response body.
+     */
+    public enum Format {
+        /**
+         * Array of {@link StackTraceElement} objects in the {@link ErrorResponseDto#getStacktrace()} field.
+         */
+        RAW,
+        /**
+         * Array of lines in the {@link ErrorResponseDto#getCompactStacktrace()} field.
+         */
+        COMPACT
+    }
+}
@@ -0,0 +1,169 @@
+package ru.dlabs71.library.exception.warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.utils.ResponseEntityHelper;
+
+/**
+ * Warm-up of the library. It does the work which is otherwise done by the first errors after a start:
+ * <ul>
+ *     <li>loads messages of all error codes for the specified locales (message bundles of
+ *     {@link ru.dlabs71.library.exception.message.ResourceBundleMessageService} are read lazily);</li>
+ *     <li>compiles message templates and prepares the shared responses of all error codes for the specified
+ *     HTTP statuses (see {@link ResponseEntityHelper#warmUp(HttpStatus, java.util.Collection)});</li>
+ *     <li>creates exceptions and responses with and without stacktraces and passes them to the serializers
+ *     the specified number of times, so the classes are loaded and the hot paths are compiled by JIT.</li>
+ * </ul>
+ * Constants of {@link CommonErrorCode} are always warmed up.
+ *
+ * <p>Call {@link #run()} when the application has started, or before a CRaC checkpoint
+ * (see {@link ru.dlabs71.library.exception.warmup.crac.CracWarmUpResource}).
+ *
+ * <pre>{@code
+ * DExceptionWarmUp warmUp = DExceptionWarmUp.builder()
+ *     .responseEntityHelper(exceptionResolver.getResponseEntityHelper())
+ *     .messageService(messageService)
+ *     .locale(new Locale("ru", "RU"))
+ *     .errorCodeType(MyErrorCode.class)
+ *     .serializer(new ErrorResponseJsonWriter(objectMapper)::toBytes)
+ *     .build();
+ * }</pre>
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+@Slf4j
+public final class DExceptionWarmUp implements Runnable {
+
+    public static final int DEFAULT_ITERATIONS = 1000;
+
+    /**
+     * Error codes which are warmed up.
+     */
+    @Getter
+    private final List<ErrorCode> errorCodes;
+
+    /**
+     * Count of passes over all error codes on the hot paths.
+     */
+    @Getter
+    private final int iterations;
+
+    private final ResponseEntityHelper responseEntityHelper;
+    private final DExceptionMessageService messageService;
+    private final List<Class<? extends ErrorCode>> errorCodeTypes;
+    private final Set<Locale> locales;
+    private final Set<HttpStatus> statuses;
+    private final List<Consumer<ErrorResponseDto>> serializers;
+
+    /**
+     * Constructor of the class.
+     *
+     * @param responseEntityHelper helper of the exception resolver
+     *                             (see {@link ru.dlabs71.library.exception.resolver.ExceptionResolverCore})
+     * @param messageService       service for getting message by a code. If it's null, messages are loaded
+     *                             only for the current locale by the helper.
+     * @param errorCodeTypes       enums of error codes
+     * @param locales              locales of messages. By default, it's the current locale of the message service.
+     * @param statuses             HTTP statuses of the shared responses. By default, it's 500.
+     * @param serializers          serializers of response bodies, for example
+     *                             {@link ru.dlabs71.library.exception.dto.ErrorResponseJsonWriter#toBytes}
+     * @param iterations           count of passes over all error codes. By default, it's {@link #DEFAULT_ITERATIONS}.
+     */
+    @Builder
+    private DExceptionWarmUp(
+        ResponseEntityHelper responseEntityHelper,
+        DExceptionMessageService messageService,
+        @Singular List<Class<? extends ErrorCode>> errorCodeTypes,
+        @Singular List<Locale> locales,
+        @Singular Set<HttpStatus> statuses,
+        @Singular List<Consumer<ErrorResponseDto>> serializers,
+        Integer iterations
+    ) {
+        if (responseEntityHelper == null) {
+            throw new IllegalArgumentException("d.Response entity helper of the warm-up must be specified");
+        }
+        this.responseEntityHelper = responseEntityHelper;
+        this.messageService = messageService;
+        this.errorCodeTypes = errorCodeTypes;
+        this.locales = new LinkedHashSet<>(locales);
+        if (this.locales.isEmpty() && messageService != null) {
+            this.locales.add(messageService.getLocale());
+        }
+        this.statuses = statuses.isEmpty() ? Collections.singleton(HttpStatus.INTERNAL_SERVER_ERROR) : statuses;
+        this.serializers = serializers;
+        this.iterations = iterations != null ? iterations : DEFAULT_ITERATIONS;
+        if (this.iterations < 0) {
+            throw new IllegalArgumentException("d.Iterations of the warm-up mustn't be negative");
+        }
+
+        List<ErrorCode> codes = new ArrayList<>();
+        Collections.addAll(codes, CommonErrorCode.values());
+        for (Class<? extends ErrorCode> errorCodeType : errorCodeTypes) {
+            ErrorCode[] constants = errorCodeType.getEnumConstants();
+            if (constants == null) {
+                throw new IllegalArgumentException("d.Error code type must be an enum: " + errorCodeType.getName());
+            }
+            Collections.addAll(codes, constants);
+        }
+        this.errorCodes = Collections.unmodifiableList(codes);
+    }
+
+    /**
+     * Do the warm-up. It can be called several times, for example, before every checkpoint.
+     */
+    @Override
+    public void run() {
+        final long started = System.nanoTime();
+        if (this.messageService != null) {
+            for (Locale locale : this.locales) {
+                for (ErrorCode errorCode : this.errorCodes) {
+                    this.messageService.getMessagePattern(errorCode.getCodeMessage(), locale);
+                }
+            }
+        }
+        for (HttpStatus status : this.statuses) {
+            this.responseEntityHelper.warmUp(status, this.errorCodeTypes);
+        }
+
+        HttpStatus status = this.statuses.iterator().next();
+        for (int i = 0; i < this.iterations; i++) {
+            for (ErrorCode errorCode : this.errorCodes) {
+                ServiceException exception = ServiceException.build(errorCode);
+                this.serialize(this.responseEntityHelper.makeResponse(errorCode, status, exception, false));
+                this.serialize(this.responseEntityHelper.makeResponse(errorCode, status, exception, true));
+            }
+        }
+        log.debug(
+            "d.Warm-up of {} error codes is done in {} ms",
+            this.errorCodes.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+        );
+    }
+
+    private void serialize(ResponseEntity<ErrorResponseDto> response) {
+        for (Consumer<ErrorResponseDto> serializer : this.serializers) {
+            serializer.accept(response.getBody());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ru.dlabs71.library.exception.warmup.crac;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import ru.dlabs71.library.exception.warmup.DExceptionWarmUp;
+
+/**
+ * CRaC resource which runs the {@link DExceptionWarmUp} before a checkpoint, so the image contains loaded
+ * messages, prepared responses and compiled hot paths, and the first error after restore is handled as fast
+ * as the following ones.
+ *
+ * <p>CRaC holds registered resources by weak references, so keep a reference to the resource
+ * (for example, declare it as a bean).
+ *
+ * <p>The resource requires the <code>org.crac:crac</code> dependency, which isn't transitive for the library.
+ * Without a CRaC-enabled JVM the resource is never called.
+ *
+ * <p><div><strong>Project name:</strong> d-exception </div>
+ * <div><strong>Creation date:</strong> 2026-10-17 </div>
+ *
+ * @author Ivanov Danila
+ * @since 0.0.2
+ */
+public final class CracWarmUpResource implements Resource {
+
+    private final DExceptionWarmUp warmUp;
+
+    public CracWarmUpResource(DExceptionWarmUp warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * Create the resource and register it in the global CRaC context.
+     *
+     * @param warmUp warm-up of the library
+     *
+     * @return the registered resource. The caller must keep a reference to it.
+     */
+    public static CracWarmUpResource register(DExceptionWarmUp warmUp) {
+        CracWarmUpResource resource = new CracWarmUpResource(warmUp);
+        Core.getGlobalContext().register(resource);
+        return resource;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        this.warmUp.run();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        // everything which is prepared before the checkpoint stays valid
+    }
+}
@@ -0,0 +1,67 @@
+package ru.dlabs71.library.exception;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Message service for tests. It formats messages by {@link MessageFormat} and counts calls.
+ * If it's created with <code>supplyPatterns = false</code>, it behaves like a service which
+ * doesn't implement {@link DExceptionMessageService#getMessagePattern(String, Locale)}.
+ */
+public final class TestMessageService implements DExceptionMessageService {
+
+    private final Map<String, String> patterns = new HashMap<>();
+    private final boolean supplyPatterns;
+    private final AtomicInteger messageCalls = new AtomicInteger();
+    private final AtomicInteger patternCalls = new AtomicInteger();
+    private Runnable changeListener;
+
+    public TestMessageService(boolean supplyPatterns) {
+        this.supplyPatterns = supplyPatterns;
+    }
+
+    public TestMessageService pattern(String code, String pattern) {
+        this.patterns.put(code, pattern);
+        return this;
+    }
+
+    @Override
+    public String getMessage(String code, Object... args) {
+        this.messageCalls.incrementAndGet();
+        String pattern = this.patterns.get(code);
+        return pattern != null ? new MessageFormat(pattern, Locale.ROOT).format(args) : code;
+    }
+
+    @Override
+    public String getMessagePattern(String code, Locale locale) {
+        this.patternCalls.incrementAndGet();
+        return this.supplyPatterns ? this.patterns.get(code) : null;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return Locale.ROOT;
+    }
+
+    @Override
+    public void addChangeListener(Runnable listener) {
+        this.changeListener = listener;
+    }
+
+    public void fireChange() {
+        if (this.changeListener != null) {
+            this.changeListener.run();
+        }
+    }
+
+    public int getMessageCalls() {
+        return this.messageCalls.get();
+    }
+
+    public int getPatternCalls() {
+        return this.patternCalls.get();
+    }
+}
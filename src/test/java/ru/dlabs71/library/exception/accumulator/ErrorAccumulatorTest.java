@@ -0,0 +1,82 @@
+package ru.dlabs71.library.exception.accumulator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.AccumulatedErrorsServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+class ErrorAccumulatorTest {
+
+    @Test
+    void errorsAreKeptInOrder() {
+        ErrorAccumulator errors = ErrorAccumulator.create()
+            .add(CommonErrorCode.ENTITY_NOT_FOUND, 1, "a")
+            .add(CommonErrorCode.LOCK_OBJECT, CommonErrorLevel.WARNING)
+            .add(CommonErrorCode.IO_EXCEPTION, null, (Object[]) null);
+
+        assertEquals(3, errors.size());
+        assertEquals(CommonErrorCode.ENTITY_NOT_FOUND, errors.getErrorCode(0));
+        assertEquals(CommonErrorLevel.ERROR, errors.getLevel(0));
+        assertArrayEquals(new Object[]{1, "a"}, errors.getMessageArgs(0));
+        assertEquals(CommonErrorLevel.WARNING, errors.getLevel(1));
+        assertEquals(CommonErrorLevel.ERROR, errors.getLevel(2));
+        assertEquals(0, errors.getMessageArgs(2).length);
+    }
+
+    @Test
+    void errorsOverCapAreOnlyCounted() {
+        ErrorAccumulator errors = ErrorAccumulator.builder().maxErrors(40).build();
+        for (int i = 0; i < 100; i++) {
+            errors.add(CommonErrorCode.ENTITY_NOT_FOUND, i);
+        }
+
+        assertEquals(40, errors.size());
+        assertEquals(100, errors.getTotal());
+        assertTrue(errors.isTruncated());
+        assertArrayEquals(new Object[]{39}, errors.getMessageArgs(39));
+        assertThrows(IndexOutOfBoundsException.class, () -> errors.getErrorCode(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> errors.getLevel(-1));
+    }
+
+    @Test
+    void clearRemovesAllErrors() {
+        ErrorAccumulator errors = ErrorAccumulator.builder().maxErrors(1).build()
+            .add(CommonErrorCode.ENTITY_NOT_FOUND)
+            .add(CommonErrorCode.LOCK_OBJECT);
+
+        errors.clear();
+
+        assertTrue(errors.isEmpty());
+        assertFalse(errors.isTruncated());
+        assertEquals(0, errors.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> errors.getMessageArgs(0));
+    }
+
+    @Test
+    void invalidCapIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ErrorAccumulator.builder().maxErrors(0).build());
+    }
+
+    @Test
+    void errorsAreThrownOnlyIfNotEmpty() {
+        ErrorAccumulator errors = ErrorAccumulator.create();
+        errors.throwIfNotEmpty();
+
+        errors.add(CommonErrorCode.ENTITY_NOT_FOUND).add(CommonErrorCode.LOCK_OBJECT);
+        AccumulatedErrorsServiceException exception =
+            assertThrows(AccumulatedErrorsServiceException.class, errors::throwIfNotEmpty);
+
+        assertSame(errors, exception.getErrors());
+        assertEquals(CommonErrorCode.VALIDATION_EXCEPTION, exception.getErrorCode());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        assertArrayEquals(new Object[]{2L}, exception.getMessageArgs());
+    }
+}
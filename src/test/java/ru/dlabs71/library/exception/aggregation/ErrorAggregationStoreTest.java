@@ -0,0 +1,113 @@
+package ru.dlabs71.library.exception.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.codec.RemoteErrorCode;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ErrorAggregationStoreTest {
+
+    @Test
+    void occurrencesAreGrouped() {
+        ErrorAggregationStore store = ErrorAggregationStore.builder().build();
+        ServiceException first = new ServiceException("first", CommonErrorCode.LOCK_OBJECT);
+        ServiceException stackless = new ServiceException("second", CommonErrorCode.LOCK_OBJECT);
+        stackless.setStackTrace(new StackTraceElement[0]);
+
+        store.record(first, CommonErrorCode.LOCK_OBJECT, 409);
+        store.record(stackless, CommonErrorCode.LOCK_OBJECT, 423);
+        store.record(new IllegalStateException(), null, 500);
+
+        List<ErrorAggregate> aggregates = store.query(ErrorAggregateQuery.ALL);
+        assertEquals(2, aggregates.size());
+        ErrorAggregate top = aggregates.get(0);
+        assertEquals(2, top.getCount());
+        assertEquals("LOCK_OBJECT", top.getErrorCode());
+        assertEquals(ServiceException.class.getName(), top.getExceptionClass());
+        assertEquals(423, top.getLastStatus());
+        assertSame(first, top.getSample());
+        assertTrue(top.getFrames().size() <= 3);
+        assertSame(top.getSample(), store.get(top.getFingerprint()).getSample());
+    }
+
+    @Test
+    void resolvedErrorsAreRecorded() {
+        ErrorAggregationStore store = ErrorAggregationStore.builder().build();
+        ErrorResponseDto body = ErrorResponseDto.builder().errorCode(CommonErrorCode.STALE_OBJECT).build();
+
+        store.onResolved(new IllegalStateException(), body, HttpStatus.CONFLICT, 0);
+        store.onResolved(ServiceException.build(CommonErrorCode.LOCK_OBJECT), null, null, 0);
+        store.onResolved(null, body, HttpStatus.CONFLICT, 0);
+
+        assertEquals(1, store.query(ErrorAggregateQuery.builder().errorCode("STALE_OBJECT").build()).size());
+        assertEquals(409, store.query(ErrorAggregateQuery.builder().errorCode("STALE_OBJECT").build())
+            .get(0).getLastStatus());
+        assertEquals(1, store.query(ErrorAggregateQuery.builder().errorCode("LOCK_OBJECT").build()).size());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void leastRecentlySeenErrorsAreEvicted() throws InterruptedException {
+        ErrorAggregationStore store = ErrorAggregationStore.builder().maxSize(8).build();
+        IllegalStateException exception = new IllegalStateException();
+        for (int i = 0; i < 8; i++) {
+            store.record(exception, RemoteErrorCode.of("CODE_" + i), 500);
+            Thread.sleep(2);
+        }
+        store.record(exception, RemoteErrorCode.of("CODE_0"), 500);
+        Thread.sleep(2);
+
+        store.record(exception, RemoteErrorCode.of("CODE_8"), 500);
+
+        assertEquals(7, store.size());
+        assertEquals(2, store.getEvictedCount());
+        assertNotNull(find(store, "CODE_0"));
+        assertNull(find(store, "CODE_1"));
+        assertNull(find(store, "CODE_2"));
+        assertNotNull(find(store, "CODE_3"));
+        assertNotNull(find(store, "CODE_8"));
+    }
+
+    @Test
+    void queryIsFilteredOrderedAndLimited() {
+        ErrorAggregationStore store = ErrorAggregationStore.builder().build();
+        IllegalStateException exception = new IllegalStateException();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j <= i; j++) {
+                store.record(exception, RemoteErrorCode.of("CODE_" + i), 500);
+            }
+        }
+
+        List<ErrorAggregate> top = store.query(ErrorAggregateQuery.builder().limit(2).build());
+        List<ErrorAggregate> frequent = store.query(ErrorAggregateQuery.builder().minCount(2).build());
+
+        assertEquals(2, top.size());
+        assertEquals("CODE_2", top.get(0).getErrorCode());
+        assertEquals("CODE_1", top.get(1).getErrorCode());
+        assertEquals(2, frequent.size());
+        assertNull(store.get("unknown"));
+        store.clear();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ErrorAggregationStore.builder().maxSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> ErrorAggregationStore.builder().frames(-1).build());
+    }
+
+    private static ErrorAggregate find(ErrorAggregationStore store, String errorCode) {
+        List<ErrorAggregate> result = store.query(ErrorAggregateQuery.builder().errorCode(errorCode).build());
+        return result.isEmpty() ? null : result.get(0);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.dlabs71.library.exception.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ErrorFingerprintTest {
+
+    @Test
+    void libraryExceptionsIgnoreStacktrace() {
+        ServiceException captured = new ServiceException("first", CommonErrorCode.LOCK_OBJECT);
+        ServiceException skipped = new ServiceException("second", CommonErrorCode.LOCK_OBJECT);
+        skipped.setStackTrace(new StackTraceElement[0]);
+
+        assertEquals(
+            ErrorFingerprint.of(captured, CommonErrorCode.LOCK_OBJECT, 3),
+            ErrorFingerprint.of(skipped, CommonErrorCode.LOCK_OBJECT, 3)
+        );
+        assertEquals(
+            ErrorFingerprint.of(captured, CommonErrorCode.LOCK_OBJECT, 3),
+            ErrorFingerprint.of(captured, CommonErrorCode.LOCK_OBJECT, 0)
+        );
+        assertNotEquals(
+            ErrorFingerprint.of(captured, CommonErrorCode.LOCK_OBJECT, 3),
+            ErrorFingerprint.of(captured, CommonErrorCode.STALE_OBJECT, 3)
+        );
+        assertNotEquals(
+            ErrorFingerprint.of(captured, CommonErrorCode.LOCK_OBJECT, 3),
+            ErrorFingerprint.of(WithoutStacktraceServiceException.build(CommonErrorCode.LOCK_OBJECT), null, 3)
+        );
+    }
+
+    @Test
+    void otherExceptionsAreDistinguishedByFrames() {
+        IllegalStateException first = new IllegalStateException();
+        first.setStackTrace(new StackTraceElement[] { frame("a.Service", "load"), frame("a.Controller", "get") });
+        IllegalStateException second = new IllegalStateException();
+        second.setStackTrace(new StackTraceElement[] { frame("a.Service", "save"), frame("a.Controller", "get") });
+        IllegalStateException empty = new IllegalStateException();
+        empty.setStackTrace(new StackTraceElement[0]);
+
+        assertNotEquals(ErrorFingerprint.of(first, null, 3), ErrorFingerprint.of(second, null, 3));
+        assertEquals(ErrorFingerprint.of(first, null, 0), ErrorFingerprint.of(empty, null, 3));
+    }
+
+    @Test
+    void framesAreNormalized() {
+        IllegalStateException first = new IllegalStateException();
+        first.setStackTrace(new StackTraceElement[] {
+            frame("java.lang.reflect.Method", "invoke"),
+            frame("a.Service$$EnhancerBySpringCGLIB$$5a1c", "lambda$load$0"),
+            frame("com.sun.proxy.$Proxy12", "load"),
+        });
+        IllegalStateException second = new IllegalStateException();
+        second.setStackTrace(new StackTraceElement[] {
+            frame("a.Service$$EnhancerBySpringCGLIB$$77ff", "lambda$load$3"),
+            frame("jdk.proxy2.$Proxy40", "load"),
+        });
+
+        assertEquals(
+            Arrays.asList("a.Service#lambda$load", "$Proxy#load"),
+            ErrorFingerprint.normalizedFrames(first, 3)
+        );
+        assertEquals(ErrorFingerprint.of(first, null, 3), ErrorFingerprint.of(second, null, 3));
+    }
+
+    @Test
+    void fingerprintIsFormattedAndParsed() {
+        assertEquals("000000000000002a", ErrorFingerprint.toString(42));
+        assertEquals(-1L, ErrorFingerprint.parse(ErrorFingerprint.toString(-1L)));
+        assertThrows(NumberFormatException.class, () -> ErrorFingerprint.parse("not a fingerprint"));
+    }
+
+    private static StackTraceElement frame(String className, String methodName) {
+        return new StackTraceElement(className, methodName, "Source.java", 1);
+    }
+}
@@ -0,0 +1,118 @@
+package ru.dlabs71.library.exception.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.codec.ErrorCodeRegistry;
+import ru.dlabs71.library.exception.codec.RemoteErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.type.ErrorLevel;
+
+class ErrorCodeDictionaryTest {
+
+    @Test
+    void commonTypesAreAlwaysRegistered() {
+        for (CommonErrorCode errorCode : CommonErrorCode.values()) {
+            assertSame(errorCode, ErrorCodeDictionary.DEFAULT.getErrorCode(errorCode.name()));
+        }
+        for (CommonErrorLevel level : CommonErrorLevel.values()) {
+            assertSame(level, ErrorCodeDictionary.DEFAULT.getLevel(level.name()));
+        }
+        assertNull(ErrorCodeDictionary.DEFAULT.getErrorCode("UNKNOWN"));
+        assertNull(ErrorCodeDictionary.DEFAULT.getErrorCode((String) null));
+        assertNull(ErrorCodeDictionary.DEFAULT.getLevel((String) null));
+    }
+
+    @Test
+    void namesAreLookedUpInBuffer() {
+        ErrorCodeDictionary dictionary = ErrorCodeDictionary.builder().errorCodeType(OrderErrorCode.class).build();
+        char[] buffer = "{\"errorCode\":\"ORDER_CLOSED\",\"level\":\"WARNING\"}".toCharArray();
+
+        assertSame(OrderErrorCode.ORDER_CLOSED, dictionary.getErrorCode(buffer, 14, 12));
+        assertSame(CommonErrorLevel.WARNING, dictionary.getLevel(buffer, 37, 7));
+        assertNull(dictionary.getErrorCode(buffer, 14, 11));
+        assertNull(dictionary.getErrorCode(buffer, 0, 0));
+    }
+
+    @Test
+    void earlierRegisteredTypeWins() {
+        ErrorCodeDictionary dictionary = ErrorCodeDictionary.builder()
+            .errorCodeType(OrderErrorCode.class)
+            .errorCodeType(ShadowErrorCode.class)
+            .levelType(ShadowErrorLevel.class)
+            .build();
+
+        assertSame(OrderErrorCode.LOCK_OBJECT, dictionary.getErrorCode("LOCK_OBJECT"));
+        assertSame(OrderErrorCode.ORDER_CLOSED, dictionary.getErrorCode("ORDER_CLOSED"));
+        assertSame(ShadowErrorLevel.WARNING, dictionary.getLevel("WARNING"));
+        assertSame(CommonErrorLevel.ERROR, dictionary.getLevel("ERROR"));
+        assertTrue(dictionary.getErrorCodes().contains(CommonErrorCode.STALE_OBJECT));
+    }
+
+    @Test
+    void manyNamesAreLookedUp() {
+        ErrorCodeDictionary.ErrorCodeDictionaryBuilder builder = ErrorCodeDictionary.builder();
+        for (int i = 0; i < 5000; i++) {
+            builder.errorCode(RemoteErrorCode.of("CODE_" + i));
+        }
+        ErrorCodeDictionary dictionary = builder.build();
+
+        for (int i = 0; i < 5000; i++) {
+            String name = "CODE_" + i;
+            assertEquals(RemoteErrorCode.of(name), dictionary.getErrorCode(name));
+            assertEquals(RemoteErrorCode.of(name), dictionary.getErrorCode(name.toCharArray(), 0, name.length()));
+        }
+        assertNull(dictionary.getErrorCode("CODE_5000"));
+    }
+
+    @Test
+    void dictionaryIsCreatedByRegistry() {
+        ErrorCodeRegistry registry = ErrorCodeRegistry.builder()
+            .errorCodeType(1, OrderErrorCode.class)
+            .levelType(1, ShadowErrorLevel.class)
+            .build();
+
+        ErrorCodeDictionary dictionary = ErrorCodeDictionary.of(registry);
+
+        assertSame(OrderErrorCode.ORDER_CLOSED, dictionary.getErrorCode("ORDER_CLOSED"));
+        assertSame(CommonErrorCode.LOCK_OBJECT, dictionary.getErrorCode("LOCK_OBJECT"));
+        assertSame(CommonErrorLevel.WARNING, dictionary.getLevel("WARNING"));
+    }
+
+    @Test
+    void notEnumTypesAreRejected() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ErrorCodeDictionary.builder().errorCodeType(RemoteErrorCode.class).build()
+        );
+    }
+
+    enum OrderErrorCode implements ErrorCode {
+        ORDER_CLOSED,
+        LOCK_OBJECT;
+
+        @Override
+        public String getCodeMessage() {
+            return "order." + this.name().toLowerCase();
+        }
+    }
+
+    enum ShadowErrorCode implements ErrorCode {
+        ORDER_CLOSED;
+
+        @Override
+        public String getCodeMessage() {
+            return "shadow";
+        }
+    }
+
+    enum ShadowErrorLevel implements ErrorLevel {
+        WARNING
+    }
+}
@@ -0,0 +1,135 @@
+package ru.dlabs71.library.exception.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import ru.dlabs71.library.exception.codec.ErrorCodeRegistry;
+import ru.dlabs71.library.exception.codec.ErrorResponseCodec;
+import ru.dlabs71.library.exception.codec.ProtobufErrorResponseCodec;
+import ru.dlabs71.library.exception.codec.RemoteErrorCode;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+class ErrorResponseDecoderTest {
+
+    private final ErrorResponseDecoder decoder = ErrorResponseDecoder.builder().build();
+
+    @Test
+    void jsonResponseIsDecoded() {
+        ErrorResponseDto dto = this.decoder.decode(MediaType.APPLICATION_JSON, bytes(
+            "{\"informative\":true,\"errorCode\":\"LOCK_OBJECT\",\"level\":\"WARNING\",\"message\":\"locked\","
+                + "\"compactStacktrace\":[\"a.B.c(B.java:1)\"],\"data\":{\"id\":1},\"unknown\":[1,{\"a\":2}]}"
+        ));
+
+        assertTrue(dto.isInformative());
+        assertSame(CommonErrorCode.LOCK_OBJECT, dto.getErrorCode());
+        assertSame(CommonErrorLevel.WARNING, dto.getLevel());
+        assertEquals("locked", dto.getMessage());
+        assertArrayEquals(new String[] { "a.B.c(B.java:1)" }, dto.getCompactStacktrace());
+        assertEquals(Collections.singletonMap("id", 1), dto.getData());
+    }
+
+    @Test
+    void unknownErrorCodesBecomeRemote() {
+        ErrorResponseDto dto = this.decoder.decode(null, bytes("{\"informative\":false,\"errorCode\":\"ORDER\"}"));
+
+        assertEquals(RemoteErrorCode.of("ORDER"), dto.getErrorCode());
+    }
+
+    @Test
+    void namingStrategyOfObjectMapperIsUsed() {
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        ErrorResponseDecoder snakeCase = ErrorResponseDecoder.builder().objectMapper(objectMapper).build();
+
+        ErrorResponseDto dto = snakeCase.decode(null, bytes("{\"informative\":false,\"error_code\":\"LOCK_OBJECT\"}"));
+
+        assertSame(CommonErrorCode.LOCK_OBJECT, dto.getErrorCode());
+    }
+
+    @Test
+    void otherBodiesAreNotDecoded() {
+        assertNull(this.decoder.decode(MediaType.APPLICATION_JSON, bytes("{\"error\":\"Bad Gateway\"}")));
+        assertNull(this.decoder.decode(MediaType.APPLICATION_JSON, bytes("[1, 2]")));
+        assertNull(this.decoder.decode(MediaType.APPLICATION_JSON, bytes("{\"informative\":")));
+        assertNull(this.decoder.decode(MediaType.TEXT_HTML, bytes("<html/>")));
+        assertNull(this.decoder.decode(MediaType.APPLICATION_JSON, new byte[0]));
+        assertNull(this.decoder.decode(MediaType.APPLICATION_JSON, null));
+        assertNull(this.decoder.decodeException(502, MediaType.TEXT_PLAIN, bytes("Bad Gateway")));
+    }
+
+    @Test
+    void binaryResponseIsDecodedByCodec() {
+        ErrorResponseCodec codec = new ProtobufErrorResponseCodec(ErrorCodeRegistry.DEFAULT, null);
+        ErrorResponseDecoder binary = ErrorResponseDecoder.builder().codec(codec).build();
+        byte[] body = codec.encode(
+            ErrorResponseDto.builder().errorCode(CommonErrorCode.STALE_OBJECT).message("stale").build()
+        );
+
+        ServiceException exception = binary.decodeException(500, codec.getMediaType(), body);
+
+        assertSame(CommonErrorCode.STALE_OBJECT, exception.getErrorCode());
+        assertEquals("stale", exception.getMessage());
+        assertNull(this.decoder.decode(codec.getMediaType(), body));
+    }
+
+    @Test
+    void informativeResponseBecomesBusinessLogicException() {
+        ErrorResponseDto dto = ErrorResponseDto.builder()
+            .informative(true)
+            .errorCode(CommonErrorCode.LOCK_OBJECT)
+            .level(CommonErrorLevel.WARNING)
+            .data("payload")
+            .build();
+
+        ServiceException exception = this.decoder.toException(dto, HttpStatus.CONFLICT);
+
+        assertTrue(exception instanceof BusinessLogicServiceException);
+        assertSame(CommonErrorLevel.WARNING, ((BusinessLogicServiceException) exception).getLevel());
+        assertEquals("payload", ((BusinessLogicServiceException) exception).getData());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void statusOtherThanInternalErrorIsKept() {
+        ErrorResponseDto dto = ErrorResponseDto.builder().message("not found").build();
+
+        ServiceException exception = this.decoder.toException(dto, HttpStatus.NOT_FOUND);
+
+        assertTrue(exception instanceof SpecialHttpStatusServiceException);
+        assertSame(HttpStatus.NOT_FOUND, ((SpecialHttpStatusServiceException) exception).getHttpStatus());
+        assertEquals("not found", exception.getMessage());
+    }
+
+    @Test
+    void internalErrorBecomesServiceException() {
+        ErrorResponseDto empty = ErrorResponseDto.builder().build();
+        ErrorResponseDecoder withStacktrace = ErrorResponseDecoder.builder().stackless(false).build();
+
+        ServiceException stackless = this.decoder.toException(empty, HttpStatus.INTERNAL_SERVER_ERROR);
+        ServiceException full = withStacktrace.toException(empty, null);
+
+        assertSame(WithoutStacktraceServiceException.class, stackless.getClass());
+        assertSame(CommonErrorCode.COMMON_EXCEPTION, stackless.getErrorCode());
+        assertSame(ServiceException.class, full.getClass());
+        assertTrue(full.getStackTrace().length > 0);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
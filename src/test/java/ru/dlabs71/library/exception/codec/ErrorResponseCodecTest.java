@@ -0,0 +1,132 @@
+package ru.dlabs71.library.exception.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+class ErrorResponseCodecTest {
+
+    private static final ErrorCodeRegistry REGISTRY = ErrorCodeRegistry.builder()
+        .errorCodeType(1, OrderErrorCode.class)
+        .build();
+
+    private static final List<ErrorResponseCodec> CODECS = Arrays.asList(
+        new ProtobufErrorResponseCodec(REGISTRY, new ObjectMapper()),
+        JacksonBinaryErrorResponseCodec.cbor(REGISTRY),
+        JacksonBinaryErrorResponseCodec.smile(REGISTRY)
+    );
+
+    @Test
+    void fullResponseIsRestored() {
+        HashMap<String, Object> data = new HashMap<>();
+        data.put("id", 42);
+        data.put("name", "order");
+        ErrorResponseDto dto = new ErrorResponseDto(
+            true,
+            OrderErrorCode.ORDER_CLOSED,
+            CommonErrorLevel.WARNING,
+            "Order is closed: ошибка",
+            new StackTraceElement[] {
+                new StackTraceElement("a.B", "c", "B.java", 10),
+                new StackTraceElement("d.E", "f", null, -2)
+            },
+            new String[] { "a.B.c(B.java:10)", "" },
+            data
+        );
+
+        for (ErrorResponseCodec codec : CODECS) {
+            ErrorResponseDto decoded = codec.decode(codec.encode(dto));
+
+            String name = codec.getMediaType().toString();
+            assertTrue(decoded.isInformative(), name);
+            assertSame(OrderErrorCode.ORDER_CLOSED, decoded.getErrorCode(), name);
+            assertSame(CommonErrorLevel.WARNING, decoded.getLevel(), name);
+            assertEquals(dto.getMessage(), decoded.getMessage(), name);
+            assertArrayEquals(dto.getStacktrace(), decoded.getStacktrace(), name);
+            assertArrayEquals(dto.getCompactStacktrace(), decoded.getCompactStacktrace(), name);
+            assertEquals(data, decoded.getData(), name);
+        }
+    }
+
+    @Test
+    void emptyResponseIsRestored() {
+        for (ErrorResponseCodec codec : CODECS) {
+            ErrorResponseDto decoded = codec.decode(codec.encode(ErrorResponseDto.builder().build()));
+
+            String name = codec.getMediaType().toString();
+            assertFalse(decoded.isInformative(), name);
+            assertNull(decoded.getErrorCode(), name);
+            assertNull(decoded.getLevel(), name);
+            assertNull(decoded.getMessage(), name);
+            assertNull(decoded.getStacktrace(), name);
+            assertNull(decoded.getCompactStacktrace(), name);
+            assertNull(decoded.getData(), name);
+        }
+    }
+
+    @Test
+    void commonErrorCodesAreRestoredWithDefaultRegistry() {
+        ErrorResponseDto dto = ErrorResponseDto.builder().errorCode(CommonErrorCode.LOCK_OBJECT).build();
+        ErrorResponseCodec server = new ProtobufErrorResponseCodec(REGISTRY, null);
+        ErrorResponseCodec client = new ProtobufErrorResponseCodec(ErrorCodeRegistry.DEFAULT, null);
+
+        assertSame(CommonErrorCode.LOCK_OBJECT, client.decode(server.encode(dto)).getErrorCode());
+    }
+
+    @Test
+    void unknownErrorCodesBecomeRemote() {
+        ErrorResponseDto byId = ErrorResponseDto.builder().errorCode(OrderErrorCode.ORDER_CLOSED).build();
+        ErrorResponseDto byName = ErrorResponseDto.builder().errorCode(UnregisteredErrorCode.UNREGISTERED).build();
+        for (ErrorCodeRegistry serverRegistry : Arrays.asList(REGISTRY, ErrorCodeRegistry.DEFAULT)) {
+            ErrorResponseCodec server = new ProtobufErrorResponseCodec(serverRegistry, null);
+            ErrorResponseCodec client = new ProtobufErrorResponseCodec(ErrorCodeRegistry.DEFAULT, null);
+
+            ErrorCode remote = client.decode(server.encode(byId)).getErrorCode();
+            assertTrue(remote instanceof RemoteErrorCode);
+            assertEquals(RemoteErrorCode.of("UNREGISTERED"), client.decode(server.encode(byName)).getErrorCode());
+        }
+    }
+
+    @Test
+    void registryIdsContainTypeIdAndOrdinal() {
+        assertEquals(1 << 16 | 1, REGISTRY.getId(OrderErrorCode.ORDER_CLOSED));
+        assertEquals(CommonErrorCode.LOCK_OBJECT.ordinal(), REGISTRY.getId(CommonErrorCode.LOCK_OBJECT));
+        assertEquals(-1, REGISTRY.getId(UnregisteredErrorCode.UNREGISTERED));
+        assertSame(OrderErrorCode.ORDER_CLOSED, REGISTRY.getErrorCode(1 << 16 | 1));
+        assertSame(OrderErrorCode.ORDER_CLOSED, REGISTRY.getErrorCode("ORDER_CLOSED"));
+        assertNull(REGISTRY.getErrorCode(2 << 16));
+        assertSame(CommonErrorLevel.WARNING, REGISTRY.getLevel(REGISTRY.getId(CommonErrorLevel.WARNING)));
+    }
+
+    public enum OrderErrorCode implements ErrorCode {
+        ORDER_NOT_FOUND,
+        ORDER_CLOSED;
+
+        @Override
+        public String getCodeMessage() {
+            return "order." + this.name().toLowerCase();
+        }
+    }
+
+    private enum UnregisteredErrorCode implements ErrorCode {
+        UNREGISTERED;
+
+        @Override
+        public String getCodeMessage() {
+            return "unregistered";
+        }
+    }
+}
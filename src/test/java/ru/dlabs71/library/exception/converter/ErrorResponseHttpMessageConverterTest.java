@@ -0,0 +1,74 @@
+package ru.dlabs71.library.exception.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.dto.FrozenErrorResponseDto;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ErrorResponseHttpMessageConverterTest {
+
+    private final ErrorResponseHttpMessageConverter converter = new ErrorResponseHttpMessageConverter();
+
+    @Test
+    void writesOnlyErrorResponsesAsJson() {
+        assertTrue(this.converter.canWrite(ErrorResponseDto.class, MediaType.APPLICATION_JSON));
+        assertTrue(this.converter.canWrite(FrozenErrorResponseDto.class, MediaType.valueOf("application/problem+json")));
+        assertFalse(this.converter.canWrite(ErrorResponseDto.class, MediaType.APPLICATION_XML));
+        assertFalse(this.converter.canWrite(String.class, MediaType.APPLICATION_JSON));
+        assertFalse(this.converter.canRead(ErrorResponseDto.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void writesBodyAndHeaders() throws IOException {
+        TestOutputMessage message = new TestOutputMessage();
+        ErrorResponseDto dto = ErrorResponseDto.builder().errorCode(CommonErrorCode.IO_EXCEPTION).message("IO").build();
+
+        this.converter.write(dto, MediaType.APPLICATION_JSON, message);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(dto)), objectMapper.readTree(message.body()));
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(message.getHeaders().getContentType()));
+        assertEquals(-1, message.getHeaders().getContentLength());
+    }
+
+    @Test
+    void setsContentLengthOfFrozenBody() throws IOException {
+        TestOutputMessage message = new TestOutputMessage();
+        FrozenErrorResponseDto dto = FrozenErrorResponseDto.of(false, CommonErrorCode.LOCK_OBJECT, null, "Locked");
+
+        this.converter.write(dto, MediaType.APPLICATION_JSON, message);
+
+        assertEquals(message.body().length, message.getHeaders().getContentLength());
+    }
+
+    private static final class TestOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        @Override
+        public OutputStream getBody() {
+            return this.body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.headers;
+        }
+
+        private byte[] body() {
+            return this.body.toByteArray();
+        }
+    }
+}
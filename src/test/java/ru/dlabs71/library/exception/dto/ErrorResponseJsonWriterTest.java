@@ -0,0 +1,90 @@
+package ru.dlabs71.library.exception.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+class ErrorResponseJsonWriterTest {
+
+    @Test
+    void writesTheSameJsonAsObjectMapper() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HashMap<String, Integer> data = new HashMap<>();
+        data.put("id", 42);
+        ErrorResponseDto dto = new ErrorResponseDto(
+            true,
+            CommonErrorCode.ENTITY_NOT_FOUND,
+            CommonErrorLevel.WARNING,
+            "Not \"found\"\n ошибка",
+            new Throwable().getStackTrace(),
+            null,
+            data
+        );
+
+        assertSameJson(objectMapper, dto);
+    }
+
+    @Test
+    void writesNullsLikeObjectMapper() throws IOException {
+        assertSameJson(new ObjectMapper(), ErrorResponseDto.builder().build());
+
+        ObjectMapper nonNull = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        ErrorResponseDto dto = ErrorResponseDto.builder().message("message").build();
+        assertSameJson(nonNull, dto);
+        assertFalse(new String(new ErrorResponseJsonWriter(nonNull).toBytes(dto)).contains("null"));
+    }
+
+    @Test
+    void writesCompactStacktrace() throws IOException {
+        ErrorResponseDto dto = ErrorResponseDto.builder()
+            .message("message")
+            .compactStacktrace(new String[] { "a.B.c(B.java:1)", "d.E.f(E.java:2)" })
+            .build();
+
+        assertSameJson(new ObjectMapper(), dto);
+    }
+
+    @Test
+    void followsNamingStrategyOfObjectMapper() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        ErrorResponseDto dto = ErrorResponseDto.builder().errorCode(CommonErrorCode.IO_EXCEPTION).build();
+
+        JsonNode json = assertSameJson(objectMapper, dto);
+        assertEquals("IO_EXCEPTION", json.get("error_code").asText());
+    }
+
+    @Test
+    void frozenBodyIsSerializedOnce() throws IOException {
+        ErrorResponseJsonWriter writer = new ErrorResponseJsonWriter();
+        FrozenErrorResponseDto dto = FrozenErrorResponseDto.of(false, CommonErrorCode.LOCK_OBJECT, null, "Locked");
+
+        byte[] bytes = writer.toBytes(dto);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(dto, out);
+
+        assertSame(bytes, writer.toBytes(dto));
+        assertEquals(new String(bytes), out.toString("UTF-8"));
+        assertEquals(Long.valueOf(bytes.length), writer.getKnownLength(dto));
+        assertNull(writer.getKnownLength(ErrorResponseDto.builder().build()));
+    }
+
+    private static JsonNode assertSameJson(ObjectMapper objectMapper, ErrorResponseDto dto) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ErrorResponseJsonWriter(objectMapper).write(dto, out);
+        JsonNode actual = objectMapper.readTree(out.toByteArray());
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(dto)), actual);
+        return actual;
+    }
+}
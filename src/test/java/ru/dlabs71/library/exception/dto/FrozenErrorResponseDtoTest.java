@@ -0,0 +1,51 @@
+package ru.dlabs71.library.exception.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+class FrozenErrorResponseDtoTest {
+
+    private final FrozenErrorResponseDto body =
+        FrozenErrorResponseDto.of(false, CommonErrorCode.ENTITY_NOT_FOUND, CommonErrorLevel.WARNING, "Not found");
+
+    @Test
+    void valuesArePassedToTheBody() {
+        assertFalse(this.body.isInformative());
+        assertEquals(CommonErrorCode.ENTITY_NOT_FOUND, this.body.getErrorCode());
+        assertEquals(CommonErrorLevel.WARNING, this.body.getLevel());
+        assertEquals("Not found", this.body.getMessage());
+        assertNull(this.body.getStacktrace());
+        assertNull(this.body.getCompactStacktrace());
+        assertNull(this.body.getData());
+    }
+
+    @Test
+    void settersThrowException() {
+        assertThrows(UnsupportedOperationException.class, () -> this.body.setInformative(true));
+        assertThrows(UnsupportedOperationException.class, () -> this.body.setErrorCode(CommonErrorCode.IO_EXCEPTION));
+        assertThrows(UnsupportedOperationException.class, () -> this.body.setLevel(CommonErrorLevel.ERROR));
+        assertThrows(UnsupportedOperationException.class, () -> this.body.setMessage("changed"));
+        assertThrows(UnsupportedOperationException.class, () -> this.body.setStacktrace(new StackTraceElement[0]));
+        assertThrows(UnsupportedOperationException.class, () -> this.body.setCompactStacktrace(new String[0]));
+        assertThrows(UnsupportedOperationException.class, () -> this.body.setData("data"));
+        assertEquals("Not found", this.body.getMessage());
+    }
+
+    @Test
+    void serializedBytesAreCachedPerOwner() {
+        Object owner = new Object();
+        byte[] bytes = { 1, 2, 3 };
+
+        this.body.setSerialized(owner, bytes);
+
+        assertSame(bytes, this.body.getSerialized(owner));
+        assertNull(this.body.getSerialized(new Object()));
+    }
+}
@@ -0,0 +1,123 @@
+package ru.dlabs71.library.exception.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.codec.RemoteErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class AdaptiveStacktraceSamplerTest {
+
+    @AfterEach
+    void reset() {
+        StacktraceSettings.setAdaptiveSampler(null);
+    }
+
+    @Test
+    void firstExceptionsAndSampleCaptureStacktrace() {
+        AdaptiveStacktraceSampler sampler = AdaptiveStacktraceSampler.builder().fullCaptures(2).sampleRate(3).build();
+
+        boolean[] decisions = new boolean[8];
+        for (int i = 0; i < decisions.length; i++) {
+            decisions[i] = sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT);
+        }
+
+        assertEquals("[true, true, false, false, true, false, false, true]", Arrays.toString(decisions));
+        assertEquals(4, sampler.getCapturedCount());
+        assertEquals(4, sampler.getSkippedCount());
+    }
+
+    @Test
+    void errorCodesAreCountedSeparately() {
+        AdaptiveStacktraceSampler sampler = AdaptiveStacktraceSampler.builder().fullCaptures(1).build();
+
+        assertTrue(sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT));
+        assertFalse(sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT));
+        assertTrue(sampler.shouldCapture(ServiceException.class, CommonErrorCode.STALE_OBJECT));
+        assertTrue(sampler.shouldCapture(ServiceException.class, RemoteErrorCode.of("REMOTE")));
+        assertFalse(sampler.shouldCapture(ServiceException.class, RemoteErrorCode.of("REMOTE")));
+        assertTrue(sampler.shouldCapture(ServiceException.class, null));
+        assertFalse(sampler.shouldCapture(ServiceException.class, null));
+    }
+
+    @Test
+    void exceptionClassesAreCountedSeparately() {
+        StacktraceSettings.setAdaptiveSampler(AdaptiveStacktraceSampler.builder().fullCaptures(1).build());
+
+        assertTrue(ServiceException.build(CommonErrorCode.LOCK_OBJECT).getStackTrace().length > 0);
+        assertEquals(0, ServiceException.build(CommonErrorCode.LOCK_OBJECT).getStackTrace().length);
+        assertTrue(BusinessLogicServiceException.build(CommonErrorCode.LOCK_OBJECT).getStackTrace().length > 0);
+        assertEquals(0, BusinessLogicServiceException.build(CommonErrorCode.LOCK_OBJECT).getStackTrace().length);
+        assertTrue(ServiceException.build("message").getStackTrace().length > 0);
+        assertTrue(BusinessLogicServiceException.build("message").getStackTrace().length > 0);
+    }
+
+    @Test
+    void resetAndNewPeriodRestoreFullCaptures() throws InterruptedException {
+        AdaptiveStacktraceSampler sampler = AdaptiveStacktraceSampler.builder()
+            .fullCaptures(1)
+            .resetInterval(Duration.ofMillis(200))
+            .build();
+
+        assertTrue(sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT));
+        assertFalse(sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT));
+        sampler.reset();
+        assertTrue(sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT));
+        assertFalse(sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT));
+        Thread.sleep(300);
+        assertTrue(sampler.shouldCapture(ServiceException.class, CommonErrorCode.LOCK_OBJECT));
+    }
+
+    @Test
+    void groupsOverLimitShareOneGroup() {
+        AdaptiveStacktraceSampler sampler = AdaptiveStacktraceSampler.builder().fullCaptures(1).maxKeys(1).build();
+
+        assertTrue(sampler.shouldCapture(ServiceException.class, RemoteErrorCode.of("FIRST")));
+        assertTrue(sampler.shouldCapture(ServiceException.class, RemoteErrorCode.of("SECOND")));
+        assertFalse(sampler.shouldCapture(ServiceException.class, RemoteErrorCode.of("THIRD")));
+        assertFalse(sampler.shouldCapture(ServiceException.class, RemoteErrorCode.of("FIRST")));
+    }
+
+    @Test
+    void throwSitesAreCountedSeparatelyWhenEnabled() {
+        StacktraceSettings.setAdaptiveSampler(AdaptiveStacktraceSampler.builder()
+            .fullCaptures(1)
+            .sampleRate(1000)
+            .throwSites(true)
+            .build());
+
+        assertTrue(firstSite().getStackTrace().length > 0);
+        assertEquals(0, firstSite().getStackTrace().length);
+        assertTrue(secondSite().getStackTrace().length > 0);
+        assertEquals(0, secondSite().getStackTrace().length);
+    }
+
+    @Test
+    void throwSitesAreIgnoredByDefault() {
+        StacktraceSettings.setAdaptiveSampler(AdaptiveStacktraceSampler.builder().fullCaptures(1).build());
+
+        assertTrue(firstSite().getStackTrace().length > 0);
+        assertEquals(0, secondSite().getStackTrace().length);
+        assertFalse(StacktraceSettings.getAdaptiveSampler().isThrowSites());
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveStacktraceSampler.builder().sampleRate(0).build());
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveStacktraceSampler.builder().maxKeys(0).build());
+    }
+
+    private static ServiceException firstSite() {
+        return ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+    }
+
+    private static ServiceException secondSite() {
+        return ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND);
+    }
+}
@@ -0,0 +1,60 @@
+package ru.dlabs71.library.exception.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class FrozenServiceExceptionTest {
+
+    @Test
+    void cachedReturnsOneInstancePerErrorCode() {
+        ServiceException first = ServiceException.cached(CommonErrorCode.ENTITY_NOT_FOUND);
+
+        assertSame(first, ServiceException.cached(CommonErrorCode.ENTITY_NOT_FOUND));
+        assertNotSame(first, ServiceException.cached(CommonErrorCode.STALE_OBJECT));
+        assertEquals(CommonErrorCode.ENTITY_NOT_FOUND, first.getErrorCode());
+        assertNull(first.getMessage());
+        assertNull(first.getCause());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void sharedInstanceCantBeChanged() {
+        ServiceException exception = ServiceException.cached(CommonErrorCode.LOCK_OBJECT);
+
+        assertThrows(UnsupportedOperationException.class, () -> exception.setMessage("message"));
+        assertThrows(UnsupportedOperationException.class, () -> exception.setErrorCode(CommonErrorCode.STALE_OBJECT));
+        assertThrows(UnsupportedOperationException.class, () -> exception.initCause(new IllegalStateException()));
+        assertThrows(UnsupportedOperationException.class, () -> exception.withMessageArgs("argument"));
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> exception.setStackTrace(new StackTraceElement[0])
+        );
+
+        exception.addSuppressed(new IllegalStateException());
+        assertEquals(0, exception.getSuppressed().length);
+        assertEquals(CommonErrorCode.LOCK_OBJECT, exception.getErrorCode());
+    }
+
+    @Test
+    void deserializationResolvesSharedInstance() throws Exception {
+        ServiceException exception = ServiceException.cached(CommonErrorCode.ACCESS_DENIED);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(exception);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(exception, input.readObject());
+        }
+    }
+}
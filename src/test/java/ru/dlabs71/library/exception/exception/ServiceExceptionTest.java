@@ -0,0 +1,53 @@
+package ru.dlabs71.library.exception.exception;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+class ServiceExceptionTest {
+
+    @Test
+    void messageArgsAreKeptRaw() {
+        Object argument = new Object();
+
+        ServiceException exception = ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, argument, 42);
+
+        assertArrayEquals(new Object[] { argument, 42 }, exception.getMessageArgs());
+        assertNull(exception.getMessage());
+        assertNull(ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND).getMessageArgs());
+    }
+
+    @Test
+    void withMessageArgsKeepsTypeOfDescendants() {
+        BusinessLogicServiceException businessLogic =
+            BusinessLogicServiceException.build(CommonErrorCode.LOCK_OBJECT, CommonErrorLevel.WARNING)
+                .withMessageArgs("order");
+        SpecialHttpStatusServiceException special =
+            SpecialHttpStatusServiceException.build(CommonErrorCode.ACCESS_DENIED, HttpStatus.FORBIDDEN)
+                .withMessageArgs("user");
+        WithoutStacktraceServiceException withoutStacktrace =
+            WithoutStacktraceServiceException.build(CommonErrorCode.STALE_OBJECT).withMessageArgs("entity");
+
+        assertSame(CommonErrorLevel.WARNING, businessLogic.getLevel());
+        assertArrayEquals(new Object[] { "order" }, businessLogic.getMessageArgs());
+        assertSame(HttpStatus.FORBIDDEN, special.getHttpStatus());
+        assertArrayEquals(new Object[] { "user" }, special.getMessageArgs());
+        assertEquals(0, withoutStacktrace.getStackTrace().length);
+        assertArrayEquals(new Object[] { "entity" }, withoutStacktrace.getMessageArgs());
+    }
+
+    @Test
+    void sharedExceptionRejectsMessageArgs() {
+        ServiceException cached = ServiceException.cached(CommonErrorCode.ENTITY_NOT_FOUND);
+
+        assertThrows(UnsupportedOperationException.class, () -> cached.withMessageArgs("id"));
+        assertNull(cached.getMessageArgs());
+    }
+}
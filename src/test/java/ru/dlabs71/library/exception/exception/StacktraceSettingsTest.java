@@ -0,0 +1,71 @@
+package ru.dlabs71.library.exception.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class StacktraceSettingsTest {
+
+    @AfterEach
+    void reset() {
+        StacktraceSettings.setGlobalStackless(false);
+        StacktraceSettings.disableStackless(CommonErrorCode.values());
+        StacktraceSettings.setAdaptiveSampler(null);
+    }
+
+    @Test
+    void capturesStacktraceByDefault() {
+        ServiceException exception = ServiceException.build(CommonErrorCode.COMMON_EXCEPTION);
+
+        assertTrue(exception.getStackTrace().length > 0);
+        assertTrue(StacktraceSettings.isWritableStackTrace(ServiceException.class, CommonErrorCode.COMMON_EXCEPTION));
+    }
+
+    @Test
+    void globalStacklessAffectsWholeHierarchy() {
+        StacktraceSettings.setGlobalStackless(true);
+
+        ServiceException special = SpecialHttpStatusServiceException.build(
+            CommonErrorCode.ACCESS_DENIED,
+            HttpStatus.FORBIDDEN
+        );
+
+        assertEquals(0, ServiceException.build("message").getStackTrace().length);
+        assertEquals(0, BusinessLogicServiceException.build(CommonErrorCode.LOCK_OBJECT).getStackTrace().length);
+        assertEquals(0, special.getStackTrace().length);
+    }
+
+    @Test
+    void stacklessErrorCodeAffectsOnlyItsExceptions() {
+        StacktraceSettings.enableStackless(CommonErrorCode.ENTITY_NOT_FOUND);
+
+        assertEquals(0, ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND).getStackTrace().length);
+        assertTrue(ServiceException.build(CommonErrorCode.STALE_OBJECT).getStackTrace().length > 0);
+        assertTrue(ServiceException.build("message").getStackTrace().length > 0);
+    }
+
+    @Test
+    void disableStacklessRestoresCapturing() {
+        StacktraceSettings.enableStackless(CommonErrorCode.ENTITY_NOT_FOUND);
+        StacktraceSettings.disableStackless(CommonErrorCode.ENTITY_NOT_FOUND);
+
+        assertTrue(ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND).getStackTrace().length > 0);
+    }
+
+    @Test
+    void withoutStacktraceExceptionNeverCapturesStacktrace() {
+        WithoutStacktraceServiceException exception = WithoutStacktraceServiceException.build(
+            CommonErrorCode.COMMON_EXCEPTION,
+            new IllegalStateException("cause")
+        );
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("cause", exception.getCause().getMessage());
+        assertFalse(StacktraceSettings.isGlobalStackless());
+    }
+}
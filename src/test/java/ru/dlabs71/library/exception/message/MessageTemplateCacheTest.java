@@ -0,0 +1,70 @@
+package ru.dlabs71.library.exception.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MessageTemplateCacheTest {
+
+    @Test
+    void countsHitsMissesAndLookupsWithoutPattern() {
+        MessageTemplateCache cache = new MessageTemplateCache();
+        MessageTemplate template = MessageTemplate.compile("Hello {0}", Locale.ROOT);
+
+        assertNull(cache.get("greeting", Locale.ROOT));
+        cache.put("greeting", Locale.ROOT, template);
+        cache.put("unknown", Locale.ROOT, MessageTemplateCache.NO_PATTERN);
+
+        assertSame(template, cache.get("greeting", Locale.ROOT));
+        assertSame(MessageTemplateCache.NO_PATTERN, cache.get("unknown", Locale.ROOT));
+        assertSame(MessageTemplateCache.NO_PATTERN, cache.get("unknown", Locale.ROOT));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2, cache.getNoPatternCount());
+    }
+
+    @Test
+    void putKeepsTemplateOfAnotherThread() {
+        MessageTemplateCache cache = new MessageTemplateCache();
+        MessageTemplate first = MessageTemplate.compile("first", Locale.ROOT);
+
+        assertSame(first, cache.put("code", Locale.ROOT, first));
+        assertSame(first, cache.put("code", Locale.ROOT, MessageTemplate.compile("second", Locale.ROOT)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void sizeIsBoundedForAllLocales() {
+        MessageTemplateCache cache = new MessageTemplateCache(3);
+        for (int i = 0; i < 10; i++) {
+            Locale locale = i % 2 == 0 ? Locale.ROOT : Locale.GERMAN;
+            cache.put("code" + i, locale, MessageTemplate.compile("message " + i, locale));
+        }
+
+        assertEquals(3, cache.size());
+        assertEquals(7, cache.getEvictionCount());
+        assertEquals("message 9", cache.get("code9", Locale.GERMAN).format());
+    }
+
+    @Test
+    void clearRemovesAllTemplates() {
+        MessageTemplateCache cache = new MessageTemplateCache();
+        cache.put("code", Locale.ROOT, MessageTemplate.compile("message", Locale.ROOT));
+        cache.put("code", Locale.GERMAN, MessageTemplate.compile("Nachricht", Locale.GERMAN));
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("code", Locale.ROOT));
+    }
+
+    @Test
+    void maxSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new MessageTemplateCache(0));
+    }
+}
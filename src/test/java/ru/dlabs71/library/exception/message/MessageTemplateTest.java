@@ -0,0 +1,67 @@
+package ru.dlabs71.library.exception.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MessageTemplateTest {
+
+    @Test
+    void patternWithoutArgumentsIsConstant() {
+        MessageTemplate template = MessageTemplate.compile("Entity is not found", Locale.ROOT);
+
+        assertTrue(template.isConstant());
+        assertEquals("Entity is not found", template.format("ignored"));
+    }
+
+    @Test
+    void quotedPatternWithoutArgumentsIsFormattedOnce() {
+        MessageTemplate template = MessageTemplate.compile("It''s '{'locked'}'", Locale.ROOT);
+
+        assertTrue(template.isConstant());
+        assertEquals("It's {locked}", template.format());
+    }
+
+    @Test
+    void simpleArgumentsAreConcatenated() {
+        MessageTemplate template = MessageTemplate.compile("Order {0} of {1} is {0}", Locale.ROOT);
+
+        assertFalse(template.isConstant());
+        assertEquals("Order 7 of user is 7", template.format("7", "user"));
+        assertEquals("Order null of {1} is null", template.format((Object) null));
+    }
+
+    @Test
+    void nonStringArgumentsAreFormattedByLocale() {
+        String pattern = "Total {0}";
+        MessageTemplate template = MessageTemplate.compile(pattern, Locale.GERMANY);
+
+        assertEquals(
+            new MessageFormat(pattern, Locale.GERMANY).format(new Object[]{12345.5}),
+            template.format(12345.5)
+        );
+    }
+
+    @Test
+    void formatTypesUseMessageFormat() {
+        String pattern = "Count {0,number,integer}, quoted ''{1}''";
+        MessageTemplate template = MessageTemplate.compile(pattern, Locale.ROOT);
+
+        assertEquals(
+            new MessageFormat(pattern, Locale.ROOT).format(new Object[]{42, "x"}),
+            template.format(42, "x")
+        );
+    }
+
+    @Test
+    void invalidPatternIsReturnedAsIs() {
+        MessageTemplate template = MessageTemplate.compile("Broken {0,unknown}", Locale.ROOT);
+
+        assertTrue(template.isConstant());
+        assertEquals("Broken {0,unknown}", template.format("x"));
+    }
+}
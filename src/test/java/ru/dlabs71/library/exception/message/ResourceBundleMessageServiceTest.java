@@ -0,0 +1,135 @@
+package ru.dlabs71.library.exception.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResourceBundleMessageServiceTest {
+
+    private static final Locale RU = new Locale("ru", "RU");
+    private static final String LOCK = "d.lock.object.exception";
+    private static final String MODULE = "d.error.module.not.available";
+
+    @TempDir
+    Path directory;
+
+    private ClassLoader classLoader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.classLoader = new URLClassLoader(
+            new URL[] { this.directory.toUri().toURL() },
+            ResourceBundleMessageServiceTest.class.getClassLoader()
+        );
+    }
+
+    @Test
+    void libraryMessagesAreFormatted() {
+        ResourceBundleMessageService messageService = ResourceBundleMessageService.builder()
+            .defaultLocale(Locale.ENGLISH)
+            .build();
+
+        assertEquals(
+            "Server module billing is temporarily unavailable. Try again later or contact the service administrator",
+            messageService.getMessage(MODULE, "billing")
+        );
+        assertEquals("unknown.code", messageService.getMessage("unknown.code"));
+        assertNull(messageService.getMessagePattern("unknown.code", Locale.ENGLISH));
+    }
+
+    @Test
+    void localeOfSupplierIsUsed() {
+        AtomicReference<Locale> locale = new AtomicReference<>(RU);
+        ResourceBundleMessageService messageService = ResourceBundleMessageService.builder()
+            .defaultLocale(Locale.ENGLISH)
+            .localeSupplier(locale::get)
+            .build();
+
+        assertTrue(messageService.getMessage(MODULE, "billing").startsWith("Серверный модуль billing"));
+        locale.set(null);
+        assertTrue(messageService.getMessage(MODULE, "billing").startsWith("Server module billing"));
+    }
+
+    @Test
+    void userBundlesOverrideLibraryMessagesOfTheSameLocale() throws IOException {
+        this.write("test_messages.properties", LOCK + "=Locked\ncustom=Custom {0}\n");
+        ResourceBundleMessageService messageService = ResourceBundleMessageService.builder()
+            .basename("test_messages")
+            .classLoader(this.classLoader)
+            .defaultLocale(Locale.ENGLISH)
+            .build();
+
+        assertEquals("Locked", messageService.getMessage(LOCK));
+        assertEquals("Custom 1", messageService.getMessage("custom", 1));
+        assertTrue(messageService.getMessagePattern(LOCK, RU).startsWith("Объект изменяется"));
+        assertEquals("Custom {0}", messageService.getMessagePattern("custom", RU));
+    }
+
+    @Test
+    void laterBundleOverridesEarlierOne() throws IOException {
+        this.write("first.properties", "custom=First\n");
+        this.write("second.properties", "custom=Second\n");
+        ResourceBundleMessageService messageService = ResourceBundleMessageService.builder()
+            .basename("first")
+            .basename("second")
+            .classLoader(this.classLoader)
+            .defaultLocale(Locale.ENGLISH)
+            .build();
+
+        assertEquals("Second", messageService.getMessage("custom"));
+        assertEquals(3, messageService.getBasenames().size());
+    }
+
+    @Test
+    void reloadReplacesMessagesAndNotifiesListeners() throws IOException {
+        this.write("test_messages.properties", "custom=Old\n");
+        ResourceBundleMessageService messageService = ResourceBundleMessageService.builder()
+            .basename("test_messages")
+            .classLoader(this.classLoader)
+            .defaultLocale(Locale.ENGLISH)
+            .build();
+        AtomicInteger changes = new AtomicInteger();
+        messageService.addChangeListener(changes::incrementAndGet);
+        assertEquals("Old", messageService.getMessage("custom"));
+
+        this.write("test_messages.properties", "custom=New\n");
+        messageService.reload();
+
+        assertEquals("New", messageService.getMessage("custom"));
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    void localesOverLimitUseDefaultLocale() {
+        ResourceBundleMessageService messageService = ResourceBundleMessageService.builder()
+            .defaultLocale(Locale.ENGLISH)
+            .maxLocales(1)
+            .build();
+
+        assertTrue(messageService.getMessagePattern(MODULE, RU).startsWith("Server module"));
+        assertEquals(Collections.singleton(Locale.ENGLISH), messageService.getLoadedLocales());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ResourceBundleMessageService.builder().maxLocales(0).build()
+        );
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(this.directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,130 @@
+package ru.dlabs71.library.exception.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+class ErrorMetricsTest {
+
+    @Test
+    void countsErrorCodesByStatus() {
+        ErrorMetrics metrics = new ErrorMetrics();
+        record(metrics, CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+        record(metrics, CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+        record(metrics, CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.INTERNAL_SERVER_ERROR);
+        record(metrics, CommonErrorCode.ACCESS_DENIED, HttpStatus.FORBIDDEN);
+        record(metrics, CommonErrorCode.ACCESS_DENIED, null);
+
+        ErrorMetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(5, snapshot.getTotal());
+        assertEquals(3L, snapshot.getByErrorCode().get("ENTITY_NOT_FOUND"));
+        assertEquals(2L, snapshot.getByErrorCode().get("ACCESS_DENIED"));
+        assertEquals(map(404, 2L, 500, 1L), snapshot.getByErrorCodeAndStatus().get("ENTITY_NOT_FOUND"));
+        assertEquals(map(403, 1L), snapshot.getByErrorCodeAndStatus().get("ACCESS_DENIED"));
+        assertEquals(map(403, 1L, 404, 2L, 500, 1L), snapshot.getByStatus());
+    }
+
+    @Test
+    void countsErrorCodesWhichAreNotEnumsByName() {
+        ErrorMetrics metrics = new ErrorMetrics();
+        record(metrics, new NamedErrorCode("REMOTE"), HttpStatus.BAD_GATEWAY);
+        record(metrics, new NamedErrorCode("REMOTE"), HttpStatus.BAD_GATEWAY);
+        record(metrics, null, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        ErrorMetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(map(502, 2L), snapshot.getByErrorCodeAndStatus().get("REMOTE"));
+        assertEquals(1L, snapshot.getByErrorCode().get(ErrorMetrics.NONE));
+    }
+
+    @Test
+    void countsLevelsAndExceptionClasses() {
+        ErrorMetrics metrics = new ErrorMetrics();
+        ErrorResponseDto body = ErrorResponseDto.builder()
+            .errorCode(CommonErrorCode.STALE_OBJECT)
+            .level(CommonErrorLevel.WARNING)
+            .build();
+        metrics.onResolved(ServiceException.build("message"), body, HttpStatus.CONFLICT, 10);
+        metrics.onResolved(new IllegalStateException(), null, HttpStatus.INTERNAL_SERVER_ERROR, 10);
+
+        ErrorMetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(1L, snapshot.getByErrorLevel().get("WARNING"));
+        assertEquals(1L, snapshot.getByExceptionClass().get(ServiceException.class.getName()));
+        assertEquals(1L, snapshot.getByExceptionClass().get(IllegalStateException.class.getName()));
+        assertNull(snapshot.getByErrorCode().get(ErrorMetrics.NONE));
+    }
+
+    @Test
+    void collectsLatencyHistogramsByStatus() {
+        ErrorMetrics metrics = new ErrorMetrics();
+        metrics.onResolved(null, null, HttpStatus.NOT_FOUND, 0);
+        metrics.onResolved(null, null, HttpStatus.NOT_FOUND, 1000);
+        metrics.onResolved(null, null, HttpStatus.NOT_FOUND, Long.MAX_VALUE);
+
+        long[] histogram = metrics.snapshot().getLatencyByStatus().get(404);
+
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[ErrorMetrics.bucketOf(1000)]);
+        assertEquals(1, histogram[ErrorMetrics.LATENCY_BUCKETS - 1]);
+        assertEquals(10, ErrorMetrics.bucketOf(1000));
+        assertEquals(Long.MAX_VALUE, ErrorMetrics.latencyBucketBounds()[ErrorMetrics.LATENCY_BUCKETS - 1]);
+    }
+
+    @Test
+    void compositeCallsInstrumentationsInOrder() {
+        List<String> calls = new ArrayList<>();
+        ResolverInstrumentation composite = ResolverInstrumentation.composite(
+            (throwable, body, status, durationNanos) -> calls.add("first"),
+            (throwable, body, status, durationNanos) -> calls.add("second")
+        );
+
+        composite.onResolved(null, null, HttpStatus.OK, 0);
+
+        assertEquals(Arrays.asList("first", "second"), calls);
+    }
+
+    private static void record(ErrorMetrics metrics, ErrorCode errorCode, HttpStatus status) {
+        metrics.onResolved(null, ErrorResponseDto.builder().errorCode(errorCode).build(), status, 100);
+    }
+
+    private static Map<Integer, Long> map(Object... entries) {
+        Map<Integer, Long> result = new HashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            result.put((Integer) entries[i], (Long) entries[i + 1]);
+        }
+        return result;
+    }
+
+    private static final class NamedErrorCode implements ErrorCode {
+
+        private final String name;
+
+        private NamedErrorCode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getCodeMessage() {
+            return "message." + this.name;
+        }
+
+        @Override
+        public String name() {
+            return this.name;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ru.dlabs71.library.exception.metrics.micrometer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.metrics.ErrorMetrics;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class MicrometerResolverInstrumentationTest {
+
+    @Test
+    void recordsTimerPerTagCombination() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerResolverInstrumentation instrumentation = new MicrometerResolverInstrumentation(registry);
+        ErrorResponseDto body = ErrorResponseDto.builder().errorCode(CommonErrorCode.ENTITY_NOT_FOUND).build();
+
+        instrumentation.onResolved(new IllegalStateException(), body, HttpStatus.NOT_FOUND, 1000);
+        instrumentation.onResolved(new IllegalStateException(), body, HttpStatus.NOT_FOUND, 3000);
+        instrumentation.onResolved(new IllegalStateException(), body, HttpStatus.INTERNAL_SERVER_ERROR, 1000);
+
+        Timer notFound = registry.get(MicrometerResolverInstrumentation.DEFAULT_METER_NAME)
+            .tag("error.code", "ENTITY_NOT_FOUND")
+            .tag("error.level", ErrorMetrics.NONE)
+            .tag("status", "404")
+            .tag("exception", "IllegalStateException")
+            .timer();
+        assertEquals(2, notFound.count());
+        assertEquals(4000, notFound.totalTime(TimeUnit.NANOSECONDS), 0.1);
+        assertEquals(2, registry.get(MicrometerResolverInstrumentation.DEFAULT_METER_NAME).timers().size());
+    }
+}
@@ -0,0 +1,188 @@
+package ru.dlabs71.library.exception.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+class AsyncExceptionLogSinkTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwoAndAtLeastTwo() {
+        try (AsyncExceptionLogSink sink = AsyncExceptionLogSink.builder().capacity(5).build()) {
+            assertEquals(8, sink.getCapacity());
+        }
+        try (AsyncExceptionLogSink sink = AsyncExceptionLogSink.builder().capacity(1).build()) {
+            assertEquals(2, sink.getCapacity());
+        }
+        assertThrows(IllegalArgumentException.class, () -> AsyncExceptionLogSink.builder().capacity(0).build());
+        assertThrows(IllegalArgumentException.class, () -> AsyncExceptionLogSink.builder().sampleRate(0).build());
+    }
+
+    @Test
+    void recordsAreWrittenInOrderOnBackgroundThread() {
+        RecordingLogger logger = new RecordingLogger(false);
+        AsyncExceptionLogSink sink = AsyncExceptionLogSink.builder()
+            .capacity(4)
+            .overflowPolicy(AsyncExceptionLogSink.OverflowPolicy.BLOCK)
+            .threadName("test-log")
+            .build();
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("e" + i), null));
+        }
+        sink.close();
+
+        assertEquals(20, logger.messages.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("e" + i, logger.messages.get(i));
+        }
+        assertEquals("test-log", logger.threadName);
+        assertEquals(0, sink.getDroppedCount());
+    }
+
+    @Test
+    void recordsAreDroppedWhenBufferIsFull() throws InterruptedException {
+        RecordingLogger logger = new RecordingLogger(true);
+        AsyncExceptionLogSink sink = AsyncExceptionLogSink.builder().capacity(4).build();
+        sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("first"), null);
+        logger.awaitBlocked();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("e" + i), null));
+        }
+        assertFalse(sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("dropped"), null));
+        logger.release();
+        sink.close();
+
+        assertEquals(1, sink.getDroppedCount());
+        assertEquals(4, logger.messages.size());
+        assertFalse(logger.messages.contains("dropped"));
+    }
+
+    @Test
+    void onlySampleIsAcceptedWhenBufferIsMoreThanHalfFull() throws InterruptedException {
+        RecordingLogger logger = new RecordingLogger(true);
+        AsyncExceptionLogSink sink = AsyncExceptionLogSink.builder()
+            .capacity(8)
+            .overflowPolicy(AsyncExceptionLogSink.OverflowPolicy.SAMPLE)
+            .sampleRate(2)
+            .build();
+        sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("first"), null);
+        logger.awaitBlocked();
+
+        int accepted = 0;
+        for (int i = 0; i < 4; i++) {
+            accepted += sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException(), null) ? 1 : 0;
+        }
+        assertEquals(4, accepted);
+        for (int i = 0; i < 4; i++) {
+            accepted += sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException(), null) ? 1 : 0;
+        }
+        logger.release();
+        sink.close();
+
+        assertEquals(6, accepted);
+        assertEquals(2, sink.getDroppedCount());
+    }
+
+    @Test
+    void producerWaitsForRoomWhenPolicyIsBlock() throws InterruptedException {
+        RecordingLogger logger = new RecordingLogger(true);
+        AsyncExceptionLogSink sink = AsyncExceptionLogSink.builder()
+            .capacity(2)
+            .overflowPolicy(AsyncExceptionLogSink.OverflowPolicy.BLOCK)
+            .build();
+        sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("first"), null);
+        logger.awaitBlocked();
+        sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("second"), null);
+
+        Thread producer = new Thread(
+            () -> sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException("third"), null)
+        );
+        producer.start();
+        producer.join(100);
+        assertTrue(producer.isAlive());
+
+        logger.release();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        sink.close();
+
+        assertFalse(producer.isAlive());
+        assertEquals(3, logger.messages.size());
+        assertEquals(0, sink.getDroppedCount());
+    }
+
+    @Test
+    void recordsSubmittedAfterClosingAreDropped() {
+        RecordingLogger logger = new RecordingLogger(false);
+        AsyncExceptionLogSink sink = AsyncExceptionLogSink.builder().build();
+        sink.close();
+
+        assertFalse(sink.submit(logger.proxy, LogDecision.ERROR, new IllegalStateException(), null));
+        assertEquals(1, sink.getDroppedCount());
+        assertTrue(logger.messages.isEmpty());
+    }
+
+    /**
+     * Logger which records messages of exceptions. If it's blocking, writing of the first record waits
+     * until {@link #release()} is called, so the buffer can be filled.
+     */
+    private static final class RecordingLogger {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released;
+        private final Logger proxy;
+        private volatile String threadName;
+
+        private RecordingLogger(boolean blocking) {
+            this.released = new CountDownLatch(blocking ? 1 : 0);
+            LoggingEventBuilder builder = (LoggingEventBuilder) Proxy.newProxyInstance(
+                LoggingEventBuilder.class.getClassLoader(),
+                new Class<?>[] { LoggingEventBuilder.class },
+                (builderProxy, method, args) -> {
+                    if ("log".equals(method.getName())) {
+                        this.write((String) args[args.length - 1]);
+                        return null;
+                    }
+                    return builderProxy;
+                }
+            );
+            this.proxy = (Logger) Proxy.newProxyInstance(
+                Logger.class.getClassLoader(),
+                new Class<?>[] { Logger.class },
+                (loggerProxy, method, args) -> {
+                    if ("atLevel".equals(method.getName())) {
+                        return builder;
+                    }
+                    return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                }
+            );
+        }
+
+        private void write(String message) throws InterruptedException {
+            this.threadName = Thread.currentThread().getName();
+            this.blocked.countDown();
+            this.released.await();
+            this.messages.add(message);
+        }
+
+        private void awaitBlocked() throws InterruptedException {
+            assertTrue(this.blocked.await(5, TimeUnit.SECONDS));
+        }
+
+        private void release() {
+            this.released.countDown();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package ru.dlabs71.library.exception.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class CauseChainAnalyzerTest {
+
+    private static final ExceptionMapping CONFLICT =
+        ExceptionMapping.of(CommonErrorCode.LOCK_OBJECT, HttpStatus.CONFLICT);
+    private static final ExceptionMapping BAD_REQUEST =
+        ExceptionMapping.of(CommonErrorCode.INVALID_REQUEST, HttpStatus.BAD_REQUEST);
+
+    private final CauseChainAnalyzer analyzer = CauseChainAnalyzer.builder()
+        .mappings(ExceptionMappingRegistry.builder()
+            .type(IllegalStateException.class, CONFLICT)
+            .type(IllegalArgumentException.class, BAD_REQUEST)
+            .build())
+        .build();
+
+    @Test
+    void deepestMappedCauseIsChosen() {
+        IllegalArgumentException deepest = new IllegalArgumentException("deepest");
+        RuntimeException wrapper = new RuntimeException(new IllegalStateException(deepest));
+
+        CauseChainAnalysis analysis = this.analyzer.analyze(wrapper);
+
+        assertSame(deepest, analysis.getCause());
+        assertSame(BAD_REQUEST, analysis.getMapping());
+        assertSame(CommonErrorCode.INVALID_REQUEST, analysis.getErrorCode());
+        assertEquals(2, analysis.getDepth());
+        assertSame(deepest, analysis.getRootCause());
+        assertEquals("deepest", analysis.getRootCauseMessage());
+    }
+
+    @Test
+    void causesOfLibraryExceptionsAreNotConsidered() {
+        ServiceException serviceException = new ServiceException(
+            "locked",
+            CommonErrorCode.STALE_OBJECT,
+            new IllegalArgumentException()
+        );
+
+        CauseChainAnalysis analysis = this.analyzer.analyze(new RuntimeException(serviceException));
+
+        assertSame(serviceException, analysis.getCause());
+        assertSame(CommonErrorCode.STALE_OBJECT, analysis.getErrorCode());
+        assertNull(analysis.getMapping());
+        assertEquals(1, analysis.getDepth());
+    }
+
+    @Test
+    void cyclicCauseChainIsWalkedOnce() {
+        RuntimeException first = new RuntimeException("first");
+        IllegalStateException second = new IllegalStateException("second", first);
+        first.initCause(second);
+
+        CauseChainAnalysis analysis = assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> this.analyzer.analyze(first)
+        );
+
+        assertSame(second, analysis.getCause());
+        assertEquals(1, analysis.getDepth());
+        assertSame(second, analysis.getRootCause());
+    }
+
+    @Test
+    void cyclicSuppressedExceptionsAreWalkedOnce() {
+        RuntimeException first = new RuntimeException("first");
+        RuntimeException second = new RuntimeException("second");
+        IllegalArgumentException mapped = new IllegalArgumentException("mapped", first);
+        first.addSuppressed(second);
+        second.addSuppressed(first);
+        second.addSuppressed(mapped);
+
+        CauseChainAnalysis analysis = assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> this.analyzer.analyze(first)
+        );
+
+        assertSame(mapped, analysis.getCause());
+        assertEquals(2, analysis.getDepth());
+        assertSame(first, analysis.getRootCause());
+    }
+
+    @Test
+    void causesAreWalkedBeforeSuppressedExceptions() {
+        RuntimeException wrapper = new RuntimeException(new IllegalStateException());
+        wrapper.addSuppressed(new IllegalArgumentException());
+        CauseChainAnalyzer withoutSuppressed = CauseChainAnalyzer.builder()
+            .mappings(this.analyzer.getMappings())
+            .suppressed(false)
+            .build();
+        RuntimeException onlySuppressed = new RuntimeException();
+        onlySuppressed.addSuppressed(new IllegalArgumentException());
+
+        assertSame(CONFLICT, this.analyzer.analyze(wrapper).getMapping());
+        assertSame(BAD_REQUEST, this.analyzer.analyze(onlySuppressed).getMapping());
+        assertFalse(withoutSuppressed.analyze(onlySuppressed).isFound());
+    }
+
+    @Test
+    void walkIsBounded() {
+        Throwable chain = new IllegalArgumentException("deepest");
+        for (int i = 0; i < 10; i++) {
+            chain = new RuntimeException("wrapper " + i, chain);
+        }
+        CauseChainAnalyzer shallow = CauseChainAnalyzer.builder()
+            .mappings(this.analyzer.getMappings())
+            .maxDepth(3)
+            .build();
+        CauseChainAnalyzer small = CauseChainAnalyzer.builder()
+            .mappings(this.analyzer.getMappings())
+            .maxNodes(5)
+            .build();
+
+        CauseChainAnalysis shallowAnalysis = shallow.analyze(chain);
+
+        assertFalse(shallowAnalysis.isFound());
+        assertEquals("wrapper 6", shallowAnalysis.getRootCauseMessage());
+        assertFalse(small.analyze(chain).isFound());
+        assertEquals(10, this.analyzer.analyze(chain).getDepth());
+    }
+
+    @Test
+    void cachedDecisionPointsToExceptionOfNewChain() {
+        IllegalStateException firstCause = new IllegalStateException("first");
+        IllegalStateException secondCause = new IllegalStateException("second");
+
+        assertSame(firstCause, this.analyzer.analyze(new RuntimeException(firstCause)).getCause());
+        assertSame(secondCause, this.analyzer.analyze(new RuntimeException(secondCause)).getCause());
+        this.analyzer.clearCache();
+        assertSame(secondCause, this.analyzer.analyze(new RuntimeException(secondCause)).getCause());
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CauseChainAnalyzer.builder().maxNodes(0).build());
+        assertThrows(IllegalArgumentException.class, () -> CauseChainAnalyzer.builder().maxDepth(-1).build());
+    }
+}
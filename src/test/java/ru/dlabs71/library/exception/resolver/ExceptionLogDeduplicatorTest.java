@@ -0,0 +1,140 @@
+package ru.dlabs71.library.exception.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.WithoutStacktraceServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ExceptionLogDeduplicatorTest {
+
+    @Test
+    void suppressesIdenticalExceptionsAfterLimit() {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder().maxPerWindow(2).build();
+
+        assertTrue(deduplicator.tryAcquire(ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND)));
+        assertTrue(deduplicator.tryAcquire(ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND)));
+        assertFalse(deduplicator.tryAcquire(ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND)));
+        assertTrue(deduplicator.tryAcquire(ServiceException.build(CommonErrorCode.STALE_OBJECT)));
+        assertTrue(deduplicator.tryAcquire(ServiceException.build("another message")));
+    }
+
+    @Test
+    void exceptionsWithAndWithoutStacktraceAreIdentical() {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder().maxPerWindow(1).build();
+        ServiceException withStacktrace = new ServiceException("message", CommonErrorCode.LOCK_OBJECT);
+        ServiceException withoutStacktrace = new ServiceException("message", CommonErrorCode.LOCK_OBJECT);
+        withoutStacktrace.setStackTrace(new StackTraceElement[0]);
+
+        assertTrue(deduplicator.tryAcquire(withStacktrace));
+        assertFalse(deduplicator.tryAcquire(withoutStacktrace));
+    }
+
+    @Test
+    void exceptionsOfDifferentClassesAreDistinct() {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder().maxPerWindow(1).build();
+
+        assertTrue(deduplicator.tryAcquire(ServiceException.build(CommonErrorCode.LOCK_OBJECT)));
+        assertTrue(deduplicator.tryAcquire(WithoutStacktraceServiceException.build(CommonErrorCode.LOCK_OBJECT)));
+    }
+
+    @Test
+    void newWindowRestoresPermits() throws InterruptedException {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder()
+            .maxPerWindow(1)
+            .window(Duration.ofMillis(500))
+            .build();
+        IllegalStateException exception = new IllegalStateException("storm");
+
+        assertTrue(deduplicator.tryAcquire(exception));
+        assertFalse(deduplicator.tryAcquire(exception));
+        Thread.sleep(600);
+        deduplicator.flush();
+
+        assertTrue(deduplicator.tryAcquire(exception));
+        assertFalse(deduplicator.tryAcquire(exception));
+    }
+
+    @Test
+    void messagesDontSplitIdenticalExceptions() {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder().maxPerWindow(2).build();
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (deduplicator.tryAcquire(new IllegalStateException("Connection refused: host-" + i))) {
+                allowed++;
+            }
+            if (deduplicator.tryAcquire(new ServiceException("Order " + i, CommonErrorCode.ENTITY_NOT_FOUND))) {
+                allowed++;
+            }
+        }
+
+        assertEquals(4, allowed);
+    }
+
+    @Test
+    void exceptionsThrownAtDifferentPlacesAreDistinct() {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder().maxPerWindow(1).build();
+
+        assertTrue(deduplicator.tryAcquire(firstPlace()));
+        assertFalse(deduplicator.tryAcquire(firstPlace()));
+        assertTrue(deduplicator.tryAcquire(secondPlace()));
+        assertTrue(deduplicator.tryAcquire(factoryPlace("first")));
+        assertFalse(deduplicator.tryAcquire(factoryPlace("second")));
+    }
+
+    @Test
+    void exceptionsOfNewKindsShareOverflowWindowWhenKeysAreExhausted() {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder()
+            .maxPerWindow(1)
+            .maxKeys(1)
+            .build();
+
+        assertTrue(deduplicator.tryAcquire(new IllegalStateException()));
+        assertTrue(deduplicator.tryAcquire(new IllegalArgumentException()));
+        assertFalse(deduplicator.tryAcquire(new UnsupportedOperationException()));
+        assertFalse(deduplicator.tryAcquire(new IllegalStateException()));
+    }
+
+    @Test
+    void idleKindsAreForgottenWithoutFlush() throws InterruptedException {
+        ExceptionLogDeduplicator deduplicator = ExceptionLogDeduplicator.builder()
+            .maxPerWindow(1)
+            .maxKeys(1)
+            .window(Duration.ofMillis(50))
+            .build();
+
+        assertTrue(deduplicator.tryAcquire(new IllegalStateException()));
+        Thread.sleep(60);
+        assertTrue(deduplicator.tryAcquire(new IllegalArgumentException()));
+        Thread.sleep(60);
+
+        assertTrue(deduplicator.tryAcquire(new UnsupportedOperationException()));
+        assertTrue(deduplicator.tryAcquire(new ArithmeticException()));
+        assertFalse(deduplicator.tryAcquire(new UnsupportedOperationException()));
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ExceptionLogDeduplicator.builder().window(Duration.ZERO).build()
+        );
+    }
+
+    private static IllegalStateException firstPlace() {
+        return new IllegalStateException("first");
+    }
+
+    private static IllegalStateException secondPlace() {
+        return new IllegalStateException("second");
+    }
+
+    private static ServiceException factoryPlace(String message) {
+        return ServiceException.build(message);
+    }
+}
@@ -0,0 +1,113 @@
+package ru.dlabs71.library.exception.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ExceptionMappingRegistryTest {
+
+    private static final ExceptionMapping CONFLICT =
+        ExceptionMapping.of(CommonErrorCode.LOCK_OBJECT, HttpStatus.CONFLICT);
+    private static final ExceptionMapping BAD_REQUEST =
+        ExceptionMapping.of(CommonErrorCode.INVALID_REQUEST, HttpStatus.BAD_REQUEST);
+
+    @Test
+    void nearestSuperclassIsUsed() {
+        ExceptionMappingRegistry registry = ExceptionMappingRegistry.builder()
+            .type(RuntimeException.class, CONFLICT)
+            .type(IllegalArgumentException.class, BAD_REQUEST)
+            .build();
+
+        assertSame(BAD_REQUEST, registry.resolve(new NumberFormatException()));
+        assertSame(CONFLICT, registry.resolve(new IllegalStateException()));
+        assertNull(registry.resolve(new Exception()));
+    }
+
+    @Test
+    void interfacesAreChecked() {
+        ExceptionMappingRegistry registry = ExceptionMappingRegistry.builder()
+            .typeName(Marker.class.getName(), CONFLICT)
+            .build();
+
+        assertSame(CONFLICT, registry.resolve(new MarkedException()));
+        assertSame(CONFLICT, registry.resolve(new MarkedException() { }));
+    }
+
+    @Test
+    void superinterfacesAreChecked() {
+        ExceptionMappingRegistry registry = ExceptionMappingRegistry.builder()
+            .typeName(Marker.class.getName(), CONFLICT)
+            .build();
+
+        assertSame(CONFLICT, registry.resolve(new SpecialMarkedException()));
+    }
+
+    @Test
+    void typesCanBeRegisteredByNames() {
+        ExceptionMappingRegistry registry = ExceptionMappingRegistry.builder()
+            .typeName(IllegalStateException.class.getName(), CONFLICT)
+            .typeNames(Collections.singletonMap(UncheckedIOException.class.getName(), BAD_REQUEST))
+            .build();
+
+        assertSame(CONFLICT, registry.resolve(new IllegalStateException()));
+        assertSame(BAD_REQUEST, registry.resolve(new UncheckedIOException(new IOException())));
+    }
+
+    @Test
+    void toBuilderKeepsMappingsAndDoesNotChangeTheSource() {
+        ExceptionMappingRegistry registry = ExceptionMappingRegistry.DEFAULT.toBuilder()
+            .type(IOException.class, CONFLICT)
+            .types(Collections.singletonMap(IllegalStateException.class, BAD_REQUEST))
+            .build();
+
+        assertSame(CONFLICT, registry.resolve(new IOException()));
+        assertSame(BAD_REQUEST, registry.resolve(new IllegalStateException()));
+        assertEquals(HttpStatus.NOT_FOUND, registry.resolve(new FileNotFoundException()).getStatus());
+        assertEquals(
+            CommonErrorCode.IO_EXCEPTION,
+            ExceptionMappingRegistry.DEFAULT.resolve(new IOException()).getErrorCode()
+        );
+        assertNull(ExceptionMappingRegistry.DEFAULT.resolve(new IllegalStateException()));
+    }
+
+    @Test
+    void defaultRegistryMapsCommonExceptions() {
+        ExceptionMapping fileNotFound = ExceptionMappingRegistry.DEFAULT.resolve(new FileNotFoundException());
+        assertEquals(CommonErrorCode.FILE_NOT_FOUND, fileNotFound.getErrorCode());
+        assertFalse(fileNotFound.isStacktrace());
+
+        ExceptionMapping io = ExceptionMappingRegistry.DEFAULT.resolve(new NoSuchFileException("file"));
+        assertEquals(CommonErrorCode.IO_EXCEPTION, io.getErrorCode());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, io.getStatus());
+
+        assertEquals(
+            CommonErrorCode.VALIDATION_EXCEPTION,
+            ExceptionMappingRegistry.DEFAULT.resolve(new AssertionError()).getErrorCode()
+        );
+        assertTrue(ExceptionMappingRegistry.EMPTY.isEmpty());
+        assertFalse(ExceptionMappingRegistry.DEFAULT.isEmpty());
+    }
+
+    private interface Marker {
+    }
+
+    private interface SpecialMarker extends Marker {
+    }
+
+    private static class MarkedException extends RuntimeException implements Marker {
+    }
+
+    private static class SpecialMarkedException extends RuntimeException implements SpecialMarker {
+    }
+}
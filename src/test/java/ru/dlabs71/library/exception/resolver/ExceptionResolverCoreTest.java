@@ -0,0 +1,278 @@
+package ru.dlabs71.library.exception.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.dlabs71.library.exception.DExceptionMessageService;
+import ru.dlabs71.library.exception.TestMessageService;
+import ru.dlabs71.library.exception.accumulator.ErrorAccumulator;
+import ru.dlabs71.library.exception.dto.AggregatedErrorsDto;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.exception.AccumulatedErrorsServiceException;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.utils.ResponseTemplateCache;
+
+class ExceptionResolverCoreTest {
+
+    private final List<HttpStatus> resolved = new ArrayList<>();
+
+    @Test
+    void serviceExceptionIsNotInformative() {
+        ResponseEntity<ErrorResponseDto> response =
+            this.resolver(false).resolve("/path", ServiceException.build(CommonErrorCode.LOCK_OBJECT));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertFalse(response.getBody().isInformative());
+        assertEquals(CommonErrorCode.LOCK_OBJECT, response.getBody().getErrorCode());
+        assertNull(response.getBody().getStacktrace());
+    }
+
+    @Test
+    void businessLogicExceptionIsInformative() {
+        ResponseEntity<ErrorResponseDto> response = this.resolver(false).resolve(
+            "/path",
+            BusinessLogicServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, CommonErrorLevel.WARNING)
+        );
+
+        assertTrue(response.getBody().isInformative());
+        assertEquals(CommonErrorLevel.WARNING, response.getBody().getLevel());
+    }
+
+    @Test
+    void specialHttpStatusIsKept() {
+        ResponseEntity<ErrorResponseDto> response = this.resolver(false).resolve(
+            "/path",
+            SpecialHttpStatusServiceException.build(CommonErrorCode.ACCESS_DENIED, HttpStatus.FORBIDDEN)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals(CommonErrorCode.ACCESS_DENIED, response.getBody().getErrorCode());
+    }
+
+    @Test
+    void otherExceptionsAreResolvedByType() {
+        TestResolver resolver = this.resolver(false);
+
+        assertResponse(resolver, new FileNotFoundException(), HttpStatus.NOT_FOUND, CommonErrorCode.FILE_NOT_FOUND);
+        assertResponse(resolver, new IOException(), HttpStatus.INTERNAL_SERVER_ERROR, CommonErrorCode.IO_EXCEPTION);
+        assertResponse(
+            resolver,
+            new AssertionError(),
+            HttpStatus.INTERNAL_SERVER_ERROR,
+            CommonErrorCode.VALIDATION_EXCEPTION
+        );
+        assertResponse(
+            resolver,
+            new IllegalStateException(),
+            HttpStatus.INTERNAL_SERVER_ERROR,
+            CommonErrorCode.COMMON_EXCEPTION
+        );
+    }
+
+    @Test
+    void stacktraceIsAddedIfEnabled() {
+        ResponseEntity<ErrorResponseDto> response =
+            this.resolver(true).resolve("/path", ServiceException.build(CommonErrorCode.LOCK_OBJECT));
+
+        assertTrue(response.getBody().getStacktrace().length > 0);
+    }
+
+    @Test
+    void everyResponseIsInstrumented() {
+        TestResolver resolver = this.resolver(false);
+
+        resolver.resolve("/path", ServiceException.build(CommonErrorCode.LOCK_OBJECT));
+        resolver.resolve("/path", new FileNotFoundException());
+
+        assertEquals(2, this.resolved.size());
+        assertEquals(HttpStatus.NOT_FOUND, this.resolved.get(1));
+    }
+
+    @Test
+    void responsesOfConstantMessagesAreShared() {
+        TestMessageService messageService = new TestMessageService(true)
+            .pattern(CommonErrorCode.LOCK_OBJECT.getCodeMessage(), "Locked");
+        TestResolver resolver = new TestResolver(
+            messageService,
+            ExceptionResolverConfig.builder().responseTemplateCache(new ResponseTemplateCache()).build()
+        );
+
+        ResponseEntity<ErrorResponseDto> first =
+            resolver.resolve("/path", ServiceException.build(CommonErrorCode.LOCK_OBJECT));
+        ResponseEntity<ErrorResponseDto> second =
+            resolver.resolve("/path", ServiceException.build(CommonErrorCode.LOCK_OBJECT));
+
+        assertSame(first, second);
+        assertEquals("Locked", first.getBody().getMessage());
+    }
+
+    @Test
+    void rawMessageArgsAreFormattedWhenResponseIsCreated() {
+        TestMessageService messageService = new TestMessageService(true)
+            .pattern(CommonErrorCode.ENTITY_NOT_FOUND.getCodeMessage(), "Order {0} of {1} isn''t found");
+        TestResolver resolver = new TestResolver(
+            messageService,
+            ExceptionResolverConfig.builder().responseTemplateCache(new ResponseTemplateCache()).build()
+        );
+        int[] calls = new int[1];
+        Supplier<String> owner = () -> {
+            calls[0]++;
+            return "user";
+        };
+
+        ServiceException exception = ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND, 42, owner);
+        assertEquals(0, calls[0]);
+        ResponseEntity<ErrorResponseDto> response = resolver.resolve("/path", exception);
+
+        assertEquals("Order 42 of user isn't found", response.getBody().getMessage());
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    void accumulatedErrorsAreListed() {
+        AccumulatedErrorsServiceException exception = ErrorAccumulator.builder().maxErrors(1).build()
+            .add(CommonErrorCode.ENTITY_NOT_FOUND)
+            .add(CommonErrorCode.LOCK_OBJECT)
+            .toException(CommonErrorCode.VALIDATION_EXCEPTION, HttpStatus.BAD_REQUEST);
+
+        ResponseEntity<ErrorResponseDto> response = this.resolver(false).resolve("/path", exception);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody().isInformative());
+        AggregatedErrorsDto data = (AggregatedErrorsDto) response.getBody().getData();
+        assertEquals(2, data.getTotal());
+        assertEquals(1, data.getErrors().size());
+        assertEquals(CommonErrorCode.ENTITY_NOT_FOUND, data.getErrors().get(0).getErrorCode());
+    }
+
+    @Test
+    void accumulatedErrorsAreListedByHandlerOfServiceException() {
+        ServiceException exception = ErrorAccumulator.create()
+            .add(CommonErrorCode.ENTITY_NOT_FOUND)
+            .toException(CommonErrorCode.VALIDATION_EXCEPTION, HttpStatus.BAD_REQUEST);
+
+        ResponseEntity<ErrorResponseDto> response = this.resolver(false).resolveServiceException("/path", exception);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody().isInformative());
+        AggregatedErrorsDto data = (AggregatedErrorsDto) response.getBody().getData();
+        assertEquals(1, data.getErrors().size());
+        assertEquals(CommonErrorCode.ENTITY_NOT_FOUND, data.getErrors().get(0).getErrorCode());
+    }
+
+    @Test
+    void deserializedAccumulatedErrorsAreResolvedWithoutList() throws Exception {
+        AccumulatedErrorsServiceException exception = ErrorAccumulator.create()
+            .add(CommonErrorCode.ENTITY_NOT_FOUND)
+            .toException(CommonErrorCode.VALIDATION_EXCEPTION, HttpStatus.BAD_REQUEST);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(exception);
+        }
+        AccumulatedErrorsServiceException copy;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (AccumulatedErrorsServiceException) input.readObject();
+        }
+
+        ResponseEntity<ErrorResponseDto> response = this.resolver(false).resolve("/path", copy);
+
+        assertNull(copy.getErrors());
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(CommonErrorCode.VALIDATION_EXCEPTION, response.getBody().getErrorCode());
+        assertNull(response.getBody().getData());
+    }
+
+    @Test
+    void messageOfRootCauseIsUsedForServiceException() {
+        TestMessageService messageService = new TestMessageService(true)
+            .pattern(CommonErrorCode.LOCK_OBJECT.getCodeMessage(), "Failed: {0}");
+        TestResolver resolver = new TestResolver(
+            messageService,
+            ExceptionResolverConfig.builder()
+                .causeChainAnalyzer(CauseChainAnalyzer.builder().mappings(ExceptionMappingRegistry.EMPTY).build())
+                .build()
+        );
+        RuntimeException cause = new RuntimeException(
+            "wrapper",
+            new IllegalStateException("jpa", new SQLException("duplicate key"))
+        );
+
+        ResponseEntity<ErrorResponseDto> response =
+            resolver.resolve("/path", new ServiceException(null, CommonErrorCode.LOCK_OBJECT, cause));
+
+        assertEquals("Failed: duplicate key", response.getBody().getMessage());
+    }
+
+    @Test
+    void messageOfMappedCauseIsUsed() {
+        TestMessageService messageService = new TestMessageService(true)
+            .pattern(CommonErrorCode.STALE_OBJECT.getCodeMessage(), "Conflict: {0}");
+        ExceptionMappingRegistry mappings = ExceptionMappingRegistry.builder()
+            .type(IllegalStateException.class, ExceptionMapping.of(CommonErrorCode.STALE_OBJECT, HttpStatus.CONFLICT))
+            .build();
+        TestResolver resolver = new TestResolver(
+            messageService,
+            ExceptionResolverConfig.builder()
+                .exceptionMappings(mappings)
+                .causeChainAnalyzer(CauseChainAnalyzer.builder().mappings(mappings).build())
+                .build()
+        );
+
+        ResponseEntity<ErrorResponseDto> response = resolver.resolve(
+            "/path",
+            new RuntimeException("outer", new IllegalStateException("inner"))
+        );
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Conflict: inner", response.getBody().getMessage());
+    }
+
+    private TestResolver resolver(boolean enableStacktrace) {
+        return new TestResolver(
+            new TestMessageService(true),
+            ExceptionResolverConfig.builder()
+                .enableStacktrace(enableStacktrace)
+                .instrumentation((throwable, body, status, duration) -> this.resolved.add(status))
+                .build()
+        );
+    }
+
+    private static void assertResponse(TestResolver resolver, Throwable throwable, HttpStatus status, ErrorCode code) {
+        ResponseEntity<ErrorResponseDto> response = resolver.resolve("/path", throwable);
+        assertEquals(status, response.getStatusCode());
+        assertEquals(code, response.getBody().getErrorCode());
+    }
+
+    private static final class TestResolver extends ExceptionResolverCore<String> {
+
+        private TestResolver(DExceptionMessageService messageService, ExceptionResolverConfig config) {
+            super(messageService, config, null);
+        }
+
+        @Override
+        protected String getRequestPath(String request) {
+            return request;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ru.dlabs71.library.exception.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+class MappedExceptionLogPolicyTest {
+
+    @Test
+    void errorCodeDecisionWinsOverTypeDecision() {
+        ExceptionLogPolicy policy = MappedExceptionLogPolicy.builder()
+            .type(ServiceException.class, LogDecision.WARN)
+            .errorCode(CommonErrorCode.ENTITY_NOT_FOUND, LogDecision.INFO_WITHOUT_STACKTRACE)
+            .build();
+
+        assertSame(
+            LogDecision.INFO_WITHOUT_STACKTRACE,
+            policy.decide(ServiceException.build(CommonErrorCode.ENTITY_NOT_FOUND))
+        );
+        assertSame(LogDecision.WARN, policy.decide(ServiceException.build(CommonErrorCode.STALE_OBJECT)));
+    }
+
+    @Test
+    void nearestTypeDecisionIsUsed() {
+        ExceptionLogPolicy policy = MappedExceptionLogPolicy.builder()
+            .type(IOException.class, LogDecision.WARN)
+            .type(FileNotFoundException.class, LogDecision.NONE)
+            .types(Collections.singletonMap(IllegalStateException.class, LogDecision.DEBUG))
+            .build();
+
+        assertSame(LogDecision.NONE, policy.decide(new FileNotFoundException()));
+        assertSame(LogDecision.WARN, policy.decide(new IOException()));
+        assertSame(LogDecision.DEBUG, policy.decide(new IllegalStateException()));
+    }
+
+    @Test
+    void decisionOfSuperinterfaceIsUsed() {
+        ExceptionLogPolicy policy = MappedExceptionLogPolicy.builder()
+            .type(TransientFailure.class, LogDecision.WARN_WITHOUT_STACKTRACE)
+            .type(IOException.class, LogDecision.NONE)
+            .build();
+
+        assertSame(LogDecision.WARN_WITHOUT_STACKTRACE, policy.decide(new ConnectionFailure()));
+        assertSame(LogDecision.WARN_WITHOUT_STACKTRACE, policy.decide(new ConnectionFailure() { }));
+        assertSame(LogDecision.NONE, policy.decide(new FileNotFoundException()));
+    }
+
+    @Test
+    void fallbackDecidesForUnknownExceptions() {
+        ExceptionLogPolicy defaultFallback = MappedExceptionLogPolicy.builder()
+            .type(IOException.class, LogDecision.NONE)
+            .build();
+        ExceptionLogPolicy customFallback = MappedExceptionLogPolicy.builder()
+            .fallback(throwable -> LogDecision.ERROR_WITHOUT_STACKTRACE)
+            .build();
+
+        assertSame(LogDecision.ERROR, defaultFallback.decide(new UncheckedIOException(new IOException())));
+        assertSame(LogDecision.NONE, defaultFallback.decide(new FileNotFoundException()));
+        assertSame(LogDecision.ERROR_WITHOUT_STACKTRACE, customFallback.decide(new IllegalStateException()));
+    }
+
+    @Test
+    void defaultPolicyLogsInformativeExceptionsWithoutStacktrace() {
+        assertSame(
+            LogDecision.INFO_WITHOUT_STACKTRACE,
+            ExceptionLogPolicy.DEFAULT.decide(BusinessLogicServiceException.build("info", CommonErrorLevel.INFO))
+        );
+        assertSame(
+            LogDecision.WARN_WITHOUT_STACKTRACE,
+            ExceptionLogPolicy.DEFAULT.decide(BusinessLogicServiceException.build("warn", CommonErrorLevel.WARNING))
+        );
+        assertSame(LogDecision.ERROR, ExceptionLogPolicy.DEFAULT.decide(new IllegalStateException()));
+    }
+
+    @Test
+    void decisionOfLevelReusesConstants() {
+        assertSame(LogDecision.NONE, LogDecision.of(null, true));
+        assertSame(LogDecision.ERROR, LogDecision.of(Level.ERROR, true));
+        assertSame(LogDecision.WARN_WITHOUT_STACKTRACE, LogDecision.of(Level.WARN, false));
+        assertEquals(Level.TRACE, LogDecision.of(Level.TRACE, true).getLevel());
+    }
+
+    private interface TransientFailure {
+    }
+
+    private interface NetworkFailure extends TransientFailure {
+    }
+
+    private static class ConnectionFailure extends RuntimeException implements NetworkFailure {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
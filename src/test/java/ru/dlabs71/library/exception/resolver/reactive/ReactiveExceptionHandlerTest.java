@@ -0,0 +1,165 @@
+package ru.dlabs71.library.exception.resolver.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.RequestPath;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import ru.dlabs71.library.exception.TestMessageService;
+import ru.dlabs71.library.exception.dto.ErrorResponseJsonWriter;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.resolver.ExceptionResolverConfig;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ReactiveExceptionHandlerTest {
+
+    private final AtomicInteger resolved = new AtomicInteger();
+    private final ExceptionResolverConfig config = ExceptionResolverConfig.builder()
+        .instrumentation((throwable, body, status, duration) -> this.resolved.incrementAndGet())
+        .build();
+
+    @Test
+    void exceptionIsResolvedOnSubscription() {
+        ReactiveExceptionHandler handler = new ReactiveExceptionHandler(new TestMessageService(true), this.config);
+        TestExchange exchange = new TestExchange(false);
+
+        Mono<Void> result = handler.handle(exchange.proxy(), ServiceException.build(CommonErrorCode.LOCK_OBJECT));
+        assertEquals(0, this.resolved.get());
+
+        result.block();
+        assertEquals(1, this.resolved.get());
+    }
+
+    @Test
+    void responseIsWrittenAsJson() throws IOException {
+        ReactiveExceptionHandler handler = new ReactiveExceptionHandler(new TestMessageService(true), this.config);
+        TestExchange exchange = new TestExchange(false);
+
+        handler.handle(exchange.proxy(), ServiceException.build(CommonErrorCode.LOCK_OBJECT)).block();
+
+        JsonNode body = new ObjectMapper().readTree(exchange.body);
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exchange.status);
+        assertEquals(MediaType.APPLICATION_JSON, exchange.headers.getContentType());
+        assertEquals(exchange.body.getBytes(StandardCharsets.UTF_8).length, exchange.headers.getContentLength());
+        assertEquals("LOCK_OBJECT", body.get("errorCode").asText());
+    }
+
+    @Test
+    void responseStatusExceptionKeepsStatus() throws IOException {
+        ReactiveExceptionHandler handler = new ReactiveExceptionHandler(new TestMessageService(true), this.config);
+        TestExchange exchange = new TestExchange(false);
+
+        handler.handle(exchange.proxy(), new ResponseStatusException(HttpStatus.NOT_FOUND)).block();
+
+        assertEquals(HttpStatus.NOT_FOUND, exchange.status);
+        assertEquals("RESOURCE_NOT_FOUND", new ObjectMapper().readTree(exchange.body).get("errorCode").asText());
+    }
+
+    @Test
+    void exceptionIsResolvedOnScheduler() {
+        ReactiveExceptionHandler handler = new ReactiveExceptionHandler(
+            new TestMessageService(true),
+            this.config,
+            new ErrorResponseJsonWriter(),
+            Schedulers.single()
+        );
+        TestExchange exchange = new TestExchange(false);
+
+        handler.handle(exchange.proxy(), new IllegalStateException()).block();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exchange.status);
+        assertTrue(exchange.body.contains("COMMON_EXCEPTION"));
+    }
+
+    @Test
+    void committedResponseIsNotChanged() {
+        ReactiveExceptionHandler handler = new ReactiveExceptionHandler(new TestMessageService(true), this.config);
+        IllegalStateException exception = new IllegalStateException();
+
+        Mono<Void> result = handler.handle(new TestExchange(true).proxy(), exception);
+
+        assertSame(exception, assertThrows(IllegalStateException.class, result::block));
+        assertEquals(0, this.resolved.get());
+    }
+
+    private static final class TestExchange {
+
+        private final boolean committed;
+        private final HttpHeaders headers = new HttpHeaders();
+        private HttpStatus status;
+        private String body;
+
+        private TestExchange(boolean committed) {
+            this.committed = committed;
+        }
+
+        private ServerWebExchange proxy() {
+            ServerHttpRequest request = proxy(ServerHttpRequest.class, (method, args) ->
+                "getPath".equals(method) ? RequestPath.parse(URI.create("/path"), null) : null
+            );
+            ServerHttpResponse response = proxy(ServerHttpResponse.class, this::response);
+            return proxy(ServerWebExchange.class, (method, args) -> {
+                if ("getRequest".equals(method)) {
+                    return request;
+                }
+                return "getResponse".equals(method) ? response : null;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object response(String method, Object[] args) {
+            switch (method) {
+                case "isCommitted":
+                    return this.committed;
+                case "getHeaders":
+                    return this.headers;
+                case "setStatusCode":
+                    this.status = (HttpStatus) args[0];
+                    return true;
+                case "bufferFactory":
+                    return DefaultDataBufferFactory.sharedInstance;
+                case "writeWith":
+                    return Flux.from((Publisher<DataBuffer>) args[0])
+                        .doOnNext(buffer -> this.body = buffer.toString(StandardCharsets.UTF_8))
+                        .then();
+                default:
+                    return null;
+            }
+        }
+
+        private static <T> T proxy(Class<T> type, Handler handler) {
+            return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                (proxy, method, args) -> handler.invoke(method.getName(), args)
+            ));
+        }
+    }
+
+    private interface Handler {
+
+        Object invoke(String method, Object[] args);
+    }
+}
@@ -0,0 +1,72 @@
+package ru.dlabs71.library.exception.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.BusinessLogicServiceException;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.CommonErrorLevel;
+
+class DFailureTest {
+
+    @Test
+    void failureOfErrorCodeIsShared() {
+        DFailure failure = DFailure.of(CommonErrorCode.LOCK_OBJECT);
+
+        assertSame(failure, DFailure.of(CommonErrorCode.LOCK_OBJECT));
+        assertNotSame(failure, DFailure.of(CommonErrorCode.LOCK_OBJECT, HttpStatus.INTERNAL_SERVER_ERROR));
+        assertFalse(failure.isInformative());
+        assertNull(failure.getLevel());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, failure.getHttpStatus());
+    }
+
+    @Test
+    void failureIsInformativeIfLevelOrDataIsSpecified() {
+        DFailure failure = DFailure.builder().errorCode(CommonErrorCode.ENTITY_NOT_FOUND).data("id").build();
+
+        assertTrue(failure.isInformative());
+        assertEquals(CommonErrorLevel.ERROR, failure.getLevel());
+        assertThrows(IllegalArgumentException.class, () -> DFailure.builder().build());
+    }
+
+    @Test
+    void informativeFailureIsConvertedBothWays() {
+        DFailure failure = DFailure.builder()
+            .errorCode(CommonErrorCode.ENTITY_NOT_FOUND)
+            .level(CommonErrorLevel.WARNING)
+            .data("id")
+            .messageArgs(new Object[]{42})
+            .build();
+
+        ServiceException exception = failure.toException();
+        DFailure copy = DFailure.from((BusinessLogicServiceException) exception);
+
+        assertEquals(CommonErrorLevel.WARNING, ((BusinessLogicServiceException) exception).getLevel());
+        assertTrue(copy.isInformative());
+        assertEquals(CommonErrorLevel.WARNING, copy.getLevel());
+        assertEquals("id", copy.getData());
+        assertArrayEquals(new Object[]{42}, copy.getMessageArgs());
+    }
+
+    @Test
+    void specialHttpStatusIsConvertedBothWays() {
+        DFailure failure = DFailure.from(
+            SpecialHttpStatusServiceException.build(CommonErrorCode.ACCESS_DENIED, HttpStatus.FORBIDDEN)
+        );
+
+        assertFalse(failure.isInformative());
+        assertEquals(HttpStatus.FORBIDDEN, failure.getHttpStatus());
+        assertEquals(HttpStatus.FORBIDDEN, ((SpecialHttpStatusServiceException) failure.toException()).getHttpStatus());
+        assertSame(failure, DFailure.from(failure));
+    }
+}
@@ -0,0 +1,100 @@
+package ru.dlabs71.library.exception.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import ru.dlabs71.library.exception.TestMessageService;
+import ru.dlabs71.library.exception.converter.ErrorResponseHttpMessageConverter;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.utils.ResponseEntityHelper;
+
+class DResultReturnValueHandlerTest {
+
+    private final List<HttpMessageConverter<?>> converters = Arrays.asList(
+        new StringHttpMessageConverter(StandardCharsets.UTF_8),
+        new ErrorResponseHttpMessageConverter()
+    );
+    private final DResultReturnValueHandler handler = new DResultReturnValueHandler(
+        new ResponseEntityHelper(new TestMessageService(true)
+            .pattern(CommonErrorCode.ENTITY_NOT_FOUND.getCodeMessage(), "Not found")),
+        this.converters
+    );
+
+    @Test
+    void resultTypesAreSupported() throws NoSuchMethodException {
+        assertTrue(this.handler.supportsReturnType(returnType("result")));
+        assertTrue(this.handler.supportsReturnType(returnType("failure")));
+        assertFalse(this.handler.supportsReturnType(returnType("string")));
+    }
+
+    @Test
+    void failureIsConvertedToErrorResponse() {
+        ResponseEntity<?> response = this.handler.toResponseEntity(
+            DResult.failure(DFailure.of(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND))
+        );
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        ErrorResponseDto body = (ErrorResponseDto) response.getBody();
+        assertEquals(CommonErrorCode.ENTITY_NOT_FOUND, body.getErrorCode());
+        assertEquals("Not found", body.getMessage());
+    }
+
+    @Test
+    void returnedFailureIsConvertedToErrorResponse() {
+        ResponseEntity<?> response = this.handler.toResponseEntity(DFailure.of(CommonErrorCode.ENTITY_NOT_FOUND));
+
+        assertEquals(CommonErrorCode.ENTITY_NOT_FOUND, ((ErrorResponseDto) response.getBody()).getErrorCode());
+    }
+
+    @Test
+    void responseEntityOfValueIsKept() {
+        ResponseEntity<String> value = ResponseEntity.status(HttpStatus.CREATED).header("X-Id", "1").body("created");
+
+        assertSame(value, this.handler.toResponseEntity(DResult.success(value)));
+    }
+
+    @Test
+    void valueIsRespondedWithStatusOk() {
+        ResponseEntity<?> response = this.handler.toResponseEntity(DResult.success("value"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("value", response.getBody());
+    }
+
+    @Test
+    void missingResultIsRespondedWithoutBody() {
+        ResponseEntity<?> response = this.handler.toResponseEntity(null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    private static MethodParameter returnType(String method) throws NoSuchMethodException {
+        return new MethodParameter(DResultReturnValueHandlerTest.class.getDeclaredMethod(method), -1);
+    }
+
+    static DResult<String> result() {
+        return DResult.success("value");
+    }
+
+    static DFailure failure() {
+        return DFailure.of(CommonErrorCode.ENTITY_NOT_FOUND);
+    }
+
+    static String string() {
+        return "value";
+    }
+}
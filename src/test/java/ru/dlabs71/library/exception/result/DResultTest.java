@@ -0,0 +1,66 @@
+package ru.dlabs71.library.exception.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.exception.SpecialHttpStatusServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class DResultTest {
+
+    @Test
+    void successKeepsValue() {
+        DResult<String> result = DResult.success("order");
+
+        assertTrue(result.isSuccess());
+        assertFalse(result.isFailure());
+        assertNull(result.getFailure());
+        assertEquals("order", result.getValue());
+        assertEquals("order", result.orElseThrow());
+        assertEquals(5, (int) result.map(String::length).getValue());
+        assertSame(DResult.success(null), DResult.success(null));
+    }
+
+    @Test
+    void failureIsPassedThroughTransformations() {
+        DResult<String> result = DResult.failure(CommonErrorCode.ENTITY_NOT_FOUND);
+
+        assertTrue(result.isFailure());
+        assertSame(DFailure.of(CommonErrorCode.ENTITY_NOT_FOUND), result.getFailure());
+        assertEquals("other", result.orElse("other"));
+        assertSame(result, result.map(String::length));
+        assertSame(result, result.flatMap(value -> DResult.success(value.length())));
+        assertThrows(IllegalStateException.class, result::getValue);
+    }
+
+    @Test
+    void failureIsThrownAsException() {
+        DResult<String> result = DResult.failure(DFailure.of(CommonErrorCode.ACCESS_DENIED, HttpStatus.FORBIDDEN));
+
+        SpecialHttpStatusServiceException exception =
+            assertThrows(SpecialHttpStatusServiceException.class, result::orElseThrow);
+
+        assertEquals(CommonErrorCode.ACCESS_DENIED, exception.getErrorCode());
+        assertEquals(HttpStatus.FORBIDDEN, exception.getHttpStatus());
+    }
+
+    @Test
+    void exceptionsOfLibraryAreCaught() {
+        DResult<String> result = DResult.catching(() -> {
+            throw ServiceException.build(CommonErrorCode.LOCK_OBJECT);
+        });
+
+        assertEquals(CommonErrorCode.LOCK_OBJECT, result.getFailure().getErrorCode());
+        assertEquals("value", DResult.catching(() -> "value").getValue());
+        assertThrows(IllegalArgumentException.class, () -> DResult.catching(() -> {
+            throw new IllegalArgumentException();
+        }));
+    }
+}
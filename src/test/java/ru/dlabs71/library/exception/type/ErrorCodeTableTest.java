@@ -0,0 +1,103 @@
+package ru.dlabs71.library.exception.type;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.codec.RemoteErrorCode;
+
+class ErrorCodeTableTest {
+
+    @Test
+    void valuesArePutAndRemoved() {
+        ErrorCodeTable<String> table = new ErrorCodeTable<>();
+
+        assertNull(table.put(CommonErrorCode.LOCK_OBJECT, "lock"));
+        assertEquals("lock", table.put(CommonErrorCode.LOCK_OBJECT, "locked"));
+
+        assertEquals("locked", table.get(CommonErrorCode.LOCK_OBJECT));
+        assertNull(table.get(CommonErrorCode.IO_EXCEPTION));
+        assertEquals("locked", table.remove(CommonErrorCode.LOCK_OBJECT));
+        assertNull(table.get(CommonErrorCode.LOCK_OBJECT));
+    }
+
+    @Test
+    void tableGrowsForEnumsRegisteredAfterCreation() {
+        ErrorCodeTable<String> table = new ErrorCodeTable<>();
+        table.put(CommonErrorCode.LOCK_OBJECT, "lock");
+
+        assertNull(table.get(LateErrorCode.LATE));
+        assertNull(table.remove(LateErrorCode.LATE));
+        table.put(LateErrorCode.LATE, "late");
+
+        assertTrue(LateErrorCode.LATE.id() >= CommonErrorCode.values().length);
+        assertEquals("late", table.get(LateErrorCode.LATE));
+        assertEquals("lock", table.get(CommonErrorCode.LOCK_OBJECT));
+    }
+
+    @Test
+    void valuesOfCodesWithoutIdAreKeptInMap() {
+        ErrorCodeTable<String> table = new ErrorCodeTable<>();
+        RemoteErrorCode remote = RemoteErrorCode.of("REMOTE");
+
+        table.put(remote, "remote");
+
+        assertEquals("remote", table.get(remote));
+        assertEquals("remote", table.computeIfAbsent(remote, code -> "other"));
+        assertEquals("remote", table.remove(remote));
+        assertNull(table.get(remote));
+    }
+
+    @Test
+    void valueIsComputedOnce() {
+        ErrorCodeTable<String> table = new ErrorCodeTable<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(
+                "ENTITY_NOT_FOUND",
+                table.computeIfAbsent(CommonErrorCode.ENTITY_NOT_FOUND, code -> {
+                    calls.incrementAndGet();
+                    return code.name();
+                })
+            );
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void everyValueIsVisitedUntilCleared() {
+        ErrorCodeTable<String> table = new ErrorCodeTable<>();
+        RemoteErrorCode remote = RemoteErrorCode.of("REMOTE");
+        table.put(CommonErrorCode.LOCK_OBJECT, "lock");
+        table.put(remote, "remote");
+
+        Map<ErrorCode, String> visited = new HashMap<>();
+        table.forEach(visited::put);
+
+        assertEquals(2, visited.size());
+        assertEquals("lock", visited.get(CommonErrorCode.LOCK_OBJECT));
+        assertEquals("remote", visited.get(remote));
+
+        table.clear();
+        visited.clear();
+        table.forEach(visited::put);
+
+        assertTrue(visited.isEmpty());
+        assertNull(table.get(CommonErrorCode.LOCK_OBJECT));
+    }
+
+    private enum LateErrorCode implements ErrorCode {
+        LATE;
+
+        @Override
+        public String getCodeMessage() {
+            return "late";
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ru.dlabs71.library.exception.type;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.codec.RemoteErrorCode;
+
+class ErrorIdRegistryTest {
+
+    @Test
+    void commonTypesHaveFirstIds() {
+        for (CommonErrorCode errorCode : CommonErrorCode.values()) {
+            assertEquals(errorCode.ordinal(), errorCode.id());
+            assertSame(errorCode, ErrorIdRegistry.getErrorCode(errorCode.ordinal()));
+        }
+        for (CommonErrorLevel level : CommonErrorLevel.values()) {
+            assertEquals(level.ordinal(), level.id());
+            assertSame(level, ErrorIdRegistry.getLevel(level.ordinal()));
+        }
+    }
+
+    @Test
+    void constantsOfRegisteredEnumHaveConsecutiveIds() {
+        ErrorIdRegistry.registerErrorCodes(RegisteredErrorCode.class);
+        int start = RegisteredErrorCode.FIRST.id();
+
+        ErrorIdRegistry.registerErrorCodes(RegisteredErrorCode.class);
+
+        assertTrue(start >= CommonErrorCode.values().length);
+        assertEquals(start, RegisteredErrorCode.FIRST.id());
+        assertEquals(start + 1, RegisteredErrorCode.SECOND.id());
+        assertSame(RegisteredErrorCode.SECOND, ErrorIdRegistry.getErrorCode(start + 1));
+        assertTrue(ErrorIdRegistry.getErrorCodeCount() > start + 1);
+    }
+
+    @Test
+    void enumIsRegisteredOnFirstUse() {
+        int id = TestLevel.CRITICAL.id();
+
+        assertTrue(id >= CommonErrorLevel.values().length);
+        assertSame(TestLevel.CRITICAL, ErrorIdRegistry.getLevel(id));
+        assertTrue(ErrorIdRegistry.getLevelCount() > id);
+    }
+
+    @Test
+    void otherValuesHaveNoId() {
+        assertEquals(ErrorIdRegistry.NO_ID, RemoteErrorCode.of("REMOTE").id());
+        assertEquals(ErrorIdRegistry.NO_ID, ErrorIdRegistry.id((ErrorCode) null));
+        assertNull(ErrorIdRegistry.getErrorCode(ErrorIdRegistry.NO_ID));
+        assertNull(ErrorIdRegistry.getErrorCode(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> ErrorIdRegistry.registerErrorCodes(RemoteErrorCode.class));
+    }
+
+    private enum RegisteredErrorCode implements ErrorCode {
+        FIRST,
+        SECOND;
+
+        @Override
+        public String getCodeMessage() {
+            return "registered";
+        }
+    }
+
+    private enum TestLevel implements ErrorLevel {
+        CRITICAL
+    }
+}
@@ -0,0 +1,114 @@
+package ru.dlabs71.library.exception.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.TestMessageService;
+import ru.dlabs71.library.exception.accumulator.ErrorAccumulator;
+import ru.dlabs71.library.exception.dto.AggregatedErrorsDto;
+import ru.dlabs71.library.exception.dto.ErrorItemDto;
+import ru.dlabs71.library.exception.exception.ServiceException;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+
+class ResponseEntityHelperTest {
+
+    private static final String NOT_FOUND = CommonErrorCode.ENTITY_NOT_FOUND.getCodeMessage();
+
+    @Test
+    void patternIsRequestedAndCompiledOncePerCode() {
+        TestMessageService messageService = new TestMessageService(true).pattern(NOT_FOUND, "Not found: {0}");
+        ResponseEntityHelper helper = new ResponseEntityHelper(messageService);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Not found: order", helper.acquireMessage(null, CommonErrorCode.ENTITY_NOT_FOUND, "order"));
+        }
+
+        assertEquals(1, messageService.getPatternCalls());
+        assertEquals(0, messageService.getMessageCalls());
+        assertEquals(4, helper.getTemplateCache().getHitCount());
+    }
+
+    @Test
+    void serviceWithoutPatternsCreatesEveryMessageAndIsNotCountedAsHits() {
+        TestMessageService messageService = new TestMessageService(false).pattern(NOT_FOUND, "Not found: {0}");
+        ResponseEntityHelper helper = new ResponseEntityHelper(messageService);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Not found: order", helper.acquireMessage(null, CommonErrorCode.ENTITY_NOT_FOUND, "order"));
+        }
+
+        assertEquals(1, messageService.getPatternCalls());
+        assertEquals(5, messageService.getMessageCalls());
+        assertEquals(0, helper.getTemplateCache().getHitCount());
+        assertEquals(4, helper.getTemplateCache().getNoPatternCount());
+    }
+
+    @Test
+    void explicitMessageIsNotResolved() {
+        TestMessageService messageService = new TestMessageService(true).pattern(NOT_FOUND, "Not found: {0}");
+        ResponseEntityHelper helper = new ResponseEntityHelper(messageService);
+
+        assertEquals("plain", helper.acquireMessage(ServiceException.build("plain")));
+        assertEquals(0, messageService.getPatternCalls());
+    }
+
+    @Test
+    void changeOfMessagesClearsCompiledTemplates() {
+        TestMessageService messageService = new TestMessageService(true).pattern(NOT_FOUND, "Old {0}");
+        ResponseEntityHelper helper = new ResponseEntityHelper(messageService);
+        assertEquals("Old x", helper.acquireMessage(null, CommonErrorCode.ENTITY_NOT_FOUND, "x"));
+
+        messageService.pattern(NOT_FOUND, "New {0}").fireChange();
+
+        assertEquals("New x", helper.acquireMessage(null, CommonErrorCode.ENTITY_NOT_FOUND, "x"));
+        assertEquals(2, messageService.getPatternCalls());
+    }
+
+    @Test
+    void errorListKeepsArgumentsOfEveryErrorWithoutPatterns() {
+        TestMessageService messageService = new TestMessageService(false)
+            .pattern(NOT_FOUND, "Not found: {0}")
+            .pattern(CommonErrorCode.LOCK_OBJECT.getCodeMessage(), "Locked");
+        ResponseEntityHelper helper = new ResponseEntityHelper(messageService);
+
+        AggregatedErrorsDto list = helper.makeErrorList(mixedErrors());
+
+        assertMessages(list, "Not found: {0}", "Not found: a", "Not found: {0}", "Not found: b", "Locked");
+        assertEquals(4, messageService.getMessageCalls());
+    }
+
+    @Test
+    void errorListKeepsArgumentsOfEveryErrorWithPatterns() {
+        TestMessageService messageService = new TestMessageService(true)
+            .pattern(NOT_FOUND, "Not found: {0}")
+            .pattern(CommonErrorCode.LOCK_OBJECT.getCodeMessage(), "Locked");
+        ResponseEntityHelper helper = new ResponseEntityHelper(messageService);
+
+        AggregatedErrorsDto list = helper.makeErrorList(mixedErrors());
+
+        assertMessages(list, "Not found: {0}", "Not found: a", "Not found: {0}", "Not found: b", "Locked");
+        assertEquals(7, list.getTotal());
+    }
+
+    private static ErrorAccumulator mixedErrors() {
+        Supplier<String> lazy = () -> "b";
+        return ErrorAccumulator.builder().maxErrors(5).build()
+            .add(CommonErrorCode.ENTITY_NOT_FOUND)
+            .add(CommonErrorCode.ENTITY_NOT_FOUND, "a")
+            .add(CommonErrorCode.ENTITY_NOT_FOUND)
+            .add(CommonErrorCode.ENTITY_NOT_FOUND, lazy)
+            .add(CommonErrorCode.LOCK_OBJECT, "ignored")
+            .add(CommonErrorCode.LOCK_OBJECT)
+            .add(CommonErrorCode.LOCK_OBJECT);
+    }
+
+    private static void assertMessages(AggregatedErrorsDto list, String... messages) {
+        List<ErrorItemDto> errors = list.getErrors();
+        assertEquals(messages.length, errors.size());
+        for (int i = 0; i < messages.length; i++) {
+            assertEquals(messages[i], errors.get(i).getMessage());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package ru.dlabs71.library.exception.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.dlabs71.library.exception.TestMessageService;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.dto.FrozenErrorResponseDto;
+import ru.dlabs71.library.exception.message.MessageTemplateCache;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCode;
+
+class ResponseTemplateCacheTest {
+
+    private static final String NOT_FOUND = CommonErrorCode.ENTITY_NOT_FOUND.getCodeMessage();
+    private static final String LOCKED = CommonErrorCode.LOCK_OBJECT.getCodeMessage();
+
+    @Test
+    void constantMessageIsSharedBetweenCalls() {
+        ResponseEntityHelper helper = helper(new TestMessageService(true).pattern(NOT_FOUND, "Not found"), 16);
+
+        ResponseEntity<ErrorResponseDto> first =
+            helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+        ResponseEntity<ErrorResponseDto> second =
+            helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(HttpStatus.NOT_FOUND, first.getStatusCode());
+        assertInstanceOf(FrozenErrorResponseDto.class, first.getBody());
+        assertEquals("Not found", first.getBody().getMessage());
+        assertEquals(1, helper.getResponseTemplateCache().getHitCount());
+        assertEquals(1, helper.getResponseTemplateCache().getMissCount());
+    }
+
+    @Test
+    void responsesAreCachedPerStatus() {
+        ResponseEntityHelper helper = helper(new TestMessageService(true).pattern(NOT_FOUND, "Not found"), 16);
+
+        ResponseEntity<ErrorResponseDto> notFound =
+            helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+        ResponseEntity<ErrorResponseDto> gone =
+            helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.GONE);
+
+        assertNotSame(notFound, gone);
+        assertEquals(HttpStatus.GONE, gone.getStatusCode());
+        assertEquals(2, helper.getResponseTemplateCache().size());
+    }
+
+    @Test
+    void messagesWithArgumentsOrWithoutPatternAreNotShared() {
+        TestMessageService messageService = new TestMessageService(true).pattern(NOT_FOUND, "Not found: {0}");
+        ResponseEntityHelper helper = helper(messageService, 16);
+
+        assertNull(helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND));
+        assertNull(helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND));
+        assertNull(helper.getResponseTemplate(CommonErrorCode.LOCK_OBJECT, HttpStatus.CONFLICT));
+
+        assertEquals(2, messageService.getPatternCalls());
+        assertEquals(2, helper.getResponseTemplateCache().size());
+    }
+
+    @Test
+    void fullCacheStillReturnsResponses() {
+        TestMessageService messageService = new TestMessageService(true)
+            .pattern(NOT_FOUND, "Not found")
+            .pattern(LOCKED, "Locked");
+        ResponseEntityHelper helper = helper(messageService, 1);
+        helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+
+        ResponseEntity<ErrorResponseDto> first =
+            helper.getResponseTemplate(CommonErrorCode.LOCK_OBJECT, HttpStatus.LOCKED);
+        ResponseEntity<ErrorResponseDto> second =
+            helper.getResponseTemplate(CommonErrorCode.LOCK_OBJECT, HttpStatus.LOCKED);
+
+        assertEquals("Locked", first.getBody().getMessage());
+        assertNotSame(first, second);
+        assertEquals(1, helper.getResponseTemplateCache().size());
+    }
+
+    @Test
+    void changeOfMessagesClearsResponses() {
+        TestMessageService messageService = new TestMessageService(true).pattern(NOT_FOUND, "Old");
+        ResponseEntityHelper helper = helper(messageService, 16);
+        helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND);
+
+        messageService.pattern(NOT_FOUND, "New").fireChange();
+
+        assertEquals(0, helper.getResponseTemplateCache().size());
+        assertEquals(
+            "New",
+            helper.getResponseTemplate(CommonErrorCode.ENTITY_NOT_FOUND, HttpStatus.NOT_FOUND).getBody().getMessage()
+        );
+    }
+
+    @Test
+    void warmUpPreparesAllConstantsOfEnums() {
+        ResponseEntityHelper helper = helper(new TestMessageService(true), 64);
+
+        helper.warmUp(HttpStatus.BAD_REQUEST, TestErrorCode.class);
+
+        assertEquals(
+            CommonErrorCode.values().length + TestErrorCode.values().length,
+            helper.getResponseTemplateCache().size()
+        );
+    }
+
+    @Test
+    void warmUpRejectsTypesWhichAreNotEnums() {
+        ResponseEntityHelper helper = helper(new TestMessageService(true), 64);
+
+        assertThrows(IllegalArgumentException.class, () -> helper.warmUp(HttpStatus.BAD_REQUEST, ErrorCode.class));
+    }
+
+    @Test
+    void maxSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ResponseTemplateCache(0));
+    }
+
+    private static ResponseEntityHelper helper(TestMessageService messageService, int maxSize) {
+        return new ResponseEntityHelper(
+            messageService,
+            new MessageTemplateCache(),
+            StacktracePolicy.FULL,
+            new ResponseTemplateCache(maxSize)
+        );
+    }
+
+    private enum TestErrorCode implements ErrorCode {
+        FIRST,
+        SECOND;
+
+        @Override
+        public String getCodeMessage() {
+            return "test." + this.name().toLowerCase();
+        }
+    }
+}
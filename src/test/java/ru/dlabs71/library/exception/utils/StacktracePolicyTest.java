@@ -0,0 +1,126 @@
+package ru.dlabs71.library.exception.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+
+class StacktracePolicyTest {
+
+    private static final StackTraceElement SERVICE = frame("com.example.OrderService", "find", 10);
+    private static final StackTraceElement LAMBDA = frame("com.example.OrderService", "lambda$find$0", 12);
+    private static final StackTraceElement SPRING = frame("org.springframework.web.Dispatcher", "dispatch", 20);
+    private static final StackTraceElement CONTROLLER = frame("com.example.OrderController", "get", 30);
+    private static final StackTraceElement THREAD = frame("java.lang.Thread", "run", 40);
+
+    @Test
+    void fullPolicyKeepsFramesAsIs() {
+        StackTraceElement[] frames = {SERVICE, SPRING, THREAD};
+
+        assertSame(frames, StacktracePolicy.FULL.filter(frames));
+    }
+
+    @Test
+    void filterDropsExcludedFramesAndLimitsDepth() {
+        StacktracePolicy policy = StacktracePolicy.builder()
+            .excludePackage("org.springframework.")
+            .excludeLambdaFrames(true)
+            .maxDepth(2)
+            .build();
+
+        assertArrayEquals(
+            new StackTraceElement[]{SERVICE, CONTROLLER},
+            policy.filter(new StackTraceElement[]{SERVICE, LAMBDA, SPRING, CONTROLLER, THREAD})
+        );
+    }
+
+    @Test
+    void filterKeepsOnlyIncludedPackages() {
+        StacktracePolicy policy = StacktracePolicy.builder().includePackage("com.example.").build();
+
+        assertArrayEquals(
+            new StackTraceElement[]{SERVICE, CONTROLLER},
+            policy.filter(new StackTraceElement[]{SERVICE, SPRING, CONTROLLER, THREAD})
+        );
+    }
+
+    @Test
+    void compactFormatFoldsCommonFramesOfCauses() {
+        IllegalStateException cause = exception(new IllegalStateException("cause"), SERVICE, CONTROLLER, THREAD);
+        RuntimeException exception = exception(new RuntimeException("top", cause), CONTROLLER, THREAD);
+        StacktracePolicy policy = StacktracePolicy.builder()
+            .format(StacktracePolicy.Format.COMPACT)
+            .foldCauses(true)
+            .build();
+
+        assertArrayEquals(
+            new String[]{
+                "com.example.OrderController.get(OrderController.java:30)",
+                "java.lang.Thread.run(Thread.java:40)",
+                "Caused by: java.lang.IllegalStateException: cause",
+                "com.example.OrderService.find(OrderService.java:10)",
+                "... 2 more"
+            },
+            policy.encode(exception)
+        );
+    }
+
+    @Test
+    void compactFormatCountsOmittedFrames() {
+        RuntimeException exception = exception(new RuntimeException(), SERVICE, SPRING, THREAD);
+        StacktracePolicy policy = StacktracePolicy.compact(1);
+
+        assertArrayEquals(
+            new String[]{"com.example.OrderService.find(OrderService.java:10)", "... 2 frames omitted"},
+            policy.encode(exception)
+        );
+    }
+
+    @Test
+    void compactFormatStopsOnCauseCycle() {
+        IllegalStateException first = exception(new IllegalStateException("first"), SERVICE);
+        IllegalStateException second = exception(new IllegalStateException("second", first), CONTROLLER);
+        first.initCause(second);
+        StacktracePolicy policy = StacktracePolicy.builder()
+            .format(StacktracePolicy.Format.COMPACT)
+            .foldCauses(true)
+            .build();
+
+        assertArrayEquals(
+            new String[]{
+                "com.example.OrderService.find(OrderService.java:10)",
+                "Caused by: java.lang.IllegalStateException: second",
+                "com.example.OrderController.get(OrderController.java:30)"
+            },
+            policy.encode(first)
+        );
+    }
+
+    @Test
+    void applyFillsFieldOfFormat() {
+        RuntimeException exception = exception(new RuntimeException(), SERVICE);
+
+        ErrorResponseDto raw = StacktracePolicy.FULL.apply(ErrorResponseDto.builder(), exception).build();
+        ErrorResponseDto compact = StacktracePolicy.compact(10).apply(ErrorResponseDto.builder(), exception).build();
+
+        assertArrayEquals(new StackTraceElement[]{SERVICE}, raw.getStacktrace());
+        assertNull(raw.getCompactStacktrace());
+        assertArrayEquals(
+            new String[]{"com.example.OrderService.find(OrderService.java:10)"},
+            compact.getCompactStacktrace()
+        );
+        assertNull(compact.getStacktrace());
+    }
+
+    private static StackTraceElement frame(String className, String methodName, int line) {
+        String fileName = className.substring(className.lastIndexOf('.') + 1) + ".java";
+        return new StackTraceElement(className, methodName, fileName, line);
+    }
+
+    private static <T extends Throwable> T exception(T throwable, StackTraceElement... frames) {
+        throwable.setStackTrace(frames);
+        return throwable;
+    }
+}
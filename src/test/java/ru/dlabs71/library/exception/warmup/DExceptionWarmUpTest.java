@@ -0,0 +1,90 @@
+package ru.dlabs71.library.exception.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import ru.dlabs71.library.exception.TestMessageService;
+import ru.dlabs71.library.exception.dto.ErrorResponseDto;
+import ru.dlabs71.library.exception.message.MessageTemplateCache;
+import ru.dlabs71.library.exception.type.CommonErrorCode;
+import ru.dlabs71.library.exception.type.ErrorCode;
+import ru.dlabs71.library.exception.utils.ResponseEntityHelper;
+import ru.dlabs71.library.exception.utils.ResponseTemplateCache;
+import ru.dlabs71.library.exception.utils.StacktracePolicy;
+
+class DExceptionWarmUpTest {
+
+    private static final int CODES = CommonErrorCode.values().length + TestErrorCode.values().length;
+
+    @Test
+    void errorCodesOfAllTypesAreWarmedUp() {
+        TestMessageService messageService = new TestMessageService(true);
+        ResponseEntityHelper helper = helper(messageService);
+        List<ErrorResponseDto> serialized = new ArrayList<>();
+
+        DExceptionWarmUp.builder()
+            .responseEntityHelper(helper)
+            .messageService(messageService)
+            .errorCodeType(TestErrorCode.class)
+            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .status(HttpStatus.BAD_REQUEST)
+            .serializer(serialized::add)
+            .iterations(3)
+            .build()
+            .run();
+
+        assertEquals(2 * CODES, helper.getResponseTemplateCache().size());
+        assertEquals(2 * 3 * CODES, serialized.size());
+        assertTrue(serialized.stream().anyMatch(body -> body.getStacktrace() != null));
+        assertTrue(messageService.getPatternCalls() >= CODES);
+    }
+
+    @Test
+    void defaultsAreApplied() {
+        DExceptionWarmUp warmUp = DExceptionWarmUp.builder()
+            .responseEntityHelper(helper(new TestMessageService(true)))
+            .build();
+
+        assertEquals(DExceptionWarmUp.DEFAULT_ITERATIONS, warmUp.getIterations());
+        assertEquals(CommonErrorCode.values().length, warmUp.getErrorCodes().size());
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        ResponseEntityHelper helper = helper(new TestMessageService(true));
+
+        assertThrows(IllegalArgumentException.class, () -> DExceptionWarmUp.builder().build());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DExceptionWarmUp.builder().responseEntityHelper(helper).iterations(-1).build()
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DExceptionWarmUp.builder().responseEntityHelper(helper).errorCodeType(ErrorCode.class).build()
+        );
+    }
+
+    private static ResponseEntityHelper helper(TestMessageService messageService) {
+        return new ResponseEntityHelper(
+            messageService,
+            new MessageTemplateCache(),
+            StacktracePolicy.FULL,
+            new ResponseTemplateCache()
+        );
+    }
+
+    private enum TestErrorCode implements ErrorCode {
+        FIRST,
+        SECOND;
+
+        @Override
+        public String getCodeMessage() {
+            return "test." + this.name().toLowerCase();
+        }
+    }
+}